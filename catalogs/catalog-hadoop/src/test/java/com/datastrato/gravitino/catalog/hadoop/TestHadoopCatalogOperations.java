@@ -74,6 +74,10 @@ public class TestHadoopCatalogOperations {
     Mockito.when(config.get(ENTITY_KV_STORE)).thenReturn(DEFAULT_ENTITY_KV_STORE);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
     Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(ROCKS_DB_STORE_PATH);
+    Mockito.when(config.get(Configs.KV_COMMITTED_TRANSACTION_INDEX_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_NAME_MAPPING_CACHE_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_GC_PARALLELISM)).thenReturn(2);
+    Mockito.when(config.get(Configs.KV_GC_DELETES_PER_SECOND)).thenReturn(0);
 
     Assertions.assertEquals(ROCKS_DB_STORE_PATH, config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH));
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
@@ -22,6 +22,7 @@ import com.datastrato.gravitino.connector.CatalogInfo;
 import com.datastrato.gravitino.connector.CatalogOperations;
 import com.datastrato.gravitino.connector.PropertiesMetadata;
 import com.datastrato.gravitino.connector.ProxyPlugin;
+import com.datastrato.gravitino.connector.SupportsBatchLoadTables;
 import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.NoSuchTableException;
@@ -79,7 +80,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /** Operations for interacting with the Hive catalog in Gravitino. */
-public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas, TableCatalog {
+public class HiveCatalogOperations
+    implements CatalogOperations, SupportsSchemas, TableCatalog, SupportsBatchLoadTables {
 
   public static final Logger LOG = LoggerFactory.getLogger(HiveCatalogOperations.class);
   public static final String GRAVITINO_KEYTAB_FORMAT = "keytabs/gravitino-%s-keytab";
@@ -529,6 +531,42 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     return hiveTable;
   }
 
+  /**
+   * Loads the tables of a schema from the Hive Metastore in one call.
+   *
+   * @param namespace The namespace of the schema.
+   * @param names The names of the tables to load.
+   * @return The loaded HiveTable instances, the tables which don't exist are absent.
+   * @throws NoSuchSchemaException If the schema does not exist in the Hive Metastore.
+   */
+  @Override
+  public Table[] loadBatch(Namespace namespace, String[] names) throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+
+    try {
+      List<org.apache.hadoop.hive.metastore.api.Table> tables =
+          clientPool.run(c -> c.getTableObjectsByName(schemaIdent.name(), Arrays.asList(names)));
+      LOG.info("Loaded {} Hive tables of {} from Hive Metastore", tables.size(), namespace);
+      return tables.stream()
+          .map(
+              table ->
+                  HiveTable.fromHiveTable(table)
+                      .withProxyPlugin(proxyPlugin)
+                      .withClientPool(clientPool)
+                      .build())
+          .toArray(Table[]::new);
+
+    } catch (UnknownDBException e) {
+      throw new NoSuchSchemaException(
+          "Schema (database) does not exist %s in Hive Metastore", namespace);
+
+    } catch (InterruptedException | TException e) {
+      throw new RuntimeException(
+          "Failed to load Hive tables under the namespace : " + namespace + " from Hive metastore",
+          e);
+    }
+  }
+
   private org.apache.hadoop.hive.metastore.api.Table loadHiveTable(NameIdentifier tableIdent) {
     NameIdentifier schemaIdent = NameIdentifier.of(tableIdent.namespace().levels());
 
@@ -40,6 +40,17 @@ public abstract class JdbcCatalog extends BaseCatalog<JdbcCatalog> {
     return ops;
   }
 
+  /**
+   * The Jdbc catalog operations deregister the drivers loaded by the classloader when closed, so
+   * the classloader can't be shared.
+   *
+   * @return false.
+   */
+  @Override
+  public boolean supportsSharedClassLoader() {
+    return false;
+  }
+
   /** @return The Jdbc catalog operations as {@link JdbcCatalogOperations}. */
   @Override
   public SupportsSchemas asSchemas() {
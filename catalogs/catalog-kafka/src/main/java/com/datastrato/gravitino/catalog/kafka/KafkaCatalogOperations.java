@@ -21,6 +21,7 @@ import com.datastrato.gravitino.StringIdentifier;
 import com.datastrato.gravitino.connector.CatalogInfo;
 import com.datastrato.gravitino.connector.CatalogOperations;
 import com.datastrato.gravitino.connector.PropertiesMetadata;
+import com.datastrato.gravitino.connector.SupportsBatchLoadTopics;
 import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
@@ -46,12 +47,18 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.AdminClient;
@@ -60,13 +67,12 @@ import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
-import org.apache.kafka.clients.admin.DescribeConfigsResult;
-import org.apache.kafka.clients.admin.DescribeTopicsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Uuid;
 import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.config.ConfigResource;
@@ -77,7 +83,8 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class KafkaCatalogOperations implements CatalogOperations, SupportsSchemas, TopicCatalog {
+public class KafkaCatalogOperations
+    implements CatalogOperations, SupportsSchemas, TopicCatalog, SupportsBatchLoadTopics {
 
   private static final Logger LOG = LoggerFactory.getLogger(KafkaCatalogOperations.class);
   private static final KafkaCatalogPropertiesMetadata CATALOG_PROPERTIES_METADATA =
@@ -94,7 +101,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
   @VisibleForTesting NameIdentifier defaultSchemaIdent;
   @VisibleForTesting Properties adminClientConfig;
   private CatalogInfo info;
-  private AdminClient adminClient;
+  @VisibleForTesting AdminClient adminClient;
 
   @VisibleForTesting
   KafkaCatalogOperations(EntityStore store, IdGenerator idGenerator) {
@@ -173,47 +180,128 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
-    DescribeTopicsResult result = adminClient.describeTopics(Collections.singleton(ident.name()));
-    ConfigResource configResource = new ConfigResource(ConfigResource.Type.TOPIC, ident.name());
-    DescribeConfigsResult configsResult =
-        adminClient.describeConfigs(Collections.singleton(configResource));
-
-    int partitions;
-    int replicationFactor;
-    Uuid topicId;
-    Map<String, String> properties = Maps.newHashMap();
+    Topic topic;
     try {
-      TopicDescription topicDescription = result.topicNameValues().get(ident.name()).get();
-      partitions = topicDescription.partitions().size();
-      replicationFactor = topicDescription.partitions().get(0).replicas().size();
-      topicId = topicDescription.topicId();
-
-      Config topicConfigs = configsResult.all().get().get(configResource);
-      topicConfigs.entries().forEach(e -> properties.put(e.name(), e.value()));
-      properties.put(PARTITION_COUNT, String.valueOf(partitions));
-      properties.put(REPLICATION_FACTOR, String.valueOf(replicationFactor));
+      topic = describeTopics(Collections.singletonList(ident.name())).get(ident.name()).get();
     } catch (ExecutionException e) {
-      if (e.getCause() instanceof UnknownTopicOrPartitionException) {
-        throw new NoSuchTopicException(e, "Topic %s does not exist", ident);
-      } else {
-        throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
-      }
+      throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
     } catch (InterruptedException e) {
       throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
     }
 
+    if (topic == null) {
+      throw new NoSuchTopicException("Topic %s does not exist", ident);
+    }
+
     LOG.info("Loaded topic {} from Kafka", ident);
+    return topic;
+  }
+
+  @Override
+  public Topic[] loadBatch(Namespace namespace, String[] names) throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    checkSchemaExists(schemaIdent);
+
+    // Each topic is waited on its own, so a topic which fails to load, e.g., the user is not
+    // authorized to describe it, is absent from the result without failing the other topics.
+    List<Topic> topics = Lists.newArrayList();
+    for (Map.Entry<String, CompletableFuture<Topic>> entry :
+        describeTopics(Arrays.asList(names)).entrySet()) {
+      try {
+        Topic topic = entry.getValue().get();
+        if (topic != null) {
+          topics.add(topic);
+        }
+      } catch (ExecutionException e) {
+        LOG.warn(
+            "Failed to load topic {} under the schema {} from Kafka",
+            entry.getKey(),
+            namespace,
+            e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Failed to load topics under the schema " + namespace, e);
+      }
+    }
+
+    LOG.info(
+        "Loaded {} of {} topics under the schema {} from Kafka",
+        topics.size(),
+        names.length,
+        namespace);
+    return topics.toArray(new Topic[0]);
+  }
+
+  /**
+   * Describes the topics and their configs with one describeTopics and one describeConfigs request
+   * for all the topics. Both requests are sent at once, and the results of each topic are combined
+   * when both of them are completed, so the caller waits for one round trip only.
+   *
+   * @param names The names of the topics to describe.
+   * @return The futures of the topics by their distinct names, a future completes with null if
+   *     the topic doesn't exist, or exceptionally if the topic fails to be described.
+   */
+  private Map<String, CompletableFuture<Topic>> describeTopics(Collection<String> names) {
+    // The futures complete on the thread of the Kafka AdminClient, so get the current user here.
+    String creator = PrincipalUtils.getCurrentPrincipal().getName();
+    Set<String> distinctNames = new LinkedHashSet<>(names);
+    Map<String, KafkaFuture<TopicDescription>> descriptions =
+        adminClient.describeTopics(distinctNames).topicNameValues();
+    Map<ConfigResource, KafkaFuture<Config>> configs =
+        adminClient
+            .describeConfigs(
+                distinctNames.stream()
+                    .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+                    .collect(Collectors.toList()))
+            .values();
+
+    Map<String, CompletableFuture<Topic>> topicFutures = new LinkedHashMap<>();
+    for (String name : distinctNames) {
+      CompletableFuture<TopicDescription> description =
+          descriptions.get(name).toCompletionStage().toCompletableFuture();
+      CompletableFuture<Config> config =
+          configs
+              .get(new ConfigResource(ConfigResource.Type.TOPIC, name))
+              .toCompletionStage()
+              .toCompletableFuture();
+      topicFutures.put(
+          name,
+          description
+              .thenCombine(config, (d, c) -> buildTopic(name, d, c, creator))
+              .handle(
+                  (topic, e) -> {
+                    if (e == null) {
+                      return topic;
+                    }
+
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    if (cause instanceof UnknownTopicOrPartitionException) {
+                      return null;
+                    }
+                    throw new CompletionException(cause);
+                  }));
+    }
+
+    return topicFutures;
+  }
+
+  private Topic buildTopic(
+      String name, TopicDescription topicDescription, Config topicConfigs, String creator) {
+    int partitions = topicDescription.partitions().size();
+    int replicationFactor = topicDescription.partitions().get(0).replicas().size();
+    Map<String, String> properties = Maps.newHashMap();
+    topicConfigs.entries().forEach(e -> properties.put(e.name(), e.value()));
+    properties.put(PARTITION_COUNT, String.valueOf(partitions));
+    properties.put(REPLICATION_FACTOR, String.valueOf(replicationFactor));
 
     return KafkaTopic.builder()
-        .withName(ident.name())
+        .withName(name)
         // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
         // as the Gravitino ID
-        .withProperties(newPropertiesWithId(convertToGravitinoId(topicId), properties))
+        .withProperties(
+            newPropertiesWithId(convertToGravitinoId(topicDescription.topicId()), properties))
         .withAuditInfo(
-            AuditInfo.builder()
-                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
-                .withCreateTime(Instant.now())
-                .build())
+            AuditInfo.builder().withCreator(creator).withCreateTime(Instant.now()).build())
         .build();
   }
 
@@ -39,9 +39,17 @@ import com.datastrato.gravitino.storage.RandomIdGenerator;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import org.apache.commons.io.FileUtils;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.errors.TopicAuthorizationException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -69,6 +77,10 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     Mockito.when(config.get(ENTITY_KV_STORE)).thenReturn(DEFAULT_ENTITY_KV_STORE);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
     Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(ROCKS_DB_STORE_PATH);
+    Mockito.when(config.get(Configs.KV_COMMITTED_TRANSACTION_INDEX_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_NAME_MAPPING_CACHE_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_GC_PARALLELISM)).thenReturn(2);
+    Mockito.when(config.get(Configs.KV_GC_DELETES_PER_SECOND)).thenReturn(0);
 
     Assertions.assertEquals(ROCKS_DB_STORE_PATH, config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH));
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
@@ -330,6 +342,76 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
         exception.getMessage());
   }
 
+  @Test
+  public void testLoadTopics() {
+    Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, DEFAULT_SCHEMA_NAME);
+    Topic[] topics =
+        kafkaCatalogOperations.loadBatch(
+            namespace, new String[] {TOPIC_1, "error_topic", TOPIC_2, TOPIC_1});
+
+    // The topics which don't exist are absent, and the duplicated names are loaded once
+    Assertions.assertEquals(2, topics.length);
+    Assertions.assertEquals(TOPIC_1, topics[0].name());
+    Assertions.assertEquals(TOPIC_2, topics[1].name());
+    Topic topic = kafkaCatalogOperations.loadTopic(NameIdentifier.of(namespace, TOPIC_1));
+    Assertions.assertEquals(topic.properties(), topics[0].properties());
+
+    Assertions.assertEquals(
+        0, kafkaCatalogOperations.loadBatch(namespace, new String[] {"error_topic"}).length);
+    Assertions.assertThrows(
+        NoSuchSchemaException.class,
+        () ->
+            kafkaCatalogOperations.loadBatch(
+                Namespace.of(METALAKE_NAME, CATALOG_NAME, "unknown"), new String[] {TOPIC_1}));
+  }
+
+  @Test
+  public void testLoadTopicsWithFailedTopic() throws IOException {
+    KafkaCatalogOperations ops = new KafkaCatalogOperations(store, idGenerator);
+    ops.initialize(MOCK_CATALOG_PROPERTIES, kafkaCatalogEntity.toCatalogInfo());
+    AdminClient realClient = ops.adminClient;
+    // The configs of TOPIC_2 fail to be described as if the user is not authorized to describe it
+    AdminClient adminClient = Mockito.mock(AdminClient.class);
+    Mockito.when(adminClient.describeTopics(Mockito.anyCollection()))
+        .thenAnswer(i -> realClient.describeTopics(i.<Collection<String>>getArgument(0)));
+    Mockito.when(adminClient.describeConfigs(Mockito.anyCollection()))
+        .thenAnswer(
+            i -> {
+              Map<ConfigResource, KafkaFuture<org.apache.kafka.clients.admin.Config>> values =
+                  new HashMap<>(
+                      realClient
+                          .describeConfigs(i.<Collection<ConfigResource>>getArgument(0))
+                          .values());
+              KafkaFutureImpl<org.apache.kafka.clients.admin.Config> denied =
+                  new KafkaFutureImpl<>();
+              denied.completeExceptionally(new TopicAuthorizationException("Not authorized"));
+              values.replace(new ConfigResource(ConfigResource.Type.TOPIC, TOPIC_2), denied);
+              DescribeConfigsResult result = Mockito.mock(DescribeConfigsResult.class);
+              Mockito.when(result.values()).thenReturn(values);
+              return result;
+            });
+    ops.adminClient = adminClient;
+
+    try {
+      Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, DEFAULT_SCHEMA_NAME);
+      Topic[] topics = ops.loadBatch(namespace, new String[] {TOPIC_1, TOPIC_2, "error_topic"});
+
+      // The failed topic is absent like the topic which doesn't exist, the others are loaded
+      Assertions.assertEquals(1, topics.length);
+      Assertions.assertEquals(TOPIC_1, topics[0].name());
+
+      // Loading the failed topic alone reports its cause
+      Exception exception =
+          Assertions.assertThrows(
+              RuntimeException.class, () -> ops.loadTopic(NameIdentifier.of(namespace, TOPIC_2)));
+      Assertions.assertInstanceOf(
+          TopicAuthorizationException.class, exception.getCause().getCause());
+    } finally {
+      ops.adminClient = realClient;
+      ops.close();
+    }
+  }
+
   @Test
   public void testListTopics() {
     NameIdentifier[] topics =
@@ -37,6 +37,17 @@ public class IcebergCatalog extends BaseCatalog<IcebergCatalog> {
     return new IcebergCatalogCapability();
   }
 
+  /**
+   * The Iceberg catalog operations deregister the JDBC drivers loaded by the classloader when
+   * closed, so the classloader can't be shared.
+   *
+   * @return false.
+   */
+  @Override
+  public boolean supportsSharedClassLoader() {
+    return false;
+  }
+
   /** @return The Iceberg catalog operations as {@link IcebergCatalogOperations}. */
   @Override
   public SupportsSchemas asSchemas() {
@@ -33,7 +33,9 @@ import com.datastrato.gravitino.rel.indexes.Index;
 import com.datastrato.gravitino.utils.MapUtils;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -41,6 +43,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -62,6 +70,8 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
 
   private static final String ICEBERG_TABLE_DOES_NOT_EXIST_MSG = "Iceberg table does not exist: %s";
 
+  private static final int CASCADE_DROP_PROGRESS_INTERVAL = 100;
+
   public static final Logger LOG = LoggerFactory.getLogger(IcebergCatalogOperations.class);
 
   @VisibleForTesting IcebergTableOps icebergTableOps;
@@ -74,6 +84,9 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
 
   private IcebergTableOpsHelper icebergTableOpsHelper;
 
+  // Drops the tables of the schemas dropped with cascade, bounded per catalog.
+  private ThreadPoolExecutor cascadeDropExecutor;
+
   /**
    * Initializes the Iceberg catalog operations with the provided configuration.
    *
@@ -100,11 +113,38 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
     this.icebergTableOpsHelper = icebergTableOps.createIcebergTableOpsHelper();
     this.icebergTablePropertiesMetadata = new IcebergTablePropertiesMetadata();
     this.icebergSchemaPropertiesMetadata = new IcebergSchemaPropertiesMetadata();
+
+    int cascadeDropParallelism =
+        (int)
+            icebergCatalogPropertiesMetadata.getOrDefault(
+                conf, IcebergCatalogPropertiesMetadata.CASCADE_DROP_PARALLELISM);
+    Preconditions.checkArgument(
+        cascadeDropParallelism > 0,
+        "%s must be positive, but got %s",
+        IcebergCatalogPropertiesMetadata.CASCADE_DROP_PARALLELISM,
+        cascadeDropParallelism);
+    this.cascadeDropExecutor =
+        new ThreadPoolExecutor(
+            cascadeDropParallelism,
+            cascadeDropParallelism,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("iceberg-cascade-drop-%d")
+                .build());
+    // The threads are only needed while a schema is being dropped with cascade.
+    cascadeDropExecutor.allowCoreThreadTimeOut(true);
   }
 
   /** Closes the Iceberg catalog and releases the associated client pool. */
   @Override
   public void close() {
+    if (null != cascadeDropExecutor) {
+      cascadeDropExecutor.shutdownNow();
+    }
+
     if (null != icebergTableOps) {
       try {
         icebergTableOps.close();
@@ -289,8 +329,10 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
    */
   @Override
   public boolean dropSchema(NameIdentifier ident, boolean cascade) throws NonEmptySchemaException {
-    Preconditions.checkArgument(!cascade, "Iceberg does not support cascading delete operations.");
     try {
+      if (cascade) {
+        dropTables(ident);
+      }
       icebergTableOps.dropNamespace(IcebergTableOpsHelper.getIcebergNamespace(ident.name()));
       LOG.info("Dropped Iceberg schema (database) {}", ident.name());
       return true;
@@ -305,6 +347,62 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
     }
   }
 
+  // Drops the tables of the schema concurrently, bounded by the cascade drop parallelism of the
+  // catalog. The failure of any table fails the schema drop after all the drops are finished.
+  private void dropTables(NameIdentifier schemaIdent) {
+    List<TableIdentifier> tables =
+        icebergTableOps
+            .listTable(IcebergTableOpsHelper.getIcebergNamespace(schemaIdent.name()))
+            .identifiers();
+    if (tables.isEmpty()) {
+      return;
+    }
+
+    LOG.info("Dropping {} Iceberg tables of schema {}", tables.size(), schemaIdent.name());
+    AtomicInteger droppedCount = new AtomicInteger();
+    CompletableFuture<?>[] futures =
+        tables.stream()
+            .map(
+                table ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          dropTableIfExists(table);
+                          int dropped = droppedCount.incrementAndGet();
+                          if (dropped % CASCADE_DROP_PROGRESS_INTERVAL == 0) {
+                            LOG.info(
+                                "Dropped {}/{} Iceberg tables of schema {}",
+                                dropped,
+                                tables.size(),
+                                schemaIdent.name());
+                          }
+                        },
+                        cascadeDropExecutor))
+            .toArray(CompletableFuture[]::new);
+
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException e) {
+      LOG.error(
+          "Failed to drop the tables of Iceberg schema {}, {} of {} tables are dropped",
+          schemaIdent.name(),
+          droppedCount.get(),
+          tables.size());
+      // The drop only throws unchecked exceptions, rethrow the failure of the table as is, it's
+      // wrapped by dropSchema like the other failures.
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+    LOG.info("Dropped {} Iceberg tables of schema {}", tables.size(), schemaIdent.name());
+  }
+
+  private void dropTableIfExists(TableIdentifier table) {
+    try {
+      icebergTableOps.dropTable(table);
+    } catch (org.apache.iceberg.exceptions.NoSuchTableException e) {
+      LOG.warn("Iceberg table {} does not exist", table);
+    }
+  }
+
   /**
    * Lists all the tables under the specified namespace.
    *
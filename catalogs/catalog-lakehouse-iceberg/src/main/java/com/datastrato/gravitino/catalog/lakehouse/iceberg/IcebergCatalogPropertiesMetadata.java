@@ -5,6 +5,7 @@
 package com.datastrato.gravitino.catalog.lakehouse.iceberg;
 
 import static com.datastrato.gravitino.connector.PropertyEntry.enumImmutablePropertyEntry;
+import static com.datastrato.gravitino.connector.PropertyEntry.integerOptionalPropertyEntry;
 import static com.datastrato.gravitino.connector.PropertyEntry.stringRequiredPropertyEntry;
 
 import com.datastrato.gravitino.connector.BaseCatalogPropertiesMetadata;
@@ -30,6 +31,9 @@ public class IcebergCatalogPropertiesMetadata extends BaseCatalogPropertiesMetad
   public static final String WAREHOUSE = "warehouse";
   public static final String URI = "uri";
 
+  public static final String CASCADE_DROP_PARALLELISM = "cascade-drop-parallelism";
+  public static final int DEFAULT_CASCADE_DROP_PARALLELISM = 4;
+
   private static final Map<String, PropertyEntry<?>> PROPERTIES_METADATA;
 
   // Map that maintains the mapping of keys in Gravitino to that in Iceberg, for example, users
@@ -64,7 +68,13 @@ public class IcebergCatalogPropertiesMetadata extends BaseCatalogPropertiesMetad
                 false),
             stringRequiredPropertyEntry(URI, "Iceberg catalog uri config", false, false),
             stringRequiredPropertyEntry(
-                WAREHOUSE, "Iceberg catalog warehouse config", false, false));
+                WAREHOUSE, "Iceberg catalog warehouse config", false, false),
+            integerOptionalPropertyEntry(
+                CASCADE_DROP_PARALLELISM,
+                "The maximum number of tables dropped concurrently by a cascade schema drop",
+                true,
+                DEFAULT_CASCADE_DROP_PARALLELISM,
+                false));
     HashMap<String, PropertyEntry<?>> result = Maps.newHashMap(BASIC_CATALOG_PROPERTY_ENTRIES);
     result.putAll(Maps.uniqueIndex(propertyEntries, PropertyEntry::getName));
     PROPERTIES_METADATA = ImmutableMap.copyOf(result);
@@ -8,20 +8,27 @@ import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.catalog.PropertiesMetadataHelpers;
 import com.datastrato.gravitino.connector.PropertiesMetadata;
+import com.datastrato.gravitino.exceptions.NonEmptySchemaException;
 import com.datastrato.gravitino.exceptions.SchemaAlreadyExistsException;
 import com.datastrato.gravitino.meta.AuditInfo;
 import com.datastrato.gravitino.meta.CatalogEntity;
+import com.datastrato.gravitino.rel.Column;
 import com.datastrato.gravitino.rel.Schema;
 import com.datastrato.gravitino.rel.SchemaChange;
 import com.datastrato.gravitino.rel.SupportsSchemas;
+import com.datastrato.gravitino.rel.TableCatalog;
+import com.datastrato.gravitino.rel.expressions.transforms.Transform;
+import com.datastrato.gravitino.rel.types.Types;
 import com.google.common.collect.Maps;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 public class TestIcebergSchema {
 
@@ -132,12 +139,74 @@ public class TestIcebergSchema {
 
     Assertions.assertFalse(icebergCatalog.asSchemas().dropSchema(ident, false));
 
+    // Test cascade drop
+    icebergCatalog.asSchemas().createSchema(ident, COMMENT_VALUE, properties);
+    Column[] columns =
+        new Column[] {
+          IcebergColumn.builder()
+              .withName("col_1")
+              .withType(Types.StringType.get())
+              .withComment(COMMENT_VALUE)
+              .build()
+        };
+    TableCatalog tableCatalog = icebergCatalog.asTableCatalog();
+    Namespace tableNamespace = Namespace.of(ArrayUtils.add(ident.namespace().levels(), "test"));
+    for (int i = 0; i < 10; i++) {
+      tableCatalog.createTable(
+          NameIdentifier.of(tableNamespace, "t" + i),
+          columns,
+          COMMENT_VALUE,
+          Maps.newHashMap(),
+          new Transform[0]);
+    }
+
     SupportsSchemas schemas = icebergCatalog.asSchemas();
-    Throwable exception =
-        Assertions.assertThrows(
-            IllegalArgumentException.class, () -> schemas.dropSchema(ident, true));
-    Assertions.assertTrue(
-        exception.getMessage().contains("Iceberg does not support cascading delete operations"));
+    Assertions.assertThrows(NonEmptySchemaException.class, () -> schemas.dropSchema(ident, false));
+    Assertions.assertTrue(schemas.dropSchema(ident, true));
+    Assertions.assertFalse(schemas.schemaExists(ident));
+    Assertions.assertFalse(schemas.dropSchema(ident, true));
+  }
+
+  @Test
+  void testCascadeDropFailure() {
+    CatalogEntity entity =
+        CatalogEntity.builder()
+            .withId(1L)
+            .withName("catalog")
+            .withNamespace(Namespace.of("metalake"))
+            .withType(IcebergCatalog.Type.RELATIONAL)
+            .withProvider("iceberg")
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+
+    try (IcebergCatalogOperations ops = new IcebergCatalogOperations()) {
+      ops.initialize(Maps.newHashMap(), entity.toCatalogInfo());
+      NameIdentifier ident = NameIdentifier.of("metalake", "catalog", "test");
+      ops.createSchema(ident, COMMENT_VALUE, Maps.newHashMap());
+      Column[] columns =
+          new Column[] {
+            IcebergColumn.builder()
+                .withName("col_1")
+                .withType(Types.StringType.get())
+                .withComment(COMMENT_VALUE)
+                .build()
+          };
+      ops.createTable(
+          NameIdentifier.of("metalake", "catalog", "test", "t1"),
+          columns,
+          COMMENT_VALUE,
+          Maps.newHashMap(),
+          new Transform[0]);
+
+      // The failure of dropping a table is thrown as the cause, it's not wrapped twice
+      RuntimeException failure = new RuntimeException("mock error");
+      ops.icebergTableOps = Mockito.spy(ops.icebergTableOps);
+      Mockito.doThrow(failure).when(ops.icebergTableOps).dropTable(Mockito.any());
+      RuntimeException exception =
+          Assertions.assertThrows(RuntimeException.class, () -> ops.dropSchema(ident, true));
+      Assertions.assertSame(failure, exception.getCause());
+      Assertions.assertTrue(ops.schemaExists(ident));
+    }
   }
 
   @Test
@@ -13,6 +13,7 @@ import com.datastrato.gravitino.dto.requests.TopicUpdateRequest;
 import com.datastrato.gravitino.dto.requests.TopicUpdatesRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.datastrato.gravitino.dto.responses.TopicListResponse;
 import com.datastrato.gravitino.dto.responses.TopicResponse;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.NoSuchTopicException;
@@ -25,6 +26,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -103,6 +105,51 @@ public class MessagingCatalog extends BaseSchemaCatalog implements TopicCatalog
     return resp.getTopic();
   }
 
+  /**
+   * Load the topics with the given identifiers in one request. The topics must be under the same
+   * schema, the topics that don't exist are skipped.
+   *
+   * @param idents The identifiers of the topics to load.
+   * @return The loaded {@link Topic}s, in the order of the given identifiers.
+   * @throws NoSuchSchemaException if the schema of the topics does not exist.
+   */
+  public Topic[] loadTopics(NameIdentifier... idents) throws NoSuchSchemaException {
+    if (idents.length == 0) {
+      return new Topic[0];
+    }
+
+    Namespace namespace = idents[0].namespace();
+    for (NameIdentifier ident : idents) {
+      NameIdentifier.checkTopic(ident);
+      Preconditions.checkArgument(
+          ident.namespace().equals(namespace),
+          "All the topics to load must be under the same schema, but got %s and %s",
+          namespace,
+          ident.namespace());
+    }
+
+    Map<String, String> params = new HashMap<>();
+    params.put("details", "true");
+    params.put(
+        "names", Arrays.stream(idents).map(NameIdentifier::name).collect(Collectors.joining(",")));
+    TopicListResponse resp =
+        restClient.get(
+            formatTopicRequestPath(namespace),
+            params,
+            TopicListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.topicErrorHandler());
+    resp.validate();
+
+    // The missing topics are skipped, other failures fail the whole load.
+    resp.getErrors().values().stream()
+        .filter(e -> !NoSuchTopicException.class.getSimpleName().equals(e.getType()))
+        .findFirst()
+        .ifPresent(e -> ErrorHandlers.topicErrorHandler().accept(e));
+
+    return resp.getTopics();
+  }
+
   /**
    * Create a new topic with the given identifier, comment, data layout and properties.
    *
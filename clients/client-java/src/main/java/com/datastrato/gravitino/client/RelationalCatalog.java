@@ -16,6 +16,7 @@ import com.datastrato.gravitino.dto.requests.TableUpdateRequest;
 import com.datastrato.gravitino.dto.requests.TableUpdatesRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.datastrato.gravitino.dto.responses.TableListResponse;
 import com.datastrato.gravitino.dto.responses.TableResponse;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.NoSuchTableException;
@@ -110,6 +111,53 @@ public class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog
     return RelationalTable.from(ident.namespace(), resp.getTable(), restClient);
   }
 
+  /**
+   * Load the tables with specified identifiers in one request. The tables must be under the same
+   * schema, the tables that don't exist are skipped.
+   *
+   * @param idents The identifiers of the tables to load.
+   * @return The loaded {@link Table}s, in the order of the given identifiers.
+   * @throws NoSuchSchemaException if the schema of the tables does not exist.
+   */
+  public Table[] loadTables(NameIdentifier... idents) throws NoSuchSchemaException {
+    if (idents.length == 0) {
+      return new Table[0];
+    }
+
+    Namespace namespace = idents[0].namespace();
+    for (NameIdentifier ident : idents) {
+      NameIdentifier.checkTable(ident);
+      Preconditions.checkArgument(
+          ident.namespace().equals(namespace),
+          "All the tables to load must be under the same schema, but got %s and %s",
+          namespace,
+          ident.namespace());
+    }
+
+    Map<String, String> params = new HashMap<>();
+    params.put("details", "true");
+    params.put(
+        "names", Arrays.stream(idents).map(NameIdentifier::name).collect(Collectors.joining(",")));
+    TableListResponse resp =
+        restClient.get(
+            formatTableRequestPath(namespace),
+            params,
+            TableListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+
+    // The missing tables are skipped, other failures fail the whole load.
+    resp.getErrors().values().stream()
+        .filter(e -> !NoSuchTableException.class.getSimpleName().equals(e.getType()))
+        .findFirst()
+        .ifPresent(e -> ErrorHandlers.tableErrorHandler().accept(e));
+
+    return Arrays.stream(resp.getTables())
+        .map(t -> RelationalTable.from(namespace, t, restClient))
+        .toArray(Table[]::new);
+  }
+
   /**
    * Create a new table with specified identifier, columns, comment and properties.
    *
@@ -22,6 +22,7 @@ import com.datastrato.gravitino.dto.responses.CatalogResponse;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.TopicListResponse;
 import com.datastrato.gravitino.dto.responses.TopicResponse;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.NoSuchTopicException;
@@ -31,6 +32,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
+import java.util.Map;
 import org.apache.hc.core5.http.Method;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -144,6 +146,42 @@ public class TestMessagingCatalog extends TestBase {
     Assertions.assertEquals("schema not found", ex.getMessage());
   }
 
+  @Test
+  public void testLoadTopics() throws JsonProcessingException {
+    NameIdentifier topic1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "topic1");
+    NameIdentifier topic2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "topic2");
+    String topicPath = withSlash(MessagingCatalog.formatTopicRequestPath(topic1.namespace()));
+    Map<String, String> params = ImmutableMap.of("details", "true", "names", "topic1,topic2");
+    TopicDTO mockTopic = mockTopicDTO(topic1.name(), "comment", ImmutableMap.of("k1", "k2"));
+
+    // The missing topic is skipped
+    ErrorResponse notFound =
+        ErrorResponse.notFound(NoSuchTopicException.class.getSimpleName(), "topic not found");
+    TopicListResponse resp =
+        new TopicListResponse(new TopicDTO[] {mockTopic}, ImmutableMap.of("topic2", notFound));
+    buildMockResource(Method.GET, topicPath, params, null, resp, SC_OK);
+
+    MessagingCatalog messagingCatalog = (MessagingCatalog) catalog;
+    Topic[] topics = messagingCatalog.loadTopics(topic1, topic2);
+    Assertions.assertEquals(1, topics.length);
+    assertTopic(mockTopic, topics[0]);
+
+    // Other failures fail the whole load
+    ErrorResponse internalError = ErrorResponse.internalError("mock error");
+    resp =
+        new TopicListResponse(new TopicDTO[] {mockTopic}, ImmutableMap.of("topic2", internalError));
+    buildMockResource(Method.GET, topicPath, params, null, resp, SC_OK);
+    Throwable ex =
+        Assertions.assertThrows(
+            RuntimeException.class, () -> messagingCatalog.loadTopics(topic1, topic2));
+    Assertions.assertTrue(ex.getMessage().contains("mock error"));
+
+    // The topics must be under the same schema
+    NameIdentifier topic3 = NameIdentifier.of(metalakeName, catalogName, "schema2", "topic3");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> messagingCatalog.loadTopics(topic1, topic3));
+  }
+
   @Test
   public void testCreateTopic() throws JsonProcessingException {
     NameIdentifier topic = NameIdentifier.of(metalakeName, catalogName, "schema1", "topic1");
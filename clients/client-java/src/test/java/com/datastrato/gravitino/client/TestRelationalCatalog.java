@@ -46,6 +46,7 @@ import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
 import com.datastrato.gravitino.dto.responses.SchemaResponse;
+import com.datastrato.gravitino.dto.responses.TableListResponse;
 import com.datastrato.gravitino.dto.responses.TableResponse;
 import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
@@ -753,6 +754,53 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex.getMessage().contains("table not found"));
   }
 
+  @Test
+  public void testLoadTables() throws JsonProcessingException {
+    NameIdentifier tableId1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier tableId2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(tableId1.namespace()));
+    Map<String, String> params = ImmutableMap.of("details", "true", "names", "table1,table2");
+    ColumnDTO[] columns =
+        new ColumnDTO[] {createMockColumn("col1", Types.ByteType.get(), "comment1")};
+    TableDTO expectedTable =
+        createMockTable(
+            "table1",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            EMPTY_PARTITIONING,
+            DistributionDTO.NONE,
+            new SortOrderDTO[0]);
+
+    // The missing table is skipped
+    ErrorResponse notFound =
+        ErrorResponse.notFound(NoSuchTableException.class.getSimpleName(), "table not found");
+    TableListResponse resp =
+        new TableListResponse(new TableDTO[] {expectedTable}, ImmutableMap.of("table2", notFound));
+    buildMockResource(Method.GET, tablePath, params, null, resp, SC_OK);
+
+    RelationalCatalog relationalCatalog = (RelationalCatalog) catalog;
+    Table[] tables = relationalCatalog.loadTables(tableId1, tableId2);
+    Assertions.assertEquals(1, tables.length);
+    assertTableEquals(fromDTO(expectedTable), tables[0]);
+
+    // Other failures fail the whole load
+    ErrorResponse internalError = ErrorResponse.internalError("mock error");
+    resp =
+        new TableListResponse(
+            new TableDTO[] {expectedTable}, ImmutableMap.of("table2", internalError));
+    buildMockResource(Method.GET, tablePath, params, null, resp, SC_OK);
+    Throwable ex =
+        Assertions.assertThrows(
+            RuntimeException.class, () -> relationalCatalog.loadTables(tableId1, tableId2));
+    Assertions.assertTrue(ex.getMessage().contains("mock error"));
+
+    // The tables must be under the same schema
+    NameIdentifier tableId3 = NameIdentifier.of(metalakeName, catalogName, "schema2", "table3");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> relationalCatalog.loadTables(tableId1, tableId3));
+  }
+
   @Test
   public void testRenameTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
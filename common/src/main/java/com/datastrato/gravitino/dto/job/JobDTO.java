@@ -0,0 +1,289 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.dto.job;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.time.Instant;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/** Represents an asynchronous job Data Transfer Object (DTO). */
+@ToString
+@EqualsAndHashCode
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobDTO {
+
+  @JsonProperty("id")
+  private String id;
+
+  @JsonProperty("type")
+  private String type;
+
+  @JsonProperty("target")
+  private String target;
+
+  @JsonProperty("status")
+  private String status;
+
+  @JsonProperty("creator")
+  private String creator;
+
+  @JsonProperty("createTime")
+  private Instant createTime;
+
+  @JsonProperty("startTime")
+  private Instant startTime;
+
+  @JsonProperty("finishTime")
+  private Instant finishTime;
+
+  @JsonProperty("result")
+  private String result;
+
+  @JsonProperty("errorType")
+  private String errorType;
+
+  @JsonProperty("errorMessage")
+  private String errorMessage;
+
+  /** Default constructor for Jackson deserialization. */
+  protected JobDTO() {}
+
+  private JobDTO(Builder builder) {
+    this.id = builder.id;
+    this.type = builder.type;
+    this.target = builder.target;
+    this.status = builder.status;
+    this.creator = builder.creator;
+    this.createTime = builder.createTime;
+    this.startTime = builder.startTime;
+    this.finishTime = builder.finishTime;
+    this.result = builder.result;
+    this.errorType = builder.errorType;
+    this.errorMessage = builder.errorMessage;
+  }
+
+  /** @return The id of the job. */
+  public String id() {
+    return id;
+  }
+
+  /** @return The type of the job, like "drop-table". */
+  public String type() {
+    return type;
+  }
+
+  /** @return The name of the object the job operates on. */
+  public String target() {
+    return target;
+  }
+
+  /**
+   * @return The status of the job, one of "QUEUED", "RUNNING", "SUCCEEDED", "FAILED" and
+   *     "CANCELED".
+   */
+  public String status() {
+    return status;
+  }
+
+  /** @return The user who submitted the job. */
+  public String creator() {
+    return creator;
+  }
+
+  /** @return The time the job was submitted. */
+  public Instant createTime() {
+    return createTime;
+  }
+
+  /** @return The time the job started to run, null if it's not started. */
+  public Instant startTime() {
+    return startTime;
+  }
+
+  /** @return The time the job was finished, null if it's not finished. */
+  public Instant finishTime() {
+    return finishTime;
+  }
+
+  /** @return The result of the job, null if the job is not succeeded. */
+  public String result() {
+    return result;
+  }
+
+  /** @return The type of the error of the job, null if the job is not failed. */
+  public String errorType() {
+    return errorType;
+  }
+
+  /** @return The message of the error of the job, null if the job is not failed. */
+  public String errorMessage() {
+    return errorMessage;
+  }
+
+  /**
+   * Creates a new Builder for constructing a Job DTO.
+   *
+   * @return A new Builder instance.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Builder class for constructing a JobDTO instance. */
+  public static class Builder {
+    private String id;
+    private String type;
+    private String target;
+    private String status;
+    private String creator;
+    private Instant createTime;
+    private Instant startTime;
+    private Instant finishTime;
+    private String result;
+    private String errorType;
+    private String errorMessage;
+
+    private Builder() {}
+
+    /**
+     * Sets the id of the job.
+     *
+     * @param id The id of the job.
+     * @return The builder instance.
+     */
+    public Builder withId(String id) {
+      this.id = id;
+      return this;
+    }
+
+    /**
+     * Sets the type of the job.
+     *
+     * @param type The type of the job.
+     * @return The builder instance.
+     */
+    public Builder withType(String type) {
+      this.type = type;
+      return this;
+    }
+
+    /**
+     * Sets the name of the object the job operates on.
+     *
+     * @param target The name of the object.
+     * @return The builder instance.
+     */
+    public Builder withTarget(String target) {
+      this.target = target;
+      return this;
+    }
+
+    /**
+     * Sets the status of the job.
+     *
+     * @param status The status of the job.
+     * @return The builder instance.
+     */
+    public Builder withStatus(String status) {
+      this.status = status;
+      return this;
+    }
+
+    /**
+     * Sets the user who submitted the job.
+     *
+     * @param creator The user who submitted the job.
+     * @return The builder instance.
+     */
+    public Builder withCreator(String creator) {
+      this.creator = creator;
+      return this;
+    }
+
+    /**
+     * Sets the time the job was submitted.
+     *
+     * @param createTime The time the job was submitted.
+     * @return The builder instance.
+     */
+    public Builder withCreateTime(Instant createTime) {
+      this.createTime = createTime;
+      return this;
+    }
+
+    /**
+     * Sets the time the job started to run.
+     *
+     * @param startTime The time the job started to run.
+     * @return The builder instance.
+     */
+    public Builder withStartTime(Instant startTime) {
+      this.startTime = startTime;
+      return this;
+    }
+
+    /**
+     * Sets the time the job was finished.
+     *
+     * @param finishTime The time the job was finished.
+     * @return The builder instance.
+     */
+    public Builder withFinishTime(Instant finishTime) {
+      this.finishTime = finishTime;
+      return this;
+    }
+
+    /**
+     * Sets the result of the job.
+     *
+     * @param result The result of the job.
+     * @return The builder instance.
+     */
+    public Builder withResult(String result) {
+      this.result = result;
+      return this;
+    }
+
+    /**
+     * Sets the type of the error of the job.
+     *
+     * @param errorType The type of the error.
+     * @return The builder instance.
+     */
+    public Builder withErrorType(String errorType) {
+      this.errorType = errorType;
+      return this;
+    }
+
+    /**
+     * Sets the message of the error of the job.
+     *
+     * @param errorMessage The message of the error.
+     * @return The builder instance.
+     */
+    public Builder withErrorMessage(String errorMessage) {
+      this.errorMessage = errorMessage;
+      return this;
+    }
+
+    /**
+     * Builds an instance of JobDTO using the builder's properties.
+     *
+     * @return An instance of JobDTO.
+     * @throws IllegalArgumentException If the id, type, status or create time are not set.
+     */
+    public JobDTO build() {
+      Preconditions.checkArgument(StringUtils.isNotBlank(id), "id cannot be null or empty");
+      Preconditions.checkArgument(StringUtils.isNotBlank(type), "type cannot be null or empty");
+      Preconditions.checkArgument(StringUtils.isNotBlank(status), "status cannot be null or empty");
+      Preconditions.checkArgument(createTime != null, "createTime cannot be null");
+      return new JobDTO(this);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Represents a base response for loading multiple objects in one request, the objects failed to
+ * load don't fail the whole request, their errors are returned by the object names instead.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public abstract class BatchLoadResponse extends BaseResponse {
+
+  @JsonProperty("errors")
+  private final Map<String, ErrorResponse> errors;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
+  /**
+   * Creates a new BatchLoadResponse.
+   *
+   * @param errors The errors of the objects failed to load, by the object names.
+   * @param nextPageToken The token to fetch the next page, null if this is the last page.
+   */
+  protected BatchLoadResponse(Map<String, ErrorResponse> errors, String nextPageToken) {
+    super(0);
+    this.errors = errors;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  protected BatchLoadResponse() {
+    super();
+    this.errors = Collections.emptyMap();
+    this.nextPageToken = null;
+  }
+
+  /**
+   * Validates the response.
+   *
+   * @throws IllegalArgumentException If the response is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(errors != null, "errors must not be null");
+    errors.values().forEach(ErrorResponse::validate);
+  }
+
+  /**
+   * Validates the loaded objects of the response.
+   *
+   * @param loaded The loaded objects.
+   * @param nameOf The function to get the name of an object.
+   * @param kind The kind of the objects, e.g., "table".
+   * @param <T> The type of the objects.
+   * @throws IllegalArgumentException If the loaded objects are invalid.
+   */
+  protected static <T> void validateLoaded(T[] loaded, Function<T, String> nameOf, String kind)
+      throws IllegalArgumentException {
+    Preconditions.checkArgument(loaded != null, "%ss must not be null", kind);
+    for (T object : loaded) {
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(nameOf.apply(object)),
+          "%s 'name' must not be null and empty",
+          kind);
+    }
+  }
+}
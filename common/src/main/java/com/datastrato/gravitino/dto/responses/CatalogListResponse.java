@@ -5,6 +5,7 @@
 package com.datastrato.gravitino.dto.responses;
 
 import com.datastrato.gravitino.dto.CatalogDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -19,14 +20,29 @@ public class CatalogListResponse extends BaseResponse {
   @JsonProperty("catalogs")
   private final CatalogDTO[] catalogs;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Creates a new CatalogListResponse.
    *
    * @param catalogs The list of catalogs.
    */
   public CatalogListResponse(CatalogDTO[] catalogs) {
+    this(catalogs, null);
+  }
+
+  /**
+   * Creates a new CatalogListResponse with a page of catalogs.
+   *
+   * @param catalogs The list of catalogs.
+   * @param nextPageToken The token to fetch the next page, null if this is the last page.
+   */
+  public CatalogListResponse(CatalogDTO[] catalogs, String nextPageToken) {
     super(0);
     this.catalogs = catalogs;
+    this.nextPageToken = nextPageToken;
   }
 
   /**
@@ -36,5 +52,6 @@ public class CatalogListResponse extends BaseResponse {
   public CatalogListResponse() {
     super();
     this.catalogs = null;
+    this.nextPageToken = null;
   }
 }
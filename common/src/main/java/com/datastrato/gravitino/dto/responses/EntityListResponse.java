@@ -6,6 +6,7 @@ package com.datastrato.gravitino.dto.responses;
 
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.json.JsonUtils;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -23,20 +24,36 @@ public class EntityListResponse extends BaseResponse {
   @JsonProperty("identifiers")
   private final NameIdentifier[] idents;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Constructor for EntityListResponse.
    *
    * @param idents The array of entity identifiers.
    */
   public EntityListResponse(NameIdentifier[] idents) {
+    this(idents, null);
+  }
+
+  /**
+   * Constructor for EntityListResponse with a page of entity identifiers.
+   *
+   * @param idents The array of entity identifiers.
+   * @param nextPageToken The token to fetch the next page, null if this is the last page.
+   */
+  public EntityListResponse(NameIdentifier[] idents, String nextPageToken) {
     super(0);
     this.idents = idents;
+    this.nextPageToken = nextPageToken;
   }
 
   /** Default constructor for EntityListResponse. (Used for Jackson deserialization.) */
   public EntityListResponse() {
     super();
     this.idents = null;
+    this.nextPageToken = null;
   }
 
   /**
@@ -48,6 +65,15 @@ public class EntityListResponse extends BaseResponse {
     return idents;
   }
 
+  /**
+   * Returns the token to fetch the next page of entity identifiers.
+   *
+   * @return The next page token, null if this is the last page or the list is not paginated.
+   */
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
   /**
    * Validates the response data.
    *
@@ -28,6 +28,9 @@ public class ErrorConstants {
   /** Error codes for unsupported operation. */
   public static final int UNSUPPORTED_OPERATION_CODE = 1006;
 
+  /** Error codes for too many requests. */
+  public static final int TOO_MANY_REQUESTS_CODE = 1007;
+
   /** Error codes for invalid state. */
   public static final int UNKNOWN_ERROR_CODE = 1100;
 
@@ -256,6 +256,19 @@ public class ErrorResponse extends BaseResponse {
         getStackTrace(throwable));
   }
 
+  /**
+   * Create a new too many requests error instance of {@link ErrorResponse}.
+   *
+   * @param type The type of the error.
+   * @param message The message of the error.
+   * @param throwable The throwable that caused the error.
+   * @return The new instance.
+   */
+  public static ErrorResponse tooManyRequests(String type, String message, Throwable throwable) {
+    return new ErrorResponse(
+        ErrorConstants.TOO_MANY_REQUESTS_CODE, type, message, getStackTrace(throwable));
+  }
+
   private static List<String> getStackTrace(Throwable throwable) {
     if (throwable == null) {
       return null;
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.dto.responses;
+
+import com.datastrato.gravitino.dto.job.JobDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/** Represents a response for an asynchronous job. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class JobResponse extends BaseResponse {
+
+  @JsonProperty("job")
+  private final JobDTO job;
+
+  /**
+   * Constructor for JobResponse.
+   *
+   * @param job The job data transfer object.
+   */
+  public JobResponse(JobDTO job) {
+    super(0);
+    this.job = job;
+  }
+
+  /** Default constructor for JobResponse. (Used for Jackson deserialization.) */
+  public JobResponse() {
+    super();
+    this.job = null;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if the id, type or status of the job is not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(job != null, "job must not be null");
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(job.id()), "job 'id' must not be null and empty");
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(job.type()), "job 'type' must not be null and empty");
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(job.status()), "job 'status' must not be null and empty");
+  }
+}
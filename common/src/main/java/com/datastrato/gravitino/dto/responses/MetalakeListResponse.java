@@ -5,6 +5,7 @@
 package com.datastrato.gravitino.dto.responses;
 
 import com.datastrato.gravitino.dto.MetalakeDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
@@ -22,20 +23,36 @@ public class MetalakeListResponse extends BaseResponse {
   @JsonProperty("metalakes")
   private final MetalakeDTO[] metalakes;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Constructor for MetalakeListResponse.
    *
    * @param metalakes The array of metalake DTOs.
    */
   public MetalakeListResponse(MetalakeDTO[] metalakes) {
+    this(metalakes, null);
+  }
+
+  /**
+   * Constructor for MetalakeListResponse with a page of metalakes.
+   *
+   * @param metalakes The array of metalake DTOs.
+   * @param nextPageToken The token to fetch the next page, null if this is the last page.
+   */
+  public MetalakeListResponse(MetalakeDTO[] metalakes, String nextPageToken) {
     super(0);
     this.metalakes = metalakes;
+    this.nextPageToken = nextPageToken;
   }
 
   /** Default constructor for MetalakeListResponse. (Used for Jackson deserialization.) */
   public MetalakeListResponse() {
     super();
     this.metalakes = null;
+    this.nextPageToken = null;
   }
 
   /**
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.dto.responses;
+
+import com.datastrato.gravitino.dto.rel.TableDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/** Represents a response for loading multiple tables in one request. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class TableListResponse extends BatchLoadResponse {
+
+  @JsonProperty("tables")
+  private final TableDTO[] tables;
+
+  /**
+   * Creates a new TableListResponse.
+   *
+   * @param tables The loaded tables.
+   * @param errors The errors of the tables failed to load, by the table names.
+   */
+  public TableListResponse(TableDTO[] tables, Map<String, ErrorResponse> errors) {
+    this(tables, errors, null);
+  }
+
+  /**
+   * Creates a new TableListResponse with a page of tables.
+   *
+   * @param tables The loaded tables.
+   * @param errors The errors of the tables failed to load, by the table names.
+   * @param nextPageToken The token to fetch the next page, null if this is the last page.
+   */
+  public TableListResponse(
+      TableDTO[] tables, Map<String, ErrorResponse> errors, String nextPageToken) {
+    super(errors, nextPageToken);
+    this.tables = tables;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public TableListResponse() {
+    super();
+    this.tables = null;
+  }
+
+  /**
+   * Validates the response.
+   *
+   * @throws IllegalArgumentException If the response is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+    validateLoaded(tables, TableDTO::name, "table");
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.dto.responses;
+
+import com.datastrato.gravitino.dto.messaging.TopicDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/** Represents a response for loading multiple topics in one request. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class TopicListResponse extends BatchLoadResponse {
+
+  @JsonProperty("topics")
+  private final TopicDTO[] topics;
+
+  /**
+   * Creates a new TopicListResponse.
+   *
+   * @param topics The loaded topics.
+   * @param errors The errors of the topics failed to load, by the topic names.
+   */
+  public TopicListResponse(TopicDTO[] topics, Map<String, ErrorResponse> errors) {
+    this(topics, errors, null);
+  }
+
+  /**
+   * Creates a new TopicListResponse with a page of topics.
+   *
+   * @param topics The loaded topics.
+   * @param errors The errors of the topics failed to load, by the topic names.
+   * @param nextPageToken The token to fetch the next page, null if this is the last page.
+   */
+  public TopicListResponse(
+      TopicDTO[] topics, Map<String, ErrorResponse> errors, String nextPageToken) {
+    super(errors, nextPageToken);
+    this.topics = topics;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public TopicListResponse() {
+    super();
+    this.topics = null;
+  }
+
+  /**
+   * Validates the response.
+   *
+   * @throws IllegalArgumentException If the response is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+    validateLoaded(topics, TopicDTO::name, "topic");
+  }
+}
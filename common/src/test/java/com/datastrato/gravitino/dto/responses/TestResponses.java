@@ -19,12 +19,15 @@ import com.datastrato.gravitino.dto.MetalakeDTO;
 import com.datastrato.gravitino.dto.authorization.GroupDTO;
 import com.datastrato.gravitino.dto.authorization.RoleDTO;
 import com.datastrato.gravitino.dto.authorization.UserDTO;
+import com.datastrato.gravitino.dto.job.JobDTO;
+import com.datastrato.gravitino.dto.messaging.TopicDTO;
 import com.datastrato.gravitino.dto.rel.ColumnDTO;
 import com.datastrato.gravitino.dto.rel.SchemaDTO;
 import com.datastrato.gravitino.dto.rel.TableDTO;
 import com.datastrato.gravitino.dto.rel.partitioning.Partitioning;
 import com.datastrato.gravitino.dto.util.DTOConverters;
 import com.datastrato.gravitino.rel.types.Types;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import java.time.Instant;
 import org.junit.jupiter.api.Test;
@@ -170,6 +173,51 @@ public class TestResponses {
     assertThrows(IllegalArgumentException.class, () -> table.validate());
   }
 
+  @Test
+  void testTableListResponse() throws IllegalArgumentException {
+    AuditDTO audit =
+        AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    ColumnDTO column =
+        ColumnDTO.builder().withName("ColumnA").withDataType(Types.ByteType.get()).build();
+    TableDTO table =
+        TableDTO.builder()
+            .withName("TableA")
+            .withComment("comment")
+            .withColumns(new ColumnDTO[] {column})
+            .withAudit(audit)
+            .withPartitioning(Partitioning.EMPTY_PARTITIONING)
+            .build();
+    TableListResponse tableListResponse =
+        new TableListResponse(
+            new TableDTO[] {table},
+            ImmutableMap.of("TableB", ErrorResponse.notFound("NoSuchTableException", "not found")));
+    tableListResponse.validate(); // No exception thrown
+  }
+
+  @Test
+  void testTableListResponseException() throws IllegalArgumentException {
+    TableListResponse tableListResponse = new TableListResponse();
+    assertThrows(IllegalArgumentException.class, () -> tableListResponse.validate());
+  }
+
+  @Test
+  void testTopicListResponse() throws IllegalArgumentException {
+    AuditDTO audit =
+        AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    TopicDTO topic = TopicDTO.builder().withName("TopicA").withAudit(audit).build();
+    TopicListResponse topicListResponse =
+        new TopicListResponse(
+            new TopicDTO[] {topic},
+            ImmutableMap.of("TopicB", ErrorResponse.notFound("NoSuchTopicException", "not found")));
+    topicListResponse.validate(); // No exception thrown
+  }
+
+  @Test
+  void testTopicListResponseException() throws IllegalArgumentException {
+    TopicListResponse topicListResponse = new TopicListResponse();
+    assertThrows(IllegalArgumentException.class, () -> topicListResponse.validate());
+  }
+
   @Test
   void testRestErrorResponse() throws IllegalArgumentException {
     ErrorResponse error = ErrorResponse.restError("Rest error");
@@ -281,4 +329,23 @@ public class TestResponses {
     RoleResponse role = new RoleResponse();
     assertThrows(IllegalArgumentException.class, () -> role.validate());
   }
+
+  @Test
+  void testJobResponse() throws IllegalArgumentException {
+    JobDTO job =
+        JobDTO.builder()
+            .withId("job1")
+            .withType("drop-table")
+            .withStatus("QUEUED")
+            .withCreateTime(Instant.now())
+            .build();
+    JobResponse response = new JobResponse(job);
+    response.validate(); // No exception thrown
+  }
+
+  @Test
+  void testJobResponseException() throws IllegalArgumentException {
+    JobResponse job = new JobResponse();
+    assertThrows(IllegalArgumentException.class, () -> job.validate());
+  }
 }
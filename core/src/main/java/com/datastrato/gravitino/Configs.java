@@ -38,6 +38,44 @@ public class Configs {
   public static final String ENTITY_KV_ROCKSDB_BACKEND_PATH_KEY =
       "gravitino.entity.store.kv.rocksdbPath";
 
+  public static final String KV_COMMITTED_TRANSACTION_INDEX_CAPACITY_KEY =
+      "gravitino.entity.store.kv.committedTransactionIndexCapacity";
+  public static final int DEFAULT_KV_COMMITTED_TRANSACTION_INDEX_CAPACITY = 1 << 16;
+  public static final int MAX_KV_COMMITTED_TRANSACTION_INDEX_CAPACITY = 1 << 30;
+
+  public static final String KV_NAME_MAPPING_CACHE_CAPACITY_KEY =
+      "gravitino.entity.store.kv.nameMappingCacheCapacity";
+  public static final int DEFAULT_KV_NAME_MAPPING_CACHE_CAPACITY = 10000;
+
+  public static final String KV_ROCKSDB_BLOCK_CACHE_SIZE_KEY =
+      "gravitino.entity.store.kv.rocksdb.blockCacheSize";
+  public static final long DEFAULT_KV_ROCKSDB_BLOCK_CACHE_SIZE = 64L * 1024 * 1024; // 64MB
+  public static final String KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY_KEY =
+      "gravitino.entity.store.kv.rocksdb.bloomFilterBitsPerKey";
+  public static final int DEFAULT_KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY = 10;
+  // The length of the entity type prefix, like 'ca/', plus the id of the first level namespace.
+  public static final String KV_ROCKSDB_PREFIX_LENGTH_KEY =
+      "gravitino.entity.store.kv.rocksdb.prefixLength";
+  public static final int DEFAULT_KV_ROCKSDB_PREFIX_LENGTH = 3 + Long.BYTES;
+  public static final String KV_ROCKSDB_COMPRESSION_PER_LEVEL_KEY =
+      "gravitino.entity.store.kv.rocksdb.compressionPerLevel";
+  public static final String DEFAULT_KV_ROCKSDB_COMPRESSION_PER_LEVEL =
+      "none,none,lz4,lz4,lz4,lz4,zstd";
+  public static final List<String> KV_ROCKSDB_COMPRESSION_TYPES =
+      Lists.newArrayList("none", "snappy", "zlib", "bzip2", "lz4", "lz4hc", "zstd");
+  public static final String KV_ROCKSDB_MAX_BACKGROUND_JOBS_KEY =
+      "gravitino.entity.store.kv.rocksdb.maxBackgroundJobs";
+  public static final int DEFAULT_KV_ROCKSDB_MAX_BACKGROUND_JOBS = 2;
+  public static final String KV_ROCKSDB_RATE_BYTES_PER_SEC_KEY =
+      "gravitino.entity.store.kv.rocksdb.rateBytesPerSec";
+  public static final long DEFAULT_KV_ROCKSDB_RATE_BYTES_PER_SEC = 0L;
+
+  public static final String KV_GC_PARALLELISM_KEY = "gravitino.entity.store.kv.gcParallelism";
+  public static final int DEFAULT_KV_GC_PARALLELISM = 2;
+  public static final String KV_GC_DELETES_PER_SECOND_KEY =
+      "gravitino.entity.store.kv.gcDeletesPerSecond";
+  public static final int DEFAULT_KV_GC_DELETES_PER_SECOND = 0;
+
   public static final Long DEFAULT_KV_DELETE_AFTER_TIME = 604800000L; // 7 days
   public static final String KV_DELETE_AFTER_TIME_KEY =
       "gravitino.entity.store.kv.deleteAfterTimeMs";
@@ -138,6 +176,118 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_KV_ROCKSDB_BACKEND_PATH);
 
+  public static final ConfigEntry<Integer> KV_COMMITTED_TRANSACTION_INDEX_CAPACITY =
+      new ConfigBuilder(KV_COMMITTED_TRANSACTION_INDEX_CAPACITY_KEY)
+          .doc(
+              "The maximum number of committed transaction ids kept in memory to check the "
+                  + "visibility of data without reading the commit marks from the kv backend, "
+                  + "0 means disabling the index")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(
+              v -> v >= 0 && v <= MAX_KV_COMMITTED_TRANSACTION_INDEX_CAPACITY,
+              String.format(
+                  "The value of %s is out of range, which must be between 0 and %s",
+                  KV_COMMITTED_TRANSACTION_INDEX_CAPACITY_KEY,
+                  MAX_KV_COMMITTED_TRANSACTION_INDEX_CAPACITY))
+          .createWithDefault(DEFAULT_KV_COMMITTED_TRANSACTION_INDEX_CAPACITY);
+
+  public static final ConfigEntry<Integer> KV_NAME_MAPPING_CACHE_CAPACITY =
+      new ConfigBuilder(KV_NAME_MAPPING_CACHE_CAPACITY_KEY)
+          .doc(
+              "The maximum number of name to id mappings, and id to name mappings, cached in "
+                  + "memory to encode and decode the entity keys, 0 means disabling the cache")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_NAME_MAPPING_CACHE_CAPACITY);
+
+  public static final ConfigEntry<Long> KV_ROCKSDB_BLOCK_CACHE_SIZE =
+      new ConfigBuilder(KV_ROCKSDB_BLOCK_CACHE_SIZE_KEY)
+          .doc("The size in bytes of the LRU block cache shared by all the RocksDB SST files")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_BLOCK_CACHE_SIZE);
+
+  public static final ConfigEntry<Integer> KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY =
+      new ConfigBuilder(KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY_KEY)
+          .doc(
+              "The bits per key of the RocksDB bloom filters for both whole keys and key prefixes, "
+                  + "0 means disabling the bloom filters")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY);
+
+  public static final ConfigEntry<Integer> KV_ROCKSDB_PREFIX_LENGTH =
+      new ConfigBuilder(KV_ROCKSDB_PREFIX_LENGTH_KEY)
+          .doc(
+              "The length of the fixed key prefix used by the RocksDB prefix bloom filters, the "
+                  + "default value covers the entity type and the id of the metalake in the key, "
+                  + "0 means disabling the prefix extractor")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_PREFIX_LENGTH);
+
+  public static final ConfigEntry<List<String>> KV_ROCKSDB_COMPRESSION_PER_LEVEL =
+      new ConfigBuilder(KV_ROCKSDB_COMPRESSION_PER_LEVEL_KEY)
+          .doc(
+              String.format(
+                  "The comma separated compression types of RocksDB levels from level 0, the "
+                      + "last one is used for the remaining levels, the valid values are %s",
+                  KV_ROCKSDB_COMPRESSION_TYPES))
+          .version(ConfigConstants.VERSION_0_6_0)
+          .stringConf()
+          .toSequence()
+          .checkValue(
+              values ->
+                  !values.isEmpty()
+                      && values.stream()
+                          .allMatch(v -> KV_ROCKSDB_COMPRESSION_TYPES.contains(v.toLowerCase())),
+              String.format(
+                  "The value of %s must be a list of %s",
+                  KV_ROCKSDB_COMPRESSION_PER_LEVEL_KEY, KV_ROCKSDB_COMPRESSION_TYPES))
+          .createWithDefault(
+              Lists.newArrayList(DEFAULT_KV_ROCKSDB_COMPRESSION_PER_LEVEL.split(",")));
+
+  public static final ConfigEntry<Integer> KV_ROCKSDB_MAX_BACKGROUND_JOBS =
+      new ConfigBuilder(KV_ROCKSDB_MAX_BACKGROUND_JOBS_KEY)
+          .doc("The maximum number of concurrent RocksDB background flush and compaction jobs")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_MAX_BACKGROUND_JOBS);
+
+  public static final ConfigEntry<Long> KV_ROCKSDB_RATE_BYTES_PER_SEC =
+      new ConfigBuilder(KV_ROCKSDB_RATE_BYTES_PER_SEC_KEY)
+          .doc(
+              "The maximum bytes per second RocksDB flushes and compactions can write, "
+                  + "0 means no limit")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_RATE_BYTES_PER_SEC);
+
+  public static final ConfigEntry<Integer> KV_GC_PARALLELISM =
+      new ConfigBuilder(KV_GC_PARALLELISM_KEY)
+          .doc("The number of threads used by the garbage collector to collect the key ranges")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_GC_PARALLELISM);
+
+  public static final ConfigEntry<Integer> KV_GC_DELETES_PER_SECOND =
+      new ConfigBuilder(KV_GC_DELETES_PER_SECOND_KEY)
+          .doc(
+              "The maximum number of keys the garbage collector can physically delete per "
+                  + "second, 0 means no limit")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_GC_DELETES_PER_SECOND);
+
   public static final ConfigEntry<String> ENTITY_SERDE =
       new ConfigBuilder("gravitino.entity.serde")
           .doc("The entity SerDe to use")
@@ -159,6 +309,62 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Long> LOAD_NOT_FOUND_CACHE_TTL_MS =
+      new ConfigBuilder("gravitino.load.notFoundCacheTtlMs")
+          .doc(
+              "The time in milliseconds to cache the \"not found\" results of the catalog, "
+                  + "entity and role loads, 0 means the results are not cached")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Boolean> CATALOG_WARM_UP_ENABLED =
+      new ConfigBuilder("gravitino.catalog.warmUp.enabled")
+          .doc(
+              "Whether to initialize the catalogs of all the metalakes in the background when the "
+                  + "server starts")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> CATALOG_WARM_UP_PARALLELISM =
+      new ConfigBuilder("gravitino.catalog.warmUp.parallelism")
+          .doc("The maximum number of catalogs to initialize concurrently during the warm-up")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
+  public static final ConfigEntry<Integer> CATALOG_BATCH_LOAD_PARALLELISM =
+      new ConfigBuilder("gravitino.catalog.batchLoad.parallelism")
+          .doc(
+              "The maximum number of tables loaded concurrently from the catalogs by the batch "
+                  + "load requests")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8);
+
+  public static final ConfigEntry<Long> CATALOG_TABLE_CACHE_CAPACITY =
+      new ConfigBuilder("gravitino.catalog.tableCache.capacity")
+          .doc(
+              "The maximum number of tables cached by the table metadata cache, 0 means the cache "
+                  + "is disabled. The cache only works for the catalogs with the property "
+                  + "`table-cache.enabled` set to true")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000L);
+
+  public static final ConfigEntry<Long> CATALOG_TABLE_CACHE_EXPIRE_TIME_MS =
+      new ConfigBuilder("gravitino.catalog.tableCache.expireTimeMs")
+          .doc("The time in milliseconds after which a cached table expires")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60 * 1000L);
+
   public static final ConfigEntry<String> AUTHENTICATOR =
       new ConfigBuilder("gravitino.authenticator")
           .doc("The authenticator which Gravitino uses")
@@ -276,4 +482,46 @@ public class Configs {
           .version(ConfigConstants.VERSION_0_5_0)
           .longConf()
           .createWithDefault(60 * 60 * 1000L);
+
+  public static final ConfigEntry<Integer> JOB_WORKER_THREADS =
+      new ConfigBuilder("gravitino.job.workerThreads")
+          .doc("The number of threads to run the asynchronous jobs, separate from the HTTP threads")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
+  public static final ConfigEntry<Integer> JOB_QUEUE_CAPACITY =
+      new ConfigBuilder("gravitino.job.queueCapacity")
+          .doc("The maximum number of asynchronous jobs waiting to run, more jobs are rejected")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  public static final ConfigEntry<Long> JOB_RETENTION_MS =
+      new ConfigBuilder("gravitino.job.retentionMs")
+          .doc("The time in milliseconds to keep the finished asynchronous jobs for polling")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60 * 60 * 1000L);
+
+  public static final ConfigEntry<Boolean> METRICS_PROMETHEUS_NATIVE_EXPORTER_ENABLED =
+      new ConfigBuilder("gravitino.metrics.prometheus.nativeExporter.enabled")
+          .doc(
+              "Whether to serve the Prometheus metrics with the native exporter, which renders "
+                  + "the metric names and labels at registration, instead of the Dropwizard bridge")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Boolean> METRICS_PROMETHEUS_HISTOGRAM_ENABLED =
+      new ConfigBuilder("gravitino.metrics.prometheus.histogram.enabled")
+          .doc(
+              "Whether to export the timers as Prometheus histograms with buckets instead of "
+                  + "summaries with quantiles, only works with the native exporter")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .booleanConf()
+          .createWithDefault(false);
 }
@@ -8,6 +8,7 @@ import com.datastrato.gravitino.Entity.EntityType;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import com.datastrato.gravitino.utils.Executable;
+import com.datastrato.gravitino.utils.Page;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
@@ -51,6 +52,29 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, EntityType entityType) throws IOException;
 
+  /**
+   * List a page of the entities with the specified {@link Namespace}, and deserialize them into
+   * the specified {@link Entity} object. Unlike {@link #list(Namespace, Class, EntityType)}, only
+   * the entities of the requested page are loaded into memory, the caller can pass the {@link
+   * Page#nextPageToken()} of the returned page to fetch the following entities.
+   *
+   * <p>Note. The page token is opaque and only valid for the same namespace and entity type. The
+   * entities are returned in the storage order, which is not necessarily the order of the names.
+   *
+   * @param namespace the namespace of the entities
+   * @param <E> class of the entity
+   * @param type the detailed type of the entity
+   * @param entityType the general type of the entity
+   * @param pageToken the token returned by the previous page, null to list from the beginning
+   * @param pageSize the maximum number of entities in the page, must be positive
+   * @throws IOException if the list operation fails
+   * @throws IllegalArgumentException if the page token or the page size is invalid
+   * @return the page of entities
+   */
+  <E extends Entity & HasIdentifier> Page<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType, String pageToken, int pageSize)
+      throws IOException;
+
   /**
    * Check if the entity with the specified {@link NameIdentifier} exists.
    *
@@ -18,11 +18,14 @@ import com.datastrato.gravitino.catalog.SchemaDispatcher;
 import com.datastrato.gravitino.catalog.SchemaNormalizeDispatcher;
 import com.datastrato.gravitino.catalog.SchemaOperationDispatcher;
 import com.datastrato.gravitino.catalog.TableDispatcher;
+import com.datastrato.gravitino.catalog.TableMetadataCache;
+import com.datastrato.gravitino.catalog.TableMetadataCacheMetricsSource;
 import com.datastrato.gravitino.catalog.TableNormalizeDispatcher;
 import com.datastrato.gravitino.catalog.TableOperationDispatcher;
 import com.datastrato.gravitino.catalog.TopicDispatcher;
 import com.datastrato.gravitino.catalog.TopicNormalizeDispatcher;
 import com.datastrato.gravitino.catalog.TopicOperationDispatcher;
+import com.datastrato.gravitino.job.JobManager;
 import com.datastrato.gravitino.listener.CatalogEventDispatcher;
 import com.datastrato.gravitino.listener.EventBus;
 import com.datastrato.gravitino.listener.EventListenerManager;
@@ -38,6 +41,8 @@ import com.datastrato.gravitino.metrics.MetricsSystem;
 import com.datastrato.gravitino.metrics.source.JVMMetricsSource;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.storage.RandomIdGenerator;
+import com.datastrato.gravitino.storage.TimedEntityStore;
+import com.datastrato.gravitino.utils.IsolatedClassLoaderMetricsSource;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
@@ -81,6 +86,10 @@ public class GravitinoEnv {
   private LockManager lockManager;
   private EventListenerManager eventListenerManager;
 
+  private JobManager jobManager;
+
+  private TableOperationDispatcher tableOperationDispatcher;
+
   private GravitinoEnv() {}
 
   private static class InstanceHolder {
@@ -119,6 +128,17 @@ public class GravitinoEnv {
     this.accessControlManager = accessControlManager;
   }
 
+  /**
+   * This method is used for testing purposes only to set the job manager for test in package
+   * `com.datastrato.gravitino.server.web.rest`.
+   *
+   * @param jobManager The job manager to be set.
+   */
+  @VisibleForTesting
+  public void setJobManager(JobManager jobManager) {
+    this.jobManager = jobManager;
+  }
+
   /**
    * This method is used for testing purposes only to set the entity store for test in package
    * `com.datastrato.gravitino.authorization`.
@@ -139,17 +159,19 @@ public class GravitinoEnv {
     LOG.info("Initializing Gravitino Environment...");
 
     this.config = config;
-    this.metricsSystem = new MetricsSystem();
+    this.metricsSystem = new MetricsSystem(config);
     metricsSystem.register(new JVMMetricsSource());
+    metricsSystem.register(IsolatedClassLoaderMetricsSource.getInstance());
 
     // Initialize EntityStore
-    this.entityStore = EntityStoreFactory.createEntityStore(config);
+    this.entityStore =
+        new TimedEntityStore(EntityStoreFactory.createEntityStore(config), metricsSystem);
     entityStore.initialize(config);
 
     // create and initialize a random id generator
     this.idGenerator = new RandomIdGenerator();
 
-    this.eventListenerManager = new EventListenerManager();
+    this.eventListenerManager = new EventListenerManager(metricsSystem);
     eventListenerManager.init(
         config.getConfigsWithPrefix(EventListenerManager.GRAVITINO_EVENT_LISTENER_PREFIX));
     EventBus eventBus = eventListenerManager.createEventBus();
@@ -159,17 +181,26 @@ public class GravitinoEnv {
     this.metalakeDispatcher = new MetalakeEventDispatcher(eventBus, metalakeManager);
 
     // Create and initialize Catalog related modules
-    this.catalogManager = new CatalogManager(config, entityStore, idGenerator);
+    this.catalogManager = new CatalogManager(config, entityStore, idGenerator, metricsSystem);
     this.catalogDispatcher = new CatalogEventDispatcher(eventBus, catalogManager);
 
+    TableMetadataCache tableCache = null;
+    long tableCacheCapacity = config.get(Configs.CATALOG_TABLE_CACHE_CAPACITY);
+    if (tableCacheCapacity > 0) {
+      tableCache =
+          new TableMetadataCache(
+              tableCacheCapacity, config.get(Configs.CATALOG_TABLE_CACHE_EXPIRE_TIME_MS));
+      metricsSystem.register(new TableMetadataCacheMetricsSource(tableCache));
+    }
+
     SchemaOperationDispatcher schemaOperationDispatcher =
-        new SchemaOperationDispatcher(catalogManager, entityStore, idGenerator);
+        new SchemaOperationDispatcher(catalogManager, entityStore, idGenerator, tableCache);
     SchemaNormalizeDispatcher schemaNormalizeDispatcher =
         new SchemaNormalizeDispatcher(schemaOperationDispatcher);
     this.schemaDispatcher = new SchemaEventDispatcher(eventBus, schemaNormalizeDispatcher);
 
-    TableOperationDispatcher tableOperationDispatcher =
-        new TableOperationDispatcher(catalogManager, entityStore, idGenerator);
+    this.tableOperationDispatcher =
+        new TableOperationDispatcher(catalogManager, entityStore, idGenerator, tableCache);
     TableNormalizeDispatcher tableNormalizeDispatcher =
         new TableNormalizeDispatcher(tableOperationDispatcher);
     this.tableDispatcher = new TableEventDispatcher(eventBus, tableNormalizeDispatcher);
@@ -204,7 +235,9 @@ public class GravitinoEnv {
         config.getConfigsWithPrefix(AuxiliaryServiceManager.GRAVITINO_AUX_SERVICE_PREFIX));
 
     // Tree lock
-    this.lockManager = new LockManager(config);
+    this.lockManager = new LockManager(config, metricsSystem);
+
+    this.jobManager = new JobManager(config);
     LOG.info("Gravitino Environment is initialized.");
   }
 
@@ -316,10 +349,23 @@ public class GravitinoEnv {
     return accessControlManager;
   }
 
+  /**
+   * Get the JobManager associated with the Gravitino environment.
+   *
+   * @return The JobManager instance.
+   */
+  public JobManager jobManager() {
+    return jobManager;
+  }
+
   public void start() {
     auxServiceManager.serviceStart();
     metricsSystem.start();
     eventListenerManager.start();
+
+    if (config.get(Configs.CATALOG_WARM_UP_ENABLED)) {
+      catalogManager.warmUpCatalogs(config.get(Configs.CATALOG_WARM_UP_PARALLELISM));
+    }
   }
 
   /** Shutdown the Gravitino environment. */
@@ -334,6 +380,14 @@ public class GravitinoEnv {
       }
     }
 
+    if (jobManager != null) {
+      jobManager.close();
+    }
+
+    if (tableOperationDispatcher != null) {
+      tableOperationDispatcher.close();
+    }
+
     if (catalogManager != null) {
       catalogManager.close();
     }
@@ -18,6 +18,7 @@ import com.datastrato.gravitino.meta.AuditInfo;
 import com.datastrato.gravitino.meta.RoleEntity;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.utils.PrincipalUtils;
+import com.datastrato.gravitino.utils.SingleFlight;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Scheduler;
@@ -44,6 +45,7 @@ class RoleManager {
   private final EntityStore store;
   private final IdGenerator idGenerator;
   private final Cache<NameIdentifier, RoleEntity> cache;
+  private final SingleFlight<NameIdentifier, RoleEntity> roleLoads;
 
   RoleManager(EntityStore store, IdGenerator idGenerator, Config config) {
     this.store = store;
@@ -69,6 +71,11 @@ class RoleManager {
                             .setNameFormat("role-cleaner-%d")
                             .build())))
             .build();
+    this.roleLoads =
+        new SingleFlight<>(
+            config.get(Configs.LOAD_NOT_FOUND_CACHE_TTL_MS),
+            e -> e instanceof NoSuchEntityException,
+            e -> new NoSuchEntityException(e, "%s", e.getMessage()));
   }
 
   RoleEntity createRole(
@@ -95,6 +102,7 @@ class RoleManager {
             .build();
     try {
       store.put(roleEntity, false /* overwritten */);
+      roleLoads.invalidate(roleEntity.nameIdentifier());
       cache.put(roleEntity.nameIdentifier(), roleEntity);
       return roleEntity;
     } catch (EntityAlreadyExistsException e) {
@@ -133,16 +141,31 @@ class RoleManager {
   }
 
   private RoleEntity getRoleEntity(NameIdentifier identifier) {
-    return cache.get(
-        identifier,
-        id -> {
-          try {
-            return store.get(identifier, Entity.EntityType.ROLE, RoleEntity.class);
-          } catch (IOException ioe) {
-            LOG.error("Failed to get roles {} due to storage issues", identifier, ioe);
-            throw new RuntimeException(ioe);
-          }
-        });
+    RoleEntity roleEntity = cache.getIfPresent(identifier);
+    if (roleEntity != null) {
+      return roleEntity;
+    }
+
+    // The concurrent loads of the same role share one store access.
+    try {
+      return roleLoads.execute(
+          identifier,
+          ident ->
+              cache.get(
+                  ident,
+                  id -> {
+                    try {
+                      return store.get(id, Entity.EntityType.ROLE, RoleEntity.class);
+                    } catch (IOException ioe) {
+                      LOG.error("Failed to get roles {} due to storage issues", id, ioe);
+                      throw new RuntimeException(ioe);
+                    }
+                  }));
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
   }
 
   @VisibleForTesting
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.NameIdentifier;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The result of loading multiple objects in one batch. Each object is either loaded or failed, the
+ * failure of one object doesn't fail the others.
+ *
+ * @param <T> The type of the loaded objects.
+ */
+public class BatchLoadResult<T> {
+
+  private final Map<NameIdentifier, T> loaded;
+
+  private final Map<NameIdentifier, Exception> failures;
+
+  /**
+   * Creates a new BatchLoadResult.
+   *
+   * @param loaded The loaded objects, in the order of the request.
+   * @param failures The failures of the objects failed to load, in the order of the request.
+   */
+  public BatchLoadResult(Map<NameIdentifier, T> loaded, Map<NameIdentifier, Exception> failures) {
+    this.loaded = Collections.unmodifiableMap(loaded);
+    this.failures = Collections.unmodifiableMap(failures);
+  }
+
+  /** @return The loaded objects by their identifiers. */
+  public Map<NameIdentifier, T> loaded() {
+    return loaded;
+  }
+
+  /** @return The failures by the identifiers of the objects failed to load. */
+  public Map<NameIdentifier, Exception> failures() {
+    return failures;
+  }
+}
@@ -5,10 +5,41 @@
 
 package com.datastrato.gravitino.catalog;
 
+import com.datastrato.gravitino.Catalog;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
+import com.datastrato.gravitino.utils.Page;
+
 /**
  * {@code CatalogDispatcher} interface acts as a specialization of the {@link SupportsCatalogs}
  * interface. This interface is designed to potentially add custom behaviors or operations related
  * to dispatching or handling catalog-related events or actions that are not covered by the standard
  * {@code SupportsCatalogs} operations.
  */
-public interface CatalogDispatcher extends SupportsCatalogs {}
+public interface CatalogDispatcher extends SupportsCatalogs {
+
+  /**
+   * List a page of the catalogs in the metalake.
+   *
+   * @param namespace The namespace of the metalake.
+   * @param pageToken The token returned by the previous page, null to list from the beginning.
+   * @param pageSize The maximum number of catalogs in the page.
+   * @return The page of catalog identifiers.
+   * @throws NoSuchMetalakeException If the metalake does not exist.
+   */
+  Page<NameIdentifier> listCatalogs(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchMetalakeException;
+
+  /**
+   * List a page of the catalogs with their information in the metalake.
+   *
+   * @param namespace The namespace of the metalake.
+   * @param pageToken The token returned by the previous page, null to list from the beginning.
+   * @param pageSize The maximum number of catalogs in the page.
+   * @return The page of catalogs.
+   * @throws NoSuchMetalakeException If the metalake does not exist.
+   */
+  Page<Catalog> listCatalogsInfo(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchMetalakeException;
+}
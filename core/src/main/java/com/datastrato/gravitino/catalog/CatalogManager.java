@@ -35,21 +35,27 @@ import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
 import com.datastrato.gravitino.file.FilesetCatalog;
 import com.datastrato.gravitino.messaging.TopicCatalog;
 import com.datastrato.gravitino.meta.AuditInfo;
+import com.datastrato.gravitino.meta.BaseMetalake;
 import com.datastrato.gravitino.meta.CatalogEntity;
 import com.datastrato.gravitino.meta.SchemaEntity;
+import com.datastrato.gravitino.metrics.MetricsSystem;
 import com.datastrato.gravitino.rel.SupportsPartitions;
 import com.datastrato.gravitino.rel.SupportsSchemas;
 import com.datastrato.gravitino.rel.Table;
 import com.datastrato.gravitino.rel.TableCatalog;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.utils.IsolatedClassLoader;
+import com.datastrato.gravitino.utils.Page;
 import com.datastrato.gravitino.utils.PrincipalUtils;
+import com.datastrato.gravitino.utils.SingleFlight;
 import com.datastrato.gravitino.utils.ThrowableFunction;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Scheduler;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -60,6 +66,7 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -70,9 +77,16 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -90,10 +104,59 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   public static class CatalogWrapper {
     private BaseCatalog catalog;
     private IsolatedClassLoader classLoader;
+    private final String provider;
+
+    private volatile Boolean tableCacheEnabled;
+
+    // The properties metadata of the catalog, each kind is compiled once when it's first used.
+    private final Supplier<PropertiesMetadata> tablePropertiesMetadata =
+        compilePropertiesMetadata(HasPropertyMetadata::tablePropertiesMetadata);
+    private final Supplier<PropertiesMetadata> catalogPropertiesMetadata =
+        compilePropertiesMetadata(HasPropertyMetadata::catalogPropertiesMetadata);
+    private final Supplier<PropertiesMetadata> schemaPropertiesMetadata =
+        compilePropertiesMetadata(HasPropertyMetadata::schemaPropertiesMetadata);
+    private final Supplier<PropertiesMetadata> filesetPropertiesMetadata =
+        compilePropertiesMetadata(HasPropertyMetadata::filesetPropertiesMetadata);
+    private final Supplier<PropertiesMetadata> topicPropertiesMetadata =
+        compilePropertiesMetadata(HasPropertyMetadata::topicPropertiesMetadata);
+
+    private final HasPropertyMetadata propertiesMetadata =
+        new HasPropertyMetadata() {
+          @Override
+          public PropertiesMetadata tablePropertiesMetadata() {
+            return tablePropertiesMetadata.get();
+          }
+
+          @Override
+          public PropertiesMetadata catalogPropertiesMetadata() {
+            return catalogPropertiesMetadata.get();
+          }
+
+          @Override
+          public PropertiesMetadata schemaPropertiesMetadata() {
+            return schemaPropertiesMetadata.get();
+          }
+
+          @Override
+          public PropertiesMetadata filesetPropertiesMetadata() {
+            return filesetPropertiesMetadata.get();
+          }
+
+          @Override
+          public PropertiesMetadata topicPropertiesMetadata() {
+            return topicPropertiesMetadata.get();
+          }
+        };
 
     public CatalogWrapper(BaseCatalog catalog, IsolatedClassLoader classLoader) {
       this.catalog = catalog;
       this.classLoader = classLoader;
+      this.provider = catalog.provider();
+    }
+
+    /** @return The provider of the catalog. */
+    public String provider() {
+      return provider;
     }
 
     public <R> R doWithSchemaOps(ThrowableFunction<SupportsSchemas, R> fn) throws Exception {
@@ -152,13 +215,42 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
     public <R> R doWithPropertiesMeta(ThrowableFunction<HasPropertyMetadata, R> fn)
         throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog.ops()));
+      // The property values may be decoded by the catalog classes, so the catalog class loader
+      // is still used.
+      return classLoader.withClassLoader(cl -> fn.apply(propertiesMetadata));
+    }
+
+    /**
+     * Gets the compiled properties metadata of the catalog. The property names can be looked up
+     * without switching to the catalog class loader, the values should be decoded by {@link
+     * #doWithPropertiesMeta} instead.
+     *
+     * @return The compiled properties metadata of the catalog.
+     */
+    public HasPropertyMetadata propertiesMetadata() {
+      return propertiesMetadata;
     }
 
     public Capability capabilities() throws Exception {
       return classLoader.withClassLoader(cl -> catalog.capability());
     }
 
+    public boolean tableCacheEnabled() throws Exception {
+      // The properties of the catalog don't change during the lifetime of the wrapper, so the
+      // flag is read from the catalog once.
+      Boolean enabled = tableCacheEnabled;
+      if (enabled == null) {
+        enabled =
+            classLoader.withClassLoader(
+                cl -> {
+                  Object value = catalog.properties().get(BaseCatalog.CATALOG_TABLE_CACHE_ENABLED);
+                  return Boolean.parseBoolean((String) value);
+                });
+        tableCacheEnabled = enabled;
+      }
+      return enabled;
+    }
+
     public void close() {
       try {
         classLoader.withClassLoader(
@@ -176,6 +268,22 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       classLoader.close();
     }
 
+    private Supplier<PropertiesMetadata> compilePropertiesMetadata(
+        ThrowableFunction<HasPropertyMetadata, PropertiesMetadata> provider) {
+      // The unsupported kinds are not memoized, they fail fast on each call.
+      return Suppliers.memoize(
+          () -> {
+            try {
+              return classLoader.withClassLoader(
+                  cl -> new CompiledPropertiesMetadata(provider.apply(catalog.ops())));
+            } catch (RuntimeException e) {
+              throw e;
+            } catch (Exception e) {
+              throw new RuntimeException(e);
+            }
+          });
+    }
+
     private SupportsSchemas asSchemas() {
       return catalog.ops() instanceof SupportsSchemas ? (SupportsSchemas) catalog.ops() : null;
     }
@@ -201,6 +309,31 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
   private final IdGenerator idGenerator;
 
+  // Called with the identifier of the catalog whose wrapper is removed from the cache, i.e., the
+  // catalog is altered, dropped or evicted.
+  private final List<Consumer<NameIdentifier>> catalogRemovalListeners =
+      new CopyOnWriteArrayList<>();
+
+  // Coalesces the concurrent loads of the same uncached catalog, the failed loads are shared by
+  // the waiting callers instead of being retried by each of them.
+  private final SingleFlight<NameIdentifier, CatalogWrapper> catalogLoads;
+
+  private final CatalogManagerMetricsSource metricsSource;
+
+  private final CatalogOperationMetricsSource operationMetricsSource;
+
+  // Whether the catalog warm-up is completed, it's true if the warm-up is not started.
+  private volatile boolean warmUpCompleted = true;
+
+  private volatile long warmUpDurationMs = 0;
+
+  private final AtomicLong warmUpFailedCount = new AtomicLong();
+
+  // The classloaders shared by the catalogs with the same package and configuration paths, only
+  // used by the catalogs which enable the classloader sharing. Guarded by itself.
+  private final Map<Pair<String, String>, IsolatedClassLoader> sharedClassLoaders =
+      new HashMap<>();
+
   /**
    * Constructs a CatalogManager instance.
    *
@@ -209,6 +342,23 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
    * @param idGenerator The id generator to use.
    */
   public CatalogManager(Config config, EntityStore store, IdGenerator idGenerator) {
+    this(config, store, idGenerator, null);
+  }
+
+  /**
+   * Constructs a CatalogManager instance which registers its metrics to the metrics system.
+   *
+   * @param config The configuration for the manager.
+   * @param store The entity store to use.
+   * @param idGenerator The id generator to use.
+   * @param metricsSystem The metrics system to register the metrics, null if the metrics are not
+   *     reported.
+   */
+  public CatalogManager(
+      Config config,
+      EntityStore store,
+      IdGenerator idGenerator,
+      @Nullable MetricsSystem metricsSystem) {
     this.config = config;
     this.store = store;
     this.idGenerator = idGenerator;
@@ -221,6 +371,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
                 (k, v, c) -> {
                   LOG.info("Closing catalog {}.", k);
                   ((CatalogWrapper) v).close();
+                  catalogRemovalListeners.forEach(listener -> listener.accept(k));
                 })
             .scheduler(
                 Scheduler.forScheduledExecutorService(
@@ -231,6 +382,120 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
                             .setNameFormat("catalog-cleaner-%d")
                             .build())))
             .build();
+    this.catalogLoads =
+        new SingleFlight<>(
+            config.get(Configs.LOAD_NOT_FOUND_CACHE_TTL_MS),
+            e -> e instanceof NoSuchCatalogException,
+            e -> new NoSuchCatalogException(e, "%s", e.getMessage()));
+
+    this.metricsSource = new CatalogManagerMetricsSource(this);
+    this.operationMetricsSource = new CatalogOperationMetricsSource();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+      metricsSystem.register(operationMetricsSource);
+    }
+  }
+
+  /** @return The configuration the manager is created with. */
+  Config config() {
+    return config;
+  }
+
+  /**
+   * Adds a listener called when a catalog is removed from the cache of the loaded catalogs, i.e.,
+   * the catalog is altered, dropped or evicted.
+   *
+   * @param listener The listener accepting the identifier of the removed catalog.
+   */
+  public void addCatalogRemovalListener(Consumer<NameIdentifier> listener) {
+    catalogRemovalListeners.add(listener);
+  }
+
+  /**
+   * Initializes the catalogs of all the metalakes in the background, so that the first requests to
+   * the catalogs don't need to wait for creating the classloaders and the clients of the catalogs.
+   * The catalogs failed to initialize are skipped, they will be initialized again when they're
+   * used.
+   *
+   * @param parallelism The maximum number of the catalogs to initialize concurrently.
+   * @return A future which completes when all the catalogs are initialized or failed.
+   */
+  public CompletableFuture<Void> warmUpCatalogs(int parallelism) {
+    warmUpCompleted = false;
+    long startTime = System.currentTimeMillis();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            parallelism,
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("catalog-warm-up-%d").build());
+
+    return CompletableFuture.supplyAsync(this::listAllCatalogs, executor)
+        .thenCompose(
+            idents -> {
+              LOG.info("Start to warm up {} catalogs", idents.size());
+              return CompletableFuture.allOf(
+                  idents.stream()
+                      .map(
+                          ident -> CompletableFuture.runAsync(() -> warmUpCatalog(ident), executor))
+                      .toArray(CompletableFuture[]::new));
+            })
+        .whenComplete(
+            (v, e) -> {
+              executor.shutdown();
+              if (e != null) {
+                LOG.error("Failed to warm up catalogs", e);
+              }
+
+              warmUpDurationMs = System.currentTimeMillis() - startTime;
+              warmUpCompleted = true;
+              LOG.info(
+                  "Finish to warm up catalogs, cost: {}ms, failed catalogs: {}",
+                  warmUpDurationMs,
+                  warmUpFailedCount.get());
+            });
+  }
+
+  /** @return true if the catalog warm-up is completed or not started. */
+  public boolean isWarmUpCompleted() {
+    return warmUpCompleted;
+  }
+
+  long warmUpDurationMs() {
+    return warmUpDurationMs;
+  }
+
+  long warmUpFailedCount() {
+    return warmUpFailedCount.get();
+  }
+
+  /** @return The metrics source of the operations dispatched to the catalogs. */
+  CatalogOperationMetricsSource operationMetricsSource() {
+    return operationMetricsSource;
+  }
+
+  private void warmUpCatalog(NameIdentifier ident) {
+    try {
+      loadCatalogAndWrap(ident);
+    } catch (Exception e) {
+      warmUpFailedCount.incrementAndGet();
+      LOG.warn("Failed to warm up catalog {}", ident, e);
+    }
+  }
+
+  private List<NameIdentifier> listAllCatalogs() {
+    try {
+      List<NameIdentifier> catalogs = Lists.newArrayList();
+      for (BaseMetalake metalake :
+          store.list(Namespace.empty(), BaseMetalake.class, EntityType.METALAKE)) {
+        Namespace namespace = Namespace.ofCatalog(metalake.name());
+        store.list(namespace, CatalogEntity.class, EntityType.CATALOG).stream()
+            .map(entity -> NameIdentifier.of(namespace, entity.name()))
+            .forEach(catalogs::add);
+      }
+      return catalogs;
+    } catch (IOException ioe) {
+      LOG.error("Failed to list all the catalogs", ioe);
+      throw new RuntimeException(ioe);
+    }
   }
 
   /**
@@ -273,22 +538,57 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     try {
       List<CatalogEntity> catalogEntities =
           store.list(namespace, CatalogEntity.class, EntityType.CATALOG);
+      return toCatalogsInfo(catalogEntities).toArray(new Catalog[0]);
+    } catch (IOException ioe) {
+      LOG.error("Failed to list catalogs in metalake {}", metalakeIdent, ioe);
+      throw new RuntimeException(ioe);
+    }
+  }
 
-      // Using provider as key to avoid loading the same type catalog instance multiple times
-      Map<String, Set<String>> hiddenProps = new HashMap<>();
-      Multimaps.index(catalogEntities, CatalogEntity::getProvider)
-          .asMap()
-          .forEach((p, e) -> hiddenProps.put(p, getHiddenPropertyNames(e.iterator().next())));
+  @Override
+  public Page<NameIdentifier> listCatalogs(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchMetalakeException {
+    NameIdentifier metalakeIdent = NameIdentifier.of(namespace.levels());
+    checkMetalakeExists(metalakeIdent);
 
-      return catalogEntities.stream()
-          .map(e -> e.toCatalogInfoWithoutHiddenProps(hiddenProps.get(e.getProvider())))
-          .toArray(Catalog[]::new);
+    try {
+      return store
+          .list(namespace, CatalogEntity.class, EntityType.CATALOG, pageToken, pageSize)
+          .map(entity -> NameIdentifier.of(namespace, entity.name()));
     } catch (IOException ioe) {
       LOG.error("Failed to list catalogs in metalake {}", metalakeIdent, ioe);
       throw new RuntimeException(ioe);
     }
   }
 
+  @Override
+  public Page<Catalog> listCatalogsInfo(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchMetalakeException {
+    NameIdentifier metalakeIdent = NameIdentifier.of(namespace.levels());
+    checkMetalakeExists(metalakeIdent);
+
+    try {
+      Page<CatalogEntity> catalogEntities =
+          store.list(namespace, CatalogEntity.class, EntityType.CATALOG, pageToken, pageSize);
+      return Page.of(toCatalogsInfo(catalogEntities.items()), catalogEntities.nextPageToken());
+    } catch (IOException ioe) {
+      LOG.error("Failed to list catalogs in metalake {}", metalakeIdent, ioe);
+      throw new RuntimeException(ioe);
+    }
+  }
+
+  private List<Catalog> toCatalogsInfo(List<CatalogEntity> catalogEntities) {
+    // Using provider as key to avoid loading the same type catalog instance multiple times
+    Map<String, Set<String>> hiddenProps = new HashMap<>();
+    Multimaps.index(catalogEntities, CatalogEntity::getProvider)
+        .asMap()
+        .forEach((p, e) -> hiddenProps.put(p, getHiddenPropertyNames(e.iterator().next())));
+
+    return catalogEntities.stream()
+        .<Catalog>map(e -> e.toCatalogInfoWithoutHiddenProps(hiddenProps.get(e.getProvider())))
+        .collect(Collectors.toList());
+  }
+
   /**
    * Loads the catalog with the specified identifier.
    *
@@ -366,6 +666,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       }
 
       store.put(e, false /* overwrite */);
+      catalogLoads.invalidate(ident);
       CatalogWrapper wrapper = catalogCache.get(ident, id -> createCatalogWrapper(e));
       createSuccess = true;
       return wrapper.catalog;
@@ -482,6 +783,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
                 return newCatalogBuilder.build();
               });
+      catalogLoads.invalidate(updatedCatalog.nameIdentifier());
       return catalogCache.get(
               updatedCatalog.nameIdentifier(), id -> createCatalogWrapper(updatedCatalog))
           .catalog;
@@ -544,7 +846,18 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
    * @throws NoSuchCatalogException If the specified catalog does not exist.
    */
   public CatalogWrapper loadCatalogAndWrap(NameIdentifier ident) throws NoSuchCatalogException {
-    return catalogCache.get(ident, this::loadCatalogInternal);
+    CatalogWrapper wrapper = catalogCache.getIfPresent(ident);
+    if (wrapper != null) {
+      return wrapper;
+    }
+
+    try {
+      return catalogLoads.execute(ident, id -> catalogCache.get(id, this::loadCatalogInternal));
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
   }
 
   private void checkMetalakeExists(NameIdentifier ident) throws NoSuchMetalakeException {
@@ -561,7 +874,16 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   private CatalogWrapper loadCatalogInternal(NameIdentifier ident) throws NoSuchCatalogException {
     try {
       CatalogEntity entity = store.get(ident, EntityType.CATALOG, CatalogEntity.class);
-      return createCatalogWrapper(entity);
+      long startTime = System.currentTimeMillis();
+      long startMetaspace = metaspaceUsed();
+      CatalogWrapper wrapper = createCatalogWrapper(entity);
+      long duration = System.currentTimeMillis() - startTime;
+      metricsSource.updateCatalogInitDuration(duration);
+      if (startMetaspace >= 0) {
+        metricsSource.updateCatalogInitMetaspace(Math.max(0, metaspaceUsed() - startMetaspace));
+      }
+      LOG.info("Catalog {} is initialized, cost: {}ms", ident, duration);
+      return wrapper;
 
     } catch (NoSuchEntityException ne) {
       LOG.warn("Catalog {} does not exist", ident, ne);
@@ -578,7 +900,13 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     String provider = entity.getProvider();
 
     IsolatedClassLoader classLoader = createClassLoader(provider, conf);
-    BaseCatalog<?> catalog = createBaseCatalog(classLoader, entity);
+    BaseCatalog<?> catalog;
+    try {
+      catalog = createBaseCatalog(classLoader, entity);
+    } catch (RuntimeException e) {
+      classLoader.close();
+      throw e;
+    }
 
     CatalogWrapper wrapper = new CatalogWrapper(catalog, classLoader);
     // Validate catalog properties and initialize the config
@@ -629,6 +957,13 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     // Load Catalog class instance
     BaseCatalog<?> catalog = createCatalogInstance(classLoader, entity.getProvider());
     catalog.withCatalogConf(entity.getProperties()).withCatalogEntity(entity);
+    // Closing the catalog may release the states of the whole classloader.
+    Preconditions.checkArgument(
+        !Boolean.parseBoolean(entity.getProperties().get(BaseCatalog.CATALOG_CLASSLOADER_SHARED))
+            || catalog.supportsSharedClassLoader(),
+        "Catalog provider %s doesn't support the property %s",
+        entity.getProvider(),
+        BaseCatalog.CATALOG_CLASSLOADER_SHARED);
     return catalog;
   }
 
@@ -636,7 +971,24 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     if (config.get(Configs.CATALOG_LOAD_ISOLATED)) {
       String pkgPath = buildPkgPath(conf, provider);
       String confPath = buildConfPath(conf, provider);
-      return IsolatedClassLoader.buildClassLoader(Lists.newArrayList(pkgPath, confPath));
+      if (!Boolean.parseBoolean(conf.get(BaseCatalog.CATALOG_CLASSLOADER_SHARED))) {
+        return IsolatedClassLoader.buildClassLoader(Lists.newArrayList(pkgPath, confPath));
+      }
+
+      synchronized (sharedClassLoaders) {
+        // Drop the classloaders closed by all their catalogs, so the loaded classes can be
+        // unloaded.
+        sharedClassLoaders.values().removeIf(IsolatedClassLoader::isClosed);
+        IsolatedClassLoader classLoader = sharedClassLoaders.get(Pair.of(pkgPath, confPath));
+        if (classLoader != null && classLoader.tryRetain()) {
+          return classLoader;
+        }
+
+        classLoader = IsolatedClassLoader.buildClassLoader(Lists.newArrayList(pkgPath, confPath));
+        // The map holds no reference, the classloader is closed once all the catalogs close it.
+        sharedClassLoaders.put(Pair.of(pkgPath, confPath), classLoader);
+        return classLoader;
+      }
     } else {
       // This will use the current class loader, it is mainly used for test.
       return new IsolatedClassLoader(
@@ -644,6 +996,22 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
   }
 
+  private static long metaspaceUsed() {
+    return ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> "Metaspace".equals(pool.getName()))
+        .mapToLong(pool -> pool.getUsage().getUsed())
+        .findFirst()
+        .orElse(-1L);
+  }
+
+  @VisibleForTesting
+  int sharedClassLoaderCount() {
+    synchronized (sharedClassLoaders) {
+      sharedClassLoaders.values().removeIf(IsolatedClassLoader::isClosed);
+      return sharedClassLoaders.size();
+    }
+  }
+
   private BaseCatalog<?> createCatalogInstance(IsolatedClassLoader classLoader, String provider) {
     BaseCatalog<?> catalog;
     try {
@@ -706,15 +1074,16 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
    * conf and conf and package are under the same directory.
    */
   private String buildConfPath(Map<String, String> properties, String provider) {
+    String pkg = properties.get(Catalog.PROPERTY_PACKAGE);
+    if (pkg != null) {
+      return String.join(File.separator, pkg, "conf");
+    }
+
     String gravitinoHome = System.getenv("GRAVITINO_HOME");
     Preconditions.checkArgument(gravitinoHome != null, "GRAVITINO_HOME not set");
     boolean testEnv = System.getenv("GRAVITINO_TEST") != null;
-
     String confPath;
-    String pkg = properties.get(Catalog.PROPERTY_PACKAGE);
-    if (pkg != null) {
-      confPath = String.join(File.separator, pkg, "conf");
-    } else if (testEnv) {
+    if (testEnv) {
       confPath =
           String.join(
               File.separator,
@@ -731,15 +1100,16 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   }
 
   private String buildPkgPath(Map<String, String> conf, String provider) {
+    String pkg = conf.get(Catalog.PROPERTY_PACKAGE);
+    if (pkg != null) {
+      return String.join(File.separator, pkg, "libs");
+    }
+
     String gravitinoHome = System.getenv("GRAVITINO_HOME");
     Preconditions.checkArgument(gravitinoHome != null, "GRAVITINO_HOME not set");
     boolean testEnv = System.getenv("GRAVITINO_TEST") != null;
-
-    String pkg = conf.get(Catalog.PROPERTY_PACKAGE);
     String pkgPath;
-    if (pkg != null) {
-      pkgPath = String.join(File.separator, pkg, "libs");
-    } else if (testEnv) {
+    if (testEnv) {
       // In test, the catalog package is under the build directory.
       pkgPath =
           String.join(
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
+
+/** Metrics of the catalog initialization and warm-up of {@link CatalogManager}. */
+public class CatalogManagerMetricsSource extends MetricsSource {
+  CatalogManagerMetricsSource(CatalogManager catalogManager) {
+    super(MetricsSource.CATALOG_MANAGER_METRIC_NAME);
+    registerGauge(
+        MetricNames.CATALOG_WARM_UP_COMPLETED, () -> catalogManager.isWarmUpCompleted() ? 1 : 0);
+    registerGauge(MetricNames.CATALOG_WARM_UP_DURATION, catalogManager::warmUpDurationMs);
+    registerGauge(MetricNames.CATALOG_WARM_UP_FAILED_COUNT, catalogManager::warmUpFailedCount);
+  }
+
+  /**
+   * Records the time spent to initialize a catalog. Only the overall duration is recorded, the
+   * duration of each catalog is logged instead, so the dropped catalogs leave no metrics behind.
+   *
+   * @param durationMs The time in milliseconds spent to initialize the catalog.
+   */
+  void updateCatalogInitDuration(long durationMs) {
+    getHistogram(MetricNames.CATALOG_INIT_DURATION).update(durationMs);
+  }
+
+  /**
+   * Records the growth of the Metaspace during the catalog initialization. It's an approximation,
+   * the classes loaded concurrently by other threads are also counted.
+   *
+   * @param metaspaceBytes The bytes of the Metaspace grown during the catalog initialization.
+   */
+  void updateCatalogInitMetaspace(long metaspaceBytes) {
+    getHistogram(MetricNames.CATALOG_INIT_METASPACE).update(metaspaceBytes);
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.catalog;
+
+import com.codahale.metrics.Timer;
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of the operations dispatched to the catalogs by {@link OperationDispatcher}, the time of
+ * each operation is recorded per catalog provider and operation.
+ */
+public class CatalogOperationMetricsSource extends MetricsSource {
+  // The timers by provider and operation, avoids building the metric name for each operation.
+  private final ConcurrentMap<String, ConcurrentMap<String, Timer>> timers =
+      new ConcurrentHashMap<>();
+
+  CatalogOperationMetricsSource() {
+    super(MetricsSource.CATALOG_OPERATION_METRIC_NAME);
+  }
+
+  /**
+   * Records the time spent by an operation on a catalog, including the time to load the catalog.
+   *
+   * @param provider The provider of the catalog.
+   * @param operation The name of the operation.
+   * @param durationNanos The time in nanoseconds spent by the operation.
+   */
+  void updateOperation(String provider, String operation, long durationNanos) {
+    ConcurrentMap<String, Timer> providerTimers = timers.get(provider);
+    if (providerTimers == null) {
+      providerTimers = timers.computeIfAbsent(provider, k -> new ConcurrentHashMap<>());
+    }
+
+    Timer timer = providerTimers.get(operation);
+    if (timer == null) {
+      String name = String.format("%s.%s.%s", provider, operation, MetricNames.OPERATION_DURATION);
+      timer = providerTimers.computeIfAbsent(operation, k -> getTimer(name));
+    }
+    timer.update(durationNanos, TimeUnit.NANOSECONDS);
+  }
+}
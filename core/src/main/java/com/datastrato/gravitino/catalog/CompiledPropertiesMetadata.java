@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.connector.PropertiesMetadata;
+import com.datastrato.gravitino.connector.PropertyEntry;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable snapshot of a {@link PropertiesMetadata}, with the hidden, reserved, required and
+ * immutable property names compiled into hash sets. It's created once per catalog by {@link
+ * CatalogManager.CatalogWrapper}, so the property checks of each request are plain set lookups
+ * instead of walking the property entries of the catalog.
+ */
+final class CompiledPropertiesMetadata implements PropertiesMetadata {
+
+  private final Map<String, PropertyEntry<?>> propertyEntries;
+
+  private final Set<String> hiddenProperties;
+  private final Set<String> reservedProperties;
+  private final Set<String> requiredProperties;
+  private final Set<String> immutableProperties;
+
+  CompiledPropertiesMetadata(PropertiesMetadata propertiesMetadata) {
+    this.propertyEntries = ImmutableMap.copyOf(propertiesMetadata.propertyEntries());
+    this.hiddenProperties = namesOf(propertyEntries, PropertyEntry::isHidden);
+    this.reservedProperties = namesOf(propertyEntries, PropertyEntry::isReserved);
+    this.requiredProperties = namesOf(propertyEntries, PropertyEntry::isRequired);
+    this.immutableProperties = namesOf(propertyEntries, PropertyEntry::isImmutable);
+  }
+
+  @Override
+  public Map<String, PropertyEntry<?>> propertyEntries() {
+    return propertyEntries;
+  }
+
+  @Override
+  public boolean isReservedProperty(String propertyName) {
+    return reservedProperties.contains(propertyName);
+  }
+
+  @Override
+  public boolean isRequiredProperty(String propertyName) {
+    return requiredProperties.contains(propertyName);
+  }
+
+  @Override
+  public boolean isImmutableProperty(String propertyName) {
+    return immutableProperties.contains(propertyName);
+  }
+
+  @Override
+  public boolean isHiddenProperty(String propertyName) {
+    return hiddenProperties.contains(propertyName);
+  }
+
+  /** @return The names of the properties required to be set. */
+  Set<String> requiredPropertyNames() {
+    return requiredProperties;
+  }
+
+  /**
+   * Gets the names of the hidden properties in the given properties.
+   *
+   * @param properties The properties to check.
+   * @return The names of the hidden properties.
+   */
+  Set<String> hiddenPropertyNames(Map<String, String> properties) {
+    if (hiddenProperties.isEmpty() || properties == null || properties.isEmpty()) {
+      return Collections.emptySet();
+    }
+
+    return properties.keySet().stream()
+        .filter(hiddenProperties::contains)
+        .collect(Collectors.toSet());
+  }
+
+  private static Set<String> namesOf(
+      Map<String, PropertyEntry<?>> propertyEntries, Predicate<PropertyEntry<?>> predicate) {
+    return propertyEntries.entrySet().stream()
+        .filter(e -> predicate.test(e.getValue()))
+        .map(Map.Entry::getKey)
+        .collect(ImmutableSet.toImmutableSet());
+  }
+}
@@ -44,6 +44,7 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
   public NameIdentifier[] listFilesets(Namespace namespace) throws NoSuchSchemaException {
     return doWithCatalog(
         getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+        "list-filesets",
         c -> c.doWithFilesetOps(f -> f.listFilesets(namespace)),
         NoSuchSchemaException.class);
   }
@@ -61,6 +62,7 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
     Fileset fileset =
         doWithCatalog(
             catalogIdent,
+            "load-fileset",
             c -> c.doWithFilesetOps(f -> f.loadFileset(ident)),
             NoSuchFilesetException.class);
 
@@ -116,6 +118,7 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
     Fileset createdFileset =
         doWithCatalog(
             catalogIdent,
+            "create-fileset",
             c ->
                 c.doWithFilesetOps(
                     f -> f.createFileset(ident, comment, type, storageLocation, updatedProperties)),
@@ -153,6 +156,7 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
     Fileset alteredFileset =
         doWithCatalog(
             catalogIdent,
+            "alter-fileset",
             c -> c.doWithFilesetOps(f -> f.alterFileset(ident, changes)),
             NoSuchFilesetException.class,
             IllegalArgumentException.class);
@@ -177,6 +181,7 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
   public boolean dropFileset(NameIdentifier ident) {
     return doWithCatalog(
         getCatalogIdentifier(ident),
+        "drop-fileset",
         c -> c.doWithFilesetOps(f -> f.dropFileset(ident)),
         NonEmptyEntityException.class);
   }
@@ -6,11 +6,15 @@ package com.datastrato.gravitino.catalog;
 
 import static com.datastrato.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForAlter;
 
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.Entity;
 import com.datastrato.gravitino.EntityStore;
 import com.datastrato.gravitino.HasIdentifier;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.StringIdentifier;
+import com.datastrato.gravitino.config.ConfigEntry;
 import com.datastrato.gravitino.connector.HasPropertyMetadata;
 import com.datastrato.gravitino.connector.PropertiesMetadata;
 import com.datastrato.gravitino.connector.capability.Capability;
@@ -22,14 +26,17 @@ import com.datastrato.gravitino.rel.SchemaChange;
 import com.datastrato.gravitino.rel.SupportsPartitions;
 import com.datastrato.gravitino.rel.TableChange;
 import com.datastrato.gravitino.storage.IdGenerator;
+import com.datastrato.gravitino.utils.SingleFlight;
 import com.datastrato.gravitino.utils.ThrowableFunction;
 import com.google.common.collect.Maps;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,10 +49,16 @@ public abstract class OperationDispatcher {
 
   private final CatalogManager catalogManager;
 
+  // Null if the catalog manager is a mock, e.g., in tests.
+  private final CatalogOperationMetricsSource metricsSource;
+
   protected final EntityStore store;
 
   final IdGenerator idGenerator;
 
+  // Coalesces the concurrent store gets of the same entity, see loadEntity.
+  private final SingleFlight<NameIdentifier, Entity> entityLoads;
+
   /**
    * Creates a new CatalogOperationDispatcher instance.
    *
@@ -56,16 +69,41 @@ public abstract class OperationDispatcher {
   public OperationDispatcher(
       CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
     this.catalogManager = catalogManager;
+    this.metricsSource = catalogManager.operationMetricsSource();
     this.store = store;
     this.idGenerator = idGenerator;
+
+    this.entityLoads =
+        new SingleFlight<>(
+            configValue(Configs.LOAD_NOT_FOUND_CACHE_TTL_MS),
+            e -> e instanceof NoSuchEntityException,
+            e -> new NoSuchEntityException(e, "%s", e.getMessage()));
+  }
+
+  /**
+   * Gets the value of the server config which the catalog manager is created with, or the default
+   * value if the catalog manager is a mock, e.g., in tests.
+   *
+   * @param entry The config entry.
+   * @return The value of the config.
+   * @param <T> The type of the config value.
+   */
+  <T> T configValue(ConfigEntry<T> entry) {
+    Config config = catalogManager.config();
+    return config == null ? entry.getDefaultValue() : config.get(entry);
   }
 
   <R, E extends Throwable> R doWithTable(
-      NameIdentifier tableIdent, ThrowableFunction<SupportsPartitions, R> fn, Class<E> ex)
+      NameIdentifier tableIdent,
+      String operation,
+      ThrowableFunction<SupportsPartitions, R> fn,
+      Class<E> ex)
       throws E {
+    long startNanos = System.nanoTime();
+    CatalogManager.CatalogWrapper c = null;
     try {
       NameIdentifier catalogIdent = getCatalogIdentifier(tableIdent);
-      CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndWrap(catalogIdent);
+      c = catalogManager.loadCatalogAndWrap(catalogIdent);
       return c.doWithPartitionOps(tableIdent, fn);
     } catch (Throwable throwable) {
       if (ex.isInstance(throwable)) {
@@ -75,14 +113,29 @@ public abstract class OperationDispatcher {
         throw (RuntimeException) throwable;
       }
       throw new RuntimeException(throwable);
+    } finally {
+      updateOperation(c, operation, startNanos);
     }
   }
 
+  // Runs a lookup on the catalog, e.g., its capabilities or properties metadata, as a step of an
+  // operation. The lookup is not recorded as an operation itself.
   <R, E extends Throwable> R doWithCatalog(
       NameIdentifier ident, ThrowableFunction<CatalogManager.CatalogWrapper, R> fn, Class<E> ex)
       throws E {
+    return doWithCatalog(ident, null, fn, ex);
+  }
+
+  <R, E extends Throwable> R doWithCatalog(
+      NameIdentifier ident,
+      String operation,
+      ThrowableFunction<CatalogManager.CatalogWrapper, R> fn,
+      Class<E> ex)
+      throws E {
+    long startNanos = System.nanoTime();
+    CatalogManager.CatalogWrapper c = null;
     try {
-      CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndWrap(ident);
+      c = catalogManager.loadCatalogAndWrap(ident);
       return fn.apply(c);
     } catch (Throwable throwable) {
       if (ex.isInstance(throwable)) {
@@ -92,17 +145,22 @@ public abstract class OperationDispatcher {
         throw (RuntimeException) throwable;
       }
       throw new RuntimeException(throwable);
+    } finally {
+      updateOperation(c, operation, startNanos);
     }
   }
 
   <R, E1 extends Throwable, E2 extends Throwable> R doWithCatalog(
       NameIdentifier ident,
+      String operation,
       ThrowableFunction<CatalogManager.CatalogWrapper, R> fn,
       Class<E1> ex1,
       Class<E2> ex2)
       throws E1, E2 {
+    long startNanos = System.nanoTime();
+    CatalogManager.CatalogWrapper c = null;
     try {
-      CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndWrap(ident);
+      c = catalogManager.loadCatalogAndWrap(ident);
       return fn.apply(c);
     } catch (Throwable throwable) {
       if (ex1.isInstance(throwable)) {
@@ -115,6 +173,17 @@ public abstract class OperationDispatcher {
       }
 
       throw new RuntimeException(throwable);
+    } finally {
+      updateOperation(c, operation, startNanos);
+    }
+  }
+
+  // The time of loading the catalog is included, the operation isn't recorded if the catalog
+  // failed to load since its provider is unknown, or if it's a lookup without operation name.
+  private void updateOperation(
+      CatalogManager.CatalogWrapper catalog, String operation, long startNanos) {
+    if (catalog != null && operation != null && metricsSource != null) {
+      metricsSource.updateOperation(catalog.provider(), operation, System.nanoTime() - startNanos);
     }
   }
 
@@ -136,16 +205,19 @@ public abstract class OperationDispatcher {
       NameIdentifier catalogIdent,
       ThrowableFunction<HasPropertyMetadata, PropertiesMetadata> provider,
       Map<String, String> properties) {
+    // The compiled properties metadata is looked up without switching the class loader.
     return doWithCatalog(
         catalogIdent,
-        c ->
-            c.doWithPropertiesMeta(
-                p -> {
-                  PropertiesMetadata propertiesMetadata = provider.apply(p);
-                  return properties.keySet().stream()
-                      .filter(propertiesMetadata::isHiddenProperty)
-                      .collect(Collectors.toSet());
-                }),
+        c -> {
+          PropertiesMetadata propertiesMetadata = provider.apply(c.propertiesMetadata());
+          if (propertiesMetadata instanceof CompiledPropertiesMetadata) {
+            return ((CompiledPropertiesMetadata) propertiesMetadata)
+                .hiddenPropertyNames(properties);
+          }
+          return properties.keySet().stream()
+              .filter(propertiesMetadata::isHiddenProperty)
+              .collect(Collectors.toSet());
+        },
         IllegalArgumentException.class);
   }
 
@@ -221,6 +293,85 @@ public abstract class OperationDispatcher {
     }
   }
 
+  /**
+   * Gets the entity from the store. The concurrent gets of the same entity share one store access,
+   * and the "not found" result is cached for a short time.
+   *
+   * @param ident The identifier of the entity.
+   * @param type The type of the entity.
+   * @param entityClass The class of the entity.
+   * @return The entity.
+   * @throws Exception If the entity doesn't exist or failed to get.
+   */
+  <E extends Entity & HasIdentifier> E loadEntity(
+      NameIdentifier ident, Entity.EntityType type, Class<E> entityClass) throws Exception {
+    return entityClass.cast(entityLoads.execute(ident, id -> store.get(id, type, entityClass)));
+  }
+
+  /**
+   * Gets the loader of the entities of the objects loaded in one batch. The entities are got in one
+   * store transaction if there are more than one object, only the entities of the given objects
+   * are read.
+   *
+   * @param idents The identifiers of the objects loaded in the batch.
+   * @param type The type of the entities.
+   * @param entityClass The class of the entities.
+   * @return The loader of the entities, it only gets the entities one by one if the transaction
+   *     fails.
+   */
+  <E extends Entity & HasIdentifier> ThrowableFunction<NameIdentifier, E> batchEntityLoader(
+      List<NameIdentifier> idents, Entity.EntityType type, Class<E> entityClass) {
+    Map<NameIdentifier, E> entities = getEntities(idents, type, entityClass);
+    if (entities == null) {
+      return id -> loadEntity(id, type, entityClass);
+    }
+
+    return id -> {
+      E entity = entities.get(id);
+      if (entity == null) {
+        throw new NoSuchEntityException(NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE, type, id);
+      }
+      return entity;
+    };
+  }
+
+  // Returns null if there is only one entity to get or the store access fails.
+  @Nullable
+  private <E extends Entity & HasIdentifier> Map<NameIdentifier, E> getEntities(
+      List<NameIdentifier> idents, Entity.EntityType type, Class<E> entityClass) {
+    if (idents.size() < 2) {
+      return null;
+    }
+
+    try {
+      return store.executeInTransaction(
+          () -> {
+            Map<NameIdentifier, E> entities = new HashMap<>();
+            for (NameIdentifier ident : idents) {
+              try {
+                entities.put(ident, store.get(ident, type, entityClass));
+              } catch (NoSuchEntityException e) {
+                // The object is not created by Gravitino, or it's dropped out of Gravitino.
+              }
+            }
+            return entities;
+          });
+    } catch (Exception e) {
+      LOG.warn("Failed to get the {} entities of {}, get them one by one", type, idents, e);
+      return null;
+    }
+  }
+
+  /**
+   * Invalidates the cached "not found" result of the entity, it should be called once the entity
+   * is created or renamed to.
+   *
+   * @param ident The identifier of the entity.
+   */
+  void invalidateEntityLoad(NameIdentifier ident) {
+    entityLoads.invalidate(ident);
+  }
+
   <R extends HasIdentifier> R operateOnEntity(
       NameIdentifier ident, ThrowableFunction<NameIdentifier, R> fn, String opName, long id) {
     R ret = null;
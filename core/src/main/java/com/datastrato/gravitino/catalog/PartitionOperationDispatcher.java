@@ -31,38 +31,57 @@ public class PartitionOperationDispatcher extends OperationDispatcher
   @Override
   public String[] listPartitionNames(NameIdentifier tableIdent) {
     return doWithTable(
-        tableIdent, SupportsPartitions::listPartitionNames, NoSuchTableException.class);
+        tableIdent,
+        "list-partition-names",
+        SupportsPartitions::listPartitionNames,
+        NoSuchTableException.class);
   }
 
   @Override
   public Partition[] listPartitions(NameIdentifier tableIdent) {
-    return doWithTable(tableIdent, SupportsPartitions::listPartitions, NoSuchTableException.class);
+    return doWithTable(
+        tableIdent,
+        "list-partitions",
+        SupportsPartitions::listPartitions,
+        NoSuchTableException.class);
   }
 
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
     return doWithTable(
-        tableIdent, p -> p.getPartition(partitionName), NoSuchPartitionException.class);
+        tableIdent,
+        "get-partition",
+        p -> p.getPartition(partitionName),
+        NoSuchPartitionException.class);
   }
 
   @Override
   public Partition addPartition(NameIdentifier tableIdent, Partition partition)
       throws PartitionAlreadyExistsException {
     return doWithTable(
-        tableIdent, p -> p.addPartition(partition), PartitionAlreadyExistsException.class);
+        tableIdent,
+        "add-partition",
+        p -> p.addPartition(partition),
+        PartitionAlreadyExistsException.class);
   }
 
   @Override
   public boolean dropPartition(NameIdentifier tableIdent, String partitionName) {
     return doWithTable(
-        tableIdent, p -> p.dropPartition(partitionName), NoSuchPartitionException.class);
+        tableIdent,
+        "drop-partition",
+        p -> p.dropPartition(partitionName),
+        NoSuchPartitionException.class);
   }
 
   @Override
   public boolean purgePartition(NameIdentifier tableIdent, String partitionName)
       throws UnsupportedOperationException {
     return doWithTable(
-        tableIdent, p -> p.purgePartition(partitionName), NoSuchPartitionException.class);
+        tableIdent,
+        "purge-partition",
+        p -> p.purgePartition(partitionName),
+        NoSuchPartitionException.class);
   }
 }
@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /** This class contains helper methods for properties metadata. */
 public class PropertiesMetadataHelpers {
@@ -43,11 +44,13 @@ public class PropertiesMetadataHelpers {
         "Properties are reserved and cannot be set: %s",
         reservedProperties);
 
+    Stream<String> requiredProperties =
+        propertiesMetadata instanceof CompiledPropertiesMetadata
+            ? ((CompiledPropertiesMetadata) propertiesMetadata).requiredPropertyNames().stream()
+            : propertiesMetadata.propertyEntries().keySet().stream()
+                .filter(propertiesMetadata::isRequiredProperty);
     List<String> absentProperties =
-        propertiesMetadata.propertyEntries().keySet().stream()
-            .filter(propertiesMetadata::isRequiredProperty)
-            .filter(k -> !properties.containsKey(k))
-            .collect(Collectors.toList());
+        requiredProperties.filter(k -> !properties.containsKey(k)).collect(Collectors.toList());
     Preconditions.checkArgument(
         absentProperties.isEmpty(),
         "Properties are required and must be set: %s",
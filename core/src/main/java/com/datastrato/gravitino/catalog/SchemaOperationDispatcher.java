@@ -26,6 +26,7 @@ import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.utils.PrincipalUtils;
 import java.time.Instant;
 import java.util.Map;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +34,9 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
 
   private static final Logger LOG = LoggerFactory.getLogger(SchemaOperationDispatcher.class);
 
+  // The cache of the loaded tables, null if the cache is disabled.
+  @Nullable private final TableMetadataCache tableCache;
+
   /**
    * Creates a new SchemaOperationDispatcher instance.
    *
@@ -42,7 +46,25 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
    */
   public SchemaOperationDispatcher(
       CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
+    this(catalogManager, store, idGenerator, null);
+  }
+
+  /**
+   * Creates a new SchemaOperationDispatcher instance.
+   *
+   * @param catalogManager The CatalogManager instance to be used for schema operations.
+   * @param store The EntityStore instance to be used for schema operations.
+   * @param idGenerator The IdGenerator instance to be used for schema operations.
+   * @param tableCache The cache of the loaded tables to invalidate when a schema is dropped, null
+   *     if the cache is disabled.
+   */
+  public SchemaOperationDispatcher(
+      CatalogManager catalogManager,
+      EntityStore store,
+      IdGenerator idGenerator,
+      @Nullable TableMetadataCache tableCache) {
     super(catalogManager, store, idGenerator);
+    this.tableCache = tableCache;
   }
 
   /**
@@ -57,6 +79,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
   public NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException {
     return doWithCatalog(
         getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+        "list-schemas",
         c -> c.doWithSchemaOps(s -> s.listSchemas(namespace)),
         NoSuchCatalogException.class);
   }
@@ -97,6 +120,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
     Schema createdSchema =
         doWithCatalog(
             catalogIdent,
+            "create-schema",
             c -> c.doWithSchemaOps(s -> s.createSchema(ident, comment, updatedProperties)),
             NoSuchCatalogException.class,
             SchemaAlreadyExistsException.class);
@@ -116,6 +140,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
     Schema schema =
         doWithCatalog(
             catalogIdent,
+            "load-schema",
             c -> c.doWithSchemaOps(s -> s.loadSchema(ident)),
             NoSuchSchemaException.class);
 
@@ -133,6 +158,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
 
     try {
       store.put(schemaEntity, true /* overwrite */);
+      invalidateEntityLoad(ident);
     } catch (Exception e) {
       LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", ident, e);
       return EntityCombinedSchema.of(schema)
@@ -163,6 +189,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
     Schema schema =
         doWithCatalog(
             catalogIdentifier,
+            "load-schema",
             c -> c.doWithSchemaOps(s -> s.loadSchema(ident)),
             NoSuchSchemaException.class);
 
@@ -191,7 +218,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
     SchemaEntity schemaEntity =
         operateOnEntity(
             ident,
-            identifier -> store.get(identifier, SCHEMA, SchemaEntity.class),
+            identifier -> loadEntity(identifier, SCHEMA, SchemaEntity.class),
             "GET",
             stringId.id());
     return EntityCombinedSchema.of(schema, schemaEntity)
@@ -220,6 +247,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
     Schema tempAlteredSchema =
         doWithCatalog(
             catalogIdent,
+            "alter-schema",
             c -> c.doWithSchemaOps(s -> s.alterSchema(ident, changes)),
             NoSuchSchemaException.class);
 
@@ -227,6 +255,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
     Schema alteredSchema =
         doWithCatalog(
             catalogIdent,
+            "load-schema",
             c ->
                 c.doWithSchemaOps(
                     s ->
@@ -303,9 +332,14 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
     boolean droppedFromCatalog =
         doWithCatalog(
             catalogIdent,
+            "drop-schema",
             c -> c.doWithSchemaOps(s -> s.dropSchema(ident, cascade)),
             NonEmptySchemaException.class,
             RuntimeException.class);
+    // The tables of the schema are gone with it, e.g., dropped in cascade.
+    if (tableCache != null) {
+      tableCache.invalidateAll(ident);
+    }
 
     // For unmanaged schema, it could happen that the schema:
     // 1. Is not found in the catalog (dropped directly from underlying sources)
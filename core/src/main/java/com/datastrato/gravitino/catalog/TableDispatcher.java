@@ -5,7 +5,11 @@
 
 package com.datastrato.gravitino.catalog;
 
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.rel.Table;
 import com.datastrato.gravitino.rel.TableCatalog;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * {@code TableDispatcher} interface acts as a specialization of the {@link TableCatalog} interface.
@@ -13,4 +17,33 @@ import com.datastrato.gravitino.rel.TableCatalog;
  * dispatching or handling table-related events or actions that are not covered by the standard
  * {@code TableCatalog} operations.
  */
-public interface TableDispatcher extends TableCatalog {}
+public interface TableDispatcher extends TableCatalog {
+
+  /**
+   * Invalidate the cached metadata of the table if any, the next load of the table will go to the
+   * underlying catalog.
+   *
+   * @param ident The identifier of the table.
+   */
+  default void invalidateTableCache(NameIdentifier ident) {}
+
+  /**
+   * Loads multiple tables in one batch. The failure of one table doesn't fail the others, it's
+   * returned in the result instead.
+   *
+   * @param idents The identifiers of the tables to load.
+   * @return The loaded tables and the failures.
+   */
+  default BatchLoadResult<Table> loadTables(NameIdentifier[] idents) {
+    Map<NameIdentifier, Table> loaded = new LinkedHashMap<>();
+    Map<NameIdentifier, Exception> failures = new LinkedHashMap<>();
+    for (NameIdentifier ident : idents) {
+      try {
+        loaded.put(ident, loadTable(ident));
+      } catch (Exception e) {
+        failures.put(ident, e);
+      }
+    }
+    return new BatchLoadResult<>(loaded, failures);
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.catalog;
+
+import com.codahale.metrics.Histogram;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.rel.Table;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * A size and time bounded cache of the tables loaded by {@link TableOperationDispatcher}. The
+ * cached table is the combined result of the underlying catalog and the entity store, so a cache
+ * hit saves all the round trips of a table load.
+ *
+ * <p>Each cached table remembers the {@link CatalogManager.CatalogWrapper} it's loaded from. Once
+ * the catalog is altered, dropped or reloaded, the wrapper is replaced by the {@link
+ * CatalogManager}, and the tables cached from the old wrapper are treated as missed. They're also
+ * removed from the cache once the old wrapper is, or once their schema is dropped.
+ */
+public class TableMetadataCache {
+
+  private static final class CachedTable {
+    private final CatalogManager.CatalogWrapper catalog;
+    private final Table table;
+    private final long loadTimeMs;
+
+    private CachedTable(CatalogManager.CatalogWrapper catalog, Table table) {
+      this.catalog = catalog;
+      this.table = table;
+      this.loadTimeMs = System.currentTimeMillis();
+    }
+  }
+
+  private final Cache<NameIdentifier, CachedTable> cache;
+
+  // Increased by each invalidation, a loaded table isn't cached if any table is invalidated while
+  // it's being loaded, since the load may read the table before it's altered or dropped.
+  private final AtomicLong generation = new AtomicLong();
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  // The age of the cached tables when they are served, set by the metrics source if the metrics
+  // system is available.
+  @Nullable private volatile Histogram stalenessHistogram;
+
+  /**
+   * Creates a new TableMetadataCache.
+   *
+   * @param capacity The maximum number of tables to cache.
+   * @param expireTimeMs The time in milliseconds after which a cached table expires.
+   */
+  public TableMetadataCache(long capacity, long expireTimeMs) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(capacity)
+            .expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Gets the cached table if it's loaded from the given catalog.
+   *
+   * @param ident The identifier of the table.
+   * @param catalog The catalog which the table belongs to.
+   * @return The cached table, or null if it's not cached.
+   */
+  @Nullable
+  Table get(NameIdentifier ident, CatalogManager.CatalogWrapper catalog) {
+    CachedTable cachedTable = cache.getIfPresent(ident);
+    if (cachedTable == null || cachedTable.catalog != catalog) {
+      missCount.increment();
+      return null;
+    }
+
+    hitCount.increment();
+    Histogram histogram = stalenessHistogram;
+    if (histogram != null) {
+      histogram.update(System.currentTimeMillis() - cachedTable.loadTimeMs);
+    }
+    return cachedTable.table;
+  }
+
+  /**
+   * Gets the current generation of the cache, it should be got before loading a table to cache.
+   *
+   * @return The current generation.
+   */
+  long generation() {
+    return generation.get();
+  }
+
+  /**
+   * Caches the table loaded from the given catalog, unless any table is invalidated since the load
+   * started.
+   *
+   * @param ident The identifier of the table.
+   * @param catalog The catalog which the table is loaded from.
+   * @param table The loaded table.
+   * @param startGeneration The {@link #generation()} got before loading the table.
+   */
+  void put(
+      NameIdentifier ident,
+      CatalogManager.CatalogWrapper catalog,
+      Table table,
+      long startGeneration) {
+    CachedTable cachedTable = new CachedTable(catalog, table);
+    cache.put(ident, cachedTable);
+    // Checked after putting, since the invalidation increases the generation before dropping the
+    // cached tables.
+    if (generation.get() != startGeneration) {
+      cache.asMap().remove(ident, cachedTable);
+    }
+  }
+
+  /**
+   * Invalidates the cached table.
+   *
+   * @param ident The identifier of the table.
+   */
+  void invalidate(NameIdentifier ident) {
+    generation.incrementAndGet();
+    cache.invalidate(ident);
+  }
+
+  /**
+   * Invalidates the cached tables under a schema or a catalog.
+   *
+   * @param parent The identifier of the schema or the catalog.
+   */
+  void invalidateAll(NameIdentifier parent) {
+    String[] parentLevels = ArrayUtils.add(parent.namespace().levels(), parent.name());
+    generation.incrementAndGet();
+    cache
+        .asMap()
+        .keySet()
+        .removeIf(
+            ident -> {
+              String[] levels = ident.namespace().levels();
+              return levels.length >= parentLevels.length
+                  && Arrays.equals(Arrays.copyOf(levels, parentLevels.length), parentLevels);
+            });
+  }
+
+  void setStalenessHistogram(Histogram stalenessHistogram) {
+    this.stalenessHistogram = stalenessHistogram;
+  }
+
+  /** @return The number of the table loads served by the cache. */
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  /** @return The number of the table loads not served by the cache. */
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  /** @return The ratio of the table loads served by the cache. */
+  public double hitRatio() {
+    long hits = hitCount.sum();
+    long total = hits + missCount.sum();
+    return total == 0 ? Double.NaN : (double) hits / total;
+  }
+
+  /** @return The number of the tables evicted because of the size or time bound. */
+  public long evictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  @VisibleForTesting
+  long size() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+}
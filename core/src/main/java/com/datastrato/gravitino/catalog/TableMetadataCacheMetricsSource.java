@@ -0,0 +1,20 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
+
+/** Metrics of the {@link TableMetadataCache}. */
+public class TableMetadataCacheMetricsSource extends MetricsSource {
+  public TableMetadataCacheMetricsSource(TableMetadataCache tableCache) {
+    super(MetricsSource.TABLE_METADATA_CACHE_METRIC_NAME);
+    registerGauge(MetricNames.TABLE_CACHE_HIT_COUNT, tableCache::hitCount);
+    registerGauge(MetricNames.TABLE_CACHE_MISS_COUNT, tableCache::missCount);
+    registerGauge(MetricNames.TABLE_CACHE_HIT_RATIO, tableCache::hitRatio);
+    registerGauge(MetricNames.TABLE_CACHE_EVICTION_COUNT, tableCache::evictionCount);
+    tableCache.setStalenessHistogram(getHistogram(MetricNames.TABLE_CACHE_STALENESS));
+  }
+}
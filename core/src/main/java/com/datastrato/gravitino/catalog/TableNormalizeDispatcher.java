@@ -46,6 +46,13 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return dispatcher.loadTable(applyCaseSensitive(ident, Capability.Scope.TABLE, dispatcher));
   }
 
+  @Override
+  public BatchLoadResult<Table> loadTables(NameIdentifier[] idents) {
+    // The constraints of the name spec may be more strict than underlying catalog,
+    // and for compatibility reasons, we only apply case-sensitive capabilities here.
+    return dispatcher.loadTables(applyCaseSensitive(idents, Capability.Scope.TABLE, dispatcher));
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
@@ -99,6 +106,11 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return dispatcher.tableExists(applyCaseSensitive(ident, Capability.Scope.TABLE, dispatcher));
   }
 
+  @Override
+  public void invalidateTableCache(NameIdentifier ident) {
+    dispatcher.invalidateTableCache(applyCaseSensitive(ident, Capability.Scope.TABLE, dispatcher));
+  }
+
   private NameIdentifier normalizeNameIdentifier(NameIdentifier ident) {
     Capability capability = dispatcher.getCatalogCapability(ident);
     return applyCapabilities(ident, Capability.Scope.TABLE, capability);
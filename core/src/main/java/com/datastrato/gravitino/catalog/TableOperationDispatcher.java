@@ -9,11 +9,13 @@ import static com.datastrato.gravitino.catalog.CapabilityHelpers.applyCapabiliti
 import static com.datastrato.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForCreate;
 import static com.datastrato.gravitino.rel.expressions.transforms.Transforms.EMPTY_TRANSFORM;
 
+import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.EntityStore;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.StringIdentifier;
 import com.datastrato.gravitino.connector.HasPropertyMetadata;
+import com.datastrato.gravitino.connector.SupportsBatchLoadTables;
 import com.datastrato.gravitino.connector.capability.Capability;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
@@ -32,18 +34,41 @@ import com.datastrato.gravitino.rel.indexes.Index;
 import com.datastrato.gravitino.rel.indexes.Indexes;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.utils.PrincipalUtils;
+import com.datastrato.gravitino.utils.ThrowableFunction;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.security.Principal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class TableOperationDispatcher extends OperationDispatcher implements TableDispatcher {
+public class TableOperationDispatcher extends OperationDispatcher
+    implements TableDispatcher, Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(TableOperationDispatcher.class);
 
+  // The cache of the loaded tables, null if the cache is disabled.
+  @Nullable private final TableMetadataCache tableCache;
+
+  // Loads the tables of the batch load requests concurrently, it bounds the number of the tables
+  // loaded from the catalogs at the same time.
+  private final ExecutorService batchLoadExecutor;
+
   /**
-   * Creates a new TableOperationDispatcher instance.
+   * Creates a new TableOperationDispatcher instance without the table metadata cache.
    *
    * @param catalogManager The CatalogManager instance to be used for table operations.
    * @param store The EntityStore instance to be used for table operations.
@@ -51,7 +76,34 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   public TableOperationDispatcher(
       CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
+    this(catalogManager, store, idGenerator, null);
+  }
+
+  /**
+   * Creates a new TableOperationDispatcher instance.
+   *
+   * @param catalogManager The CatalogManager instance to be used for table operations.
+   * @param store The EntityStore instance to be used for table operations.
+   * @param idGenerator The IdGenerator instance to be used for table operations.
+   * @param tableCache The cache of the loaded tables, null to disable the cache.
+   */
+  public TableOperationDispatcher(
+      CatalogManager catalogManager,
+      EntityStore store,
+      IdGenerator idGenerator,
+      @Nullable TableMetadataCache tableCache) {
     super(catalogManager, store, idGenerator);
+    this.tableCache = tableCache;
+    if (tableCache != null) {
+      catalogManager.addCatalogRemovalListener(tableCache::invalidateAll);
+    }
+    this.batchLoadExecutor =
+        Executors.newFixedThreadPool(
+            configValue(Configs.CATALOG_BATCH_LOAD_PARALLELISM),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("table-batch-load-%d")
+                .build());
   }
 
   /**
@@ -66,12 +118,14 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
     return doWithCatalog(
         getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+        "list-tables",
         c -> c.doWithTableOps(t -> t.listTables(namespace)),
         NoSuchSchemaException.class);
   }
 
   /**
-   * Loads a table.
+   * Loads a table. If the table metadata cache is enabled for the catalog, the table is served from
+   * the cache if possible.
    *
    * @param ident The identifier of the table to load.
    * @return The loaded {@link Table} object representing the requested table.
@@ -79,13 +133,287 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
-    NameIdentifier catalogIdentifier = getCatalogIdentifier(ident);
+    CatalogManager.CatalogWrapper catalog = cachingCatalog(ident);
+    if (catalog == null) {
+      return internalLoadTable(ident);
+    }
+
+    Table cachedTable = tableCache.get(ident, catalog);
+    if (cachedTable != null) {
+      return cachedTable;
+    }
+
+    long cacheGeneration = tableCache.generation();
+    Table table = internalLoadTable(ident);
+    tableCache.put(ident, catalog, table, cacheGeneration);
+    return table;
+  }
+
+  /**
+   * Invalidates the cached table, the next load of the table will go to the underlying catalog.
+   *
+   * @param ident The identifier of the table.
+   */
+  @Override
+  public void invalidateTableCache(NameIdentifier ident) {
+    if (tableCache != null) {
+      tableCache.invalidate(ident);
+    }
+  }
+
+  /**
+   * Loads multiple tables in one batch. The tables of the same schema are loaded in one call if the
+   * catalog supports {@link SupportsBatchLoadTables}, otherwise they're loaded concurrently with a
+   * bounded parallelism. The table entities of the same schema are also got in one store access.
+   *
+   * @param idents The identifiers of the tables to load.
+   * @return The loaded tables and the failures.
+   */
+  @Override
+  public BatchLoadResult<Table> loadTables(NameIdentifier[] idents) {
+    Map<NameIdentifier, Table> tables = new ConcurrentHashMap<>();
+    Map<NameIdentifier, Exception> failures = new ConcurrentHashMap<>();
+    // The tables are loaded in the batch load threads on behalf of the caller.
+    Principal principal = PrincipalUtils.getCurrentPrincipal();
+
+    Map<Namespace, List<NameIdentifier>> identsBySchema =
+        Arrays.stream(idents)
+            .distinct()
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace, LinkedHashMap::new, Collectors.toList()));
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    identsBySchema.forEach(
+        (namespace, schemaIdents) ->
+            futures.addAll(
+                loadSchemaTables(namespace, schemaIdents, principal, tables, failures)));
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    // Keep the order of the request.
+    Map<NameIdentifier, Table> loaded = new LinkedHashMap<>();
+    Map<NameIdentifier, Exception> failed = new LinkedHashMap<>();
+    for (NameIdentifier ident : idents) {
+      if (tables.containsKey(ident)) {
+        loaded.put(ident, tables.get(ident));
+      } else if (failures.containsKey(ident)) {
+        failed.put(ident, failures.get(ident));
+      }
+    }
+    return new BatchLoadResult<>(loaded, failed);
+  }
+
+  private List<CompletableFuture<Void>> loadSchemaTables(
+      Namespace namespace,
+      List<NameIdentifier> idents,
+      Principal principal,
+      Map<NameIdentifier, Table> tables,
+      Map<NameIdentifier, Exception> failures) {
+    CatalogManager.CatalogWrapper cachingCatalog;
+    try {
+      cachingCatalog = cachingCatalog(idents.get(0));
+    } catch (Exception e) {
+      idents.forEach(ident -> failures.put(ident, e));
+      return Collections.emptyList();
+    }
+
+    long cacheGeneration = cachingCatalog == null ? 0 : tableCache.generation();
+    List<NameIdentifier> identsToLoad = new ArrayList<>();
+    for (NameIdentifier ident : idents) {
+      Table cachedTable = cachingCatalog == null ? null : tableCache.get(ident, cachingCatalog);
+      if (cachedTable != null) {
+        tables.put(ident, cachedTable);
+      } else {
+        identsToLoad.add(ident);
+      }
+    }
+    if (identsToLoad.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    ThrowableFunction<NameIdentifier, TableEntity> entityLoader =
+        batchEntityLoader(identsToLoad, TABLE, TableEntity.class);
+
+    boolean supportsBatchLoad;
+    try {
+      supportsBatchLoad =
+          doWithCatalog(
+              getCatalogIdentifier(identsToLoad.get(0)),
+              c -> c.doWithTableOps(t -> t instanceof SupportsBatchLoadTables),
+              NoSuchSchemaException.class);
+    } catch (Exception e) {
+      identsToLoad.forEach(ident -> failures.put(ident, e));
+      return Collections.emptyList();
+    }
+
+    if (supportsBatchLoad) {
+      return Collections.singletonList(
+          CompletableFuture.runAsync(
+              asPrincipal(
+                  principal,
+                  () ->
+                      batchLoadTables(
+                          namespace,
+                          identsToLoad,
+                          entityLoader,
+                          cachingCatalog,
+                          cacheGeneration,
+                          tables,
+                          failures)),
+              batchLoadExecutor));
+    }
+
+    return identsToLoad.stream()
+        .map(
+            ident ->
+                CompletableFuture.runAsync(
+                    asPrincipal(
+                        principal,
+                        () ->
+                            loadTableInBatch(
+                                ident,
+                                entityLoader,
+                                cachingCatalog,
+                                cacheGeneration,
+                                tables,
+                                failures)),
+                    batchLoadExecutor))
+        .collect(Collectors.toList());
+  }
+
+  // Runs the task as the given principal, the failures of the task are collected by itself.
+  private static Runnable asPrincipal(Principal principal, Runnable task) {
+    return () -> {
+      try {
+        PrincipalUtils.doAs(
+            principal,
+            () -> {
+              task.run();
+              return null;
+            });
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  private void loadTableInBatch(
+      NameIdentifier ident,
+      ThrowableFunction<NameIdentifier, TableEntity> entityLoader,
+      @Nullable CatalogManager.CatalogWrapper cachingCatalog,
+      long cacheGeneration,
+      Map<NameIdentifier, Table> tables,
+      Map<NameIdentifier, Exception> failures) {
+    Table table;
+    try {
+      table =
+          doWithCatalog(
+              getCatalogIdentifier(ident),
+              "load-table",
+              c -> c.doWithTableOps(t -> t.loadTable(ident)),
+              NoSuchTableException.class);
+    } catch (Exception e) {
+      failures.put(ident, e);
+      return;
+    }
+
+    putLoadedTable(ident, table, entityLoader, cachingCatalog, cacheGeneration, tables, failures);
+  }
+
+  private void batchLoadTables(
+      Namespace namespace,
+      List<NameIdentifier> idents,
+      ThrowableFunction<NameIdentifier, TableEntity> entityLoader,
+      @Nullable CatalogManager.CatalogWrapper cachingCatalog,
+      long cacheGeneration,
+      Map<NameIdentifier, Table> tables,
+      Map<NameIdentifier, Exception> failures) {
+    Table[] loadedTables;
+    try {
+      String[] names = idents.stream().map(NameIdentifier::name).toArray(String[]::new);
+      loadedTables =
+          doWithCatalog(
+              getCatalogIdentifier(idents.get(0)),
+              "load-tables",
+              c -> c.doWithTableOps(t -> ((SupportsBatchLoadTables) t).loadBatch(namespace, names)),
+              NoSuchSchemaException.class);
+    } catch (Exception e) {
+      idents.forEach(ident -> failures.put(ident, e));
+      return;
+    }
+
+    Map<String, Table> tablesByName =
+        Arrays.stream(loadedTables)
+            .collect(Collectors.toMap(Table::name, Function.identity(), (t1, t2) -> t1));
+    for (NameIdentifier ident : idents) {
+      Table table = tablesByName.get(ident.name());
+      if (table == null) {
+        // The tables absent from the batch either don't exist or fail to load, load them one by
+        // one to report the failure of each table.
+        loadTableInBatch(ident, entityLoader, cachingCatalog, cacheGeneration, tables, failures);
+      } else {
+        putLoadedTable(
+            ident, table, entityLoader, cachingCatalog, cacheGeneration, tables, failures);
+      }
+    }
+  }
+
+  private void putLoadedTable(
+      NameIdentifier ident,
+      Table table,
+      ThrowableFunction<NameIdentifier, TableEntity> entityLoader,
+      @Nullable CatalogManager.CatalogWrapper cachingCatalog,
+      long cacheGeneration,
+      Map<NameIdentifier, Table> tables,
+      Map<NameIdentifier, Exception> failures) {
+    try {
+      Table combinedTable = combineTable(ident, table, entityLoader);
+      if (cachingCatalog != null) {
+        tableCache.put(ident, cachingCatalog, combinedTable, cacheGeneration);
+      }
+      tables.put(ident, combinedTable);
+    } catch (Exception e) {
+      failures.put(ident, e);
+    }
+  }
+
+  /** Stops the threads loading the tables of the batch load requests. */
+  @Override
+  public void close() {
+    batchLoadExecutor.shutdownNow();
+  }
+
+  // Returns the catalog of the table if the table metadata cache is enabled for it, otherwise null.
+  @Nullable
+  private CatalogManager.CatalogWrapper cachingCatalog(NameIdentifier ident)
+      throws NoSuchTableException {
+    if (tableCache == null) {
+      return null;
+    }
+
+    return doWithCatalog(
+        getCatalogIdentifier(ident),
+        c -> c.tableCacheEnabled() ? c : null,
+        NoSuchTableException.class);
+  }
+
+  private Table internalLoadTable(NameIdentifier ident) throws NoSuchTableException {
     Table table =
         doWithCatalog(
-            catalogIdentifier,
+            getCatalogIdentifier(ident),
+            "load-table",
             c -> c.doWithTableOps(t -> t.loadTable(ident)),
             NoSuchTableException.class);
+    return combineTable(ident, table, id -> loadEntity(id, TABLE, TableEntity.class));
+  }
 
+  // Combines the table loaded from the catalog with its entity in the entity store.
+  private Table combineTable(
+      NameIdentifier ident,
+      Table table,
+      ThrowableFunction<NameIdentifier, TableEntity> entityLoader) {
+    NameIdentifier catalogIdentifier = getCatalogIdentifier(ident);
     StringIdentifier stringId = getStringIdFromProperties(table.properties());
     // Case 1: The table is not created by Gravitino.
     if (stringId == null) {
@@ -97,12 +425,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                   table.properties()));
     }
 
-    TableEntity tableEntity =
-        operateOnEntity(
-            ident,
-            identifier -> store.get(identifier, TABLE, TableEntity.class),
-            "GET",
-            stringId.id());
+    TableEntity tableEntity = operateOnEntity(ident, entityLoader, "GET", stringId.id());
 
     return EntityCombinedTable.of(table, tableEntity)
         .withHiddenPropertiesSet(
@@ -136,6 +459,9 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       SortOrder[] sortOrders,
       Index[] indexes)
       throws NoSuchSchemaException, TableAlreadyExistsException {
+    // The table may be dropped directly from the underlying catalog and still be cached.
+    invalidateTableCache(ident);
+
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     doWithCatalog(
         catalogIdent,
@@ -156,6 +482,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
 
     doWithCatalog(
         catalogIdent,
+        "create-table",
         c ->
             c.doWithTableOps(
                 t ->
@@ -175,6 +502,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     Table table =
         doWithCatalog(
             catalogIdent,
+            "load-table",
             c -> c.doWithTableOps(t -> t.loadTable(ident)),
             NoSuchTableException.class);
 
@@ -192,6 +520,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
 
     try {
       store.put(tableEntity, true /* overwrite */);
+      invalidateEntityLoad(ident);
     } catch (Exception e) {
       LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", ident, e);
       return EntityCombinedTable.of(table)
@@ -222,19 +551,29 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     validateAlterProperties(ident, HasPropertyMetadata::tablePropertiesMetadata, changes);
 
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
-    Table tempAlteredTable =
-        doWithCatalog(
-            catalogIdent,
-            c ->
-                c.doWithTableOps(
-                    t -> t.alterTable(ident, applyCapabilities(c.capabilities(), changes))),
-            NoSuchTableException.class,
-            IllegalArgumentException.class);
+    Table tempAlteredTable;
+    try {
+      tempAlteredTable =
+          doWithCatalog(
+              catalogIdent,
+              "alter-table",
+              c ->
+                  c.doWithTableOps(
+                      t -> t.alterTable(ident, applyCapabilities(c.capabilities(), changes))),
+              NoSuchTableException.class,
+              IllegalArgumentException.class);
+    } finally {
+      // Invalidate the cache even if the alteration fails, since it may be partially applied.
+      invalidateTableCache(ident);
+    }
+    invalidateTableCache(NameIdentifier.of(ident.namespace(), tempAlteredTable.name()));
+    invalidateEntityLoad(NameIdentifier.of(ident.namespace(), tempAlteredTable.name()));
 
     // Retrieve the Table again to obtain some values generated by underlying catalog
     Table alteredTable =
         doWithCatalog(
             catalogIdent,
+            "load-table",
             c ->
                 c.doWithTableOps(
                     t ->
@@ -303,9 +642,17 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   @Override
   public boolean dropTable(NameIdentifier ident) {
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
-    boolean droppedFromCatalog =
-        doWithCatalog(
-            catalogIdent, c -> c.doWithTableOps(t -> t.dropTable(ident)), RuntimeException.class);
+    boolean droppedFromCatalog;
+    try {
+      droppedFromCatalog =
+          doWithCatalog(
+              catalogIdent,
+              "drop-table",
+              c -> c.doWithTableOps(t -> t.dropTable(ident)),
+              RuntimeException.class);
+    } finally {
+      invalidateTableCache(ident);
+    }
 
     // For unmanaged table, it could happen that the table:
     // 1. Is not found in the catalog (dropped directly from underlying sources)
@@ -348,12 +695,18 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   @Override
   public boolean purgeTable(NameIdentifier ident) throws UnsupportedOperationException {
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
-    boolean droppedFromCatalog =
-        doWithCatalog(
-            catalogIdent,
-            c -> c.doWithTableOps(t -> t.purgeTable(ident)),
-            RuntimeException.class,
-            UnsupportedOperationException.class);
+    boolean droppedFromCatalog;
+    try {
+      droppedFromCatalog =
+          doWithCatalog(
+              catalogIdent,
+              "purge-table",
+              c -> c.doWithTableOps(t -> t.purgeTable(ident)),
+              RuntimeException.class,
+              UnsupportedOperationException.class);
+    } finally {
+      invalidateTableCache(ident);
+    }
 
     // For unmanaged table, it could happen that the table:
     // 1. Is not found in the catalog (dropped directly from underlying sources)
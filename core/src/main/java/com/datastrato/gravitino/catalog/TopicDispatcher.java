@@ -5,7 +5,11 @@
 
 package com.datastrato.gravitino.catalog;
 
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.messaging.Topic;
 import com.datastrato.gravitino.messaging.TopicCatalog;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * {@code TopicDispatcher} interface acts as a specialization of the {@link TopicCatalog} interface.
@@ -13,4 +17,25 @@ import com.datastrato.gravitino.messaging.TopicCatalog;
  * dispatching or handling topic-related events or actions that are not covered by the standard
  * {@code TopicCatalog} operations.
  */
-public interface TopicDispatcher extends TopicCatalog {}
+public interface TopicDispatcher extends TopicCatalog {
+
+  /**
+   * Loads multiple topics in one batch. The failure of one topic doesn't fail the others, it's
+   * returned in the result instead.
+   *
+   * @param idents The identifiers of the topics to load.
+   * @return The loaded topics and the failures.
+   */
+  default BatchLoadResult<Topic> loadTopics(NameIdentifier[] idents) {
+    Map<NameIdentifier, Topic> loaded = new LinkedHashMap<>();
+    Map<NameIdentifier, Exception> failures = new LinkedHashMap<>();
+    for (NameIdentifier ident : idents) {
+      try {
+        loaded.put(ident, loadTopic(ident));
+      } catch (Exception e) {
+        failures.put(ident, e);
+      }
+    }
+    return new BatchLoadResult<>(loaded, failures);
+  }
+}
@@ -42,6 +42,13 @@ public class TopicNormalizeDispatcher implements TopicDispatcher {
     return dispatcher.loadTopic(applyCaseSensitive(ident, Capability.Scope.TOPIC, dispatcher));
   }
 
+  @Override
+  public BatchLoadResult<Topic> loadTopics(NameIdentifier[] idents) {
+    // The constraints of the name spec may be more strict than underlying catalog,
+    // and for compatibility reasons, we only apply case-sensitive capabilities here.
+    return dispatcher.loadTopics(applyCaseSensitive(idents, Capability.Scope.TOPIC, dispatcher));
+  }
+
   @Override
   public boolean topicExists(NameIdentifier ident) {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -13,6 +13,7 @@ import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.StringIdentifier;
 import com.datastrato.gravitino.connector.HasPropertyMetadata;
+import com.datastrato.gravitino.connector.SupportsBatchLoadTopics;
 import com.datastrato.gravitino.connector.capability.Capability;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
@@ -20,13 +21,20 @@ import com.datastrato.gravitino.exceptions.NoSuchTopicException;
 import com.datastrato.gravitino.exceptions.TopicAlreadyExistsException;
 import com.datastrato.gravitino.messaging.DataLayout;
 import com.datastrato.gravitino.messaging.Topic;
+import com.datastrato.gravitino.messaging.TopicCatalog;
 import com.datastrato.gravitino.messaging.TopicChange;
 import com.datastrato.gravitino.meta.AuditInfo;
 import com.datastrato.gravitino.meta.TopicEntity;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.utils.PrincipalUtils;
+import com.datastrato.gravitino.utils.ThrowableFunction;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +65,7 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
   public NameIdentifier[] listTopics(Namespace namespace) throws NoSuchSchemaException {
     return doWithCatalog(
         getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+        "list-topics",
         c -> c.doWithTopicOps(t -> t.listTopics(namespace)),
         NoSuchSchemaException.class);
   }
@@ -70,13 +79,112 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
    */
   @Override
   public Topic loadTopic(NameIdentifier ident) throws NoSuchTopicException {
-    NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     Topic topic =
         doWithCatalog(
-            catalogIdent,
+            getCatalogIdentifier(ident),
+            "load-topic",
             c -> c.doWithTopicOps(t -> t.loadTopic(ident)),
             NoSuchTopicException.class);
+    return combineTopic(ident, topic, id -> loadEntity(id, TOPIC, TopicEntity.class));
+  }
+
+  /**
+   * Loads multiple topics in one batch. The topics of the same schema are loaded in one call if the
+   * catalog supports {@link SupportsBatchLoadTopics}, otherwise they're loaded one by one. The
+   * topic entities are also got in one store access.
+   *
+   * @param idents The identifiers of the topics to load.
+   * @return The loaded topics and the failures.
+   */
+  @Override
+  public BatchLoadResult<Topic> loadTopics(NameIdentifier[] idents) {
+    Map<NameIdentifier, Topic> topics = new HashMap<>();
+    Map<NameIdentifier, Exception> failures = new HashMap<>();
+    Map<Namespace, List<NameIdentifier>> identsBySchema =
+        Arrays.stream(idents)
+            .distinct()
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace, LinkedHashMap::new, Collectors.toList()));
+    identsBySchema.forEach(
+        (namespace, schemaIdents) -> loadSchemaTopics(namespace, schemaIdents, topics, failures));
+
+    // Keep the order of the request.
+    Map<NameIdentifier, Topic> loaded = new LinkedHashMap<>();
+    Map<NameIdentifier, Exception> failed = new LinkedHashMap<>();
+    for (NameIdentifier ident : idents) {
+      if (topics.containsKey(ident)) {
+        loaded.put(ident, topics.get(ident));
+      } else if (failures.containsKey(ident)) {
+        failed.put(ident, failures.get(ident));
+      }
+    }
+    return new BatchLoadResult<>(loaded, failed);
+  }
 
+  private void loadSchemaTopics(
+      Namespace namespace,
+      List<NameIdentifier> idents,
+      Map<NameIdentifier, Topic> topics,
+      Map<NameIdentifier, Exception> failures) {
+    NameIdentifier catalogIdent = getCatalogIdentifier(idents.get(0));
+    ThrowableFunction<NameIdentifier, TopicEntity> entityLoader =
+        batchEntityLoader(idents, TOPIC, TopicEntity.class);
+
+    boolean supportsBatchLoad;
+    Map<String, Topic> topicsByName = new HashMap<>();
+    try {
+      supportsBatchLoad =
+          doWithCatalog(
+              catalogIdent,
+              c -> c.doWithTopicOps(t -> t instanceof SupportsBatchLoadTopics),
+              NoSuchSchemaException.class);
+      if (supportsBatchLoad) {
+        String[] names = idents.stream().map(NameIdentifier::name).toArray(String[]::new);
+        Topic[] loadedTopics =
+            doWithCatalog(
+                catalogIdent,
+                "load-topics",
+                c -> c.doWithTopicOps(t -> batchLoadTopics(t, namespace, names)),
+                NoSuchSchemaException.class);
+        Arrays.stream(loadedTopics).forEach(topic -> topicsByName.putIfAbsent(topic.name(), topic));
+      }
+    } catch (Exception e) {
+      idents.forEach(ident -> failures.put(ident, e));
+      return;
+    }
+
+    for (NameIdentifier ident : idents) {
+      try {
+        // The topics absent from the batch either don't exist or fail to load, load them one by
+        // one to report the failure of each topic.
+        Topic topic = supportsBatchLoad ? topicsByName.get(ident.name()) : null;
+        if (topic == null) {
+          topic =
+              doWithCatalog(
+                  catalogIdent,
+                  "load-topic",
+                  c -> c.doWithTopicOps(t -> t.loadTopic(ident)),
+                  NoSuchTopicException.class);
+        }
+        topics.put(ident, combineTopic(ident, topic, entityLoader));
+      } catch (Exception e) {
+        failures.put(ident, e);
+      }
+    }
+  }
+
+  private static Topic[] batchLoadTopics(TopicCatalog catalog, Namespace namespace, String[] names)
+      throws NoSuchSchemaException {
+    return ((SupportsBatchLoadTopics) catalog).loadBatch(namespace, names);
+  }
+
+  // Combines the topic loaded from the catalog with its entity in the entity store.
+  private Topic combineTopic(
+      NameIdentifier ident,
+      Topic topic,
+      ThrowableFunction<NameIdentifier, TopicEntity> entityLoader) {
+    NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     StringIdentifier stringId = getStringIdFromProperties(topic.properties());
     // Case 1: The topic is not created by Gravitino.
     // Note: for Kafka catalog, stringId will not be null. Because there is no way to store the
@@ -89,12 +197,7 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
                   catalogIdent, HasPropertyMetadata::topicPropertiesMetadata, topic.properties()));
     }
 
-    TopicEntity topicEntity =
-        operateOnEntity(
-            ident,
-            identifier -> store.get(identifier, TOPIC, TopicEntity.class),
-            "GET",
-            getStringIdFromProperties(topic.properties()).id());
+    TopicEntity topicEntity = operateOnEntity(ident, entityLoader, "GET", stringId.id());
 
     return EntityCombinedTopic.of(topic, topicEntity)
         .withHiddenPropertiesSet(
@@ -136,6 +239,7 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
 
     doWithCatalog(
         catalogIdent,
+        "create-topic",
         c -> c.doWithTopicOps(t -> t.createTopic(ident, comment, dataLayout, updatedProperties)),
         NoSuchSchemaException.class,
         TopicAlreadyExistsException.class);
@@ -144,6 +248,7 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
     Topic topic =
         doWithCatalog(
             catalogIdent,
+            "load-topic",
             c -> c.doWithTopicOps(t -> t.loadTopic(ident)),
             NoSuchTopicException.class);
 
@@ -162,6 +267,7 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
 
     try {
       store.put(topicEntity, true /* overwrite */);
+      invalidateEntityLoad(ident);
     } catch (Exception e) {
       LOG.error(OperationDispatcher.FormattedErrorMessages.STORE_OP_FAILURE, "put", ident, e);
       return EntityCombinedTopic.of(topic)
@@ -194,6 +300,7 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
     Topic tempAlteredTopic =
         doWithCatalog(
             catalogIdent,
+            "alter-topic",
             c -> c.doWithTopicOps(t -> t.alterTopic(ident, changes)),
             NoSuchTopicException.class,
             IllegalArgumentException.class);
@@ -202,6 +309,7 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
     Topic alteredTopic =
         doWithCatalog(
             catalogIdent,
+            "load-topic",
             c ->
                 c.doWithTopicOps(
                     t ->
@@ -257,7 +365,10 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     boolean droppedFromCatalog =
         doWithCatalog(
-            catalogIdent, c -> c.doWithTopicOps(t -> t.dropTopic(ident)), RuntimeException.class);
+            catalogIdent,
+            "drop-topic",
+            c -> c.doWithTopicOps(t -> t.dropTopic(ident)),
+            RuntimeException.class);
 
     // For unmanaged topic, it could happen that the topic:
     // 1. Is not found in the catalog (dropped directly from underlying sources)
@@ -41,6 +41,18 @@ public abstract class BaseCatalog<T extends BaseCatalog>
   // The object you used is not stable, don't use it unless you know what you are doing.
   @VisibleForTesting public static final String CATALOG_OPERATION_IMPL = "ops-impl";
 
+  // This variable is used as a key in properties of catalogs to enable the table metadata cache of
+  // Gravitino server for this catalog. It's only safe to enable it when the tables of the catalog
+  // are mainly changed through Gravitino, since the changes made directly to the underlying
+  // sources are only visible after the cached tables expire.
+  public static final String CATALOG_TABLE_CACHE_ENABLED = "table-cache.enabled";
+
+  // This variable is used as a key in properties of catalogs to share the isolated classloader
+  // with the other catalogs of the same package which also set it. The catalogs sharing one
+  // classloader share the static states of the catalog classes, so it's only safe to enable it
+  // when the catalog doesn't keep per-catalog configurations in static states.
+  public static final String CATALOG_CLASSLOADER_SHARED = "classloader.shared";
+
   private CatalogEntity entity;
 
   private Map<String, String> conf;
@@ -94,6 +106,19 @@ public abstract class BaseCatalog<T extends BaseCatalog>
     return Optional.empty();
   }
 
+  /**
+   * Whether the catalog can share its isolated classloader with the other catalogs, see {@link
+   * #CATALOG_CLASSLOADER_SHARED}. The child class should return false if closing its operations
+   * releases the states of the whole classloader, e.g., deregisters the JDBC drivers loaded by the
+   * classloader, since it would break the other catalogs sharing the classloader.
+   *
+   * @return true if the catalog can share its classloader, false otherwise.
+   */
+  @Evolving
+  public boolean supportsSharedClassLoader() {
+    return true;
+  }
+
   @Override
   public PropertiesMetadata tablePropertiesMetadata() throws UnsupportedOperationException {
     return ops().tablePropertiesMetadata();
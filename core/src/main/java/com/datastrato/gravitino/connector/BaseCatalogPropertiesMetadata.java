@@ -31,6 +31,22 @@ public abstract class BaseCatalogPropertiesMetadata extends BasePropertiesMetada
                   false,
                   null,
                   false,
+                  false),
+              PropertyEntry.booleanPropertyEntry(
+                  BaseCatalog.CATALOG_TABLE_CACHE_ENABLED,
+                  "Whether to cache the tables of this catalog in Gravitino server",
+                  false,
+                  false,
+                  false,
+                  false,
+                  false),
+              PropertyEntry.booleanPropertyEntry(
+                  BaseCatalog.CATALOG_CLASSLOADER_SHARED,
+                  "Whether to share the classloader with the other catalogs of the same package",
+                  false,
+                  false,
+                  false,
+                  false,
                   false)),
           PropertyEntry::getName);
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.connector;
+
+import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.annotation.Evolving;
+import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
+
+/**
+ * The contract of the catalogs which can load multiple objects of a schema in one call to the
+ * underlying source, e.g., one metastore round trip or one admin request to the message broker.
+ * It's mixed in by the sub-interface of each object type, the catalogs without it are loaded object
+ * by object.
+ *
+ * @param <T> The type of the objects to load.
+ */
+@Evolving
+public interface SupportsBatchLoad<T> {
+
+  /**
+   * Loads the objects of a schema in one call.
+   *
+   * @param namespace The namespace of the schema.
+   * @param names The names of the objects to load.
+   * @return The loaded objects, the objects which don't exist or fail to load are absent from the
+   *     result, the caller can load them one by one to get the cause.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  T[] loadBatch(Namespace namespace, String[] names) throws NoSuchSchemaException;
+}
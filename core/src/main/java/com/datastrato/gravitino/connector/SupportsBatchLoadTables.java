@@ -0,0 +1,13 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.connector;
+
+import com.datastrato.gravitino.annotation.Evolving;
+import com.datastrato.gravitino.rel.Table;
+import com.datastrato.gravitino.rel.TableCatalog;
+
+/** The {@link SupportsBatchLoad} interface mixed with the {@link TableCatalog} of the catalogs. */
+@Evolving
+public interface SupportsBatchLoadTables extends SupportsBatchLoad<Table> {}
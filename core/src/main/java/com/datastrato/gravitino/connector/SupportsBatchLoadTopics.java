@@ -0,0 +1,13 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.connector;
+
+import com.datastrato.gravitino.annotation.Evolving;
+import com.datastrato.gravitino.messaging.Topic;
+import com.datastrato.gravitino.messaging.TopicCatalog;
+
+/** The {@link SupportsBatchLoad} interface mixed with the {@link TopicCatalog} of the catalogs. */
+@Evolving
+public interface SupportsBatchLoadTopics extends SupportsBatchLoad<Topic> {}
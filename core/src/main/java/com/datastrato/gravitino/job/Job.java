@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.job;
+
+import java.time.Instant;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
+
+/**
+ * An asynchronous job submitted to the {@link JobManager}. The status of the job moves from {@link
+ * Status#QUEUED} to {@link Status#RUNNING}, then to one of the finished statuses, or from {@link
+ * Status#QUEUED} to {@link Status#CANCELED} directly.
+ */
+public class Job {
+
+  /** The status of a job. */
+  public enum Status {
+    /** The job is waiting for a worker thread. */
+    QUEUED,
+    /** The job is running. */
+    RUNNING,
+    /** The job is finished successfully. */
+    SUCCEEDED,
+    /** The job is finished with a failure. */
+    FAILED,
+    /** The job is canceled before it's started. */
+    CANCELED;
+
+    /** @return True if the job with this status is finished. */
+    public boolean isFinished() {
+      return this == SUCCEEDED || this == FAILED || this == CANCELED;
+    }
+  }
+
+  private final String id;
+  private final String metalake;
+  private final String type;
+  private final String target;
+  private final String creator;
+  private final Instant createTime;
+
+  private final AtomicReference<Status> status = new AtomicReference<>(Status.QUEUED);
+  private volatile Instant startTime;
+  private volatile Instant finishTime;
+  private volatile Object result;
+  private volatile Throwable failure;
+  private volatile Future<?> future;
+
+  Job(String id, String metalake, String type, String target, String creator) {
+    this.id = id;
+    this.metalake = metalake;
+    this.type = type;
+    this.target = target;
+    this.creator = creator;
+    this.createTime = Instant.now();
+  }
+
+  /** @return The id of the job. */
+  public String id() {
+    return id;
+  }
+
+  /** @return The metalake the job belongs to. */
+  public String metalake() {
+    return metalake;
+  }
+
+  /** @return The type of the job, like "drop-table". */
+  public String type() {
+    return type;
+  }
+
+  /** @return The name of the object the job operates on. */
+  public String target() {
+    return target;
+  }
+
+  /** @return The user who submitted the job. */
+  public String creator() {
+    return creator;
+  }
+
+  /** @return The current status of the job. */
+  public Status status() {
+    return status.get();
+  }
+
+  /** @return The time the job was submitted. */
+  public Instant createTime() {
+    return createTime;
+  }
+
+  /** @return The time the job started to run, null if it's not started. */
+  @Nullable
+  public Instant startTime() {
+    return startTime;
+  }
+
+  /** @return The time the job was finished, null if it's not finished. */
+  @Nullable
+  public Instant finishTime() {
+    return finishTime;
+  }
+
+  /** @return The result of the job, null if the job is not succeeded. */
+  @Nullable
+  public Object result() {
+    return result;
+  }
+
+  /** @return The failure of the job, null if the job is not failed. */
+  @Nullable
+  public Throwable failure() {
+    return failure;
+  }
+
+  void setFuture(Future<?> future) {
+    this.future = future;
+  }
+
+  boolean start() {
+    if (!status.compareAndSet(Status.QUEUED, Status.RUNNING)) {
+      return false;
+    }
+
+    this.startTime = Instant.now();
+    return true;
+  }
+
+  void succeed(Object result) {
+    this.result = result;
+    finish(Status.SUCCEEDED);
+  }
+
+  void fail(Throwable failure) {
+    this.failure = failure;
+    finish(Status.FAILED);
+  }
+
+  // Only a queued job can be canceled. Interrupting a running job could leave the operation half
+  // done, e.g., some tables of a schema dropped in the underlying source but still in the store.
+  boolean cancel() {
+    if (!status.compareAndSet(Status.QUEUED, Status.CANCELED)) {
+      return false;
+    }
+
+    this.finishTime = Instant.now();
+    if (future != null) {
+      future.cancel(false);
+    }
+    return true;
+  }
+
+  private void finish(Status finishedStatus) {
+    if (status.compareAndSet(Status.RUNNING, finishedStatus)) {
+      this.finishTime = Instant.now();
+    }
+  }
+}
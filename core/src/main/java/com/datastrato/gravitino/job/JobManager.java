@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.job;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.exceptions.NoSuchJobException;
+import com.datastrato.gravitino.utils.PrincipalUtils;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.security.Principal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the long-running metadata operations as asynchronous jobs, on a bounded pool of worker
+ * threads separate from the HTTP threads. A job is submitted with the identity of the current user,
+ * then it can be polled or canceled by its id, only by the same user.
+ *
+ * <p>The jobs are kept in memory, the finished jobs are removed after the retention time, and the
+ * unfinished jobs are lost if the server restarts.
+ */
+public class JobManager implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JobManager.class);
+
+  private final ThreadPoolExecutor executor;
+
+  private final int queueCapacity;
+
+  private final long retentionMs;
+
+  private final ConcurrentMap<String, Job> jobs = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new JobManager.
+   *
+   * @param config The configuration of the server.
+   */
+  public JobManager(Config config) {
+    this(
+        config.get(Configs.JOB_WORKER_THREADS),
+        config.get(Configs.JOB_QUEUE_CAPACITY),
+        config.get(Configs.JOB_RETENTION_MS));
+  }
+
+  @VisibleForTesting
+  JobManager(int workerThreads, int queueCapacity, long retentionMs) {
+    this.queueCapacity = queueCapacity;
+    this.retentionMs = retentionMs;
+    this.executor =
+        new ThreadPoolExecutor(
+            workerThreads,
+            workerThreads,
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("job-worker-%d").build());
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Submits a job to run asynchronously as the current user.
+   *
+   * @param metalake The metalake the job belongs to.
+   * @param type The type of the job, like "drop-table".
+   * @param target The name of the object the job operates on.
+   * @param task The operation of the job, its return value is the result of the job.
+   * @return The submitted job.
+   * @throws RejectedExecutionException If there are too many jobs waiting to run.
+   */
+  public Job submit(String metalake, String type, String target, Callable<?> task)
+      throws RejectedExecutionException {
+    removeExpiredJobs();
+
+    Principal principal = PrincipalUtils.getCurrentPrincipal();
+    Job job = new Job(UUID.randomUUID().toString(), metalake, type, target, principal.getName());
+    jobs.put(job.id(), job);
+    try {
+      job.setFuture(executor.submit(() -> run(job, principal, task)));
+    } catch (RejectedExecutionException e) {
+      jobs.remove(job.id());
+      throw new RejectedExecutionException(
+          String.format(
+              "Failed to submit the %s job of %s, there are already %d jobs waiting to run",
+              type, target, queueCapacity),
+          e);
+    }
+
+    LOG.info("Submitted {} job {} of {} in metalake {}", type, job.id(), target, metalake);
+    return job;
+  }
+
+  /**
+   * Gets the job with the specified id, the job is only visible to the user who submitted it.
+   *
+   * @param metalake The metalake the job belongs to.
+   * @param jobId The id of the job.
+   * @return The job.
+   * @throws NoSuchJobException If the job does not exist in the metalake, or it's expired, or it's
+   *     submitted by another user.
+   */
+  public Job getJob(String metalake, String jobId) throws NoSuchJobException {
+    removeExpiredJobs();
+
+    Job job = jobs.get(jobId);
+    // The jobs of the other users are reported as absent, so their ids can't be probed.
+    if (job == null
+        || !job.metalake().equals(metalake)
+        || !job.creator().equals(PrincipalUtils.getCurrentUserName())) {
+      throw new NoSuchJobException("Job %s does not exist in metalake %s", jobId, metalake);
+    }
+    return job;
+  }
+
+  /**
+   * Cancels the job with the specified id, so the queued job won't run. A running job can't be
+   * canceled, since the operation may be half done. It does nothing if the job is already
+   * finished.
+   *
+   * @param metalake The metalake the job belongs to.
+   * @param jobId The id of the job.
+   * @return The job after the cancellation.
+   * @throws NoSuchJobException If the job does not exist in the metalake, or it's expired, or it's
+   *     submitted by another user.
+   * @throws IllegalArgumentException If the job is already running.
+   */
+  public Job cancelJob(String metalake, String jobId)
+      throws NoSuchJobException, IllegalArgumentException {
+    Job job = getJob(metalake, jobId);
+    if (job.cancel()) {
+      LOG.info(
+          "Canceled {} job {} of {} in metalake {}", job.type(), jobId, job.target(), metalake);
+    }
+    Preconditions.checkArgument(
+        job.status() != Job.Status.RUNNING,
+        "Job %s is already running, only the queued jobs can be canceled",
+        jobId);
+    return job;
+  }
+
+  @VisibleForTesting
+  int jobCount() {
+    return jobs.size();
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private void run(Job job, Principal principal, Callable<?> task) {
+    // The job is canceled while it's queued.
+    if (!job.start()) {
+      return;
+    }
+
+    try {
+      job.succeed(PrincipalUtils.doAs(principal, task::call));
+      LOG.info("The {} job {} of {} is finished", job.type(), job.id(), job.target());
+    } catch (Exception e) {
+      LOG.warn("The {} job {} of {} is failed", job.type(), job.id(), job.target(), e);
+      job.fail(e);
+    }
+  }
+
+  private void removeExpiredJobs() {
+    Instant expireTime = Instant.now().minusMillis(retentionMs);
+    jobs.values()
+        .removeIf(job -> job.finishTime() != null && job.finishTime().isBefore(expireTime));
+  }
+}
@@ -10,47 +10,81 @@ import com.datastrato.gravitino.listener.api.event.Event;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * AsyncQueueListener acts as event listener, and internally buffer event to a queue, start a
- * dispatcher thread to dispatch event to the real listeners. For default AsyncQueueListener it may
- * contain multi listeners share with one queue and dispatcher thread. For other
+ * AsyncQueueListener acts as event listener, and internally buffer event to a queue, start
+ * dispatcher threads to dispatch event to the real listeners. For default AsyncQueueListener it may
+ * contain multi listeners share with one queue and dispatcher threads. For other
  * AsyncQueueDispatchers, contain only one listener.
+ *
+ * <p>The queue is a bounded ring buffer, each dispatcher thread takes the events from it in batches
+ * and delivers every batch to the listeners by {@link EventListenerPlugin#onPostEvents(List)}. The
+ * events are delivered in order only if there is one dispatcher thread. When the queue is full, the
+ * event is handled according to the {@link OverflowPolicy}.
  */
 public class AsyncQueueListener implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncQueueListener.class);
   private static final String NAME_PREFIX = "async-queue-listener-";
 
+  /** The policy to apply to the event when the queue is full. */
+  public enum OverflowPolicy {
+    /** Drops the event immediately. */
+    DROP,
+    /** Blocks the caller until the queue has space, drops the event if it times out. */
+    BLOCK
+  }
+
   private final List<EventListenerPlugin> eventListeners;
   private final BlockingQueue<Event> queue;
-  private final Thread asyncProcessor;
+  private final List<Thread> asyncProcessors;
+  private final int batchSize;
+  private final OverflowPolicy overflowPolicy;
+  private final long blockTimeoutMs;
   private final int dispatcherJoinSeconds;
+  private final EventListenerMetricsSource metricsSource;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final AtomicLong dropEventCounters = new AtomicLong(0);
   private final AtomicLong lastDropEventCounters = new AtomicLong(0);
-  private Instant lastRecordDropEventTime;
+  private volatile Instant lastRecordDropEventTime;
   private final String asyncQueueListenerName;
 
-  public AsyncQueueListener(
+  AsyncQueueListener(
       List<EventListenerPlugin> listeners,
       String name,
-      int queueCapacity,
-      int dispatcherJoinSeconds) {
+      EventListenerConfig config,
+      EventListenerMetricsSource metricsSource) {
     this.asyncQueueListenerName = NAME_PREFIX + name;
     this.eventListeners = listeners;
-    this.queue = new LinkedBlockingQueue<>(queueCapacity);
-    this.asyncProcessor = new Thread(() -> processEvents());
-    this.dispatcherJoinSeconds = dispatcherJoinSeconds;
-    asyncProcessor.setDaemon(true);
-    asyncProcessor.setName(asyncQueueListenerName);
+    this.queue = new ArrayBlockingQueue<>(config.get(EventListenerConfig.QUEUE_CAPACITY));
+    this.batchSize = config.get(EventListenerConfig.BATCH_SIZE);
+    this.overflowPolicy =
+        OverflowPolicy.valueOf(config.get(EventListenerConfig.OVERFLOW_POLICY).toUpperCase());
+    this.blockTimeoutMs = config.get(EventListenerConfig.BLOCK_TIMEOUT_MS);
+    this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.lastRecordDropEventTime = Instant.now();
+
+    int dispatcherThreads = config.get(EventListenerConfig.DISPATCHER_THREADS);
+    this.asyncProcessors = new ArrayList<>(dispatcherThreads);
+    for (int i = 0; i < dispatcherThreads; i++) {
+      Thread asyncProcessor = new Thread(() -> processEvents());
+      asyncProcessor.setDaemon(true);
+      asyncProcessor.setName(
+          dispatcherThreads == 1 ? asyncQueueListenerName : asyncQueueListenerName + "-" + i);
+      asyncProcessors.add(asyncProcessor);
+    }
+
+    this.metricsSource = metricsSource;
+    metricsSource.registerAsyncQueueListener(this);
   }
 
   @Override
@@ -63,7 +97,7 @@ public class AsyncQueueListener implements EventListenerPlugin {
       return;
     }
 
-    if (queue.offer(event)) {
+    if (offer(event)) {
       return;
     }
 
@@ -79,32 +113,82 @@ public class AsyncQueueListener implements EventListenerPlugin {
   @Override
   public void start() {
     eventListeners.forEach(listenerPlugin -> listenerPlugin.start());
-    asyncProcessor.start();
+    startDispatchers();
+  }
+
+  /**
+   * Starts the dispatcher threads without starting the listeners, for the listeners which have
+   * already been started, e.g., a sync listener moved to the queue by {@link BudgetedSyncListener}.
+   */
+  void startDispatchers() {
+    asyncProcessors.forEach(Thread::start);
   }
 
   @Override
   public void stop() {
     Preconditions.checkState(!stopped.get(), asyncQueueListenerName + " had already stopped");
     stopped.compareAndSet(false, true);
-    asyncProcessor.interrupt();
+    asyncProcessors.forEach(Thread::interrupt);
+    long deadline = System.currentTimeMillis() + dispatcherJoinSeconds * 1000L;
     try {
-      asyncProcessor.join(dispatcherJoinSeconds * 1000L);
+      for (Thread asyncProcessor : asyncProcessors) {
+        asyncProcessor.join(Math.max(1, deadline - System.currentTimeMillis()));
+      }
     } catch (InterruptedException e) {
       LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
     }
+
+    if (!queue.isEmpty()) {
+      LOG.warn(
+          "{} drop {} events since dispatch thread is interrupted",
+          asyncQueueListenerName,
+          queue.size());
+    }
     eventListeners.forEach(listenerPlugin -> listenerPlugin.stop());
   }
 
+  /** @return The name of the listener, it's also the name of the dispatcher threads. */
+  String name() {
+    return asyncQueueListenerName;
+  }
+
+  /** @return The number of the events waiting in the queue. */
+  int queueDepth() {
+    return queue.size();
+  }
+
+  /** @return The number of the events dropped since the listener is created. */
+  long droppedEvents() {
+    return dropEventCounters.get();
+  }
+
   @VisibleForTesting
   List<EventListenerPlugin> getEventListeners() {
     return this.eventListeners;
   }
 
+  private boolean offer(Event event) {
+    if (overflowPolicy == OverflowPolicy.BLOCK) {
+      try {
+        return queue.offer(event, blockTimeoutMs, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+
+    return queue.offer(event);
+  }
+
   private void processEvents() {
     while (!Thread.currentThread().isInterrupted()) {
       try {
-        Event event = queue.take();
-        this.eventListeners.forEach(listener -> listener.onPostEvent(event));
+        // Take one event to wait for the queue, then drain the rest of the batch without waiting.
+        // A new list for each batch, the listeners may keep the batch after processing it.
+        List<Event> events = new ArrayList<>(Math.min(batchSize, queue.size() + 1));
+        events.add(queue.take());
+        queue.drainTo(events, batchSize - 1);
+        dispatch(events);
       } catch (InterruptedException e) {
         LOG.warn("{} event dispatcher thread is interrupted.", asyncQueueListenerName);
         break;
@@ -112,13 +196,15 @@ public class AsyncQueueListener implements EventListenerPlugin {
         LOG.warn("{} throw a exception while processing event", asyncQueueListenerName, e);
       }
     }
+  }
 
-    if (!queue.isEmpty()) {
-      LOG.warn(
-          "{} drop {} events since dispatch thread is interrupted",
-          asyncQueueListenerName,
-          queue.size());
-    }
+  private void dispatch(List<Event> events) {
+    long startNanos = System.nanoTime();
+    this.eventListeners.forEach(listener -> listener.onPostEvents(events));
+    metricsSource.updateDispatch(
+        asyncQueueListenerName,
+        events.size(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
   }
 
   private void logDropEventsIfNecessary() {
@@ -0,0 +1,190 @@
+/*
+ *  Copyright 2024 Datastrato Pvt Ltd.
+ *  This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.listener;
+
+import com.datastrato.gravitino.listener.api.EventListenerPlugin;
+import com.datastrato.gravitino.listener.api.event.Event;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * BudgetedSyncListener processes the events of a sync event listener in a bounded thread pool, and
+ * the caller waits for each event at most the time budget. Once the listener exceeds the budget for
+ * a number of consecutive events, or all the threads are still busy with the previous events, it
+ * is moved to a separate {@link AsyncQueueListener}, so a slow or hanging sync listener no longer
+ * adds its latency to every operation.
+ */
+class BudgetedSyncListener implements EventListenerPlugin {
+  private static final Logger LOG = LoggerFactory.getLogger(BudgetedSyncListener.class);
+
+  private final String listenerName;
+  private final EventListenerPluginWrapper syncListener;
+  private final EventListenerConfig config;
+  private final EventListenerMetricsSource metricsSource;
+  private final long budgetNanos;
+  private final int maxViolations;
+  private final AtomicInteger violations = new AtomicInteger(0);
+  // Runs the sync listener so that the caller can stop waiting for it, the events which exceed the
+  // budget are still processed in the background.
+  private final ThreadPoolExecutor executor;
+  // Null until the listener exceeds the budget, all the events go to it afterward.
+  private volatile AsyncQueueListener asyncListener;
+  private boolean stopped;
+
+  BudgetedSyncListener(
+      String listenerName,
+      EventListenerPluginWrapper syncListener,
+      EventListenerConfig config,
+      EventListenerMetricsSource metricsSource) {
+    this.listenerName = listenerName;
+    this.syncListener = syncListener;
+    this.config = config;
+    this.metricsSource = metricsSource;
+    this.budgetNanos =
+        TimeUnit.MILLISECONDS.toNanos(config.get(EventListenerConfig.SYNC_BUDGET_MS));
+    this.maxViolations = config.get(EventListenerConfig.SYNC_BUDGET_VIOLATIONS);
+    int threads = config.get(EventListenerConfig.SYNC_BUDGET_THREADS);
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("event-listener-" + listenerName + "-sync-%d")
+                .build());
+    executor.allowCoreThreadTimeOut(true);
+    metricsSource.registerBudgetedSyncListener(listenerName, this);
+  }
+
+  @Override
+  public void init(Map<String, String> properties) {
+    throw new RuntimeException(
+        "Should not reach here, the event listener has already been initialized.");
+  }
+
+  @Override
+  public void start() {
+    syncListener.start();
+  }
+
+  @Override
+  public void stop() {
+    AsyncQueueListener currentAsyncListener;
+    synchronized (this) {
+      stopped = true;
+      currentAsyncListener = asyncListener;
+    }
+    executor.shutdownNow();
+
+    // The async queue listener stops the sync listener after draining the queue.
+    if (currentAsyncListener != null) {
+      currentAsyncListener.stop();
+    } else {
+      syncListener.stop();
+    }
+  }
+
+  @Override
+  public void onPostEvent(Event event) {
+    AsyncQueueListener currentAsyncListener = asyncListener;
+    if (currentAsyncListener != null) {
+      currentAsyncListener.onPostEvent(event);
+      return;
+    }
+
+    Future<?> future;
+    try {
+      future = executor.submit(() -> syncListener.onPostEvent(event));
+    } catch (RejectedExecutionException e) {
+      // All the threads are blocked by the listener, or the listener is stopped.
+      moveToAsyncQueue();
+      currentAsyncListener = asyncListener;
+      if (currentAsyncListener != null) {
+        currentAsyncListener.onPostEvent(event);
+      } else {
+        LOG.warn("Event listener {} is stopped, drop event {}.", listenerName, event);
+      }
+      return;
+    }
+
+    try {
+      future.get(budgetNanos, TimeUnit.NANOSECONDS);
+      // Avoids writing the shared counter on the fast path.
+      if (violations.get() != 0) {
+        violations.set(0);
+      }
+      return;
+    } catch (TimeoutException e) {
+      // Stop waiting for the event, it's still processed in the background.
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    } catch (ExecutionException e) {
+      // The wrapper logs the failures of the listener, the task itself doesn't fail.
+      LOG.warn("Event listener {} process event {} failed,", listenerName, event, e.getCause());
+      return;
+    }
+
+    if (violations.incrementAndGet() >= maxViolations) {
+      moveToAsyncQueue();
+    }
+  }
+
+  @Override
+  public void onPostEvents(List<Event> events) {
+    events.forEach(this::onPostEvent);
+  }
+
+  @Override
+  public Mode mode() {
+    return Mode.SYNC;
+  }
+
+  /** @return True if the listener has been moved to an async queue. */
+  boolean isDemoted() {
+    return asyncListener != null;
+  }
+
+  @VisibleForTesting
+  EventListenerPluginWrapper getSyncListener() {
+    return syncListener;
+  }
+
+  private synchronized void moveToAsyncQueue() {
+    if (asyncListener != null || stopped) {
+      return;
+    }
+
+    AsyncQueueListener queueListener =
+        new AsyncQueueListener(ImmutableList.of(syncListener), listenerName, config, metricsSource);
+    queueListener.startDispatchers();
+    this.asyncListener = queueListener;
+    LOG.warn(
+        "Event listener {} exceeds the time budget {} ms for {} consecutive events or blocks all "
+            + "the {} threads, move it to {}.",
+        listenerName,
+        TimeUnit.NANOSECONDS.toMillis(budgetNanos),
+        maxViolations,
+        executor.getMaximumPoolSize(),
+        queueListener.name());
+  }
+}
@@ -24,6 +24,7 @@ import com.datastrato.gravitino.listener.api.event.ListCatalogFailureEvent;
 import com.datastrato.gravitino.listener.api.event.LoadCatalogEvent;
 import com.datastrato.gravitino.listener.api.event.LoadCatalogFailureEvent;
 import com.datastrato.gravitino.listener.api.info.CatalogInfo;
+import com.datastrato.gravitino.utils.Page;
 import com.datastrato.gravitino.utils.PrincipalUtils;
 import java.util.Map;
 
@@ -63,6 +64,35 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
     }
   }
 
+  @Override
+  public Page<NameIdentifier> listCatalogs(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchMetalakeException {
+    try {
+      Page<NameIdentifier> nameIdentifiers =
+          dispatcher.listCatalogs(namespace, pageToken, pageSize);
+      eventBus.dispatchEvent(new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return nameIdentifiers;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), e, namespace));
+      throw e;
+    }
+  }
+
+  @Override
+  public Page<Catalog> listCatalogsInfo(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchMetalakeException {
+    try {
+      Page<Catalog> catalogs = dispatcher.listCatalogsInfo(namespace, pageToken, pageSize);
+      eventBus.dispatchEvent(new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return catalogs;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), e, namespace));
+      throw e;
+    }
+  }
+
   @Override
   public Catalog[] listCatalogsInfo(Namespace namespace) throws NoSuchMetalakeException {
     try {
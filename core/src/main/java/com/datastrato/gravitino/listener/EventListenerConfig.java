@@ -9,9 +9,17 @@ import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.config.ConfigBuilder;
 import com.datastrato.gravitino.config.ConfigConstants;
 import com.datastrato.gravitino.config.ConfigEntry;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 class EventListenerConfig extends Config {
+  private static final List<String> OVERFLOW_POLICIES =
+      Arrays.stream(AsyncQueueListener.OverflowPolicy.values())
+          .map(policy -> policy.name().toLowerCase())
+          .collect(Collectors.toList());
+
   static final ConfigEntry<String> LISTENER_NAMES =
       new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_NAMES)
           .doc("Gravitino event listener names, comma is utilized to separate multiple names")
@@ -35,6 +43,109 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<Integer> DISPATCHER_THREADS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS)
+          .doc(
+              "The number of threads of each async event dispatcher, the events may be processed "
+                  + "out of order if it's greater than 1")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  static final ConfigEntry<Integer> BATCH_SIZE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_SIZE)
+          .doc("The maximum number of events an async event dispatcher delivers in one batch")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  static final ConfigEntry<String> OVERFLOW_POLICY =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_OVERFLOW_POLICY)
+          .doc(
+              String.format(
+                  "The policy to apply when the async event queue is full, the valid values are %s",
+                  OVERFLOW_POLICIES))
+          .version(ConfigConstants.VERSION_0_6_0)
+          .stringConf()
+          .checkValue(
+              value -> value != null && OVERFLOW_POLICIES.contains(value.toLowerCase()),
+              String.format(
+                  "The value of %s must be one of %s",
+                  EventListenerManager.GRAVITINO_EVENT_LISTENER_OVERFLOW_POLICY,
+                  OVERFLOW_POLICIES))
+          .createWithDefault("drop");
+
+  static final ConfigEntry<Long> BLOCK_TIMEOUT_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BLOCK_TIMEOUT_MS)
+          .doc(
+              "The maximum time in milliseconds to wait for the space of the full async event "
+                  + "queue with the block overflow policy, the event is dropped after it")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  static final ConfigEntry<String> SPOOL_DIR =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_SPOOL_DIR)
+          .doc(
+              "The directory to spool the events of the async event listeners which support it, "
+                  + "a relative path is resolved against `${GRAVITINO_HOME}`, the events are not "
+                  + "spooled if it's not set")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .stringConf()
+          .createWithDefault("");
+
+  static final ConfigEntry<Integer> SPOOL_SEGMENT_BYTES =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_SPOOL_SEGMENT_BYTES)
+          .doc("The size of each segment file of an event spool")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(64 * 1024 * 1024);
+
+  static final ConfigEntry<Long> SPOOL_MAX_BYTES =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_SPOOL_MAX_BYTES)
+          .doc(
+              "The maximum size of the segment files of an event spool, the oldest segments are "
+                  + "deleted even if their events are not delivered when it's exceeded")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1024L * 1024 * 1024);
+
+  static final ConfigEntry<Long> SYNC_BUDGET_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_BUDGET_MS)
+          .doc(
+              "The time budget in milliseconds for a sync event listener to process an event, the "
+                  + "listener is moved to an async queue if it exceeds the budget for "
+                  + "syncBudgetViolations consecutive events, 0 means no budget")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  static final ConfigEntry<Integer> SYNC_BUDGET_VIOLATIONS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_BUDGET_VIOLATIONS)
+          .doc(
+              "The number of consecutive events a sync event listener processes beyond the time "
+                  + "budget before it's moved to an async queue")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(3);
+
+  static final ConfigEntry<Integer> SYNC_BUDGET_THREADS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_BUDGET_THREADS)
+          .doc(
+              "The maximum number of events a sync event listener with a time budget processes "
+                  + "concurrently, the listener is moved to an async queue if all of them are busy")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(16);
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
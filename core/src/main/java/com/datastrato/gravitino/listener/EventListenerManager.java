@@ -6,17 +6,22 @@
 package com.datastrato.gravitino.listener;
 
 import com.datastrato.gravitino.listener.api.EventListenerPlugin;
+import com.datastrato.gravitino.listener.api.SupportsEventSpool;
+import com.datastrato.gravitino.metrics.MetricsSystem;
 import com.datastrato.gravitino.utils.MapUtils;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +33,9 @@ import org.slf4j.LoggerFactory;
  * <p>Wrap all listener with EventListenerWrapper to do some common process, like exception handing,
  * record metrics.
  *
+ * <p>For sync listeners with a time budget, will create a BudgetedSyncListener to move the
+ * EventListenerWrapper to a separate AsyncQueueListener once it exceeds the budget.
+ *
  * <p>For async listeners with the shared dispatcher, will create a default AsyncQueueListener to
  * assemble the corresponding EventListenerWrappers.
  *
@@ -41,17 +49,46 @@ public class EventListenerManager {
   @VisibleForTesting static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS = "dispatcherThreads";
+  static final String GRAVITINO_EVENT_LISTENER_BATCH_SIZE = "batchSize";
+  static final String GRAVITINO_EVENT_LISTENER_OVERFLOW_POLICY = "overflowPolicy";
+  static final String GRAVITINO_EVENT_LISTENER_BLOCK_TIMEOUT_MS = "blockTimeoutMs";
+  static final String GRAVITINO_EVENT_LISTENER_SPOOL_DIR = "spool.dir";
+  static final String GRAVITINO_EVENT_LISTENER_SPOOL_SEGMENT_BYTES = "spool.segmentBytes";
+  static final String GRAVITINO_EVENT_LISTENER_SPOOL_MAX_BYTES = "spool.maxBytes";
+  static final String GRAVITINO_EVENT_LISTENER_SYNC_BUDGET_MS = "syncBudgetMs";
+  static final String GRAVITINO_EVENT_LISTENER_SYNC_BUDGET_VIOLATIONS = "syncBudgetViolations";
+  static final String GRAVITINO_EVENT_LISTENER_SYNC_BUDGET_THREADS = "syncBudgetThreads";
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
-  private int queueCapacity;
-  private int dispatcherJoinSeconds;
+  // Null if the metrics are not reported.
+  @Nullable private final MetricsSystem metricsSystem;
+
+  private EventListenerConfig config;
+  private EventListenerMetricsSource metricsSource;
   private List<EventListenerPlugin> eventListeners;
 
+  public EventListenerManager() {
+    this(null);
+  }
+
+  /**
+   * Creates an EventListenerManager which registers its metrics to the metrics system.
+   *
+   * @param metricsSystem The metrics system to register the metrics, null if the metrics are not
+   *     reported.
+   */
+  public EventListenerManager(@Nullable MetricsSystem metricsSystem) {
+    this.metricsSystem = metricsSystem;
+  }
+
   public void init(Map<String, String> properties) {
-    EventListenerConfig config = new EventListenerConfig(properties);
-    this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
-    this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.config = new EventListenerConfig(properties);
+    this.metricsSource = new EventListenerMetricsSource();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
 
     String eventListenerNames = config.get(EventListenerConfig.LISTENER_NAMES);
     Map<String, EventListenerPlugin> userEventListenerPlugins =
@@ -97,16 +134,15 @@ public class EventListenerManager {
                   EventListenerPlugin listener = entrySet.getValue();
                   switch (listener.mode()) {
                     case SYNC:
-                      return new EventListenerPluginWrapper(listenerName, listener);
+                      return wrapSyncEventListener(listenerName, listener);
                     case ASYNC_ISOLATED:
                       return new AsyncQueueListener(
-                          ImmutableList.of(new EventListenerPluginWrapper(listenerName, listener)),
+                          ImmutableList.of(wrapAsyncEventListener(listenerName, listener)),
                           listenerName,
-                          queueCapacity,
-                          dispatcherJoinSeconds);
+                          config,
+                          metricsSource);
                     case ASYNC_SHARED:
-                      sharedQueueListeners.add(
-                          new EventListenerPluginWrapper(listenerName, listener));
+                      sharedQueueListeners.add(wrapAsyncEventListener(listenerName, listener));
                       return null;
                     default:
                       throw new RuntimeException("Unexpected listener mode:" + listener.mode());
@@ -117,12 +153,46 @@ public class EventListenerManager {
 
     if (!sharedQueueListeners.isEmpty()) {
       listeners.add(
-          new AsyncQueueListener(
-              sharedQueueListeners, "default", queueCapacity, dispatcherJoinSeconds));
+          new AsyncQueueListener(sharedQueueListeners, "default", config, metricsSource));
     }
     return listeners;
   }
 
+  private EventListenerPlugin wrapSyncEventListener(
+      String listenerName, EventListenerPlugin listener) {
+    EventListenerPluginWrapper wrapper =
+        new EventListenerPluginWrapper(listenerName, listener, metricsSource);
+    if (config.get(EventListenerConfig.SYNC_BUDGET_MS) == 0) {
+      return wrapper;
+    }
+
+    return new BudgetedSyncListener(listenerName, wrapper, config, metricsSource);
+  }
+
+  private EventListenerPlugin wrapAsyncEventListener(
+      String listenerName, EventListenerPlugin listener) {
+    String spoolDir = config.get(EventListenerConfig.SPOOL_DIR);
+    if (StringUtils.isBlank(spoolDir) || !(listener instanceof SupportsEventSpool)) {
+      return new EventListenerPluginWrapper(listenerName, listener, metricsSource);
+    }
+
+    Path path = Paths.get(spoolDir);
+    // Relative Path
+    if (!path.isAbsolute()) {
+      String gravitinoHome = System.getenv("GRAVITINO_HOME");
+      Preconditions.checkArgument(
+          gravitinoHome != null,
+          "GRAVITINO_HOME not set, the event spool directory %s must be an absolute path",
+          spoolDir);
+      path = Paths.get(gravitinoHome, spoolDir);
+    }
+    SpooledEventListener spooledListener =
+        new SpooledEventListener(listenerName, listener, path.resolve(listenerName), config);
+    metricsSource.registerSpooledEventListener(listenerName, spooledListener);
+    LOG.info("Spool the events of event listener {} to {}.", listenerName, path);
+    return new EventListenerPluginWrapper(listenerName, spooledListener, metricsSource);
+  }
+
   private EventListenerPlugin loadUserEventListenerPlugin(
       String listenerName, Map<String, String> config) {
     LOG.info("EventListener:{}, config:{}.", listenerName, config);
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.listener;
+
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Metrics of the event listeners, the metrics of each event listener, {@link AsyncQueueListener}
+ * and {@link SpooledEventListener} are prefixed with its name.
+ */
+public class EventListenerMetricsSource extends MetricsSource {
+  EventListenerMetricsSource() {
+    super(MetricsSource.EVENT_LISTENER_METRIC_NAME);
+  }
+
+  /**
+   * Registers the queue depth and the dropped events of an {@link AsyncQueueListener}.
+   *
+   * @param asyncQueueListener The async queue listener to register.
+   */
+  void registerAsyncQueueListener(AsyncQueueListener asyncQueueListener) {
+    String name = asyncQueueListener.name();
+    registerGauge(metricName(name, MetricNames.EVENT_QUEUE_DEPTH), asyncQueueListener::queueDepth);
+    registerGauge(
+        metricName(name, MetricNames.EVENT_QUEUE_DROPPED_COUNT),
+        asyncQueueListener::droppedEvents);
+  }
+
+  /**
+   * Registers the size and the dropped events of the spool of a {@link SpooledEventListener}.
+   *
+   * @param listenerName The name of the event listener.
+   * @param spooledListener The spooled event listener to register.
+   */
+  void registerSpooledEventListener(String listenerName, SpooledEventListener spooledListener) {
+    registerGauge(
+        metricName(listenerName, MetricNames.EVENT_SPOOL_SIZE), spooledListener::spoolSizeBytes);
+    registerGauge(
+        metricName(listenerName, MetricNames.EVENT_SPOOL_DROPPED_COUNT),
+        spooledListener::droppedEvents);
+  }
+
+  /**
+   * Registers whether a {@link BudgetedSyncListener} has been moved to an async queue.
+   *
+   * @param listenerName The name of the event listener.
+   * @param budgetedListener The budgeted sync listener to register.
+   */
+  void registerBudgetedSyncListener(String listenerName, BudgetedSyncListener budgetedListener) {
+    registerGauge(
+        metricName(listenerName, MetricNames.EVENT_LISTENER_DEMOTED),
+        () -> budgetedListener.isDemoted() ? 1 : 0);
+  }
+
+  /**
+   * Records the time spent by an event listener to process an event, or a batch of events if the
+   * listener processes the events in bulk.
+   *
+   * @param listenerName The name of the event listener.
+   * @param durationMs The time in milliseconds spent to process the event or the batch.
+   */
+  void updateProcess(String listenerName, long durationMs) {
+    getHistogram(metricName(listenerName, MetricNames.EVENT_LISTENER_PROCESS_DURATION))
+        .update(durationMs);
+  }
+
+  /**
+   * Records the time spent to dispatch a batch of events to the listeners of an {@link
+   * AsyncQueueListener}.
+   *
+   * @param name The name of the async queue listener.
+   * @param batchSize The number of events in the batch.
+   * @param durationMs The time in milliseconds spent to dispatch the batch.
+   */
+  void updateDispatch(String name, int batchSize, long durationMs) {
+    getHistogram(metricName(name, MetricNames.EVENT_QUEUE_DISPATCH_BATCH_SIZE)).update(batchSize);
+    getHistogram(metricName(name, MetricNames.EVENT_QUEUE_DISPATCH_DURATION)).update(durationMs);
+  }
+
+  private static String metricName(String name, String metric) {
+    return String.format("%s.%s", name, metric);
+  }
+}
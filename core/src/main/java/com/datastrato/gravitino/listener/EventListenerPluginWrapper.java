@@ -8,7 +8,9 @@ package com.datastrato.gravitino.listener;
 import com.datastrato.gravitino.listener.api.EventListenerPlugin;
 import com.datastrato.gravitino.listener.api.event.Event;
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,10 +22,24 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerPluginWrapper.class);
   private String listenerName;
   private EventListenerPlugin userEventListener;
+  // Whether the user listener processes the events in bulk, otherwise the events of a batch are
+  // processed one by one so that a failed event doesn't skip the rest of the batch.
+  private boolean batchSupported;
+  // Records the time spent by the user listener to process the events, null if not recorded.
+  private EventListenerMetricsSource metricsSource;
 
   public EventListenerPluginWrapper(String listenerName, EventListenerPlugin userEventListener) {
+    this(listenerName, userEventListener, null);
+  }
+
+  EventListenerPluginWrapper(
+      String listenerName,
+      EventListenerPlugin userEventListener,
+      EventListenerMetricsSource metricsSource) {
     this.listenerName = listenerName;
     this.userEventListener = userEventListener;
+    this.batchSupported = overridesOnPostEvents(userEventListener);
+    this.metricsSource = metricsSource;
   }
 
   @Override
@@ -50,6 +66,7 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
 
   @Override
   public void onPostEvent(Event event) {
+    long startNanos = System.nanoTime();
     try {
       userEventListener.onPostEvent(event);
     } catch (Exception e) {
@@ -58,6 +75,25 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
           listenerName,
           event.getClass().getSimpleName(),
           e);
+    } finally {
+      updateProcess(startNanos);
+    }
+  }
+
+  @Override
+  public void onPostEvents(List<Event> events) {
+    if (!batchSupported) {
+      events.forEach(this::onPostEvent);
+      return;
+    }
+
+    long startNanos = System.nanoTime();
+    try {
+      userEventListener.onPostEvents(events);
+    } catch (Exception e) {
+      LOG.warn("Event listener {} process {} events failed,", listenerName, events.size(), e);
+    } finally {
+      updateProcess(startNanos);
     }
   }
 
@@ -65,4 +101,20 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
   EventListenerPlugin getUserEventListener() {
     return userEventListener;
   }
+
+  private void updateProcess(long startNanos) {
+    if (metricsSource != null) {
+      metricsSource.updateProcess(
+          listenerName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+  }
+
+  private static boolean overridesOnPostEvents(EventListenerPlugin listener) {
+    try {
+      return listener.getClass().getMethod("onPostEvents", List.class).getDeclaringClass()
+          != EventListenerPlugin.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
 }
@@ -0,0 +1,416 @@
+/*
+ *  Copyright 2024 Datastrato Pvt Ltd.
+ *  This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.listener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * EventSpool is a durable append-only log of the encoded events, it's made of the memory-mapped
+ * segment files of a fixed size under its directory. The records are appended to the last segment,
+ * a new segment is created when it's full, and the oldest segments are deleted when the spool
+ * exceeds its size limit even if their records are not delivered yet.
+ *
+ * <p>The records are read in order from the read position, and the position after the delivered
+ * records is committed to the checkpoint file. After the server restarts, the records are read
+ * again from the committed position, so that every record is delivered at least once.
+ *
+ * <p>Each record is stored as its length, the CRC32 checksum and the bytes. The partially written
+ * record at the end of the last segment, e.g., the server crashes while writing it, fails the
+ * checksum and is overwritten by the next record. The segments are flushed to the disk when they
+ * are full or the spool is closed, the records in the page cache survive the server crashes but not
+ * the OS crashes.
+ */
+class EventSpool implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(EventSpool.class);
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final String CHECKPOINT_FILE = "checkpoint";
+  // The length and the checksum of a record.
+  @VisibleForTesting static final int RECORD_HEADER_BYTES = 8;
+
+  /** A spooled record and the position after it, the position is committed once it's delivered. */
+  static class Record {
+    private final byte[] bytes;
+    private final Position nextPosition;
+
+    Record(byte[] bytes, Position nextPosition) {
+      this.bytes = bytes;
+      this.nextPosition = nextPosition;
+    }
+
+    byte[] bytes() {
+      return bytes;
+    }
+
+    Position nextPosition() {
+      return nextPosition;
+    }
+  }
+
+  /** The position of a record, ordered by the segment and the offset in the segment. */
+  static class Position implements Comparable<Position> {
+    private final long segment;
+    private final int offset;
+
+    Position(long segment, int offset) {
+      this.segment = segment;
+      this.offset = offset;
+    }
+
+    @Override
+    public int compareTo(Position other) {
+      int result = Long.compare(segment, other.segment);
+      return result != 0 ? result : Integer.compare(offset, other.offset);
+    }
+
+    @Override
+    public String toString() {
+      return segment + ":" + offset;
+    }
+  }
+
+  private static class Segment implements Closeable {
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private Segment(long id, Path path, int segmentBytes) throws IOException {
+      this.id = id;
+      this.path = path;
+      this.channel =
+          FileChannel.open(
+              path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+      // The mapped buffer can't be unmapped explicitly before Java 9, it's released by GC.
+      channel.close();
+    }
+  }
+
+  private final Path dir;
+  private final int segmentBytes;
+  private final long maxBytes;
+  private final TreeMap<Long, Segment> segments = new TreeMap<>();
+  private Segment activeSegment;
+  private int writeOffset;
+  private Position readPosition;
+  private Position committedPosition;
+  private long droppedRecords;
+  private boolean closed;
+
+  /**
+   * Opens the spool under the directory, the existing segments and checkpoint are recovered.
+   *
+   * @param dir The directory of the spool, it's created if absent.
+   * @param segmentBytes The size of each segment file.
+   * @param maxBytes The maximum size of all the segment files.
+   * @throws IOException If the spool fails to open.
+   */
+  EventSpool(Path dir, int segmentBytes, long maxBytes) throws IOException {
+    Preconditions.checkArgument(
+        segmentBytes > RECORD_HEADER_BYTES, "The segment size %s is too small", segmentBytes);
+    Preconditions.checkArgument(
+        maxBytes >= segmentBytes,
+        "The maximum spool size %s must not be less than the segment size %s",
+        maxBytes,
+        segmentBytes);
+    this.dir = dir;
+    this.segmentBytes = segmentBytes;
+    this.maxBytes = maxBytes;
+    Files.createDirectories(dir);
+    recover();
+  }
+
+  /** @return The maximum size of a record which fits in a segment. */
+  int maxRecordBytes() {
+    return segmentBytes - RECORD_HEADER_BYTES;
+  }
+
+  /**
+   * Appends the records to the spool. None of the records is appended if any of them is invalid.
+   *
+   * @param records The non-empty records to append, each must fit in a segment.
+   * @throws IOException If a new segment fails to create.
+   */
+  synchronized void append(List<byte[]> records) throws IOException {
+    Preconditions.checkState(!closed, "The event spool %s is closed", dir);
+    for (byte[] record : records) {
+      Preconditions.checkArgument(
+          record.length > 0 && record.length <= maxRecordBytes(),
+          "The size %s of the record is out of the range (0, %s]",
+          record.length,
+          maxRecordBytes());
+    }
+
+    for (byte[] record : records) {
+      int recordBytes = RECORD_HEADER_BYTES + record.length;
+      if (writeOffset + recordBytes > segmentBytes) {
+        rollSegment();
+      }
+
+      // Writes the length last, so that the record isn't seen until it's complete.
+      ByteBuffer buffer = activeSegment.buffer.duplicate();
+      buffer.position(writeOffset + RECORD_HEADER_BYTES);
+      buffer.put(record);
+      buffer.putInt(writeOffset + 4, checksum(record));
+      buffer.putInt(writeOffset, record.length);
+      writeOffset += recordBytes;
+    }
+
+    notifyAll();
+  }
+
+  /**
+   * Reads the records after the last read ones, without waiting for the new records.
+   *
+   * @param maxRecords The maximum number of the records to read.
+   * @return The records read, empty if there are no new records.
+   */
+  synchronized List<Record> read(int maxRecords) {
+    List<Record> records = new ArrayList<>();
+    while (records.size() < maxRecords && !closed) {
+      Segment segment = segments.get(readPosition.segment);
+      boolean active = segment == activeSegment;
+      byte[] bytes = readRecord(segment, readPosition.offset, active ? writeOffset : segmentBytes);
+      if (bytes == null) {
+        if (active) {
+          break;
+        }
+
+        // The rest of a full segment is unused, continues from the next segment.
+        readPosition = new Position(segments.higherKey(segment.id), 0);
+        continue;
+      }
+
+      readPosition =
+          new Position(segment.id, readPosition.offset + RECORD_HEADER_BYTES + bytes.length);
+      records.add(new Record(bytes, readPosition));
+    }
+
+    return records;
+  }
+
+  /**
+   * Waits until there are new records to read, the spool is closed, or the timeout elapses.
+   *
+   * @param timeoutMs The maximum time in milliseconds to wait.
+   * @throws InterruptedException If the thread is interrupted while waiting.
+   */
+  synchronized void awaitRecords(long timeoutMs) throws InterruptedException {
+    if (!closed && readPosition.segment == activeSegment.id && readPosition.offset >= writeOffset) {
+      wait(timeoutMs);
+    }
+  }
+
+  /**
+   * Commits the position after the delivered records, the segments before it are deleted.
+   *
+   * @param position The position after the delivered records.
+   * @throws IOException If the checkpoint fails to write.
+   */
+  synchronized void commit(Position position) throws IOException {
+    // The position may be older than the committed one if its segment is deleted by the retention.
+    if (closed || position.compareTo(committedPosition) <= 0) {
+      return;
+    }
+
+    committedPosition = position;
+    writeCheckpoint();
+    while (segments.firstKey() < committedPosition.segment) {
+      deleteSegment(segments.pollFirstEntry().getValue());
+    }
+  }
+
+  /** @return The total size of the segment files. */
+  synchronized long sizeBytes() {
+    return (long) segments.size() * segmentBytes;
+  }
+
+  /** @return The number of the records deleted by the retention before they are read. */
+  synchronized long droppedRecords() {
+    return droppedRecords;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    notifyAll();
+    activeSegment.buffer.force();
+    for (Segment segment : segments.values()) {
+      segment.close();
+    }
+  }
+
+  private void recover() throws IOException {
+    List<Long> ids;
+    try (Stream<Path> files = Files.list(dir)) {
+      ids =
+          files
+              .map(file -> file.getFileName().toString())
+              .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+              .map(name -> Long.parseLong(StringUtils.removeEnd(name, SEGMENT_SUFFIX)))
+              .collect(Collectors.toList());
+    }
+
+    for (long id : ids) {
+      segments.put(id, new Segment(id, segmentPath(id), segmentBytes));
+    }
+    if (segments.isEmpty()) {
+      segments.put(0L, new Segment(0L, segmentPath(0L), segmentBytes));
+    }
+
+    // Skips the valid records of the last segment to find the end of the spool.
+    this.activeSegment = segments.lastEntry().getValue();
+    this.writeOffset = 0;
+    byte[] bytes;
+    while ((bytes = readRecord(activeSegment, writeOffset, segmentBytes)) != null) {
+      writeOffset += RECORD_HEADER_BYTES + bytes.length;
+    }
+
+    this.committedPosition = readCheckpoint();
+    if (committedPosition == null || committedPosition.segment < segments.firstKey()) {
+      this.committedPosition = new Position(segments.firstKey(), 0);
+    }
+    this.readPosition = committedPosition;
+    LOG.info(
+        "Recovered event spool {}, {} segments, committed position {}, write position {}",
+        dir,
+        segments.size(),
+        committedPosition,
+        new Position(activeSegment.id, writeOffset));
+  }
+
+  private void rollSegment() throws IOException {
+    // Terminates the full segment, so that the stale bytes after it are never read as records.
+    if (writeOffset + 4 <= segmentBytes) {
+      activeSegment.buffer.putInt(writeOffset, 0);
+    }
+    activeSegment.buffer.force();
+    long id = activeSegment.id + 1;
+    activeSegment = new Segment(id, segmentPath(id), segmentBytes);
+    segments.put(id, activeSegment);
+    writeOffset = 0;
+
+    while (sizeBytes() > maxBytes) {
+      Segment oldest = segments.pollFirstEntry().getValue();
+      long nextId = segments.firstKey();
+      if (readPosition.segment == oldest.id) {
+        long dropped = countRecords(oldest, readPosition.offset);
+        droppedRecords += dropped;
+        readPosition = new Position(nextId, 0);
+        LOG.warn(
+            "Event spool {} exceeds {} bytes, drop {} undelivered events", dir, maxBytes, dropped);
+      }
+      if (committedPosition.segment == oldest.id) {
+        committedPosition = new Position(nextId, 0);
+        writeCheckpoint();
+      }
+      deleteSegment(oldest);
+    }
+  }
+
+  private byte[] readRecord(Segment segment, int offset, int limit) {
+    if (offset + RECORD_HEADER_BYTES > limit) {
+      return null;
+    }
+
+    ByteBuffer buffer = segment.buffer.duplicate();
+    int length = buffer.getInt(offset);
+    if (length <= 0 || length > limit - offset - RECORD_HEADER_BYTES) {
+      return null;
+    }
+
+    byte[] bytes = new byte[length];
+    buffer.position(offset + RECORD_HEADER_BYTES);
+    buffer.get(bytes);
+    if (buffer.getInt(offset + 4) != checksum(bytes)) {
+      LOG.warn("Event spool {} finds a corrupted record at {}:{}", dir, segment.id, offset);
+      return null;
+    }
+
+    return bytes;
+  }
+
+  private long countRecords(Segment segment, int offset) {
+    long count = 0;
+    byte[] bytes;
+    while ((bytes = readRecord(segment, offset, segmentBytes)) != null) {
+      offset += RECORD_HEADER_BYTES + bytes.length;
+      count++;
+    }
+    return count;
+  }
+
+  private void deleteSegment(Segment segment) throws IOException {
+    segment.close();
+    Files.deleteIfExists(segment.path);
+  }
+
+  private Position readCheckpoint() throws IOException {
+    Path checkpoint = dir.resolve(CHECKPOINT_FILE);
+    if (!Files.exists(checkpoint)) {
+      return null;
+    }
+
+    try (InputStream in = Files.newInputStream(checkpoint);
+        DataInputStream dataIn = new DataInputStream(in)) {
+      return new Position(dataIn.readLong(), dataIn.readInt());
+    }
+  }
+
+  private void writeCheckpoint() throws IOException {
+    // Writes a temporary file and renames it, so that the checkpoint is never partially written.
+    Path checkpoint = dir.resolve(CHECKPOINT_FILE);
+    Path temp = dir.resolve(CHECKPOINT_FILE + ".tmp");
+    try (OutputStream out = Files.newOutputStream(temp);
+        DataOutputStream dataOut = new DataOutputStream(out)) {
+      dataOut.writeLong(committedPosition.segment);
+      dataOut.writeInt(committedPosition.offset);
+    }
+    Files.move(
+        temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private Path segmentPath(long id) {
+    return dir.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX));
+  }
+
+  private static int checksum(byte[] bytes) {
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length);
+    return (int) crc.getValue();
+  }
+}
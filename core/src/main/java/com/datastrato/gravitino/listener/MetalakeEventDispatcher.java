@@ -22,6 +22,7 @@ import com.datastrato.gravitino.listener.api.event.LoadMetalakeEvent;
 import com.datastrato.gravitino.listener.api.event.LoadMetalakeFailureEvent;
 import com.datastrato.gravitino.listener.api.info.MetalakeInfo;
 import com.datastrato.gravitino.metalake.MetalakeDispatcher;
+import com.datastrato.gravitino.utils.Page;
 import com.datastrato.gravitino.utils.PrincipalUtils;
 import java.util.Map;
 
@@ -60,6 +61,18 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
     }
   }
 
+  @Override
+  public Page<Metalake> listMetalakes(String pageToken, int pageSize) {
+    try {
+      Page<Metalake> metalakes = dispatcher.listMetalakes(pageToken, pageSize);
+      eventBus.dispatchEvent(new ListMetalakeEvent(PrincipalUtils.getCurrentUserName()));
+      return metalakes;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(new ListMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), e));
+      throw e;
+    }
+  }
+
   @Override
   public Metalake loadMetalake(NameIdentifier ident) throws NoSuchMetalakeException {
     try {
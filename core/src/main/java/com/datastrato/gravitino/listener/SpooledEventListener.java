@@ -0,0 +1,210 @@
+/*
+ *  Copyright 2024 Datastrato Pvt Ltd.
+ *  This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.listener;
+
+import com.datastrato.gravitino.listener.api.EventListenerPlugin;
+import com.datastrato.gravitino.listener.api.SupportsEventSpool;
+import com.datastrato.gravitino.listener.api.event.Event;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SpooledEventListener appends the events of a {@link SupportsEventSpool} listener to an {@link
+ * EventSpool}, and delivers them from the spool to the listener by a dedicated thread. A batch is
+ * redelivered with backoff until the listener processes it without exception, so the events are
+ * delivered at least once even if the listener's sink is down for a while or the server restarts.
+ */
+class SpooledEventListener implements EventListenerPlugin {
+  private static final Logger LOG = LoggerFactory.getLogger(SpooledEventListener.class);
+  private static final String NAME_PREFIX = "event-spool-";
+  private static final long INITIAL_RETRY_BACKOFF_MS = 100;
+  private static final long MAX_RETRY_BACKOFF_MS = 30_000;
+  private static final long AWAIT_RECORDS_MS = 1000;
+
+  private final String listenerName;
+  private final EventListenerPlugin userEventListener;
+  private final SupportsEventSpool codec;
+  private final Path spoolDir;
+  private final int segmentBytes;
+  private final long maxBytes;
+  private final int batchSize;
+  private final Thread deliveryThread;
+  private volatile EventSpool spool;
+  private volatile boolean stopped;
+
+  SpooledEventListener(
+      String listenerName,
+      EventListenerPlugin userEventListener,
+      Path spoolDir,
+      EventListenerConfig config) {
+    this.listenerName = listenerName;
+    this.userEventListener = userEventListener;
+    this.codec = (SupportsEventSpool) userEventListener;
+    this.spoolDir = spoolDir;
+    this.segmentBytes = config.get(EventListenerConfig.SPOOL_SEGMENT_BYTES);
+    this.maxBytes = config.get(EventListenerConfig.SPOOL_MAX_BYTES);
+    this.batchSize = config.get(EventListenerConfig.BATCH_SIZE);
+    this.deliveryThread = new Thread(this::deliverEvents, NAME_PREFIX + listenerName);
+    deliveryThread.setDaemon(true);
+  }
+
+  @Override
+  public void init(Map<String, String> properties) {
+    throw new RuntimeException(
+        "Should not reach here, the event listener has already been initialized.");
+  }
+
+  @Override
+  public void start() {
+    try {
+      this.spool = new EventSpool(spoolDir, segmentBytes, maxBytes);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to open the event spool " + spoolDir, e);
+    }
+    userEventListener.start();
+    deliveryThread.start();
+  }
+
+  @Override
+  public void stop() {
+    stopped = true;
+    deliveryThread.interrupt();
+    try {
+      deliveryThread.join(AWAIT_RECORDS_MS);
+    } catch (InterruptedException e) {
+      LOG.warn("{} interrupt delivery thread failed.", deliveryThread.getName(), e);
+    }
+
+    try {
+      if (spool != null) {
+        spool.close();
+      }
+    } catch (IOException e) {
+      LOG.warn("Failed to close the event spool {}.", spoolDir, e);
+    }
+    userEventListener.stop();
+  }
+
+  @Override
+  public void onPostEvent(Event event) {
+    onPostEvents(Collections.singletonList(event));
+  }
+
+  @Override
+  public void onPostEvents(List<Event> events) {
+    List<byte[]> records = new ArrayList<>(events.size());
+    for (Event event : events) {
+      try {
+        byte[] record = codec.encodeEvent(event);
+        Preconditions.checkState(record != null && record.length > 0, "The record is empty");
+        Preconditions.checkState(
+            record.length <= spool.maxRecordBytes(),
+            "The record size %s exceeds the maximum %s",
+            record.length,
+            spool.maxRecordBytes());
+        records.add(record);
+      } catch (Exception e) {
+        LOG.warn(
+            "Event listener {} failed to encode event {}, skip it.",
+            listenerName,
+            event.getClass().getSimpleName(),
+            e);
+      }
+    }
+
+    try {
+      spool.append(records);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to append events to the event spool " + spoolDir, e);
+    }
+  }
+
+  @Override
+  public Mode mode() {
+    return userEventListener.mode();
+  }
+
+  /** @return The total size of the spool files. */
+  long spoolSizeBytes() {
+    EventSpool currentSpool = spool;
+    return currentSpool == null ? 0 : currentSpool.sizeBytes();
+  }
+
+  /** @return The number of the events dropped by the spool retention. */
+  long droppedEvents() {
+    EventSpool currentSpool = spool;
+    return currentSpool == null ? 0 : currentSpool.droppedRecords();
+  }
+
+  @VisibleForTesting
+  EventListenerPlugin getUserEventListener() {
+    return userEventListener;
+  }
+
+  private void deliverEvents() {
+    while (!stopped) {
+      try {
+        List<EventSpool.Record> records = spool.read(batchSize);
+        if (records.isEmpty()) {
+          spool.awaitRecords(AWAIT_RECORDS_MS);
+          continue;
+        }
+
+        List<Event> events = decodeEvents(records);
+        if (!events.isEmpty() && !deliverWithRetry(events)) {
+          // Stopped before the events are delivered, they are delivered again after restart.
+          break;
+        }
+        spool.commit(records.get(records.size() - 1).nextPosition());
+      } catch (InterruptedException e) {
+        break;
+      } catch (Exception e) {
+        LOG.warn("{} throw a exception while delivering events", deliveryThread.getName(), e);
+      }
+    }
+  }
+
+  private List<Event> decodeEvents(List<EventSpool.Record> records) {
+    List<Event> events = new ArrayList<>(records.size());
+    for (EventSpool.Record record : records) {
+      try {
+        events.add(codec.decodeEvent(record.bytes()));
+      } catch (Exception e) {
+        // Skips the record, otherwise it blocks all the records after it forever.
+        LOG.warn("Event listener {} failed to decode a spooled event, skip it.", listenerName, e);
+      }
+    }
+    return events;
+  }
+
+  private boolean deliverWithRetry(List<Event> events) throws InterruptedException {
+    long backoffMs = INITIAL_RETRY_BACKOFF_MS;
+    while (!stopped) {
+      try {
+        userEventListener.onPostEvents(events);
+        return true;
+      } catch (Exception e) {
+        LOG.warn(
+            "Event listener {} process {} spooled events failed, retry in {} ms",
+            listenerName,
+            events.size(),
+            backoffMs,
+            e);
+        Thread.sleep(backoffMs);
+        backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+      }
+    }
+    return false;
+  }
+}
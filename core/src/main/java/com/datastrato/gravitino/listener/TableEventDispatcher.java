@@ -7,6 +7,7 @@ package com.datastrato.gravitino.listener;
 
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.catalog.BatchLoadResult;
 import com.datastrato.gravitino.catalog.TableDispatcher;
 import com.datastrato.gravitino.catalog.TableOperationDispatcher;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
@@ -84,6 +85,22 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public BatchLoadResult<Table> loadTables(NameIdentifier[] idents) {
+    BatchLoadResult<Table> result = dispatcher.loadTables(idents);
+    // Each table of the batch is loaded, so the events are the same as loading them one by one.
+    String user = PrincipalUtils.getCurrentUserName();
+    result
+        .loaded()
+        .forEach(
+            (ident, table) ->
+                eventBus.dispatchEvent(new LoadTableEvent(user, ident, new TableInfo(table))));
+    result
+        .failures()
+        .forEach((ident, e) -> eventBus.dispatchEvent(new LoadTableFailureEvent(user, ident, e)));
+    return result;
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
@@ -169,4 +186,9 @@ public class TableEventDispatcher implements TableDispatcher {
   public boolean tableExists(NameIdentifier ident) {
     return dispatcher.tableExists(ident);
   }
+
+  @Override
+  public void invalidateTableCache(NameIdentifier ident) {
+    dispatcher.invalidateTableCache(ident);
+  }
 }
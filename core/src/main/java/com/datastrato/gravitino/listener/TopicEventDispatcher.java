@@ -7,6 +7,7 @@ package com.datastrato.gravitino.listener;
 
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.catalog.BatchLoadResult;
 import com.datastrato.gravitino.catalog.TopicDispatcher;
 import com.datastrato.gravitino.exceptions.NoSuchTopicException;
 import com.datastrato.gravitino.exceptions.TopicAlreadyExistsException;
@@ -106,6 +107,22 @@ public class TopicEventDispatcher implements TopicDispatcher {
     }
   }
 
+  @Override
+  public BatchLoadResult<Topic> loadTopics(NameIdentifier[] idents) {
+    BatchLoadResult<Topic> result = dispatcher.loadTopics(idents);
+    // Each topic of the batch is loaded, so the events are the same as loading them one by one.
+    String user = PrincipalUtils.getCurrentUserName();
+    result
+        .loaded()
+        .forEach(
+            (ident, topic) ->
+                eventBus.dispatchEvent(new LoadTopicEvent(user, ident, new TopicInfo(topic))));
+    result
+        .failures()
+        .forEach((ident, e) -> eventBus.dispatchEvent(new LoadTopicFailureEvent(user, ident, e)));
+    return result;
+  }
+
   @Override
   public boolean topicExists(NameIdentifier ident) {
     return dispatcher.topicExists(ident);
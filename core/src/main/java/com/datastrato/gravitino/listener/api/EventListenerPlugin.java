@@ -7,6 +7,7 @@ package com.datastrato.gravitino.listener.api;
 
 import com.datastrato.gravitino.annotation.DeveloperApi;
 import com.datastrato.gravitino.listener.api.event.Event;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -93,6 +94,21 @@ public interface EventListenerPlugin {
    */
   void onPostEvent(Event event) throws RuntimeException;
 
+  /**
+   * Handles a batch of events generated after the completion of operations, it's only invoked for
+   * the plugins in the asynchronous modes. Implementers may override it to process the events in
+   * bulk, like writing them to an external system in one request.
+   *
+   * <p>The default implementation processes the events one by one by {@link #onPostEvent(Event)}.
+   *
+   * @param events The events to be processed, in the order they are generated if there is only one
+   *     dispatcher thread.
+   * @throws RuntimeException Indicates issues encountered during event processing.
+   */
+  default void onPostEvents(List<Event> events) throws RuntimeException {
+    events.forEach(this::onPostEvent);
+  }
+
   /**
    * Specifies the default operational mode for event processing by the plugin. The default
    * implementation is synchronous, but implementers can override this to utilize asynchronous
@@ -0,0 +1,40 @@
+/*
+ *  Copyright 2024 Datastrato Pvt Ltd.
+ *  This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.listener.api;
+
+import com.datastrato.gravitino.annotation.DeveloperApi;
+import com.datastrato.gravitino.listener.api.event.Event;
+
+/**
+ * An interface mixed with the asynchronous {@link EventListenerPlugin}s whose events can be spooled
+ * to the local disk before they are processed. The events of such a plugin are appended to a
+ * durable spool and delivered to the plugin from the spool at least once, so that they survive the
+ * outages of the plugin's sink and the server restarts. The events are redelivered if {@link
+ * EventListenerPlugin#onPostEvents} throws an exception.
+ *
+ * <p>The plugin converts the events to and from the spooled records, it only needs to keep the
+ * information it processes, and it may decode the records to its own {@link Event} subclasses.
+ */
+@DeveloperApi
+public interface SupportsEventSpool {
+
+  /**
+   * Encodes an event to the record to spool.
+   *
+   * @param event The event to encode.
+   * @return The non-empty record of the event.
+   */
+  byte[] encodeEvent(Event event);
+
+  /**
+   * Decodes a spooled record to the event to process, the record may be written by an earlier
+   * version of the plugin before the server restarts.
+   *
+   * @param record The record encoded by {@link #encodeEvent(Event)}.
+   * @return The decoded event.
+   */
+  Event decodeEvent(byte[] record);
+}
@@ -11,6 +11,7 @@ import static com.datastrato.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.metrics.MetricsSystem;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -18,6 +19,7 @@ import java.util.List;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apache.commons.lang3.tuple.Pair;
@@ -49,6 +51,8 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  private final TreeLockMetricsSource metricsSource;
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -163,8 +167,24 @@ public class LockManager {
   }
 
   public LockManager(Config config) {
+    this(config, null);
+  }
+
+  /**
+   * Creates a LockManager which registers its metrics to the metrics system.
+   *
+   * @param config The configuration of the tree lock.
+   * @param metricsSystem The metrics system to register the metrics, null if the metrics are not
+   *     reported.
+   */
+  public LockManager(Config config, @Nullable MetricsSystem metricsSystem) {
     treeLockRootNode = new TreeLockNode(ROOT.name());
 
+    this.metricsSource = new TreeLockMetricsSource();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
     // Init the parameters.
     initParameters(config);
 
@@ -196,10 +216,10 @@ public class LockManager {
     // Handle self node.
     if (treeNode.getReference() == 0) {
       synchronized (parent) {
-        // Once goes here, the parent node has been locked, so the reference of child (treeNode)
-        // could not be changed.
-        if (treeNode.getReference() == 0) {
-          parent.removeChild(treeNode.getName());
+        // Once the node is marked as evicted, no new reference could be added to it, the tree locks
+        // created later will get a new node from the parent.
+        if (treeNode.tryEvict()) {
+          parent.removeChild(treeNode);
           long leftNodeCount = totalNodeCount.decrementAndGet();
           if (LOG.isTraceEnabled()) {
             LOG.trace(
@@ -232,7 +252,7 @@ public class LockManager {
       // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
       if (identifier == ROOT) {
         // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
+        return new TreeLock(treeLockNodes, identifier, metricsSource);
       }
 
       String[] levels = identifier.namespace().levels();
@@ -240,19 +260,20 @@ public class LockManager {
 
       TreeLockNode child;
       for (String level : levels) {
-        synchronized (lockNode) {
-          Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
-          child = pair.getKey();
-          // If the child node is newly created, we should increase the total node counts.
-          if (pair.getValue()) {
-            totalNodeCount.incrementAndGet();
-          }
+        // No need to hold the object lock of the node here, the reference of an existing child is
+        // added without blocking, so the concurrent readers will not be serialized on the upper
+        // level nodes like the root and the metalake.
+        Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
+        child = pair.getKey();
+        // If the child node is newly created, we should increase the total node counts.
+        if (pair.getValue()) {
+          totalNodeCount.incrementAndGet();
         }
         treeLockNodes.add(child);
         lockNode = child;
       }
 
-      return new TreeLock(treeLockNodes, identifier);
+      return new TreeLock(treeLockNodes, identifier, metricsSource);
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
@@ -6,10 +6,7 @@
 package com.datastrato.gravitino.lock;
 
 import com.datastrato.gravitino.NameIdentifier;
-import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,23 +61,36 @@ public class TreeLock {
   // TreeLockNode to be locked
   private final List<TreeLockNode> lockNodes;
 
-  // TreeLockNode that has been locked along with its lock type.
-  private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
+  // The number of TreeLockNodes that have been locked, the nodes are always locked from the root
+  // to the leaf, so the first heldLockCount nodes of lockNodes are locked.
+  private int heldLockCount = 0;
   private LockType lockType;
 
+  // Records the time to lock the tree lock, null if not recorded.
+  private final TreeLockMetricsSource metricsSource;
+
   TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+    this(lockNodes, identifier, null);
+  }
+
+  TreeLock(
+      List<TreeLockNode> lockNodes,
+      NameIdentifier identifier,
+      TreeLockMetricsSource metricsSource) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
+    this.metricsSource = metricsSource;
   }
 
   /**
    * Lock the tree lock with the given lock type. This method locks all nodes in the list, from the
-   * root to the leaf, and pushes them onto the deque. If an exception occurs during the locking
-   * process, it will unlock all nodes that have been locked so far.
+   * root to the leaf, and records the number of locked nodes. If an exception occurs during the
+   * locking process, it will unlock all nodes that have been locked so far.
    *
    * @param lockType The lock type to lock the tree lock.
    */
   public void lock(LockType lockType) {
+    long startNanos = System.nanoTime();
     this.lockType = lockType;
 
     int length = lockNodes.size();
@@ -89,7 +99,7 @@ public class TreeLock {
       LockType type = i == length - 1 ? lockType : LockType.READ;
       try {
         treeLockNode.lock(type);
-        heldLocks.push(Pair.of(treeLockNode, type));
+        heldLockCount++;
         if (LOG.isTraceEnabled()) {
           LOG.trace("Locked node: {}, lock type: {}", treeLockNode, type);
         }
@@ -106,6 +116,10 @@ public class TreeLock {
       }
     }
 
+    if (metricsSource != null) {
+      metricsSource.updateLockWait(lockType, System.nanoTime() - startNanos);
+    }
+
     if (LOG.isTraceEnabled()) {
       LOG.trace(
           "Locked the tree lock, ident: {}, lockNodes: [{}], lock type: {}",
@@ -121,10 +135,11 @@ public class TreeLock {
       throw new IllegalStateException("We must lock the tree lock before unlock it.");
     }
 
-    while (!heldLocks.isEmpty()) {
-      Pair<TreeLockNode, LockType> pair = heldLocks.pop();
-      TreeLockNode current = pair.getLeft();
-      LockType type = pair.getRight();
+    int length = lockNodes.size();
+    while (heldLockCount > 0) {
+      heldLockCount--;
+      TreeLockNode current = lockNodes.get(heldLockCount);
+      LockType type = heldLockCount == length - 1 ? lockType : LockType.READ;
       current.unlock(type);
       if (LOG.isTraceEnabled()) {
         LOG.trace("Unlocked node: {}, lock type: {}", current, type);
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.lock;
+
+import com.codahale.metrics.Timer;
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/** Metrics of the tree locks created by {@link LockManager}. */
+public class TreeLockMetricsSource extends MetricsSource {
+  private final Map<LockType, Timer> waitTimers = new EnumMap<>(LockType.class);
+
+  TreeLockMetricsSource() {
+    super(MetricsSource.TREE_LOCK_METRIC_NAME);
+    for (LockType lockType : LockType.values()) {
+      waitTimers.put(
+          lockType,
+          getTimer(
+              String.format(
+                  "%s.%s", lockType.name().toLowerCase(), MetricNames.TREE_LOCK_WAIT_DURATION)));
+    }
+  }
+
+  /**
+   * Records the time spent to lock all the nodes of a tree lock, from the root to the leaf.
+   *
+   * @param lockType The lock type of the leaf node.
+   * @param durationNanos The time in nanoseconds spent to lock the tree lock.
+   */
+  void updateLockWait(LockType lockType, long durationNanos) {
+    waitTimers.get(lockType).update(durationNanos, TimeUnit.NANOSECONDS);
+  }
+}
@@ -37,6 +37,12 @@ public class TreeLockNode {
   // using this node, and this node can be removed from the tree.
   private final AtomicLong referenceCount = new AtomicLong();
 
+  // Whether this node has been evicted from the tree. Once a node is evicted, no new reference can
+  // be added to it, the TreeLock which wants to use it should get or create a new node from the
+  // parent instead. This allows us to add references to the existing nodes without holding the
+  // object lock of the parent, see getOrCreateChild.
+  private volatile boolean evicted = false;
+
   protected TreeLockNode(String name) {
     this.name = name;
     this.readWriteLock = new ReentrantReadWriteLock();
@@ -55,18 +61,56 @@ public class TreeLockNode {
    * Increase the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void addReference() {
+  void addReference() {
     referenceCount.getAndIncrement();
   }
 
+  /**
+   * Try to increase the reference count of this node. This fails if the node has been evicted from
+   * the tree, the caller should get or create the node from the parent again.
+   *
+   * @return true if the reference is added, false if the node has been evicted.
+   */
+  boolean tryAddReference() {
+    referenceCount.getAndIncrement();
+    if (evicted) {
+      referenceCount.getAndDecrement();
+      return false;
+    }
+    return true;
+  }
+
   /**
    * Decrease the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void decReference() {
+  void decReference() {
     referenceCount.getAndDecrement();
   }
 
+  /**
+   * Try to mark this node as evicted. This fails if the node is still referenced by some TreeLocks,
+   * or a reference is being added concurrently.
+   *
+   * <p>Note: This method should be guarded by the object lock of the parent node.
+   *
+   * @return true if the node is marked as evicted, false otherwise.
+   */
+  boolean tryEvict() {
+    if (referenceCount.get() != 0) {
+      return false;
+    }
+
+    evicted = true;
+    // A reference may be added between the check above and the mark, tryAddReference will see the
+    // mark and back off, or we will see the reference here and give up the eviction.
+    if (referenceCount.get() != 0) {
+      evicted = false;
+      return false;
+    }
+    return true;
+  }
+
   long getReference() {
     return referenceCount.get();
   }
@@ -127,28 +171,36 @@ public class TreeLockNode {
   /**
    * Get the tree lock node by the given name. If the node doesn't exist, create a new TreeNode.
    *
-   * <p>Note: This method should always be guarded by object lock.
+   * <p>The reference of the returned node has been increased. This method doesn't need to be
+   * guarded by the object lock, if the child is being evicted concurrently, we will retry until we
+   * get a live node.
    *
    * @param name The name of a resource such as entity or others.
    * @return A pair of the tree lock node and a boolean value indicating whether the node is newly
    *     created.
    */
   Pair<TreeLockNode, Boolean> getOrCreateChild(String name) {
-    boolean[] newCreated = new boolean[] {false};
-    TreeLockNode childNode =
-        childMap.computeIfAbsent(
-            name,
-            k -> {
-              TreeLockNode newNode = new TreeLockNode(name);
-              if (LOG.isTraceEnabled()) {
-                LOG.trace("Create tree lock node '{}' as a child of '{}'", name, this.name);
-              }
-              newCreated[0] = true;
-              return newNode;
-            });
-
-    childNode.addReference();
-    return Pair.of(childNode, newCreated[0]);
+    while (true) {
+      boolean[] newCreated = new boolean[] {false};
+      TreeLockNode childNode =
+          childMap.computeIfAbsent(
+              name,
+              k -> {
+                TreeLockNode newNode = new TreeLockNode(name);
+                if (LOG.isTraceEnabled()) {
+                  LOG.trace("Create tree lock node '{}' as a child of '{}'", name, this.name);
+                }
+                newCreated[0] = true;
+                return newNode;
+              });
+
+      if (childNode.tryAddReference()) {
+        return Pair.of(childNode, newCreated[0]);
+      }
+
+      // The child has been evicted but not yet removed from the map, wait for the removal.
+      Thread.yield();
+    }
   }
 
   /**
@@ -177,6 +229,17 @@ public class TreeLockNode {
     childMap.remove(name);
   }
 
+  /**
+   * Remove the given child node if it's still the child of this node with its name.
+   *
+   * <p>Note: This method should be guarded by object lock.
+   *
+   * @param child The child node to remove.
+   */
+  void removeChild(TreeLockNode child) {
+    childMap.remove(child.getName(), child);
+  }
+
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("TreeLockNode{");
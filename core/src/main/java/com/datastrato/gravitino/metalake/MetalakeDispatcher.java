@@ -5,10 +5,23 @@
 
 package com.datastrato.gravitino.metalake;
 
+import com.datastrato.gravitino.Metalake;
+import com.datastrato.gravitino.utils.Page;
+
 /**
  * {@code MetalakeDispatcher} interface acts as a specialization of the {@link SupportsMetalakes}
  * interface. This interface is designed to potentially add custom behaviors or operations related
  * to dispatching or handling metalake-related events or actions that are not covered by the
  * standard {@code SupportsMetalakes} operations.
  */
-public interface MetalakeDispatcher extends SupportsMetalakes {}
+public interface MetalakeDispatcher extends SupportsMetalakes {
+
+  /**
+   * List a page of the metalakes.
+   *
+   * @param pageToken The token returned by the previous page, null to list from the beginning.
+   * @param pageSize The maximum number of metalakes in the page.
+   * @return The page of metalakes.
+   */
+  Page<Metalake> listMetalakes(String pageToken, int pageSize);
+}
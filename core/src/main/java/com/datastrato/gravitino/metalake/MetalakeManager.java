@@ -8,6 +8,7 @@ import com.datastrato.gravitino.Entity;
 import com.datastrato.gravitino.Entity.EntityType;
 import com.datastrato.gravitino.EntityAlreadyExistsException;
 import com.datastrato.gravitino.EntityStore;
+import com.datastrato.gravitino.Metalake;
 import com.datastrato.gravitino.MetalakeChange;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
@@ -20,6 +21,7 @@ import com.datastrato.gravitino.meta.AuditInfo;
 import com.datastrato.gravitino.meta.BaseMetalake;
 import com.datastrato.gravitino.meta.SchemaVersion;
 import com.datastrato.gravitino.storage.IdGenerator;
+import com.datastrato.gravitino.utils.Page;
 import com.datastrato.gravitino.utils.PrincipalUtils;
 import com.google.common.collect.Maps;
 import java.io.IOException;
@@ -67,6 +69,27 @@ public class MetalakeManager implements MetalakeDispatcher {
     }
   }
 
+  /**
+   * Lists a page of Metalakes.
+   *
+   * @param pageToken The token returned by the previous page, null to list from the beginning.
+   * @param pageSize The maximum number of Metalakes in the page.
+   * @return The page of Metalakes.
+   * @throws RuntimeException If listing Metalakes encounters storage issues.
+   */
+  @Override
+  public Page<Metalake> listMetalakes(String pageToken, int pageSize) {
+    try {
+      Page<BaseMetalake> metalakes =
+          store.list(
+              Namespace.empty(), BaseMetalake.class, EntityType.METALAKE, pageToken, pageSize);
+      return Page.of(metalakes.items(), metalakes.nextPageToken());
+    } catch (IOException ioe) {
+      LOG.error("Listing Metalakes failed due to storage issues.", ioe);
+      throw new RuntimeException(ioe);
+    }
+  }
+
   /**
    * Loads a Metalake.
    *
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.metrics;
+
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BucketedReservoir wraps an {@link ExponentiallyDecayingReservoir} and also counts the values into
+ * fixed buckets, so that the timers can be exported as Prometheus histograms. Unlike the quantiles
+ * of the sampled values, the bucket counts are cumulative and never decay, so they can be
+ * aggregated across the servers and over time.
+ */
+public class BucketedReservoir implements Reservoir {
+  // The default buckets of the Prometheus histograms, in seconds.
+  private static final double[] TIMER_BUCKETS_SECONDS = {
+    0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+  };
+
+  private final Reservoir reservoir;
+  private final long[] upperBounds;
+  // The count of the values in each bucket, the last one is for the values above all the bounds.
+  private final LongAdder[] bucketCounts;
+  private final LongAdder sum = new LongAdder();
+
+  /**
+   * Creates a BucketedReservoir with the given inclusive upper bounds of the buckets.
+   *
+   * @param upperBounds The upper bounds of the buckets in ascending order, in the unit of the
+   *     values.
+   */
+  public BucketedReservoir(long[] upperBounds) {
+    for (int i = 1; i < upperBounds.length; i++) {
+      Preconditions.checkArgument(
+          upperBounds[i - 1] < upperBounds[i], "The upper bounds must be in ascending order");
+    }
+    this.reservoir = new ExponentiallyDecayingReservoir();
+    this.upperBounds = upperBounds.clone();
+    this.bucketCounts = new LongAdder[upperBounds.length + 1];
+    for (int i = 0; i < bucketCounts.length; i++) {
+      bucketCounts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Creates a BucketedReservoir for a timer, whose values are in nanoseconds, with the default
+   * buckets of the Prometheus histograms.
+   *
+   * @return A new BucketedReservoir.
+   */
+  public static BucketedReservoir forTimer() {
+    long[] upperBounds = new long[TIMER_BUCKETS_SECONDS.length];
+    for (int i = 0; i < upperBounds.length; i++) {
+      upperBounds[i] = Math.round(TIMER_BUCKETS_SECONDS[i] * TimeUnit.SECONDS.toNanos(1));
+    }
+    return new BucketedReservoir(upperBounds);
+  }
+
+  @Override
+  public int size() {
+    return reservoir.size();
+  }
+
+  @Override
+  public void update(long value) {
+    reservoir.update(value);
+    int index = Arrays.binarySearch(upperBounds, value);
+    bucketCounts[index >= 0 ? index : -index - 1].increment();
+    sum.add(value);
+  }
+
+  @Override
+  public Snapshot getSnapshot() {
+    return new BucketSnapshot(this);
+  }
+
+  /**
+   * The snapshot of a {@link BucketedReservoir}. The sampled values are copied from the wrapped
+   * reservoir only when they are used, so reading the buckets doesn't pay for sorting the samples.
+   */
+  public static final class BucketSnapshot extends Snapshot {
+    private final BucketedReservoir reservoir;
+    private final Supplier<Snapshot> samples;
+
+    private BucketSnapshot(BucketedReservoir reservoir) {
+      this.reservoir = reservoir;
+      this.samples = Suppliers.memoize(reservoir.reservoir::getSnapshot);
+    }
+
+    /** @return The inclusive upper bounds of the buckets, in the unit of the values. */
+    public long[] getUpperBounds() {
+      return reservoir.upperBounds.clone();
+    }
+
+    /**
+     * Gets the cumulative counts of the buckets, the count of a bucket includes the values of all
+     * the previous buckets.
+     *
+     * @return The cumulative counts, the last one is the count of all the values.
+     */
+    public long[] getCumulativeCounts() {
+      long[] counts = new long[reservoir.bucketCounts.length];
+      long count = 0;
+      for (int i = 0; i < counts.length; i++) {
+        count += reservoir.bucketCounts[i].sum();
+        counts[i] = count;
+      }
+      return counts;
+    }
+
+    /** @return The sum of all the values. */
+    public long getSum() {
+      return reservoir.sum.sum();
+    }
+
+    @Override
+    public double getValue(double quantile) {
+      return samples.get().getValue(quantile);
+    }
+
+    @Override
+    public long[] getValues() {
+      return samples.get().getValues();
+    }
+
+    @Override
+    public int size() {
+      return samples.get().size();
+    }
+
+    @Override
+    public long getMax() {
+      return samples.get().getMax();
+    }
+
+    @Override
+    public double getMean() {
+      return samples.get().getMean();
+    }
+
+    @Override
+    public long getMin() {
+      return samples.get().getMin();
+    }
+
+    @Override
+    public double getStdDev() {
+      return samples.get().getStdDev();
+    }
+
+    @Override
+    public void dump(OutputStream output) {
+      samples.get().dump(output);
+    }
+  }
+}
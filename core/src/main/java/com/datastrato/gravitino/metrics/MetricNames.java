@@ -8,6 +8,44 @@ package com.datastrato.gravitino.metrics;
 public class MetricNames {
   public static final String HTTP_PROCESS_DURATION = "http-request-duration-seconds";
   public static final String SERVER_IDLE_THREAD_NUM = "http-server.idle-thread.num";
+  public static final String KV_COMMITTED_TRANSACTION_INDEX_HIT_COUNT =
+      "committed-transaction-index.hit.count";
+  public static final String KV_COMMITTED_TRANSACTION_INDEX_MISS_COUNT =
+      "committed-transaction-index.miss.count";
+  public static final String KV_COMMITTED_TRANSACTION_INDEX_HIT_RATIO =
+      "committed-transaction-index.hit.ratio";
+  public static final String KV_NAME_MAPPING_CACHE_HIT_COUNT = "name-mapping-cache.hit.count";
+  public static final String KV_NAME_MAPPING_CACHE_MISS_COUNT = "name-mapping-cache.miss.count";
+  public static final String KV_NAME_MAPPING_CACHE_EVICTION_COUNT =
+      "name-mapping-cache.eviction.count";
+  public static final String KV_GARBAGE_COLLECTOR_PASS_DURATION =
+      "garbage-collector.pass-duration-ms";
+  public static final String KV_GARBAGE_COLLECTOR_KEYS_SCANNED =
+      "garbage-collector.keys-scanned.count";
+  public static final String KV_GARBAGE_COLLECTOR_KEYS_REMOVED =
+      "garbage-collector.keys-removed.count";
+  public static final String TABLE_CACHE_HIT_COUNT = "table-cache.hit.count";
+  public static final String TABLE_CACHE_MISS_COUNT = "table-cache.miss.count";
+  public static final String TABLE_CACHE_HIT_RATIO = "table-cache.hit.ratio";
+  public static final String TABLE_CACHE_EVICTION_COUNT = "table-cache.eviction.count";
+  public static final String TABLE_CACHE_STALENESS = "table-cache.staleness-ms";
+  public static final String CATALOG_INIT_DURATION = "catalog-init.duration-ms";
+  public static final String CATALOG_INIT_METASPACE = "catalog-init.metaspace-bytes";
+  public static final String CATALOG_WARM_UP_COMPLETED = "catalog-warm-up.completed";
+  public static final String CATALOG_WARM_UP_DURATION = "catalog-warm-up.duration-ms";
+  public static final String CATALOG_WARM_UP_FAILED_COUNT = "catalog-warm-up.failed.count";
+  public static final String EVENT_QUEUE_DEPTH = "event-queue.depth";
+  public static final String EVENT_QUEUE_DROPPED_COUNT = "event-queue.dropped.count";
+  public static final String EVENT_QUEUE_DISPATCH_DURATION = "event-queue.dispatch.duration-ms";
+  public static final String EVENT_QUEUE_DISPATCH_BATCH_SIZE = "event-queue.dispatch.batch-size";
+  public static final String EVENT_SPOOL_SIZE = "event-spool.size-bytes";
+  public static final String EVENT_SPOOL_DROPPED_COUNT = "event-spool.dropped.count";
+  public static final String EVENT_LISTENER_PROCESS_DURATION =
+      "event-listener.process.duration-ms";
+  public static final String EVENT_LISTENER_DEMOTED = "event-listener.demoted";
+  public static final String OPERATION_DURATION = "duration-seconds";
+  public static final String TREE_LOCK_WAIT_DURATION = "wait-duration-seconds";
+  public static final String CLASS_LOADER_SWAP_DURATION = "swap-duration-seconds";
 
   private MetricNames() {}
 }
@@ -9,6 +9,8 @@ import com.codahale.metrics.MetricFilter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Reporter;
 import com.codahale.metrics.jmx.JmxReporter;
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.metrics.source.MetricsSource;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
@@ -23,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import javax.servlet.http.HttpServlet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,15 +40,36 @@ public class MetricsSystem implements Closeable {
   private HashMap<String, MetricsSource> metricSources = new HashMap<>();
   private List<Reporter> metricsReporters = new ArrayList<>();
   private CollectorRegistry prometheusRegistry;
+  // Null if the Prometheus metrics are served by the Dropwizard bridge.
+  private final PrometheusExporter prometheusExporter;
 
   public MetricsSystem() {
     this("");
   }
 
   public MetricsSystem(String name) {
+    this(name, true, false);
+  }
+
+  public MetricsSystem(Config config) {
+    this(
+        "",
+        config.get(Configs.METRICS_PROMETHEUS_NATIVE_EXPORTER_ENABLED),
+        config.get(Configs.METRICS_PROMETHEUS_HISTOGRAM_ENABLED));
+  }
+
+  private MetricsSystem(String name, boolean nativeExporterEnabled, boolean histogramEnabled) {
     this.name = name;
     this.metricRegistry = new MetricRegistry();
     this.prometheusRegistry = new CollectorRegistry();
+    if (nativeExporterEnabled) {
+      // The exporter renders the names and labels of the metrics when they are registered.
+      this.prometheusExporter =
+          new PrometheusExporter(getMetricNameAndLabelRules(), histogramEnabled);
+      metricRegistry.addListener(prometheusExporter);
+    } else {
+      this.prometheusExporter = null;
+    }
   }
 
   /**
@@ -104,7 +128,9 @@ public class MetricsSystem implements Closeable {
   }
 
   public void start() {
-    registerMetricsToPrometheusRegistry();
+    if (prometheusExporter == null) {
+      registerMetricsToPrometheusRegistry();
+    }
     initAndStartMetricsReporter();
   }
 
@@ -163,7 +189,19 @@ public class MetricsSystem implements Closeable {
         new MapperConfig(
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + ".*.*",
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + "_${1}",
-            ImmutableMap.of("operation", "${0}")));
+            ImmutableMap.of("operation", "${0}")),
+        new MapperConfig(
+            MetricsSource.CATALOG_OPERATION_METRIC_NAME + ".*.*.*",
+            MetricsSource.CATALOG_OPERATION_METRIC_NAME + "_${2}",
+            ImmutableMap.of("provider", "${0}", "operation", "${1}")),
+        new MapperConfig(
+            MetricsSource.ENTITY_STORE_METRIC_NAME + ".*.*.*",
+            MetricsSource.ENTITY_STORE_METRIC_NAME + "_${2}",
+            ImmutableMap.of("entity_type", "${0}", "operation", "${1}")),
+        new MapperConfig(
+            MetricsSource.TREE_LOCK_METRIC_NAME + ".*.*",
+            MetricsSource.TREE_LOCK_METRIC_NAME + "_${1}",
+            ImmutableMap.of("lock_type", "${0}")));
   }
 
   private void registerMetricsToPrometheusRegistry() {
@@ -173,7 +211,10 @@ public class MetricsSystem implements Closeable {
     dropwizardExports.register(prometheusRegistry);
   }
 
-  public MetricsServlet getPrometheusServlet() {
+  public HttpServlet getPrometheusServlet() {
+    if (prometheusExporter != null) {
+      return new PrometheusServlet(prometheusExporter);
+    }
     return new MetricsServlet(prometheusRegistry);
   }
 }
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.metrics;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Counting;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistryListener;
+import com.codahale.metrics.Sampling;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import io.prometheus.client.Collector;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+import io.prometheus.client.dropwizard.samplebuilder.CustomMappingSampleBuilder;
+import io.prometheus.client.dropwizard.samplebuilder.MapperConfig;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * PrometheusExporter exports the Dropwizard metrics in the Prometheus text format 0.0.4.
+ *
+ * <p>It listens to the metric registry of {@link MetricsSystem} and maps the name and labels of a
+ * metric with the rules of {@link MetricsSystem#getMetricNameAndLabelRules()} once, when the
+ * metric is registered, instead of at each scrape like {@code DropwizardExports}. A scrape streams
+ * the pre-rendered sample names and the current values to the writer, without building the
+ * intermediate samples. The output is the same as {@code DropwizardExports}, except that the timers
+ * with a {@link BucketedReservoir} are exported as histograms if the histograms are enabled.
+ *
+ * <p>All the metrics of a family must have the same type, a metric mapped to an existing family of
+ * another type is not exported, since the samples of mixed types are rejected by Prometheus.
+ */
+public class PrometheusExporter implements MetricRegistryListener {
+  private static final Logger LOG = LoggerFactory.getLogger(PrometheusExporter.class);
+
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1L);
+  // The same factor as DropwizardExports to convert the timer values to seconds.
+  private static final double TIMER_FACTOR = 1.0d / NANOS_PER_SECOND;
+  private static final double[] QUANTILES = {0.5, 0.75, 0.95, 0.98, 0.99, 0.999};
+
+  private final CustomMappingSampleBuilder sampleBuilder;
+  private final boolean histogramEnabled;
+
+  // The metric families by the Prometheus name, sorted to make the output stable.
+  private final ConcurrentMap<String, MetricFamily> families = new ConcurrentSkipListMap<>();
+  // The family of each registered metric by the Dropwizard name, guarded by this.
+  private final Map<String, MetricFamily> familiesByMetric = new HashMap<>();
+
+  /**
+   * Creates a PrometheusExporter.
+   *
+   * @param rules The rules to extract the Prometheus names and labels from the Dropwizard names.
+   * @param histogramEnabled Whether to export the timers with buckets as Prometheus histograms
+   *     instead of summaries.
+   */
+  public PrometheusExporter(List<MapperConfig> rules, boolean histogramEnabled) {
+    this.sampleBuilder = new CustomMappingSampleBuilder(rules);
+    this.histogramEnabled = histogramEnabled;
+  }
+
+  /**
+   * Writes the current values of all the metrics in the Prometheus text format 0.0.4.
+   *
+   * @param writer The writer to write the metrics to.
+   * @throws IOException If failed to write the metrics.
+   */
+  public void write(Writer writer) throws IOException {
+    for (MetricFamily family : families.values()) {
+      family.write(writer);
+    }
+  }
+
+  @Override
+  public void onGaugeAdded(String name, Gauge<?> gauge) {
+    addMetric(name, gauge, "", "gauge", sample -> new GaugeMetric(gauge, sample));
+  }
+
+  @Override
+  public void onGaugeRemoved(String name) {
+    removeMetric(name);
+  }
+
+  @Override
+  public void onCounterAdded(String name, Counter counter) {
+    addMetric(name, counter, "", "gauge", sample -> new CountingMetric(counter, sample));
+  }
+
+  @Override
+  public void onCounterRemoved(String name) {
+    removeMetric(name);
+  }
+
+  @Override
+  public void onHistogramAdded(String name, Histogram histogram) {
+    addSampling(name, histogram, 1.0d);
+  }
+
+  @Override
+  public void onHistogramRemoved(String name) {
+    removeMetric(name);
+  }
+
+  @Override
+  public void onMeterAdded(String name, Meter meter) {
+    addMetric(name, meter, "_total", "counter", sample -> new CountingMetric(meter, sample));
+  }
+
+  @Override
+  public void onMeterRemoved(String name) {
+    removeMetric(name);
+  }
+
+  @Override
+  public void onTimerAdded(String name, Timer timer) {
+    // Only the timers have a known unit, the histograms of other values are kept as summaries.
+    if (histogramEnabled) {
+      Snapshot snapshot = timer.getSnapshot();
+      if (snapshot instanceof BucketedReservoir.BucketSnapshot) {
+        long[] upperBounds = ((BucketedReservoir.BucketSnapshot) snapshot).getUpperBounds();
+        addMetric(
+            name,
+            timer,
+            "",
+            "histogram",
+            sample -> new HistogramMetric(timer, sample, upperBounds));
+        return;
+      }
+    }
+
+    addSampling(name, timer, TIMER_FACTOR);
+  }
+
+  @Override
+  public void onTimerRemoved(String name) {
+    removeMetric(name);
+  }
+
+  private <T extends Metric & Sampling & Counting> void addSampling(
+      String name, T metric, double factor) {
+    addMetric(name, metric, "", "summary", sample -> new SummaryMetric(metric, sample, factor));
+  }
+
+  private synchronized void addMetric(
+      String dropwizardName,
+      Metric metric,
+      String nameSuffix,
+      String type,
+      Function<Sample, ExportedMetric> exportedMetric) {
+    Sample sample =
+        sampleBuilder.createSample(
+            dropwizardName, nameSuffix, Collections.emptyList(), Collections.emptyList(), 0);
+    MetricFamily family =
+        families.computeIfAbsent(
+            sample.name, familyName -> new MetricFamily(familyName, type, dropwizardName, metric));
+    if (!family.type.equals(type)) {
+      LOG.warn(
+          "Metric {} is not exported, its type {} differs from the type {} of the family {}",
+          dropwizardName,
+          type,
+          family.type,
+          family.name);
+      return;
+    }
+    family.metrics.put(dropwizardName, exportedMetric.apply(sample));
+    familiesByMetric.put(dropwizardName, family);
+  }
+
+  private synchronized void removeMetric(String dropwizardName) {
+    MetricFamily family = familiesByMetric.remove(dropwizardName);
+    if (family == null) {
+      return;
+    }
+
+    family.metrics.remove(dropwizardName);
+    if (family.metrics.isEmpty()) {
+      families.remove(family.name, family);
+    }
+  }
+
+  // Renders "name{label1="value1",label2="value2",} ", the labels of the sample are followed by the
+  // extra label if it's not null.
+  private static String sampleName(
+      String name, Sample sample, String extraLabelName, String extraLabelValue) {
+    StringBuilder builder = new StringBuilder(name);
+    if (!sample.labelNames.isEmpty() || extraLabelName != null) {
+      builder.append('{');
+      for (int i = 0; i < sample.labelNames.size(); i++) {
+        appendLabel(builder, sample.labelNames.get(i), sample.labelValues.get(i));
+      }
+      if (extraLabelName != null) {
+        appendLabel(builder, extraLabelName, extraLabelValue);
+      }
+      builder.append('}');
+    }
+    return builder.append(' ').toString();
+  }
+
+  private static void appendLabel(StringBuilder builder, String name, String value) {
+    builder.append(name).append("=\"");
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '\"':
+          builder.append("\\\"");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        default:
+          builder.append(c);
+      }
+    }
+    builder.append("\",");
+  }
+
+  private static String escapeHelp(String help) {
+    return help.replace("\\", "\\\\").replace("\n", "\\n");
+  }
+
+  private static void writeSample(Writer writer, String sampleName, double value)
+      throws IOException {
+    writer.write(sampleName);
+    writer.write(Collector.doubleToGoString(value));
+    writer.write('\n');
+  }
+
+  private static final class MetricFamily {
+    private final String name;
+    private final String type;
+    private final String header;
+    // The metrics of the family by the Dropwizard name.
+    private final ConcurrentMap<String, ExportedMetric> metrics = new ConcurrentSkipListMap<>();
+
+    private MetricFamily(String name, String type, String dropwizardName, Metric metric) {
+      this.name = name;
+      this.type = type;
+      String help =
+          String.format(
+              "Generated from Dropwizard metric import (metric=%s, type=%s)",
+              dropwizardName, metric.getClass().getName());
+      this.header =
+          String.format("# HELP %s %s\n# TYPE %s %s\n", name, escapeHelp(help), name, type);
+    }
+
+    private void write(Writer writer) throws IOException {
+      // The header is written before the first sample, a family without samples is skipped.
+      String header = this.header;
+      for (ExportedMetric metric : metrics.values()) {
+        if (metric.write(writer, header)) {
+          header = null;
+        }
+      }
+    }
+  }
+
+  private abstract static class ExportedMetric {
+    /**
+     * Writes the samples of the metric.
+     *
+     * @param writer The writer to write the samples to.
+     * @param header The header of the family to write before the samples, null if it's written.
+     * @return true if the samples are written.
+     */
+    abstract boolean write(Writer writer, String header) throws IOException;
+  }
+
+  private static final class GaugeMetric extends ExportedMetric {
+    private final Gauge<?> gauge;
+    private final String sampleName;
+
+    private GaugeMetric(Gauge<?> gauge, Sample sample) {
+      this.gauge = gauge;
+      this.sampleName = sampleName(sample.name, sample, null, null);
+    }
+
+    @Override
+    boolean write(Writer writer, String header) throws IOException {
+      Object value = gauge.getValue();
+      double doubleValue;
+      if (value instanceof Number) {
+        doubleValue = ((Number) value).doubleValue();
+      } else if (value instanceof Boolean) {
+        doubleValue = ((Boolean) value) ? 1 : 0;
+      } else {
+        // The same as DropwizardExports, the gauges of other types are not exported.
+        return false;
+      }
+
+      if (header != null) {
+        writer.write(header);
+      }
+      writeSample(writer, sampleName, doubleValue);
+      return true;
+    }
+  }
+
+  private static final class CountingMetric extends ExportedMetric {
+    private final Counting counting;
+    private final String sampleName;
+
+    private CountingMetric(Counting counting, Sample sample) {
+      this.counting = counting;
+      this.sampleName = sampleName(sample.name, sample, null, null);
+    }
+
+    @Override
+    boolean write(Writer writer, String header) throws IOException {
+      if (header != null) {
+        writer.write(header);
+      }
+      writeSample(writer, sampleName, counting.getCount());
+      return true;
+    }
+  }
+
+  private static final class SummaryMetric extends ExportedMetric {
+    private final Sampling sampling;
+    private final Counting counting;
+    private final double factor;
+    private final String[] quantileSampleNames = new String[QUANTILES.length];
+    private final String countSampleName;
+
+    private <T extends Sampling & Counting> SummaryMetric(T metric, Sample sample, double factor) {
+      this.sampling = metric;
+      this.counting = metric;
+      this.factor = factor;
+      for (int i = 0; i < QUANTILES.length; i++) {
+        quantileSampleNames[i] =
+            sampleName(sample.name, sample, "quantile", Collector.doubleToGoString(QUANTILES[i]));
+      }
+      this.countSampleName = sampleName(sample.name + "_count", sample, null, null);
+    }
+
+    @Override
+    boolean write(Writer writer, String header) throws IOException {
+      if (header != null) {
+        writer.write(header);
+      }
+      Snapshot snapshot = sampling.getSnapshot();
+      for (int i = 0; i < QUANTILES.length; i++) {
+        writeSample(writer, quantileSampleNames[i], snapshot.getValue(QUANTILES[i]) * factor);
+      }
+      writeSample(writer, countSampleName, counting.getCount());
+      return true;
+    }
+  }
+
+  // A timer exported as a histogram, the bounds and the sum are converted to seconds.
+  private static final class HistogramMetric extends ExportedMetric {
+    private final Sampling sampling;
+    // The sample names of the buckets, the last one is the "+Inf" bucket.
+    private final String[] bucketSampleNames;
+    private final String countSampleName;
+    private final String sumSampleName;
+
+    private HistogramMetric(Sampling sampling, Sample sample, long[] upperBounds) {
+      this.sampling = sampling;
+      this.bucketSampleNames = new String[upperBounds.length + 1];
+      String bucketName = sample.name + "_bucket";
+      for (int i = 0; i < upperBounds.length; i++) {
+        bucketSampleNames[i] =
+            sampleName(
+                bucketName,
+                sample,
+                "le",
+                Collector.doubleToGoString(upperBounds[i] / NANOS_PER_SECOND));
+      }
+      bucketSampleNames[upperBounds.length] = sampleName(bucketName, sample, "le", "+Inf");
+      this.countSampleName = sampleName(sample.name + "_count", sample, null, null);
+      this.sumSampleName = sampleName(sample.name + "_sum", sample, null, null);
+    }
+
+    @Override
+    boolean write(Writer writer, String header) throws IOException {
+      if (header != null) {
+        writer.write(header);
+      }
+      // Only reads the bucket counts, the sampled values are not copied.
+      BucketedReservoir.BucketSnapshot snapshot =
+          (BucketedReservoir.BucketSnapshot) sampling.getSnapshot();
+      long[] counts = snapshot.getCumulativeCounts();
+      for (int i = 0; i < counts.length; i++) {
+        writeSample(writer, bucketSampleNames[i], counts[i]);
+      }
+      writeSample(writer, countSampleName, counts[counts.length - 1]);
+      writeSample(writer, sumSampleName, snapshot.getSum() / NANOS_PER_SECOND);
+      return true;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/** PrometheusServlet serves the metrics written by {@link PrometheusExporter}. */
+public class PrometheusServlet extends HttpServlet {
+  private static final String CONTENT_TYPE_004 = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final PrometheusExporter exporter;
+
+  PrometheusServlet(PrometheusExporter exporter) {
+    this.exporter = exporter;
+  }
+
+  @Override
+  protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    resp.setStatus(HttpServletResponse.SC_OK);
+    resp.setContentType(CONTENT_TYPE_004);
+    try (Writer writer = new BufferedWriter(resp.getWriter())) {
+      exporter.write(writer);
+      writer.flush();
+    }
+  }
+
+  @Override
+  protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    doGet(req, resp);
+  }
+}
@@ -10,6 +10,7 @@ import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.datastrato.gravitino.metrics.BucketedReservoir;
 
 /**
  * MetricsSource provides utilities to collect specified kind metrics, all metrics must create with
@@ -22,6 +23,14 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String KV_ENTITY_STORE_METRIC_NAME = "kv-entity-store";
+  public static final String TABLE_METADATA_CACHE_METRIC_NAME = "table-metadata-cache";
+  public static final String CATALOG_MANAGER_METRIC_NAME = "catalog-manager";
+  public static final String EVENT_LISTENER_METRIC_NAME = "event-listener";
+  public static final String CATALOG_OPERATION_METRIC_NAME = "catalog-operation";
+  public static final String ENTITY_STORE_METRIC_NAME = "entity-store";
+  public static final String TREE_LOCK_METRIC_NAME = "tree-lock";
+  public static final String ISOLATED_CLASS_LOADER_METRIC_NAME = "isolated-classloader";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
 
@@ -79,12 +88,13 @@ public abstract class MetricsSource {
   }
 
   /**
-   * Get or create a Timer
+   * Get or create a Timer, the timer counts the durations into buckets to be exported as a
+   * Prometheus histogram.
    *
    * @param name The name for the timer, should be unique in metrics source.
    * @return a new or pre-existing Timer
    */
   public Timer getTimer(String name) {
-    return this.metricRegistry.timer(name);
+    return this.metricRegistry.timer(name, () -> new Timer(BucketedReservoir.forTimer()));
   }
 }
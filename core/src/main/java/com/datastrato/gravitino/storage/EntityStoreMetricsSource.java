@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.storage;
+
+import com.codahale.metrics.Timer;
+import com.datastrato.gravitino.Entity.EntityType;
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of the operations of the entity store, the time of each operation is recorded per entity
+ * type and operation.
+ */
+public class EntityStoreMetricsSource extends MetricsSource {
+  // The timers by operation and entity type, avoids building the metric name for each operation.
+  private final ConcurrentMap<String, ConcurrentMap<EntityType, Timer>> timers =
+      new ConcurrentHashMap<>();
+
+  EntityStoreMetricsSource() {
+    super(MetricsSource.ENTITY_STORE_METRIC_NAME);
+  }
+
+  /**
+   * Records the time spent by an operation of the entity store.
+   *
+   * @param operation The name of the operation.
+   * @param entityType The type of the entity operated.
+   * @param durationNanos The time in nanoseconds spent by the operation.
+   */
+  void updateOperation(String operation, EntityType entityType, long durationNanos) {
+    ConcurrentMap<EntityType, Timer> operationTimers = timers.get(operation);
+    if (operationTimers == null) {
+      operationTimers = timers.computeIfAbsent(operation, k -> new ConcurrentHashMap<>());
+    }
+
+    Timer timer = operationTimers.get(entityType);
+    if (timer == null) {
+      String name =
+          String.format(
+              "%s.%s.%s",
+              entityType.name().toLowerCase(),
+              operation,
+              MetricNames.OPERATION_DURATION);
+      timer = operationTimers.computeIfAbsent(entityType, k -> getTimer(name));
+    }
+    timer.update(durationNanos, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.storage;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Entity;
+import com.datastrato.gravitino.Entity.EntityType;
+import com.datastrato.gravitino.EntityAlreadyExistsException;
+import com.datastrato.gravitino.EntitySerDe;
+import com.datastrato.gravitino.EntityStore;
+import com.datastrato.gravitino.HasIdentifier;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.exceptions.AlreadyExistsException;
+import com.datastrato.gravitino.exceptions.NoSuchEntityException;
+import com.datastrato.gravitino.metrics.MetricsSystem;
+import com.datastrato.gravitino.storage.kv.KvEntityStore;
+import com.datastrato.gravitino.utils.Executable;
+import com.datastrato.gravitino.utils.Page;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * TimedEntityStore wraps an {@link EntityStore} and records the time spent by the get, put, update,
+ * list, delete and exists operations in {@link EntityStoreMetricsSource}, the failed operations are
+ * recorded too.
+ */
+public class TimedEntityStore implements EntityStore {
+  private static final String GET = "get";
+  private static final String PUT = "put";
+  private static final String UPDATE = "update";
+  private static final String LIST = "list";
+  private static final String DELETE = "delete";
+  private static final String EXISTS = "exists";
+
+  private final EntityStore store;
+  private final EntityStoreMetricsSource metricsSource;
+  // Null if the metrics are not reported.
+  @Nullable private final MetricsSystem metricsSystem;
+
+  /**
+   * Creates a TimedEntityStore which wraps the given entity store.
+   *
+   * @param store The entity store to wrap.
+   */
+  public TimedEntityStore(EntityStore store) {
+    this(store, null);
+  }
+
+  /**
+   * Creates a TimedEntityStore which wraps the given entity store and registers its metrics to the
+   * metrics system.
+   *
+   * @param store The entity store to wrap.
+   * @param metricsSystem The metrics system to register the metrics, null if the metrics are not
+   *     reported.
+   */
+  public TimedEntityStore(EntityStore store, @Nullable MetricsSystem metricsSystem) {
+    this.store = store;
+    this.metricsSource = new EntityStoreMetricsSource();
+    this.metricsSystem = metricsSystem;
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  @Override
+  public void initialize(Config config) throws RuntimeException {
+    store.initialize(config);
+    // The metrics of the KV store are only available after it's initialized.
+    if (metricsSystem != null && store instanceof KvEntityStore) {
+      metricsSystem.register(((KvEntityStore) store).metricsSource());
+    }
+  }
+
+  @Override
+  public void setSerDe(EntitySerDe entitySerDe) {
+    store.setSerDe(entitySerDe);
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType) throws IOException {
+    long startNanos = System.nanoTime();
+    try {
+      return store.list(namespace, type, entityType);
+    } finally {
+      metricsSource.updateOperation(LIST, entityType, System.nanoTime() - startNanos);
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> Page<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType, String pageToken, int pageSize)
+      throws IOException {
+    long startNanos = System.nanoTime();
+    try {
+      return store.list(namespace, type, entityType, pageToken, pageSize);
+    } finally {
+      metricsSource.updateOperation(LIST, entityType, System.nanoTime() - startNanos);
+    }
+  }
+
+  @Override
+  public boolean exists(NameIdentifier ident, EntityType entityType) throws IOException {
+    long startNanos = System.nanoTime();
+    try {
+      return store.exists(ident, entityType);
+    } finally {
+      metricsSource.updateOperation(EXISTS, entityType, System.nanoTime() - startNanos);
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    long startNanos = System.nanoTime();
+    try {
+      store.put(e, overwritten);
+    } finally {
+      metricsSource.updateOperation(PUT, e.type(), System.nanoTime() - startNanos);
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> E update(
+      NameIdentifier ident, Class<E> type, EntityType entityType, Function<E, E> updater)
+      throws IOException, NoSuchEntityException, AlreadyExistsException {
+    long startNanos = System.nanoTime();
+    try {
+      return store.update(ident, type, entityType, updater);
+    } finally {
+      metricsSource.updateOperation(UPDATE, entityType, System.nanoTime() - startNanos);
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> E get(
+      NameIdentifier ident, EntityType entityType, Class<E> e)
+      throws NoSuchEntityException, IOException {
+    long startNanos = System.nanoTime();
+    try {
+      return store.get(ident, entityType, e);
+    } finally {
+      metricsSource.updateOperation(GET, entityType, System.nanoTime() - startNanos);
+    }
+  }
+
+  @Override
+  public boolean delete(NameIdentifier ident, EntityType entityType, boolean cascade)
+      throws IOException {
+    long startNanos = System.nanoTime();
+    try {
+      return store.delete(ident, entityType, cascade);
+    } finally {
+      metricsSource.updateOperation(DELETE, entityType, System.nanoTime() - startNanos);
+    }
+  }
+
+  @Override
+  public <R, E extends Exception> R executeInTransaction(Executable<R, E> executable)
+      throws E, IOException {
+    return store.executeInTransaction(executable);
+  }
+
+  @Override
+  public void close() throws IOException {
+    store.close();
+  }
+
+  @VisibleForTesting
+  EntityStoreMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+}
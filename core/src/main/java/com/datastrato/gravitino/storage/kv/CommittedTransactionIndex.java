@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.storage.kv;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * {@link CommittedTransactionIndex} is an in-memory index of committed transaction ids. It's used
+ * by {@link TransactionalKvBackendImpl} to check whether a version of a key is visible without
+ * reading the commit mark from the {@link KvBackend}.
+ *
+ * <p>The index is a bounded, direct-mapped array of primitive longs: a transaction id can only be
+ * stored in the slot its hash points to, and a newly added id replaces the old one in that slot.
+ * So a hit always means the transaction has been committed, while a miss only means we need to
+ * check the commit mark in the kv backend.
+ */
+@ThreadSafe
+class CommittedTransactionIndex {
+
+  // Transaction ids are generated by TransactionIdGeneratorImpl and are always positive, so we use
+  // 0 to mark an empty slot.
+  private static final long EMPTY_SLOT = 0L;
+
+  private final AtomicLongArray slots;
+  private final int mask;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  /**
+   * Create a committed transaction index.
+   *
+   * @param capacity the maximum number of transaction ids to keep, it will be rounded up to the
+   *     nearest power of two. 0 means the index is disabled.
+   */
+  CommittedTransactionIndex(int capacity) {
+    Preconditions.checkArgument(capacity >= 0, "capacity must be non-negative");
+    int size = capacity <= 1 ? capacity : Integer.highestOneBit(capacity - 1) << 1;
+    this.slots = new AtomicLongArray(size);
+    this.mask = size - 1;
+  }
+
+  /** Whether the index is enabled. */
+  boolean isEnabled() {
+    return slots.length() > 0;
+  }
+
+  /** The number of slots of the index. */
+  int capacity() {
+    return slots.length();
+  }
+
+  /**
+   * Check whether the transaction is known to be committed.
+   *
+   * @param transactionId the transaction id.
+   * @return true if the transaction has been committed, false if it's unknown.
+   */
+  boolean contains(long transactionId) {
+    if (!isEnabled()) {
+      return false;
+    }
+
+    if (peek(transactionId)) {
+      hitCount.increment();
+      return true;
+    }
+
+    missCount.increment();
+    return false;
+  }
+
+  /**
+   * Check whether the transaction is known to be committed without counting the lookup, it's used
+   * by the background tasks like {@link KvGarbageCollector}, so the hit ratio only reflects the
+   * reads of the entity store.
+   *
+   * @param transactionId the transaction id.
+   * @return true if the transaction has been committed, false if it's unknown.
+   */
+  boolean peek(long transactionId) {
+    return isEnabled() && slots.get(slotOf(transactionId)) == transactionId;
+  }
+
+  /**
+   * Add a committed transaction to the index, it may evict the transaction that occupies the same
+   * slot.
+   *
+   * @param transactionId the transaction id.
+   */
+  void add(long transactionId) {
+    if (isEnabled()) {
+      slots.set(slotOf(transactionId), transactionId);
+    }
+  }
+
+  /**
+   * Remove the transaction from the index, it's called when the commit mark of the transaction has
+   * been physically deleted.
+   *
+   * @param transactionId the transaction id.
+   */
+  void remove(long transactionId) {
+    if (isEnabled()) {
+      slots.compareAndSet(slotOf(transactionId), transactionId, EMPTY_SLOT);
+    }
+  }
+
+  long hitCount() {
+    return hitCount.sum();
+  }
+
+  long missCount() {
+    return missCount.sum();
+  }
+
+  /** The ratio of lookups answered by the index, NaN if there is no lookup yet. */
+  double hitRatio() {
+    long hits = hitCount();
+    long total = hits + missCount();
+    return total == 0 ? Double.NaN : (double) hits / total;
+  }
+
+  private int slotOf(long transactionId) {
+    // The low 18 bits of a transaction id is an increment id and the high bits is a timestamp, so
+    // we spread both parts across the slots with a Fibonacci hash.
+    long hash = transactionId * 0x9E3779B97F4A7C15L;
+    return (int) (hash >>> 32) & mask;
+  }
+}
@@ -42,6 +42,18 @@ public interface KvBackend extends Closeable {
    */
   byte[] get(byte[] key) throws IOException;
 
+  /**
+   * Stores a batch of key-value pairs atomically, either all the pairs are written or none of
+   * them is.
+   *
+   * @param kvs The key-value pairs to store.
+   * @param overwrite If true, overwrites the existing values.
+   * @throws IOException If an I/O exception occurs during the operation.
+   * @throws AlreadyExistsException If one of the keys already exists and overwrite is false.
+   */
+  void batchPut(List<Pair<byte[], byte[]>> kvs, boolean overwrite)
+      throws IOException, AlreadyExistsException;
+
   /**
    * Deletes the key-value pair associated with the given key.
    *
@@ -60,6 +72,16 @@ public interface KvBackend extends Closeable {
    */
   boolean deleteRange(KvRange kvRange) throws IOException;
 
+  /**
+   * Compacts the data in the range [start, end], so that the space of the deleted key-value pairs
+   * is reclaimed and later scans over the range do not have to skip them.
+   *
+   * @param start The start key of the range.
+   * @param end The end key of the range.
+   * @throws IOException If an I/O exception occurs during compaction.
+   */
+  void compactRange(byte[] start, byte[] end) throws IOException;
+
   /**
    * Scans the specified range using the provided KvRangeScan and returns a list of key-value pairs.
    *
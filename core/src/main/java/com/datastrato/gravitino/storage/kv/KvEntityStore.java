@@ -6,6 +6,8 @@
 package com.datastrato.gravitino.storage.kv;
 
 import static com.datastrato.gravitino.Configs.ENTITY_KV_STORE;
+import static com.datastrato.gravitino.Configs.KV_COMMITTED_TRANSACTION_INDEX_CAPACITY;
+import static com.datastrato.gravitino.Configs.KV_NAME_MAPPING_CACHE_CAPACITY;
 import static com.datastrato.gravitino.Entity.EntityType.GROUP;
 import static com.datastrato.gravitino.Entity.EntityType.METALAKE;
 import static com.datastrato.gravitino.Entity.EntityType.ROLE;
@@ -27,24 +29,29 @@ import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import com.datastrato.gravitino.exceptions.NonEmptyEntityException;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
 import com.datastrato.gravitino.storage.EntityKeyEncoder;
 import com.datastrato.gravitino.storage.FunctionUtils;
 import com.datastrato.gravitino.storage.NameMappingService;
 import com.datastrato.gravitino.storage.StorageLayoutVersion;
 import com.datastrato.gravitino.storage.TransactionIdGenerator;
+import com.datastrato.gravitino.utils.ByteUtils;
 import com.datastrato.gravitino.utils.Bytes;
 import com.datastrato.gravitino.utils.Executable;
+import com.datastrato.gravitino.utils.Page;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import lombok.Getter;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,9 +74,6 @@ public class KvEntityStore implements EntityStore {
 
   @Getter @VisibleForTesting KvBackend backend;
 
-  // Lock to control the concurrency of the entity store, to be more exact, the concurrency of
-  // accessing the underlying kv store.
-  private ReentrantReadWriteLock reentrantReadWriteLock;
   @VisibleForTesting EntityKeyEncoder<byte[]> entityKeyEncoder;
   @VisibleForTesting NameMappingService nameMappingService;
   private EntitySerDe serDe;
@@ -82,6 +86,7 @@ public class KvEntityStore implements EntityStore {
   private TransactionIdGenerator txIdGenerator;
   @VisibleForTesting KvGarbageCollector kvGarbageCollector;
   private TransactionalKvBackend transactionalKvBackend;
+  private MetricsSource metricsSource;
 
   @Override
   public void initialize(Config config) throws RuntimeException {
@@ -91,16 +96,29 @@ public class KvEntityStore implements EntityStore {
     this.txIdGenerator = new TransactionIdGeneratorImpl(backend, config);
     txIdGenerator.start();
 
-    this.transactionalKvBackend = new TransactionalKvBackendImpl(backend, txIdGenerator);
+    CommittedTransactionIndex committedTransactionIndex =
+        new CommittedTransactionIndex(config.get(KV_COMMITTED_TRANSACTION_INDEX_CAPACITY));
+    this.transactionalKvBackend =
+        new TransactionalKvBackendImpl(backend, txIdGenerator, committedTransactionIndex);
+    try {
+      transactionalKvBackend.initialize(config);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to initialize the transactional kv backend", e);
+    }
 
-    this.reentrantReadWriteLock = new ReentrantReadWriteLock();
+    KvNameMappingService kvNameMappingService =
+        new KvNameMappingService(
+            transactionalKvBackend, config.get(KV_NAME_MAPPING_CACHE_CAPACITY));
+    this.nameMappingService = kvNameMappingService;
 
-    this.nameMappingService =
-        new KvNameMappingService(transactionalKvBackend, reentrantReadWriteLock);
     this.entityKeyEncoder = new BinaryEntityKeyEncoder(nameMappingService);
 
-    this.kvGarbageCollector = new KvGarbageCollector(backend, config, entityKeyEncoder);
+    this.kvGarbageCollector =
+        new KvGarbageCollector(backend, config, entityKeyEncoder, committedTransactionIndex);
     kvGarbageCollector.start();
+    this.metricsSource =
+        new KvEntityStoreMetricsSource(
+            committedTransactionIndex, kvNameMappingService, kvGarbageCollector);
 
     this.storageLayoutVersion = initStorageVersionInfo();
     this.serDe = EntitySerDeFactory.createEntitySerDe(config);
@@ -137,10 +155,65 @@ public class KvEntityStore implements EntityStore {
     for (Pair<byte[], byte[]> pairs : kvs) {
       entities.add(serDe.deserialize(pairs.getRight(), e, namespace));
     }
-    // TODO (yuqi), if the list is too large, we need to do pagination or streaming
     return entities;
   }
 
+  /**
+   * List a page of entities. The page token is the id (the one allocated by the name mapping
+   * service) of the last entity in the previous page, as the keys of the entities under the same
+   * namespace only differ in their last 8 bytes, we can seek to the next entity directly with it.
+   */
+  @Override
+  public <E extends Entity & HasIdentifier> Page<E> list(
+      Namespace namespace, Class<E> e, EntityType type, String pageToken, int pageSize)
+      throws IOException {
+    Preconditions.checkArgument(pageSize > 0, "The page size must be positive: %s", pageSize);
+    NameIdentifier identifier = NameIdentifier.of(namespace, BinaryEntityKeyEncoder.WILD_CARD);
+    byte[] prefix = entityKeyEncoder.encode(identifier, type, true);
+    if (prefix == null) {
+      return Page.of(Collections.emptyList(), null);
+    }
+
+    byte[] startKey =
+        pageToken == null ? prefix : Bytes.concat(prefix, ByteUtils.longToByte(parseId(pageToken)));
+    byte[] endKey = Bytes.increment(Bytes.wrap(prefix)).get();
+    // Fetch one more entity to know whether there is a next page.
+    List<Pair<byte[], byte[]>> kvs =
+        executeInTransaction(
+            () ->
+                transactionalKvBackend.scan(
+                    new KvRange.KvRangeBuilder()
+                        .start(startKey)
+                        .end(endKey)
+                        .startInclusive(pageToken == null)
+                        .endInclusive(false)
+                        .limit(pageSize == Integer.MAX_VALUE ? pageSize : pageSize + 1)
+                        .build()));
+
+    List<E> entities = Lists.newArrayListWithCapacity(Math.min(kvs.size(), pageSize));
+    for (Pair<byte[], byte[]> pair : Iterables.limit(kvs, pageSize)) {
+      entities.add(serDe.deserialize(pair.getRight(), e, namespace));
+    }
+
+    String nextPageToken = null;
+    if (kvs.size() > pageSize) {
+      byte[] lastKey = kvs.get(pageSize - 1).getLeft();
+      nextPageToken =
+          String.valueOf(
+              ByteUtils.byteToLong(
+                  ArrayUtils.subarray(lastKey, lastKey.length - Long.BYTES, lastKey.length)));
+    }
+    return Page.of(entities, nextPageToken);
+  }
+
+  private static long parseId(String pageToken) {
+    try {
+      return Long.parseLong(pageToken);
+    } catch (NumberFormatException ex) {
+      throw new IllegalArgumentException("Invalid page token: " + pageToken, ex);
+    }
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, EntityType entityType) throws IOException {
     return executeInTransaction(
@@ -307,6 +380,16 @@ public class KvEntityStore implements EntityStore {
     backend.close();
   }
 
+  /**
+   * Returns the metrics source of the KV entity store, it's available after the store is
+   * initialized.
+   *
+   * @return The metrics source of the KV entity store.
+   */
+  public MetricsSource metricsSource() {
+    return metricsSource;
+  }
+
   private static KvBackend createKvEntityBackend(Config config) {
     String backendName = config.get(ENTITY_KV_STORE);
     String className = KV_BACKENDS.getOrDefault(backendName, backendName);
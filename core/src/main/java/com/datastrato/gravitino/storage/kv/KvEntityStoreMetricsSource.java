@@ -0,0 +1,34 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.storage.kv;
+
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
+
+/** Metrics of the in-memory structures used by {@link KvEntityStore}. */
+public class KvEntityStoreMetricsSource extends MetricsSource {
+  KvEntityStoreMetricsSource(
+      CommittedTransactionIndex committedTransactionIndex,
+      KvNameMappingService nameMappingService,
+      KvGarbageCollector garbageCollector) {
+    super(MetricsSource.KV_ENTITY_STORE_METRIC_NAME);
+    registerGauge(
+        MetricNames.KV_COMMITTED_TRANSACTION_INDEX_HIT_COUNT, committedTransactionIndex::hitCount);
+    registerGauge(
+        MetricNames.KV_COMMITTED_TRANSACTION_INDEX_MISS_COUNT,
+        committedTransactionIndex::missCount);
+    registerGauge(
+        MetricNames.KV_COMMITTED_TRANSACTION_INDEX_HIT_RATIO, committedTransactionIndex::hitRatio);
+    registerGauge(MetricNames.KV_NAME_MAPPING_CACHE_HIT_COUNT, nameMappingService::cacheHitCount);
+    registerGauge(MetricNames.KV_NAME_MAPPING_CACHE_MISS_COUNT, nameMappingService::cacheMissCount);
+    registerGauge(
+        MetricNames.KV_NAME_MAPPING_CACHE_EVICTION_COUNT, nameMappingService::cacheEvictionCount);
+    registerGauge(
+        MetricNames.KV_GARBAGE_COLLECTOR_PASS_DURATION, garbageCollector::lastPassDurationMs);
+    registerGauge(MetricNames.KV_GARBAGE_COLLECTOR_KEYS_SCANNED, garbageCollector::keysScanned);
+    registerGauge(MetricNames.KV_GARBAGE_COLLECTOR_KEYS_REMOVED, garbageCollector::keysRemoved);
+  }
+}
@@ -5,6 +5,8 @@
 
 package com.datastrato.gravitino.storage.kv;
 
+import static com.datastrato.gravitino.Configs.KV_GC_DELETES_PER_SECOND;
+import static com.datastrato.gravitino.Configs.KV_GC_PARALLELISM;
 import static com.datastrato.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static com.datastrato.gravitino.storage.kv.KvNameMappingService.GENERAL_NAME_MAPPING_PREFIX;
 import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.endOfTransactionId;
@@ -19,15 +21,27 @@ import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.storage.EntityKeyEncoder;
 import com.datastrato.gravitino.utils.Bytes;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.RateLimiter;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
@@ -38,15 +52,44 @@ import org.slf4j.LoggerFactory;
 /**
  * {@link KvGarbageCollector} is a garbage collector for the kv backend. It will collect the version
  * of data which is not committed or exceed the ttl.
+ *
+ * <p>The uncommitted data is collected range by range in parallel. The ranges are split by the keys
+ * sampled in the last complete pass, so they hold about the same number of keys even if most keys
+ * share a prefix, e.g., the keys of the tables. The progress of every range is persisted as a
+ * checkpoint, so a range that is too large to be collected in one pass will be resumed from the
+ * checkpoint in the next pass, even after restarting.
  */
 public final class KvGarbageCollector implements Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(KvGarbageCollector.class);
   private final KvBackend kvBackend;
   private final Config config;
   private final EntityKeyEncoder<byte[]> entityKeyEncoder;
+  private final CommittedTransactionIndex committedTransactionIndex;
   private static final byte[] LAST_COLLECT_COMMIT_ID_KEY =
       Bytes.concat(
           new byte[] {0x1D, 0x00, 0x03}, "last_collect_commit_id".getBytes(StandardCharsets.UTF_8));
+  // The checkpoint key of a range is this prefix followed by the index of the range.
+  private static final byte[] LAST_COLLECT_UNCOMMITTED_KEY_PREFIX =
+      Bytes.concat(
+          new byte[] {0x1D, 0x00, 0x03},
+          "last_collect_uncommitted_key_".getBytes(StandardCharsets.UTF_8));
+  // The boundaries of the ranges to collect the uncommitted data, the range i is from the boundary
+  // i (inclusive) to the boundary i + 1 (exclusive).
+  private static final byte[] UNCOMMITTED_RANGES_KEY =
+      Bytes.concat(
+          new byte[] {0x1D, 0x00, 0x03}, "uncommitted_ranges".getBytes(StandardCharsets.UTF_8));
+
+  // Below 0x20 and above 0x7F are control characters, user keys are in [0x20, 0x7F).
+  @VisibleForTesting static final int FIRST_USER_KEY_BYTE = 0x20;
+  @VisibleForTesting static final int END_USER_KEY_BYTE = 0x7F;
+  // Each time we only collect 10000 uncommitted keys at most in a range.
+  private static final int MAX_UNCOMMITTED_KEYS_PER_RANGE = 10000;
+  // Each worker collects several ranges, so a slow range does not leave the other workers idle.
+  private static final int RANGES_PER_WORKER = 4;
+  // The number of the sampled keys per range to split the ranges evenly.
+  private static final int SAMPLES_PER_RANGE = 32;
+  // The spans with fewer deleted keys are not worth compacting.
+  private static final int MIN_DELETED_KEYS_TO_COMPACT = 100;
 
   // Keep the last collect commit id to avoid collecting the same data multiple times, the first
   // time the commit is 1 (minimum), and assuming we have collected the data with transaction id
@@ -55,6 +98,22 @@ public final class KvGarbageCollector implements Closeable {
   byte[] commitIdHasBeenCollected;
   private long frequencyInMinutes;
 
+  private final ExecutorService collectorWorkers;
+  private final int rangeCount;
+  @VisibleForTesting int maxUncommittedKeysPerRange = MAX_UNCOMMITTED_KEYS_PER_RANGE;
+  // Null if the deletion is not throttled.
+  private final RateLimiter deleteRateLimiter;
+
+  private final AtomicLong keysScanned = new AtomicLong();
+  private final AtomicLong keysRemoved = new AtomicLong();
+  private volatile long lastPassDurationMs;
+
+  // The spans of the keys physically deleted in the current collection, by the first two bytes of
+  // the keys, e.g., the commit marks or the keys of an entity type. Each span is compacted on its
+  // own after the collection so later scans do not need to skip the deleted keys, while the keys
+  // between the spans are left alone. Guarded by itself.
+  private final Map<Integer, DeletedSpan> deletedSpans = new HashMap<>();
+
   private static final String TIME_STAMP_FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
 
   @VisibleForTesting
@@ -70,9 +129,34 @@ public final class KvGarbageCollector implements Closeable {
 
   public KvGarbageCollector(
       KvBackend kvBackend, Config config, EntityKeyEncoder<byte[]> entityKeyEncoder) {
+    this(kvBackend, config, entityKeyEncoder, new CommittedTransactionIndex(0));
+  }
+
+  KvGarbageCollector(
+      KvBackend kvBackend,
+      Config config,
+      EntityKeyEncoder<byte[]> entityKeyEncoder,
+      CommittedTransactionIndex committedTransactionIndex) {
     this.kvBackend = kvBackend;
     this.config = config;
     this.entityKeyEncoder = entityKeyEncoder;
+    this.committedTransactionIndex = committedTransactionIndex;
+
+    int parallelism = config.get(KV_GC_PARALLELISM);
+    this.rangeCount = parallelism * RANGES_PER_WORKER;
+    AtomicInteger workerIndex = new AtomicInteger();
+    this.collectorWorkers =
+        Executors.newFixedThreadPool(
+            parallelism,
+            r -> {
+              Thread t =
+                  new Thread(
+                      r, "KvEntityStore-Garbage-Collector-Worker-" + workerIndex.getAndIncrement());
+              t.setDaemon(true);
+              return t;
+            });
+    int deletesPerSecond = config.get(KV_GC_DELETES_PER_SECOND);
+    this.deleteRateLimiter = deletesPerSecond > 0 ? RateLimiter.create(deletesPerSecond) : null;
   }
 
   public void start() {
@@ -88,27 +172,187 @@ public final class KvGarbageCollector implements Closeable {
   @VisibleForTesting
   void collectAndClean() {
     LOG.info("Start to collect garbage...");
+    long startTime = System.currentTimeMillis();
     try {
       LOG.info("Start to collect and delete uncommitted data...");
       collectAndRemoveUncommittedData();
 
       LOG.info("Start to collect and delete old version data...");
       collectAndRemoveOldVersionData();
+
+      compactDeletedSpans();
     } catch (Exception e) {
       LOG.error("Failed to collect garbage", e);
+    } finally {
+      synchronized (deletedSpans) {
+        deletedSpans.clear();
+      }
+      lastPassDurationMs = System.currentTimeMillis() - startTime;
+      LOG.info(
+          "Finished collecting garbage in {}ms, total keys scanned: {}, total keys removed: {}",
+          lastPassDurationMs,
+          keysScanned.get(),
+          keysRemoved.get());
+    }
+  }
+
+  /** @return the duration in milliseconds of the last garbage collection pass. */
+  public long lastPassDurationMs() {
+    return lastPassDurationMs;
+  }
+
+  /** @return the total number of keys scanned by the garbage collector. */
+  public long keysScanned() {
+    return keysScanned.get();
+  }
+
+  /** @return the total number of keys physically removed by the garbage collector. */
+  public long keysRemoved() {
+    return keysRemoved.get();
+  }
+
+  private void compactDeletedSpans() throws IOException {
+    List<DeletedSpan> spans;
+    synchronized (deletedSpans) {
+      spans = Lists.newArrayList(deletedSpans.values());
+    }
+
+    for (DeletedSpan span : spans) {
+      if (span.count < MIN_DELETED_KEYS_TO_COMPACT) {
+        continue;
+      }
+
+      LOG.info(
+          "Start to compact the {} deleted keys between '{}' and '{}'",
+          span.count,
+          Bytes.wrap(span.start),
+          Bytes.wrap(span.end));
+      kvBackend.compactRange(span.start, span.end);
+    }
+  }
+
+  private void deleteKey(byte[] key) throws IOException {
+    throttle(1);
+    kvBackend.delete(key);
+    keysRemoved.incrementAndGet();
+    recordDeletedSpan(key, key, 1);
+  }
+
+  private void throttle(int deletes) {
+    if (deleteRateLimiter != null) {
+      deleteRateLimiter.acquire(deletes);
+    }
+  }
+
+  // The keys from start to end must have the same span prefix, e.g., the versions of a key.
+  private void recordDeletedSpan(byte[] start, byte[] end, int count) {
+    synchronized (deletedSpans) {
+      deletedSpans
+          .computeIfAbsent(spanPrefix(start), k -> new DeletedSpan())
+          .add(start, end, count);
+    }
+  }
+
+  private static int spanPrefix(byte[] key) {
+    int first = key.length > 0 ? key[0] & 0xFF : 0;
+    int second = key.length > 1 ? key[1] & 0xFF : 0;
+    return first << 8 | second;
+  }
+
+  private static final class DeletedSpan {
+    private byte[] start;
+    private byte[] end;
+    private long count;
+
+    private void add(byte[] start, byte[] end, int count) {
+      if (this.start == null || Bytes.wrap(start).compareTo(this.start) < 0) {
+        this.start = start;
+      }
+      if (this.end == null || Bytes.wrap(end).compareTo(this.end) > 0) {
+        this.end = end;
+      }
+      this.count += count;
     }
   }
 
   private void collectAndRemoveUncommittedData() throws IOException {
+    List<byte[]> boundaries = uncommittedRanges();
+    KeySampler sampler = new KeySampler(rangeCount * SAMPLES_PER_RANGE);
+    List<Future<Boolean>> futures = Lists.newArrayList();
+    for (int i = 0; i < boundaries.size() - 1; i++) {
+      int index = i;
+      byte[] start = boundaries.get(i);
+      byte[] end = boundaries.get(i + 1);
+      futures.add(
+          collectorWorkers.submit(
+              () -> collectAndRemoveUncommittedData(index, start, end, sampler)));
+    }
+
+    // The ranges are split again only if all of them are scanned completely, so the sampled keys
+    // cover all the keys, and no checkpoint refers to the current ranges.
+    boolean complete = true;
+    for (Future<Boolean> future : futures) {
+      try {
+        complete &= future.get();
+      } catch (ExecutionException e) {
+        // Failing to collect a range should not stop collecting the others.
+        LOG.error("Failed to collect uncommitted data", e.getCause());
+        complete = false;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while collecting uncommitted data", e);
+      }
+    }
+
+    if (complete) {
+      List<byte[]> newBoundaries = sampler.split(rangeCount);
+      kvBackend.put(
+          UNCOMMITTED_RANGES_KEY,
+          SerializationUtils.serialize(Lists.newArrayList(newBoundaries)),
+          true);
+      LOG.info(
+          "Split the keys into {} ranges to collect uncommitted data", newBoundaries.size() - 1);
+    }
+  }
+
+  /**
+   * Gets the boundaries of the ranges to collect the uncommitted data. Before the keys are sampled
+   * in a complete pass, every range contains the keys starting with the same byte.
+   *
+   * @return The boundaries of the ranges, from the first user key byte to the end of the user keys.
+   * @throws IOException if the boundaries fail to be read.
+   */
+  @VisibleForTesting
+  List<byte[]> uncommittedRanges() throws IOException {
+    byte[] value = kvBackend.get(UNCOMMITTED_RANGES_KEY);
+    if (value != null) {
+      return SerializationUtils.deserialize(value);
+    }
+
+    List<byte[]> boundaries = Lists.newArrayList();
+    for (int i = FIRST_USER_KEY_BYTE; i <= END_USER_KEY_BYTE; i++) {
+      boundaries.add(new byte[] {(byte) i});
+    }
+    return boundaries;
+  }
+
+  // Returns true if the range is scanned from its start to its end in this pass.
+  private boolean collectAndRemoveUncommittedData(
+      int index, byte[] start, byte[] end, KeySampler sampler) throws IOException {
+    byte[] checkpointKey =
+        Bytes.concat(LAST_COLLECT_UNCOMMITTED_KEY_PREFIX, Ints.toByteArray(index));
+    byte[] checkpoint = kvBackend.get(checkpointKey);
     List<Pair<byte[], byte[]>> kvs =
         kvBackend.scan(
             new KvRange.KvRangeBuilder()
-                .start(new byte[] {0x20}) // below 0x20 is control character
-                .end(new byte[] {0x7F}) // above 0x7F is control character
-                .startInclusive(true)
+                .start(checkpoint == null ? start : checkpoint)
+                .end(end)
+                .startInclusive(checkpoint == null)
                 .endInclusive(false)
                 .predicate(
                     (k, v) -> {
+                      keysScanned.incrementAndGet();
+                      sampler.add(k);
                       byte[] transactionId = getBinaryTransactionId(k);
 
                       // Only remove the uncommitted data that were written frequencyInMinutes
@@ -120,12 +364,17 @@ public final class KvGarbageCollector implements Closeable {
                         return false;
                       }
 
+                      if (committedTransactionIndex.peek(getTransactionId(transactionId))) {
+                        return false;
+                      }
                       return kvBackend.get(generateCommitKey(transactionId)) == null;
                     })
-                .limit(10000) /* Each time we only collect 10000 entities at most*/
+                .limit(maxUncommittedKeysPerRange)
                 .build());
 
-    LOG.info("Start to remove {} uncommitted data", kvs.size());
+    if (!kvs.isEmpty()) {
+      LOG.info("Start to remove {} uncommitted data", kvs.size());
+    }
     for (Pair<byte[], byte[]> pair : kvs) {
       // Remove is a high-risk operation, So we log every delete operation
       LogHelper logHelper = decodeKey(pair.getKey());
@@ -136,7 +385,61 @@ public final class KvGarbageCollector implements Closeable {
           logHelper.createTimeAsString,
           logHelper.createTimeInMs,
           pair.getKey());
-      kvBackend.delete(pair.getKey());
+      deleteKey(pair.getKey());
+    }
+
+    // If the range has not been scanned completely, resume from the last collected key in the next
+    // pass, otherwise start over from the beginning of the range.
+    if (kvs.size() == maxUncommittedKeysPerRange) {
+      kvBackend.put(checkpointKey, kvs.get(kvs.size() - 1).getKey(), true);
+      return false;
+    }
+
+    if (checkpoint != null) {
+      kvBackend.delete(checkpointKey);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Samples the keys scanned by all the workers uniformly with a fixed-size reservoir, then splits
+   * the keys into the ranges holding about the same number of keys.
+   */
+  private static final class KeySampler {
+    private final byte[][] samples;
+    private long seen;
+
+    private KeySampler(int size) {
+      this.samples = new byte[size][];
+    }
+
+    private synchronized void add(byte[] key) {
+      if (seen < samples.length) {
+        samples[(int) seen] = key;
+      } else {
+        long index = ThreadLocalRandom.current().nextLong(seen + 1);
+        if (index < samples.length) {
+          samples[(int) index] = key;
+        }
+      }
+      seen++;
+    }
+
+    private synchronized List<byte[]> split(int ranges) {
+      byte[][] sorted = Arrays.copyOf(samples, (int) Math.min(seen, samples.length));
+      Arrays.sort(sorted, (a, b) -> Bytes.wrap(a).compareTo(b));
+
+      List<byte[]> boundaries = Lists.newArrayList();
+      boundaries.add(new byte[] {(byte) FIRST_USER_KEY_BYTE});
+      for (int i = 1; i < ranges && sorted.length > 0; i++) {
+        byte[] boundary = sorted[(int) ((long) i * sorted.length / ranges)];
+        if (Bytes.wrap(boundary).compareTo(boundaries.get(boundaries.size() - 1)) > 0) {
+          boundaries.add(boundary);
+        }
+      }
+      boundaries.add(new byte[] {(byte) END_USER_KEY_BYTE});
+      return boundaries;
     }
   }
 
@@ -171,6 +474,7 @@ public final class KvGarbageCollector implements Closeable {
                 .startInclusive(true)
                 .endInclusive(false)
                 .build());
+    keysScanned.addAndGet(kvs.size());
 
     for (Pair<byte[], byte[]> kv : kvs) {
       List<byte[]> keysInTheTransaction = SerializationUtils.deserialize(kv.getValue());
@@ -193,7 +497,7 @@ public final class KvGarbageCollector implements Closeable {
           removeAllVersionsOfKey(rawKey, key, false);
 
           LogHelper logHelper = decodeKey(key, transactionId);
-          kvBackend.delete(rawKey);
+          deleteKey(rawKey);
           LOG.info(
               "Physically delete key that has marked deleted: name identifier: '{}', entity type: '{}',"
                   + " createTime: '{}({})', key: '{}'",
@@ -226,7 +530,7 @@ public final class KvGarbageCollector implements Closeable {
           LogHelper logHelper = decodeKey(key, transactionId);
           byte[] newVersionKey = newVersionOfKey.get(0).getKey();
           LogHelper newVersionLogHelper = decodeKey(newVersionKey);
-          kvBackend.delete(rawKey);
+          deleteKey(rawKey);
           LOG.info(
               "Physically delete key that has newer version: name identifier: '{}', entity type: '{}',"
                   + " createTime: '{}({})', newVersion createTime: '{}({})',"
@@ -245,7 +549,8 @@ public final class KvGarbageCollector implements Closeable {
 
       // All keys in this transaction have been deleted, we can remove the commit mark.
       if (keysDeletedCount == keysInTheTransaction.size()) {
-        kvBackend.delete(kv.getKey());
+        deleteKey(kv.getKey());
+        committedTransactionIndex.remove(getTransactionId(transactionId));
         long timestamp = getTransactionId(transactionId) >> 18;
         LOG.info(
             "Physically delete commit mark: {}, createTime: '{}({})', key: '{}'",
@@ -270,19 +575,27 @@ public final class KvGarbageCollector implements Closeable {
    */
   private void removeAllVersionsOfKey(byte[] rawKey, byte[] key, boolean includeStart)
       throws IOException {
-    List<Pair<byte[], byte[]>> kvs =
-        kvBackend.scan(
-            new KvRange.KvRangeBuilder()
-                .start(rawKey)
-                .end(generateKey(key, 1))
-                .startInclusive(includeStart)
-                .endInclusive(false)
-                .build());
+    KvRange versionsRange =
+        new KvRange.KvRangeBuilder()
+            .start(rawKey)
+            .end(generateKey(key, 1))
+            .startInclusive(includeStart)
+            .endInclusive(false)
+            .build();
+    List<Pair<byte[], byte[]>> kvs = kvBackend.scan(versionsRange);
+    if (kvs.isEmpty()) {
+      return;
+    }
 
-    for (Pair<byte[], byte[]> kv : kvs) {
-      // Delete real data.
-      kvBackend.delete(kv.getKey());
+    keysScanned.addAndGet(kvs.size());
 
+    // Delete real data of all the old versions with a single range deletion.
+    throttle(kvs.size());
+    kvBackend.deleteRange(versionsRange);
+    keysRemoved.addAndGet(kvs.size());
+    recordDeletedSpan(kvs.get(0).getKey(), kvs.get(kvs.size() - 1).getKey(), kvs.size());
+
+    for (Pair<byte[], byte[]> kv : kvs) {
       LogHelper logHelper = decodeKey(kv.getKey());
       LOG.info(
           "Physically delete key that has marked deleted: name identifier: '{}', entity type: '{}',"
@@ -311,7 +624,8 @@ public final class KvGarbageCollector implements Closeable {
 
       // Try to delete the commit mark.
       if (allDropped) {
-        kvBackend.delete(transactionKey);
+        deleteKey(transactionKey);
+        committedTransactionIndex.remove(getTransactionId(transactionId));
         long timestamp = TransactionalKvBackendImpl.getTransactionId(transactionId) >> 18;
         LOG.info(
             "Physically delete commit mark: {}, createTime: '{}({})', key: '{}'",
@@ -379,8 +693,10 @@ public final class KvGarbageCollector implements Closeable {
   @Override
   public void close() throws IOException {
     garbageCollectorPool.shutdownNow();
+    collectorWorkers.shutdownNow();
     try {
       garbageCollectorPool.awaitTermination(5, TimeUnit.SECONDS);
+      collectorWorkers.awaitTermination(5, TimeUnit.SECONDS);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       LOG.error("Failed to close garbage collector", e);
@@ -5,16 +5,21 @@
 
 package com.datastrato.gravitino.storage.kv;
 
+import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.storage.FunctionUtils;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.storage.NameMappingService;
 import com.datastrato.gravitino.storage.RandomIdGenerator;
 import com.datastrato.gravitino.utils.ByteUtils;
 import com.datastrato.gravitino.utils.Bytes;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Striped;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.Lock;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -24,7 +29,13 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public class KvNameMappingService implements NameMappingService {
 
-  @VisibleForTesting final ReentrantReadWriteLock lock;
+  // The number of locks used to bind names and ids, a name is always guarded by the same lock.
+  private static final int LOCK_STRIPES = 64;
+
+  // Locks to avoid binding different ids to the same name concurrently. As the name contains the
+  // ids of its namespace, e.g., '{metalake_id}/{catalog_name}', binding names in different
+  // metalakes or catalogs will not contend for the same lock in most cases.
+  @VisibleForTesting final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
   @VisibleForTesting final IdGenerator idGenerator = new RandomIdGenerator();
 
   // To separate it from user keys, we will add three control flag 0x1D, 0x00, 0x00 as the prefix.
@@ -44,33 +55,86 @@ public class KvNameMappingService implements NameMappingService {
 
   @VisibleForTesting final TransactionalKvBackend transactionalKvBackend;
 
-  public KvNameMappingService(
-      TransactionalKvBackend transactionalKvBackend,
-      ReentrantReadWriteLock reentrantReadWriteLock) {
+  // Caches of the committed name to id and id to name mappings. As the transactional kv backend
+  // only reads the committed data, the caches are loaded by the reads and invalidated after the
+  // transactions that change the mappings are committed. Absent mappings are never cached.
+  @VisibleForTesting final Cache<String, Long> nameToIdCache;
+  @VisibleForTesting final Cache<Long, String> idToNameCache;
+
+  public KvNameMappingService(TransactionalKvBackend transactionalKvBackend) {
+    this(transactionalKvBackend, Configs.DEFAULT_KV_NAME_MAPPING_CACHE_CAPACITY);
+  }
+
+  public KvNameMappingService(TransactionalKvBackend transactionalKvBackend, int cacheCapacity) {
     this.transactionalKvBackend = transactionalKvBackend;
-    this.lock = reentrantReadWriteLock;
+    this.nameToIdCache = Caffeine.newBuilder().maximumSize(cacheCapacity).recordStats().build();
+    this.idToNameCache = Caffeine.newBuilder().maximumSize(cacheCapacity).recordStats().build();
   }
 
   @Override
   public Long getIdByName(String name) throws IOException {
-    byte[] nameByte = getNameKey(name);
-    return FunctionUtils.executeInTransaction(
-        () -> {
-          byte[] idByte = transactionalKvBackend.get(nameByte);
-          return idByte == null ? null : ByteUtils.byteToLong(idByte);
-        },
-        transactionalKvBackend);
+    try {
+      return nameToIdCache.get(name, this::loadIdByName);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
   }
 
   @Override
   public String getNameById(long id) throws IOException {
+    try {
+      return idToNameCache.get(id, this::loadNameById);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /** @return the number of cache hits of both the name to id and the id to name caches. */
+  public long cacheHitCount() {
+    return nameToIdCache.stats().hitCount() + idToNameCache.stats().hitCount();
+  }
+
+  /** @return the number of cache misses of both the name to id and the id to name caches. */
+  public long cacheMissCount() {
+    return nameToIdCache.stats().missCount() + idToNameCache.stats().missCount();
+  }
+
+  /** @return the number of cache evictions of both the name to id and the id to name caches. */
+  public long cacheEvictionCount() {
+    return nameToIdCache.stats().evictionCount() + idToNameCache.stats().evictionCount();
+  }
+
+  private Long loadIdByName(String name) {
+    byte[] nameByte = getNameKey(name);
+    try {
+      return FunctionUtils.executeInTransaction(
+          () -> {
+            byte[] idByte = transactionalKvBackend.get(nameByte);
+            return idByte == null ? null : ByteUtils.byteToLong(idByte);
+          },
+          transactionalKvBackend);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String loadNameById(long id) {
     byte[] idByte = getIdKey(id);
-    return FunctionUtils.executeInTransaction(
-        () -> {
-          byte[] name = transactionalKvBackend.get(idByte);
-          return name == null ? null : new String(name, StandardCharsets.UTF_8);
-        },
-        transactionalKvBackend);
+    try {
+      return FunctionUtils.executeInTransaction(
+          () -> {
+            byte[] name = transactionalKvBackend.get(idByte);
+            return name == null ? null : new String(name, StandardCharsets.UTF_8);
+          },
+          transactionalKvBackend);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void invalidateCache(String name, long id) {
+    nameToIdCache.invalidate(name);
+    idToNameCache.invalidate(id);
   }
 
   private long bindNameAndId(String name) throws IOException {
@@ -106,8 +170,16 @@ public class KvNameMappingService implements NameMappingService {
           // 2. Delete name1
           // 3. Create name2
           // 4. Rename name2 -> name1
+          long id = ByteUtils.byteToLong(oldIdValue);
           transactionalKvBackend.put(getNameKey(newName), oldIdValue, true);
-          transactionalKvBackend.put(oldIdValue, newName.getBytes(StandardCharsets.UTF_8), true);
+          transactionalKvBackend.put(getIdKey(id), newName.getBytes(StandardCharsets.UTF_8), true);
+
+          // The new name may be bound to another id before, so we invalidate it too.
+          transactionalKvBackend.afterCommit(
+              () -> {
+                invalidateCache(oldName, id);
+                nameToIdCache.invalidate(newName);
+              });
           return true;
         },
         transactionalKvBackend);
@@ -124,6 +196,9 @@ public class KvNameMappingService implements NameMappingService {
           }
           transactionalKvBackend.delete(nameByte);
           transactionalKvBackend.delete(Bytes.concat(ID_PREFIX, idByte));
+
+          long id = ByteUtils.byteToLong(idByte);
+          transactionalKvBackend.afterCommit(() -> invalidateCache(name, id));
           return true;
         },
         transactionalKvBackend);
@@ -136,10 +211,14 @@ public class KvNameMappingService implements NameMappingService {
   public long getOrCreateIdFromName(String name) throws IOException {
     Long id = getIdByName(name);
     if (id == null) {
-      synchronized (this) {
+      Lock lock = locks.get(name);
+      lock.lock();
+      try {
         if ((id = getIdByName(name)) == null) {
           id = bindNameAndId(name);
         }
+      } finally {
+        lock.unlock();
       }
     }
 
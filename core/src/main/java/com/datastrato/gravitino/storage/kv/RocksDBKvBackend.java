@@ -7,6 +7,7 @@ package com.datastrato.gravitino.storage.kv;
 
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.config.ConfigEntry;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
 import com.datastrato.gravitino.utils.ByteUtils;
 import com.datastrato.gravitino.utils.Bytes;
@@ -16,14 +17,27 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.rocksdb.AbstractNativeReference;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.CompressionType;
+import org.rocksdb.Filter;
+import org.rocksdb.LRUCache;
 import org.rocksdb.Options;
+import org.rocksdb.RateLimiter;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.TransactionDB;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +48,18 @@ import org.slf4j.LoggerFactory;
  */
 public class RocksDBKvBackend implements KvBackend {
   public static final Logger LOGGER = LoggerFactory.getLogger(RocksDBKvBackend.class);
+  // The ratio of the memtable size used by the prefix bloom filter of the memtable.
+  private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.1;
+
   private RocksDB db;
+  private WriteOptions writeOptions;
+  private ReadOptions totalOrderReadOptions;
+  private ReadOptions prefixReadOptions;
+  private Options options;
+  private Cache blockCache;
+  private Filter bloomFilter;
+  private RateLimiter rateLimiter;
+  private int prefixLength;
 
   /**
    * Initialize the RocksDB backend instance. We have used the {@link TransactionDB} to support
@@ -45,15 +70,14 @@ public class RocksDBKvBackend implements KvBackend {
 
     String dbPath = getStoragePath(config);
     File dbDir = new File(dbPath, "instance");
-    try (final Options options = new Options()) {
-      options.setCreateIfMissing(true);
+    try {
+      options = createOptions(config);
 
       if (!dbDir.exists() && !dbDir.mkdirs()) {
         throw new RocksDBException(
             String.format("Can't create RocksDB path '%s'", dbDir.getAbsolutePath()));
       }
       LOGGER.info("Rocksdb storage directory:{}", dbDir);
-      // TODO (yuqi), make options configurable
       return RocksDB.open(options, dbDir.getAbsolutePath());
     } catch (RocksDBException ex) {
       LOGGER.error(
@@ -65,6 +89,111 @@ public class RocksDBKvBackend implements KvBackend {
     }
   }
 
+  /**
+   * Create the RocksDB options from the configurations. Most requests to the entity store are point
+   * lookups and prefix scans of the keys encoded by {@link BinaryEntityKeyEncoder}, so we use a
+   * block cache, bloom filters for both whole keys and fixed-length key prefixes, and compress the
+   * levels that hold most of the data.
+   *
+   * <p>The native objects that the options refer to, like the block cache, are kept by this
+   * instance and released in {@link #close()}.
+   */
+  @VisibleForTesting
+  Options createOptions(Config config) {
+    long blockCacheSize = getOrDefault(config, Configs.KV_ROCKSDB_BLOCK_CACHE_SIZE);
+    int bloomFilterBitsPerKey = getOrDefault(config, Configs.KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY);
+    List<CompressionType> compressionPerLevel =
+        getOrDefault(config, Configs.KV_ROCKSDB_COMPRESSION_PER_LEVEL).stream()
+            .map(RocksDBKvBackend::toCompressionType)
+            .collect(Collectors.toList());
+    int maxBackgroundJobs = getOrDefault(config, Configs.KV_ROCKSDB_MAX_BACKGROUND_JOBS);
+    long rateBytesPerSec = getOrDefault(config, Configs.KV_ROCKSDB_RATE_BYTES_PER_SEC);
+    prefixLength = getOrDefault(config, Configs.KV_ROCKSDB_PREFIX_LENGTH);
+
+    blockCache = new LRUCache(blockCacheSize);
+    BlockBasedTableConfig tableConfig =
+        new BlockBasedTableConfig()
+            .setBlockCache(blockCache)
+            .setCacheIndexAndFilterBlocks(true)
+            .setPinL0FilterAndIndexBlocksInCache(true)
+            .setWholeKeyFiltering(true);
+    if (bloomFilterBitsPerKey > 0) {
+      bloomFilter = new BloomFilter(bloomFilterBitsPerKey, false);
+      tableConfig.setFilterPolicy(bloomFilter);
+    }
+
+    Options rocksDBOptions =
+        new Options()
+            .setCreateIfMissing(true)
+            .setTableFormatConfig(tableConfig)
+            .setCompressionPerLevel(compressionPerLevel)
+            .setMaxBackgroundJobs(maxBackgroundJobs);
+    if (prefixLength > 0) {
+      rocksDBOptions.useFixedLengthPrefixExtractor(prefixLength);
+      if (bloomFilterBitsPerKey > 0) {
+        rocksDBOptions.setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO);
+      }
+    }
+    if (rateBytesPerSec > 0) {
+      rateLimiter = new RateLimiter(rateBytesPerSec);
+      rocksDBOptions.setRateLimiter(rateLimiter);
+    }
+
+    LOGGER.info(
+        "RocksDB options: blockCacheSize={}, bloomFilterBitsPerKey={}, prefixLength={}, "
+            + "compressionPerLevel={}, maxBackgroundJobs={}, rateBytesPerSec={}",
+        blockCacheSize,
+        bloomFilterBitsPerKey,
+        prefixLength,
+        compressionPerLevel,
+        maxBackgroundJobs,
+        rateBytesPerSec);
+    return rocksDBOptions;
+  }
+
+  // The tuning settings are optional, they fall back to their defaults if the given config doesn't
+  // have them, e.g., the config of an embedded store built by a caller which only knows the path.
+  private static <T> T getOrDefault(Config config, ConfigEntry<T> entry) {
+    T value = config.get(entry);
+    return value != null ? value : entry.getDefaultValue();
+  }
+
+  private static CompressionType toCompressionType(String compression) {
+    switch (compression.toLowerCase()) {
+      case "none":
+        return CompressionType.NO_COMPRESSION;
+      case "snappy":
+        return CompressionType.SNAPPY_COMPRESSION;
+      case "zlib":
+        return CompressionType.ZLIB_COMPRESSION;
+      case "bzip2":
+        return CompressionType.BZLIB2_COMPRESSION;
+      case "lz4":
+        return CompressionType.LZ4_COMPRESSION;
+      case "lz4hc":
+        return CompressionType.LZ4HC_COMPRESSION;
+      case "zstd":
+        return CompressionType.ZSTD_COMPRESSION;
+      default:
+        throw new IllegalArgumentException("Unsupported RocksDB compression type: " + compression);
+    }
+  }
+
+  /**
+   * Create an iterator for the range. If all keys in the range share the same fixed-length prefix,
+   * the iterator only reads the keys with the prefix and can skip files by the prefix bloom
+   * filters, otherwise it has to seek in the total order as the range crosses multiple prefixes.
+   */
+  private RocksIterator newIterator(byte[] start, byte[] end) {
+    if (prefixLength > 0
+        && start.length >= prefixLength
+        && end.length >= prefixLength
+        && Arrays.equals(Arrays.copyOf(start, prefixLength), Arrays.copyOf(end, prefixLength))) {
+      return db.newIterator(prefixReadOptions);
+    }
+    return db.newIterator(totalOrderReadOptions);
+  }
+
   @VisibleForTesting
   String getStoragePath(Config config) {
     String dbPath = config.get(Configs.ENTRY_KV_ROCKSDB_BACKEND_PATH);
@@ -86,6 +215,9 @@ public class RocksDBKvBackend implements KvBackend {
   public void initialize(Config config) throws IOException {
     try {
       db = initRocksDB(config);
+      writeOptions = new WriteOptions();
+      totalOrderReadOptions = new ReadOptions().setTotalOrderSeek(true);
+      prefixReadOptions = new ReadOptions().setPrefixSameAsStart(true);
     } catch (RocksDBException e) {
       throw new IOException(e);
     }
@@ -126,9 +258,39 @@ public class RocksDBKvBackend implements KvBackend {
     }
   }
 
+  @Override
+  public void batchPut(List<Pair<byte[], byte[]>> kvs, boolean overwrite) throws IOException {
+    try {
+      handleBatchPut(kvs, overwrite);
+    } catch (AlreadyExistsException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Write all the key-value pairs with a single {@link WriteBatch}, so they will be appended to the
+   * WAL and applied to the memtable in one write call.
+   */
+  @VisibleForTesting
+  void handleBatchPut(List<Pair<byte[], byte[]>> kvs, boolean overwrite) throws RocksDBException {
+    try (WriteBatch writeBatch = new WriteBatch()) {
+      for (Pair<byte[], byte[]> kv : kvs) {
+        if (!overwrite && db.get(kv.getKey()) != null) {
+          throw new AlreadyExistsException(
+              "Key %s already exists in the database, please use overwrite option to overwrite it",
+              ByteUtils.formatByteArray(kv.getKey()));
+        }
+        writeBatch.put(kv.getKey(), kv.getValue());
+      }
+      db.write(writeOptions, writeBatch);
+    }
+  }
+
   @Override
   public List<Pair<byte[], byte[]>> scan(KvRange scanRange) throws IOException {
-    RocksIterator rocksIterator = db.newIterator();
+    RocksIterator rocksIterator = newIterator(scanRange.getStart(), scanRange.getEnd());
     try {
       rocksIterator.seek(scanRange.getStart());
 
@@ -182,42 +344,56 @@ public class RocksDBKvBackend implements KvBackend {
 
   @Override
   public boolean deleteRange(KvRange deleteRange) throws IOException {
-    RocksIterator rocksIterator = db.newIterator();
+    // RocksDB deletes the range [begin, end), the smallest key that is larger than a key is the key
+    // appended with 0x00, so we use it to exclude the start key or include the end key.
+    byte[] begin =
+        deleteRange.isStartInclusive()
+            ? deleteRange.getStart()
+            : Bytes.concat(deleteRange.getStart(), new byte[] {0x00});
+    byte[] end =
+        deleteRange.isEndInclusive()
+            ? Bytes.concat(deleteRange.getEnd(), new byte[] {0x00})
+            : deleteRange.getEnd();
+    if (Bytes.wrap(begin).compareTo(end) >= 0) {
+      return true;
+    }
 
     try {
-      rocksIterator.seek(deleteRange.getStart());
-
-      while (rocksIterator.isValid()) {
-        byte[] key = rocksIterator.key();
-        // Break if the key is out of the scan range
-        if (Bytes.wrap(key).compareTo(deleteRange.getEnd()) > 0) {
-          break;
-        }
-
-        if (Bytes.wrap(key).compareTo(deleteRange.getStart()) == 0) {
-          if (deleteRange.isStartInclusive()) {
-            delete(key);
-          }
-        } else if (Bytes.wrap(key).compareTo(deleteRange.getEnd()) == 0) {
-          if (deleteRange.isEndInclusive()) {
-            delete(key);
-          }
-          break;
-        } else {
-          delete(key);
-        }
-
-        rocksIterator.next();
-      }
+      db.deleteRange(writeOptions, begin, end);
       return true;
-    } finally {
-      rocksIterator.close();
+    } catch (RocksDBException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  public void compactRange(byte[] start, byte[] end) throws IOException {
+    try {
+      db.compactRange(start, end);
+    } catch (RocksDBException e) {
+      throw new IOException(e);
     }
   }
 
   @Override
   public void close() throws IOException {
+    if (writeOptions != null) {
+      writeOptions.close();
+    }
     db.close();
+    // The native objects must be released after the db is closed.
+    closeQuietly(totalOrderReadOptions);
+    closeQuietly(prefixReadOptions);
+    closeQuietly(options);
+    closeQuietly(blockCache);
+    closeQuietly(bloomFilter);
+    closeQuietly(rateLimiter);
+  }
+
+  private static void closeQuietly(AbstractNativeReference resource) {
+    if (resource != null) {
+      resource.close();
+    }
   }
 
   @VisibleForTesting
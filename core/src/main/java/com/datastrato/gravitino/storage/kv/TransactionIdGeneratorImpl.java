@@ -16,6 +16,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,8 +30,13 @@ public class TransactionIdGeneratorImpl implements TransactionIdGenerator {
   static final byte[] LAST_TIMESTAMP =
       Bytes.concat(ID_GENERATOR_PREFIX, "last_timestamp".getBytes(StandardCharsets.UTF_8));
 
-  private volatile long incrementId = 0L;
-  private volatile long lastTransactionId = 0L;
+  // The low 18 bits of a transaction id are the logical counter in a millisecond.
+  private static final int LOGICAL_BITS = 18;
+
+  // The last transaction id that has been handed out, shared by all the threads so that the ids
+  // are increasing globally. The KV store orders the versions of a key by the transaction id, a
+  // later transaction with a smaller id would be shadowed by an earlier one.
+  private final AtomicLong lastTransactionId = new AtomicLong(0L);
   private final Config config;
 
   private final ScheduledExecutorService scheduledThreadPoolExecutor =
@@ -116,21 +122,19 @@ public class TransactionIdGeneratorImpl implements TransactionIdGenerator {
   }
 
   /**
-   * We use the timestamp as the high 46 bits and the incrementId as the low 18 bits. The timestamp
-   * is always incremental.
+   * We use the timestamp as the high 46 bits and a logical counter as the low 18 bits, like a
+   * hybrid logical clock. The id is the current timestamp with a zero counter if it's larger than
+   * the last id, otherwise it's the last id plus one, so the ids are always incremental without
+   * waiting for the clock. All the threads allocate the ids from the same counter, so an id
+   * handed out later is always larger than the ids handed out before, whichever thread gets it.
    */
   @Override
-  public synchronized long nextId() {
-    incrementId++;
-    if (incrementId >= ((1 << 18) - 1)) {
-      incrementId = 0;
-    }
-
+  public long nextId() {
     while (true) {
-      long tmpId = (System.currentTimeMillis() << 18) + incrementId;
-      if (tmpId > lastTransactionId) {
-        lastTransactionId = tmpId;
-        return tmpId;
+      long last = lastTransactionId.get();
+      long next = Math.max(System.currentTimeMillis() << LOGICAL_BITS, last + 1);
+      if (lastTransactionId.compareAndSet(last, next)) {
+        return next;
       }
     }
   }
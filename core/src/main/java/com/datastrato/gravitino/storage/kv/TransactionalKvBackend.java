@@ -29,6 +29,14 @@ public interface TransactionalKvBackend extends KvBackend {
   /** Close the current transaction. */
   void closeTransaction();
 
+  /**
+   * Register a callback which will be invoked after the transaction in the current thread is
+   * committed. The callback will be discarded if the transaction is not committed.
+   *
+   * @param callback the callback to invoke after the commit
+   */
+  void afterCommit(Runnable callback);
+
   /**
    * Check whether the backend is in transaction in the current thread.
    *
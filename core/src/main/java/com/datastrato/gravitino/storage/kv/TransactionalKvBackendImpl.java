@@ -6,6 +6,7 @@
 package com.datastrato.gravitino.storage.kv;
 
 import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.EntityAlreadyExistsException;
 import com.datastrato.gravitino.storage.TransactionIdGenerator;
 import com.datastrato.gravitino.utils.ByteUtils;
@@ -19,6 +20,8 @@ import javax.annotation.concurrent.ThreadSafe;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * TransactionalKvBackendImpl is an implementation of {@link TransactionalKvBackend} that uses 2PC
@@ -48,8 +51,10 @@ import org.apache.commons.lang3.tuple.Pair;
  */
 @ThreadSafe
 public class TransactionalKvBackendImpl implements TransactionalKvBackend {
+  private static final Logger LOG = LoggerFactory.getLogger(TransactionalKvBackendImpl.class);
   private final KvBackend kvBackend;
   private final TransactionIdGenerator transactionIdGenerator;
+  private final CommittedTransactionIndex committedTransactionIndex;
 
   @VisibleForTesting
   final ThreadLocal<List<Pair<byte[], byte[]>>> putPairs =
@@ -60,6 +65,9 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
 
   @VisibleForTesting final ThreadLocal<Long> txId = new ThreadLocal<>();
 
+  private final ThreadLocal<List<Runnable>> afterCommitCallbacks =
+      ThreadLocal.withInitial(Lists::newArrayList);
+
   // 0x1E is control character RS
   private static final byte[] TRANSACTION_PREFIX = {0x1E};
 
@@ -74,10 +82,27 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
   private static final int LENGTH_OF_SEPARATOR = SEPARATOR.length;
   private static final int LENGTH_OF_VALUE_STATUS = Byte.BYTES;
 
+  // The number of raw key-value pairs, including all versions of keys, to read from the kv backend
+  // at a time when scanning.
+  private static final int DEFAULT_SCAN_BATCH_SIZE = 1000;
+
+  @VisibleForTesting int scanBatchSize = DEFAULT_SCAN_BATCH_SIZE;
+
   public TransactionalKvBackendImpl(
       KvBackend kvBackend, TransactionIdGenerator transactionIdGenerator) {
+    this(
+        kvBackend,
+        transactionIdGenerator,
+        new CommittedTransactionIndex(Configs.DEFAULT_KV_COMMITTED_TRANSACTION_INDEX_CAPACITY));
+  }
+
+  TransactionalKvBackendImpl(
+      KvBackend kvBackend,
+      TransactionIdGenerator transactionIdGenerator,
+      CommittedTransactionIndex committedTransactionIndex) {
     this.kvBackend = kvBackend;
     this.transactionIdGenerator = transactionIdGenerator;
+    this.committedTransactionIndex = committedTransactionIndex;
   }
 
   @Override
@@ -93,23 +118,22 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
   @Override
   public void commit() throws IOException {
     try {
-      if (putPairs.get().isEmpty()) {
-        return;
+      if (!putPairs.get().isEmpty()) {
+        // Prepare and commit in one batch, the data and the commit mark will be written atomically
+        List<Pair<byte[], byte[]>> batch = Lists.newArrayList(putPairs.get());
+        batch.add(
+            Pair.of(
+                generateCommitKey(txId.get()),
+                SerializationUtils.serialize((Serializable) originalKeys.get())));
+        kvBackend.batchPut(batch, true);
+        committedTransactionIndex.add(txId.get());
       }
 
-      // Prepare
-      for (Pair<byte[], byte[]> pair : putPairs.get()) {
-        kvBackend.put(pair.getKey(), pair.getValue(), true);
-      }
-
-      // Commit
-      kvBackend.put(
-          generateCommitKey(txId.get()),
-          SerializationUtils.serialize((Serializable) originalKeys.get()),
-          true);
+      afterCommitCallbacks.get().forEach(Runnable::run);
     } finally {
       putPairs.get().clear();
       originalKeys.get().clear();
+      afterCommitCallbacks.get().clear();
       txId.remove();
     }
   }
@@ -126,16 +150,49 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
   public void closeTransaction() {
     putPairs.remove();
     originalKeys.remove();
+    afterCommitCallbacks.remove();
     txId.remove();
   }
 
+  @Override
+  public void afterCommit(Runnable callback) {
+    if (!inTransaction()) {
+      callback.run();
+      return;
+    }
+
+    afterCommitCallbacks.get().add(callback);
+  }
+
   @Override
   public boolean inTransaction() {
     return txId.get() != null;
   }
 
+  /**
+   * Warm up the committed transaction index with the latest commit marks. As the transaction id is
+   * reverted in the commit key, the scan will start from the latest transaction.
+   */
   @Override
-  public void initialize(Config config) throws IOException {}
+  public void initialize(Config config) throws IOException {
+    if (!committedTransactionIndex.isEnabled()) {
+      return;
+    }
+
+    List<Pair<byte[], byte[]>> commitMarks =
+        kvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start(Bytes.concat(TRANSACTION_PREFIX, SEPARATOR))
+                .end(endOfTransactionId())
+                .startInclusive(true)
+                .endInclusive(true)
+                .limit(committedTransactionIndex.capacity())
+                .build());
+    for (Pair<byte[], byte[]> commitMark : commitMarks) {
+      committedTransactionIndex.add(getTransactionId(getBinaryTransactionId(commitMark.getKey())));
+    }
+    LOG.info("Warmed up committed transaction index with {} commit marks", commitMarks.size());
+  }
 
   @Override
   public void put(byte[] key, byte[] value, boolean overwrite)
@@ -150,6 +207,14 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
     originalKeys.get().add(key);
   }
 
+  @Override
+  public void batchPut(List<Pair<byte[], byte[]>> kvs, boolean overwrite)
+      throws IOException, EntityAlreadyExistsException {
+    for (Pair<byte[], byte[]> kv : kvs) {
+      put(kv.getKey(), kv.getValue(), overwrite);
+    }
+  }
+
   @Override
   public byte[] get(byte[] key) throws IOException {
     byte[] rawValue = getNextReadableValue(key);
@@ -184,9 +249,17 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
                     Pair.of(
                         generateKey(p.getKey(), txId.get()),
                         constructValue(p.getValue(), ValueStatusEnum.DELETED))));
+    // Record the deleted keys in the commit mark, so the garbage collector can remove them.
+    pairs.forEach(p -> originalKeys.get().add(p.getKey()));
     return true;
   }
 
+  @Override
+  public void compactRange(byte[] start, byte[] end) throws IOException {
+    // All the versions of the keys in [start, end] are in the raw range [start, endOfKey(end)].
+    kvBackend.compactRange(start, endOfKey(end));
+  }
+
   @Override
   public List<Pair<byte[], byte[]>> scan(KvRange scanRange) throws IOException {
     // Why we need to change the end key? Because we use the transaction id to construct a row key
@@ -200,59 +273,76 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
       endInclude = false;
     }
 
-    KvRange kvRange =
-        new KvRange.KvRangeBuilder()
-            .start(scanRange.getStart())
-            .end(end)
-            .startInclusive(scanRange.isStartInclusive())
-            .endInclusive(endInclude)
-            .predicate(
-                (k, v) -> {
-                  byte[] transactionId = getBinaryTransactionId(k);
-                  return kvBackend.get(generateCommitKey(transactionId)) != null;
-                })
-            .limit(Integer.MAX_VALUE)
-            .build();
-
-    List<Pair<byte[], byte[]>> rawPairs = kvBackend.scan(kvRange);
+    // The raw data contains all the versions of keys, so we scan it batch by batch instead of
+    // loading the whole range into memory at once. Every batch continues from the smallest raw key
+    // that can belong to a key next to the last one we have seen.
     List<Pair<byte[], byte[]>> result = Lists.newArrayList();
-    int i = 0, j = 0;
-    while (i < scanRange.getLimit() && j < rawPairs.size()) {
-      Pair<byte[], byte[]> pair = rawPairs.get(j);
-      byte[] rawKey = pair.getKey();
-      byte[] realKey = getRealKey(rawKey);
-      Bytes minNextKey = Bytes.increment(Bytes.wrap(Bytes.concat(realKey, SEPARATOR)));
-
-      // If the start key is exclusive and the key is equal to the start key, we need to skip it.
-      if (!scanRange.isStartInclusive()
-          && Bytes.wrap(realKey).compareTo(scanRange.getStart()) == 0) {
-        while (j < rawPairs.size() && minNextKey.compareTo(rawPairs.get(j).getKey()) >= 0) {
-          j++;
+    byte[] batchStart = scanRange.getStart();
+    boolean batchStartInclusive = scanRange.isStartInclusive();
+    while (result.size() < scanRange.getLimit()) {
+      List<Pair<byte[], byte[]>> rawPairs =
+          kvBackend.scan(
+              new KvRange.KvRangeBuilder()
+                  .start(batchStart)
+                  .end(end)
+                  .startInclusive(batchStartInclusive)
+                  .endInclusive(endInclude)
+                  .predicate((k, v) -> isCommitted(getBinaryTransactionId(k)))
+                  .limit(scanBatchSize)
+                  .build());
+
+      Bytes minNextKey = null;
+      int j = 0;
+      while (result.size() < scanRange.getLimit() && j < rawPairs.size()) {
+        Pair<byte[], byte[]> pair = rawPairs.get(j);
+        byte[] rawKey = pair.getKey();
+        byte[] realKey = getRealKey(rawKey);
+        minNextKey = Bytes.increment(Bytes.wrap(Bytes.concat(realKey, SEPARATOR)));
+
+        // If the start key is exclusive and the key is equal to the start key, we need to skip it.
+        if (!scanRange.isStartInclusive()
+            && Bytes.wrap(realKey).compareTo(scanRange.getStart()) == 0) {
+          j = skipVersions(rawPairs, j, minNextKey);
+          continue;
         }
-        continue;
-      }
 
-      // If the end key is exclusive and the key is equal to the end key, we need to skip it.
-      if (!scanRange.isEndInclusive() && Bytes.wrap(realKey).compareTo(scanRange.getEnd()) == 0) {
-        break;
+        // If the end key is exclusive and the key is equal to the end key, we need to skip it.
+        if (!scanRange.isEndInclusive() && Bytes.wrap(realKey).compareTo(scanRange.getEnd()) == 0) {
+          return result;
+        }
+
+        byte[] value = getRealValue(pair.getValue());
+        if (value != null) {
+          result.add(Pair.of(realKey, value));
+        }
+
+        // Skip all versions of the same key.
+        j = skipVersions(rawPairs, j + 1, minNextKey);
       }
 
-      byte[] value = getRealValue(pair.getValue());
-      if (value != null) {
-        result.add(Pair.of(realKey, value));
-        i++;
+      if (rawPairs.size() < scanBatchSize || minNextKey == null) {
+        break;
       }
 
-      j++;
-      // Skip all versions of the same key.
-      while (j < rawPairs.size() && minNextKey.compareTo(rawPairs.get(j).getKey()) >= 0) {
-        j++;
+      // The remaining versions of the last key may be in the next batch, skip them all.
+      batchStart = minNextKey.get();
+      batchStartInclusive = false;
+      if (Bytes.wrap(batchStart).compareTo(end) >= 0) {
+        break;
       }
     }
 
     return result;
   }
 
+  private static int skipVersions(List<Pair<byte[], byte[]>> rawPairs, int from, Bytes minNextKey) {
+    int j = from;
+    while (j < rawPairs.size() && minNextKey.compareTo(rawPairs.get(j).getKey()) >= 0) {
+      j++;
+    }
+    return j;
+  }
+
   @Override
   public void close() throws IOException {}
 
@@ -291,11 +381,7 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
                 .startInclusive(false)
                 .end(endOfKey(key))
                 .endInclusive(false)
-                .predicate(
-                    (k, v) -> {
-                      byte[] transactionId = getBinaryTransactionId(k);
-                      return kvBackend.get(generateCommitKey(transactionId)) != null;
-                    })
+                .predicate((k, v) -> isCommitted(getBinaryTransactionId(k)))
                 .limit(1)
                 .build());
 
@@ -306,6 +392,23 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
     return pairs.get(0).getValue();
   }
 
+  /**
+   * Check whether the transaction has been committed. The committed transaction index is checked
+   * first, and we only read the commit mark from the kv backend if the index misses.
+   */
+  private boolean isCommitted(byte[] binaryTransactionId) throws IOException {
+    long transactionId = getTransactionId(binaryTransactionId);
+    if (committedTransactionIndex.contains(transactionId)) {
+      return true;
+    }
+
+    boolean committed = kvBackend.get(generateCommitKey(binaryTransactionId)) != null;
+    if (committed) {
+      committedTransactionIndex.add(transactionId);
+    }
+    return committed;
+  }
+
   /**
    * Revert the bytes, Why we need to revert the bytes? Because we use the transaction id to
    * construct a row key and need to place the latest version of the same key first. That is to say,
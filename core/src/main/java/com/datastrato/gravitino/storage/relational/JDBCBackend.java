@@ -37,6 +37,8 @@ import com.datastrato.gravitino.storage.relational.service.TableMetaService;
 import com.datastrato.gravitino.storage.relational.service.TopicMetaService;
 import com.datastrato.gravitino.storage.relational.service.UserMetaService;
 import com.datastrato.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import com.datastrato.gravitino.utils.Page;
+import com.google.common.base.Preconditions;
 import java.io.IOException;
 import java.util.List;
 import java.util.function.Function;
@@ -78,6 +80,68 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  /**
+   * The page token is the id of the last entity in the previous page, so the next page is fetched
+   * by keyset pagination on the primary key instead of an offset.
+   */
+  @Override
+  public <E extends Entity & HasIdentifier> Page<E> list(
+      Namespace namespace, Entity.EntityType entityType, String pageToken, int pageSize) {
+    Preconditions.checkArgument(pageSize > 0, "The page size must be positive: %s", pageSize);
+    long lastId = pageToken == null ? 0L : parseId(pageToken);
+    // Fetch one more entity to know whether there is a next page.
+    int limit = pageSize == Integer.MAX_VALUE ? pageSize : pageSize + 1;
+    List<E> entities;
+    switch (entityType) {
+      case METALAKE:
+        entities = (List<E>) MetalakeMetaService.getInstance().listMetalakes(lastId, limit);
+        break;
+      case CATALOG:
+        entities =
+            (List<E>)
+                CatalogMetaService.getInstance().listCatalogsByNamespace(namespace, lastId, limit);
+        break;
+      case SCHEMA:
+        entities =
+            (List<E>)
+                SchemaMetaService.getInstance().listSchemasByNamespace(namespace, lastId, limit);
+        break;
+      case TABLE:
+        entities =
+            (List<E>)
+                TableMetaService.getInstance().listTablesByNamespace(namespace, lastId, limit);
+        break;
+      case FILESET:
+        entities =
+            (List<E>)
+                FilesetMetaService.getInstance().listFilesetsByNamespace(namespace, lastId, limit);
+        break;
+      case TOPIC:
+        entities =
+            (List<E>)
+                TopicMetaService.getInstance().listTopicsByNamespace(namespace, lastId, limit);
+        break;
+      default:
+        throw new UnsupportedEntityTypeException(
+            "Unsupported entity type: %s for list operation", entityType);
+    }
+
+    if (entities.size() <= pageSize) {
+      return Page.of(entities, null);
+    }
+
+    List<E> items = entities.subList(0, pageSize);
+    return Page.of(items, String.valueOf(items.get(pageSize - 1).id()));
+  }
+
+  private static long parseId(String pageToken) {
+    try {
+      return Long.parseLong(pageToken);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+    }
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) {
     try {
@@ -11,6 +11,7 @@ import com.datastrato.gravitino.HasIdentifier;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
+import com.datastrato.gravitino.utils.Page;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
@@ -39,6 +40,21 @@ public interface RelationalBackend extends Closeable {
   <E extends Entity & HasIdentifier> List<E> list(Namespace namespace, Entity.EntityType entityType)
       throws NoSuchEntityException;
 
+  /**
+   * Lists a page of the entities associated with the given parent namespace and entityType.
+   *
+   * @param namespace The parent namespace of these entities.
+   * @param entityType The type of these entities.
+   * @param pageToken The token returned by the previous page, or null to list from the beginning.
+   * @param pageSize The maximum number of entities in the page.
+   * @return The page of entities associated with the given parent namespace and entityType.
+   * @throws NoSuchEntityException If the corresponding parent entity of these list entities cannot
+   *     be found.
+   */
+  <E extends Entity & HasIdentifier> Page<E> list(
+      Namespace namespace, Entity.EntityType entityType, String pageToken, int pageSize)
+      throws NoSuchEntityException;
+
   /**
    * Checks the entity associated with the given identifier and entityType whether exists.
    *
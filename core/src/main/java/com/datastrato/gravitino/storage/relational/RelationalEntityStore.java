@@ -18,6 +18,7 @@ import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import com.datastrato.gravitino.utils.Executable;
+import com.datastrato.gravitino.utils.Page;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.util.List;
@@ -74,6 +75,17 @@ public class RelationalEntityStore implements EntityStore {
     return backend.list(namespace, entityType);
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> Page<E> list(
+      Namespace namespace,
+      Class<E> type,
+      Entity.EntityType entityType,
+      String pageToken,
+      int pageSize)
+      throws IOException {
+    return backend.list(namespace, entityType, pageToken, pageSize);
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     return backend.exists(ident, entityType);
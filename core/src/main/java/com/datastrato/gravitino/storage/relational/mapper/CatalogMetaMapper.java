@@ -35,6 +35,21 @@ public interface CatalogMetaMapper {
           + " WHERE metalake_id = #{metalakeId} AND deleted_at = 0")
   List<CatalogPO> listCatalogPOsByMetalakeId(@Param("metalakeId") Long metalakeId);
 
+  @Select(
+      "SELECT catalog_id as catalogId, catalog_name as catalogName,"
+          + " metalake_id as metalakeId, type, provider,"
+          + " catalog_comment as catalogComment, properties, audit_info as auditInfo,"
+          + " current_version as currentVersion, last_version as lastVersion,"
+          + " deleted_at as deletedAt"
+          + " FROM "
+          + TABLE_NAME
+          + " WHERE metalake_id = #{metalakeId} AND deleted_at = 0"
+          + " AND catalog_id > #{lastCatalogId} ORDER BY catalog_id LIMIT #{limit}")
+  List<CatalogPO> listCatalogPOsByMetalakeIdAfterId(
+      @Param("metalakeId") Long metalakeId,
+      @Param("lastCatalogId") Long lastCatalogId,
+      @Param("limit") int limit);
+
   @Select(
       "SELECT catalog_id as catalogId FROM "
           + TABLE_NAME
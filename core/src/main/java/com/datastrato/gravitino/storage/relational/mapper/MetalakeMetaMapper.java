@@ -35,6 +35,19 @@ public interface MetalakeMetaMapper {
           + " WHERE deleted_at = 0")
   List<MetalakePO> listMetalakePOs();
 
+  @Select(
+      "SELECT metalake_id as metalakeId, metalake_name as metalakeName,"
+          + " metalake_comment as metalakeComment, properties,"
+          + " audit_info as auditInfo, schema_version as schemaVersion,"
+          + " current_version as currentVersion, last_version as lastVersion,"
+          + " deleted_at as deletedAt"
+          + " FROM "
+          + TABLE_NAME
+          + " WHERE deleted_at = 0"
+          + " AND metalake_id > #{lastMetalakeId} ORDER BY metalake_id LIMIT #{limit}")
+  List<MetalakePO> listMetalakePOsAfterId(
+      @Param("lastMetalakeId") Long lastMetalakeId, @Param("limit") int limit);
+
   @Select(
       "SELECT metalake_id as metalakeId, metalake_name as metalakeName,"
           + " metalake_comment as metalakeComment, properties,"
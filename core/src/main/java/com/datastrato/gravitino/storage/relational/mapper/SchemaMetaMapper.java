@@ -35,6 +35,21 @@ public interface SchemaMetaMapper {
           + " WHERE catalog_id = #{catalogId} AND deleted_at = 0")
   List<SchemaPO> listSchemaPOsByCatalogId(@Param("catalogId") Long catalogId);
 
+  @Select(
+      "SELECT schema_id as schemaId, schema_name as schemaName,"
+          + " metalake_id as metalakeId, catalog_id as catalogId,"
+          + " schema_comment as schemaComment, properties, audit_info as auditInfo,"
+          + " current_version as currentVersion, last_version as lastVersion,"
+          + " deleted_at as deletedAt"
+          + " FROM "
+          + TABLE_NAME
+          + " WHERE catalog_id = #{catalogId} AND deleted_at = 0"
+          + " AND schema_id > #{lastSchemaId} ORDER BY schema_id LIMIT #{limit}")
+  List<SchemaPO> listSchemaPOsByCatalogIdAfterId(
+      @Param("catalogId") Long catalogId,
+      @Param("lastSchemaId") Long lastSchemaId,
+      @Param("limit") int limit);
+
   @Select(
       "SELECT schema_id as schemaId FROM "
           + TABLE_NAME
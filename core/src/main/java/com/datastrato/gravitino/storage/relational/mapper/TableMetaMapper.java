@@ -35,6 +35,21 @@ public interface TableMetaMapper {
           + " WHERE schema_id = #{schemaId} AND deleted_at = 0")
   List<TablePO> listTablePOsBySchemaId(@Param("schemaId") Long schemaId);
 
+  @Select(
+      "SELECT table_id as tableId, table_name as tableName,"
+          + " metalake_id as metalakeId, catalog_id as catalogId,"
+          + " schema_id as schemaId, audit_info as auditInfo,"
+          + " current_version as currentVersion, last_version as lastVersion,"
+          + " deleted_at as deletedAt"
+          + " FROM "
+          + TABLE_NAME
+          + " WHERE schema_id = #{schemaId} AND deleted_at = 0"
+          + " AND table_id > #{lastTableId} ORDER BY table_id LIMIT #{limit}")
+  List<TablePO> listTablePOsBySchemaIdAfterId(
+      @Param("schemaId") Long schemaId,
+      @Param("lastTableId") Long lastTableId,
+      @Param("limit") int limit);
+
   @Select(
       "SELECT table_id as tableId FROM "
           + TABLE_NAME
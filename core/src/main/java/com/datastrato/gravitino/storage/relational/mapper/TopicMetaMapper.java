@@ -79,6 +79,21 @@ public interface TopicMetaMapper {
           + " WHERE schema_id = #{schemaId} AND deleted_at = 0")
   List<TopicPO> listTopicPOsBySchemaId(@Param("schemaId") Long schemaId);
 
+  @Select(
+      "SELECT topic_id as topicId, topic_name as topicName, metalake_id as metalakeId,"
+          + " catalog_id as catalogId, schema_id as schemaId,"
+          + " comment as comment, properties as properties, audit_info as auditInfo,"
+          + " current_version as currentVersion, last_version as lastVersion,"
+          + " deleted_at as deletedAt"
+          + " FROM "
+          + TABLE_NAME
+          + " WHERE schema_id = #{schemaId} AND deleted_at = 0"
+          + " AND topic_id > #{lastTopicId} ORDER BY topic_id LIMIT #{limit}")
+  List<TopicPO> listTopicPOsBySchemaIdAfterId(
+      @Param("schemaId") Long schemaId,
+      @Param("lastTopicId") Long lastTopicId,
+      @Param("limit") int limit);
+
   @Select(
       "SELECT topic_id as topicId, topic_name as topicName,"
           + " metalake_id as metalakeId, catalog_id as catalogId, schema_id as schemaId,"
@@ -94,6 +94,29 @@ public class CatalogMetaService {
     return POConverters.fromCatalogPOs(catalogPOS, namespace);
   }
 
+  /**
+   * List the catalogs under the namespace whose id is greater than {@code lastCatalogId} in the
+   * order of id.
+   *
+   * @param namespace the namespace of the catalogs
+   * @param lastCatalogId the id of the last catalog in the previous page, 0 for the first page
+   * @param limit the maximum number of catalogs to return
+   * @return the list of catalogs
+   */
+  public List<CatalogEntity> listCatalogsByNamespace(
+      Namespace namespace, long lastCatalogId, int limit) {
+    Namespace.checkCatalog(namespace);
+
+    Long metalakeId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<CatalogPO> catalogPOs =
+        SessionUtils.getWithoutCommit(
+            CatalogMetaMapper.class,
+            mapper -> mapper.listCatalogPOsByMetalakeIdAfterId(metalakeId, lastCatalogId, limit));
+
+    return POConverters.fromCatalogPOs(catalogPOs, namespace);
+  }
+
   public void insertCatalog(CatalogEntity catalogEntity, boolean overwrite) {
     try {
       NameIdentifier.checkCatalog(catalogEntity.nameIdentifier());
@@ -95,6 +95,29 @@ public class FilesetMetaService {
     return POConverters.fromFilesetPOs(filesetPOs, namespace);
   }
 
+  /**
+   * List the filesets under the namespace whose id is greater than {@code lastFilesetId} in the
+   * order of id.
+   *
+   * @param namespace the namespace of the filesets
+   * @param lastFilesetId the id of the last fileset in the previous page, 0 for the first page
+   * @param limit the maximum number of filesets to return
+   * @return the list of filesets
+   */
+  public List<FilesetEntity> listFilesetsByNamespace(
+      Namespace namespace, long lastFilesetId, int limit) {
+    Namespace.checkFileset(namespace);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<FilesetPO> filesetPOs =
+        SessionUtils.getWithoutCommit(
+            FilesetMetaMapper.class,
+            mapper -> mapper.listFilesetPOsBySchemaIdAfterId(schemaId, lastFilesetId, limit));
+
+    return POConverters.fromFilesetPOs(filesetPOs, namespace);
+  }
+
   public void insertFileset(FilesetEntity filesetEntity, boolean overwrite) {
     try {
       NameIdentifier.checkFileset(filesetEntity.nameIdentifier());
@@ -54,6 +54,21 @@ public class MetalakeMetaService {
     return POConverters.fromMetalakePOs(metalakePOS);
   }
 
+  /**
+   * List the metalakes whose id is greater than {@code lastMetalakeId} in the order of id.
+   *
+   * @param lastMetalakeId the id of the last metalake in the previous page, 0 for the first page
+   * @param limit the maximum number of metalakes to return
+   * @return the list of metalakes
+   */
+  public List<BaseMetalake> listMetalakes(long lastMetalakeId, int limit) {
+    List<MetalakePO> metalakePOs =
+        SessionUtils.getWithoutCommit(
+            MetalakeMetaMapper.class,
+            mapper -> mapper.listMetalakePOsAfterId(lastMetalakeId, limit));
+    return POConverters.fromMetalakePOs(metalakePOs);
+  }
+
   public Long getMetalakeIdByName(String metalakeName) {
     Long metalakeId =
         SessionUtils.getWithoutCommit(
@@ -91,6 +91,29 @@ public class SchemaMetaService {
     return POConverters.fromSchemaPOs(schemaPOs, namespace);
   }
 
+  /**
+   * List the schemas under the namespace whose id is greater than {@code lastSchemaId} in the
+   * order of id.
+   *
+   * @param namespace the namespace of the schemas
+   * @param lastSchemaId the id of the last schema in the previous page, 0 for the first page
+   * @param limit the maximum number of schemas to return
+   * @return the list of schemas
+   */
+  public List<SchemaEntity> listSchemasByNamespace(
+      Namespace namespace, long lastSchemaId, int limit) {
+    Namespace.checkSchema(namespace);
+
+    Long catalogId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<SchemaPO> schemaPOs =
+        SessionUtils.getWithoutCommit(
+            SchemaMetaMapper.class,
+            mapper -> mapper.listSchemaPOsByCatalogIdAfterId(catalogId, lastSchemaId, limit));
+
+    return POConverters.fromSchemaPOs(schemaPOs, namespace);
+  }
+
   public void insertSchema(SchemaEntity schemaEntity, boolean overwrite) {
     try {
       NameIdentifier.checkSchema(schemaEntity.nameIdentifier());
@@ -84,6 +84,28 @@ public class TableMetaService {
     return POConverters.fromTablePOs(tablePOs, namespace);
   }
 
+  /**
+   * List the tables under the namespace whose id is greater than {@code lastTableId} in the order
+   * of id.
+   *
+   * @param namespace the namespace of the tables
+   * @param lastTableId the id of the last table in the previous page, 0 for the first page
+   * @param limit the maximum number of tables to return
+   * @return the list of tables
+   */
+  public List<TableEntity> listTablesByNamespace(Namespace namespace, long lastTableId, int limit) {
+    Namespace.checkTable(namespace);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<TablePO> tablePOs =
+        SessionUtils.getWithoutCommit(
+            TableMetaMapper.class,
+            mapper -> mapper.listTablePOsBySchemaIdAfterId(schemaId, lastTableId, limit));
+
+    return POConverters.fromTablePOs(tablePOs, namespace);
+  }
+
   public void insertTable(TableEntity tableEntity, boolean overwrite) {
     try {
       NameIdentifier.checkTable(tableEntity.nameIdentifier());
@@ -71,6 +71,28 @@ public class TopicMetaService {
     return POConverters.fromTopicPOs(topicPOs, namespace);
   }
 
+  /**
+   * List the topics under the namespace whose id is greater than {@code lastTopicId} in the order
+   * of id.
+   *
+   * @param namespace the namespace of the topics
+   * @param lastTopicId the id of the last topic in the previous page, 0 for the first page
+   * @param limit the maximum number of topics to return
+   * @return the list of topics
+   */
+  public List<TopicEntity> listTopicsByNamespace(Namespace namespace, long lastTopicId, int limit) {
+    Namespace.checkTopic(namespace);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<TopicPO> topicPOs =
+        SessionUtils.getWithoutCommit(
+            TopicMetaMapper.class,
+            mapper -> mapper.listTopicPOsBySchemaIdAfterId(schemaId, lastTopicId, limit));
+
+    return POConverters.fromTopicPOs(topicPOs, namespace);
+  }
+
   public <E extends Entity & HasIdentifier> TopicEntity updateTopic(
       NameIdentifier ident, Function<E, E> updater) throws IOException {
     NameIdentifier.checkTopic(ident);
@@ -14,6 +14,7 @@ import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.JavaVersion;
 import org.apache.commons.lang3.SystemUtils;
@@ -41,6 +42,10 @@ public class IsolatedClassLoader implements Closeable {
 
   private final ClassLoader baseClassLoader;
 
+  // The number of the holders of this class loader, the class loader is closed when the last
+  // holder closes it. It starts from 1 for the creator.
+  private final AtomicInteger referenceCount = new AtomicInteger(1);
+
   /**
    * Constructs an IsolatedClassLoader with the provided parameters.
    *
@@ -66,10 +71,14 @@ public class IsolatedClassLoader implements Closeable {
    * @throws Exception if an error occurs during the execution.
    */
   public <T> T withClassLoader(ThrowableFunction<ClassLoader, T> fn) throws Exception {
+    long startNanos = System.nanoTime();
     ClassLoader original = Thread.currentThread().getContextClassLoader();
-    Thread.currentThread().setContextClassLoader(classLoader());
+    // Acquires the class loader once, it may wait for another thread creating it.
+    ClassLoader isolated = classLoader();
+    Thread.currentThread().setContextClassLoader(isolated);
+    IsolatedClassLoaderMetricsSource.getInstance().updateSwap(System.nanoTime() - startNanos);
     try {
-      return fn.apply(classLoader());
+      return fn.apply(isolated);
     } finally {
       Thread.currentThread().setContextClassLoader(original);
     }
@@ -131,9 +140,39 @@ public class IsolatedClassLoader implements Closeable {
         classPathContents, Collections.emptyList(), Collections.emptyList());
   }
 
-  /** Closes the class loader. */
+  /**
+   * Tries to add a holder of this class loader, so it can be shared by multiple holders. Each
+   * holder should call {@link #close()} once when it no longer uses the class loader.
+   *
+   * @return true if the holder is added, false if the class loader has been closed.
+   */
+  public boolean tryRetain() {
+    while (true) {
+      int count = referenceCount.get();
+      if (count <= 0) {
+        return false;
+      }
+      if (referenceCount.compareAndSet(count, count + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /** @return true if all the holders have closed the class loader. */
+  public boolean isClosed() {
+    return referenceCount.get() <= 0;
+  }
+
+  /**
+   * Closes the class loader. If the class loader is shared by multiple holders, it's only closed
+   * when the last holder closes it.
+   */
   @Override
   public void close() {
+    if (referenceCount.decrementAndGet() != 0) {
+      return;
+    }
+
     try {
       if (classLoader != null) {
         classLoader.close();
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.utils;
+
+import com.codahale.metrics.Timer;
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of {@link IsolatedClassLoader#withClassLoader(ThrowableFunction)}, they are shared by all
+ * the isolated class loaders of the process.
+ */
+public class IsolatedClassLoaderMetricsSource extends MetricsSource {
+  private static final IsolatedClassLoaderMetricsSource INSTANCE =
+      new IsolatedClassLoaderMetricsSource();
+
+  private final Timer swapTimer;
+
+  private IsolatedClassLoaderMetricsSource() {
+    super(MetricsSource.ISOLATED_CLASS_LOADER_METRIC_NAME);
+    this.swapTimer = getTimer(MetricNames.CLASS_LOADER_SWAP_DURATION);
+  }
+
+  /** @return The metrics source shared by all the isolated class loaders. */
+  public static IsolatedClassLoaderMetricsSource getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Records the time spent to switch the context class loader of the current thread to an isolated
+   * class loader, including the time to wait for the class loader to be created.
+   *
+   * @param durationNanos The time in nanoseconds spent to switch the class loader.
+   */
+  void updateSwap(long durationNanos) {
+    swapTimer.update(durationNanos, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.utils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * A page of a list result. The {@link #nextPageToken()} is an opaque continuation token which can
+ * be passed to the next list call to fetch the following page, it's null if this is the last page.
+ *
+ * @param <T> the type of the items in the page
+ */
+public final class Page<T> {
+
+  private final List<T> items;
+  @Nullable private final String nextPageToken;
+
+  private Page(List<? extends T> items, @Nullable String nextPageToken) {
+    Preconditions.checkArgument(items != null, "items cannot be null");
+    this.items = ImmutableList.copyOf(items);
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * Create a page.
+   *
+   * @param items the items of the page
+   * @param nextPageToken the token to fetch the next page, null if there are no more items
+   * @param <T> the type of the items
+   * @return the page
+   */
+  public static <T> Page<T> of(List<? extends T> items, @Nullable String nextPageToken) {
+    return new Page<>(items, nextPageToken);
+  }
+
+  /** @return the items of this page. */
+  public List<T> items() {
+    return items;
+  }
+
+  /** @return the token to fetch the next page, null if this is the last page. */
+  @Nullable
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
+  /** @return true if there are more items after this page. */
+  public boolean hasNext() {
+    return nextPageToken != null;
+  }
+
+  /**
+   * Convert the items of this page and keep the continuation token.
+   *
+   * @param mapper the function to convert the items
+   * @param <R> the type of the converted items
+   * @return the converted page
+   */
+  public <R> Page<R> map(Function<? super T, ? extends R> mapper) {
+    ImmutableList.Builder<R> builder = ImmutableList.builder();
+    items.forEach(item -> builder.add(mapper.apply(item)));
+    return new Page<>(builder.build(), nextPageToken);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof Page)) {
+      return false;
+    }
+    Page<?> page = (Page<?>) o;
+    return Objects.equals(items, page.items) && Objects.equals(nextPageToken, page.nextPageToken);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(items, nextPageToken);
+  }
+
+  @Override
+  public String toString() {
+    return "Page{items=" + items + ", nextPageToken=" + nextPageToken + "}";
+  }
+}
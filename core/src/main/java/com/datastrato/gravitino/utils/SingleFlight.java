@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Coalesces the concurrent loads of the same key into one in-flight load. The callers arriving
+ * while a load is in flight wait for it and share its result or failure, instead of loading from
+ * the backend again.
+ *
+ * <p>The "not found" failures are also cached for a short time, so the repeated loads of a missing
+ * key don't reach the backend. The cached failure must be invalidated by {@link #invalidate} once
+ * the key is created. Every caller gets its own "not found" exception, whose cause is the failure
+ * of the load.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the loaded values.
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+
+  private final Predicate<Exception> isNotFound;
+
+  private final UnaryOperator<Exception> newNotFound;
+
+  // Null if the "not found" failures are not cached.
+  private final Cache<K, Exception> notFoundCache;
+
+  // Increased by each invalidation, a load doesn't cache its "not found" failure if any key is
+  // invalidated while it's in flight, since the key may be created after the load read it.
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * Creates a new SingleFlight.
+   *
+   * @param notFoundTtlMs The time in milliseconds to cache the "not found" failures, 0 means the
+   *     failures are not cached.
+   * @param isNotFound The predicate to tell whether a failure means the key is not found.
+   * @param newNotFound The function to create a new "not found" exception for a caller from the
+   *     "not found" failure of the load.
+   */
+  public SingleFlight(
+      long notFoundTtlMs, Predicate<Exception> isNotFound, UnaryOperator<Exception> newNotFound) {
+    this.isNotFound = isNotFound;
+    this.newNotFound = newNotFound;
+    this.notFoundCache =
+        notFoundTtlMs > 0
+            ? Caffeine.newBuilder().expireAfterWrite(notFoundTtlMs, TimeUnit.MILLISECONDS).build()
+            : null;
+  }
+
+  /**
+   * Loads the value of the key, or waits for the in-flight load of the same key.
+   *
+   * @param key The key to load.
+   * @param loader The function to load the value from the backend.
+   * @return The loaded value.
+   * @throws Exception The failure of the load, or the cached "not found" failure of the key.
+   */
+  public V execute(K key, ThrowableFunction<K, V> loader) throws Exception {
+    if (notFoundCache != null) {
+      Exception notFound = notFoundCache.getIfPresent(key);
+      if (notFound != null) {
+        throw newNotFound.apply(notFound);
+      }
+    }
+
+    long startGeneration = generation.get();
+    CompletableFuture<V> future = new CompletableFuture<>();
+    CompletableFuture<V> inFlightLoad = inFlightLoads.putIfAbsent(key, future);
+    if (inFlightLoad != null) {
+      return await(inFlightLoad);
+    }
+
+    try {
+      V value = loader.apply(key);
+      future.complete(value);
+      return value;
+
+    } catch (Exception e) {
+      if (notFoundCache != null && isNotFound.test(e)) {
+        notFoundCache.put(key, e);
+        // Checked after putting, since the invalidation increases the generation before dropping
+        // the cached failure.
+        if (generation.get() != startGeneration) {
+          notFoundCache.invalidate(key);
+        }
+      }
+      future.completeExceptionally(e);
+      throw e;
+
+    } catch (Throwable t) {
+      future.completeExceptionally(t);
+      throw t;
+
+    } finally {
+      inFlightLoads.remove(key, future);
+    }
+  }
+
+  /**
+   * Invalidates the cached "not found" failure of the key, it should be called once the key is
+   * created. The callers arriving after the invalidation don't wait for the load in flight, which
+   * may have read the key before it's created.
+   *
+   * @param key The key to invalidate.
+   */
+  public void invalidate(K key) {
+    generation.incrementAndGet();
+    inFlightLoads.remove(key);
+    if (notFoundCache != null) {
+      notFoundCache.invalidate(key);
+    }
+  }
+
+  private V await(CompletableFuture<V> inFlightLoad) throws Exception {
+    try {
+      return inFlightLoad.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw e;
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception) {
+        Exception failure = (Exception) cause;
+        throw isNotFound.test(failure) ? newNotFound.apply(failure) : failure;
+      }
+      throw (Error) cause;
+    }
+  }
+}
@@ -14,6 +14,8 @@ import java.util.Map;
 import java.util.Objects;
 
 public class TestCatalog extends BaseCatalog<TestCatalog> {
+  // Mocks a catalog which can't share its classloader.
+  public static final String SHARED_CLASSLOADER_UNSUPPORTED = "mock.shared-classloader-unsupported";
 
   public TestCatalog() {}
 
@@ -35,6 +37,11 @@ public class TestCatalog extends BaseCatalog<TestCatalog> {
     return new TestCatalogCapabilities();
   }
 
+  @Override
+  public boolean supportsSharedClassLoader() {
+    return !Objects.equals(entity().getProperties().get(SHARED_CLASSLOADER_UNSUPPORTED), "true");
+  }
+
   @Override
   public TableCatalog asTableCatalog() {
     return (TableCatalog) ops();
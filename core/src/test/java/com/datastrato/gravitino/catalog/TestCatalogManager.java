@@ -14,11 +14,14 @@ import com.datastrato.gravitino.EntityStore;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.StringIdentifier;
+import com.datastrato.gravitino.TestCatalog;
+import com.datastrato.gravitino.connector.BaseCatalog;
 import com.datastrato.gravitino.exceptions.CatalogAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
 import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
 import com.datastrato.gravitino.meta.AuditInfo;
 import com.datastrato.gravitino.meta.BaseMetalake;
+import com.datastrato.gravitino.meta.CatalogEntity;
 import com.datastrato.gravitino.meta.SchemaVersion;
 import com.datastrato.gravitino.storage.RandomIdGenerator;
 import com.datastrato.gravitino.storage.memory.TestMemoryEntityStore;
@@ -26,10 +29,15 @@ import com.datastrato.gravitino.storage.memory.TestMemoryEntityStore.InMemoryEnt
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -334,6 +342,40 @@ public class TestCatalogManager {
     Assertions.assertTrue(exception.getMessage().contains("Metalake metalake1 does not exist"));
   }
 
+  @Test
+  public void testWarmUpCatalogs() throws Exception {
+    NameIdentifier ident = NameIdentifier.of("metalake", "test13");
+    NameIdentifier ident1 = NameIdentifier.of("metalake", "test14");
+    Map<String, String> props = ImmutableMap.of("provider", "test");
+    catalogManager.createCatalog(ident, Catalog.Type.RELATIONAL, provider, "comment", props);
+    catalogManager.createCatalog(ident1, Catalog.Type.RELATIONAL, provider, "comment", props);
+
+    // A catalog which fails to initialize should not block the warm-up of others.
+    NameIdentifier brokenIdent = NameIdentifier.of("metalake", "test15");
+    CatalogEntity brokenEntity =
+        CatalogEntity.builder()
+            .withId(1L)
+            .withName(brokenIdent.name())
+            .withNamespace(brokenIdent.namespace())
+            .withType(Catalog.Type.RELATIONAL)
+            .withProvider("non-existent")
+            .withComment("comment")
+            .withProperties(ImmutableMap.of())
+            .withAuditInfo(
+                AuditInfo.builder().withCreator("test").withCreateTime(Instant.now()).build())
+            .build();
+    entityStore.put(brokenEntity, true);
+
+    catalogManager.catalogCache.invalidateAll();
+    catalogManager.warmUpCatalogs(2).get(10, TimeUnit.SECONDS);
+
+    Assertions.assertTrue(catalogManager.isWarmUpCompleted());
+    Assertions.assertNotNull(catalogManager.catalogCache.getIfPresent(ident));
+    Assertions.assertNotNull(catalogManager.catalogCache.getIfPresent(ident1));
+    Assertions.assertNull(catalogManager.catalogCache.getIfPresent(brokenIdent));
+    Assertions.assertEquals(1, catalogManager.warmUpFailedCount());
+  }
+
   @Test
   public void testListCatalogsInfo() {
     NameIdentifier relIdent = NameIdentifier.of("metalake", "catalog_rel");
@@ -458,6 +500,70 @@ public class TestCatalogManager {
     Assertions.assertNull(catalogManager.catalogCache.getIfPresent(ident));
   }
 
+  @Test
+  public void testSharedClassLoader() throws IOException {
+    File pkg = Files.createTempDirectory("gravitino-catalog-package").toFile();
+    Assertions.assertTrue(new File(pkg, "libs").mkdir());
+    Assertions.assertTrue(new File(pkg, "conf").mkdir());
+    Config isolatedConfig = new Config(false) {};
+    isolatedConfig.set(Configs.CATALOG_LOAD_ISOLATED, true);
+    Map<String, String> props = ImmutableMap.of(Catalog.PROPERTY_PACKAGE, pkg.getAbsolutePath());
+    Map<String, String> sharedProps =
+        ImmutableMap.of(
+            Catalog.PROPERTY_PACKAGE,
+            pkg.getAbsolutePath(),
+            BaseCatalog.CATALOG_CLASSLOADER_SHARED,
+            "true");
+
+    try (CatalogManager manager =
+        new CatalogManager(isolatedConfig, entityStore, new RandomIdGenerator())) {
+      NameIdentifier ident1 = NameIdentifier.of(metalake, "test51");
+      NameIdentifier ident2 = NameIdentifier.of(metalake, "test52");
+      NameIdentifier ident3 = NameIdentifier.of(metalake, "test53");
+      manager.createCatalog(ident1, Catalog.Type.RELATIONAL, provider, "comment", sharedProps);
+      manager.createCatalog(ident2, Catalog.Type.RELATIONAL, provider, "comment", sharedProps);
+      // The catalog which doesn't enable the sharing has its own classloader
+      manager.createCatalog(ident3, Catalog.Type.RELATIONAL, provider, "comment", props);
+      Assertions.assertEquals(1, manager.sharedClassLoaderCount());
+
+      // The shared classloader is released once all its catalogs are dropped or evicted
+      Assertions.assertTrue(manager.dropCatalog(ident1));
+      Assertions.assertEquals(1, manager.sharedClassLoaderCount());
+      manager.catalogCache.invalidate(ident2);
+      Awaitility.await()
+          .atMost(5, TimeUnit.SECONDS)
+          .until(() -> manager.sharedClassLoaderCount() == 0);
+
+      // The evicted catalog gets a new shared classloader when it's loaded again
+      manager.loadCatalog(ident2);
+      Assertions.assertEquals(1, manager.sharedClassLoaderCount());
+
+      // The catalog which may release the states of the classloader when closed can't share it
+      NameIdentifier ident4 = NameIdentifier.of(metalake, "test54");
+      Map<String, String> unsupportedProps =
+          ImmutableMap.<String, String>builder()
+              .putAll(sharedProps)
+              .put(TestCatalog.SHARED_CLASSLOADER_UNSUPPORTED, "true")
+              .build();
+      IllegalArgumentException exception =
+          Assertions.assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  manager.createCatalog(
+                      ident4, Catalog.Type.RELATIONAL, provider, "comment", unsupportedProps));
+      Assertions.assertTrue(
+          exception.getMessage().contains(BaseCatalog.CATALOG_CLASSLOADER_SHARED));
+      Assertions.assertFalse(manager.catalogExists(ident4));
+      // The rejected catalog doesn't hold the shared classloader
+      manager.catalogCache.invalidate(ident2);
+      Awaitility.await()
+          .atMost(5, TimeUnit.SECONDS)
+          .until(() -> manager.sharedClassLoaderCount() == 0);
+    } finally {
+      FileUtils.deleteDirectory(pkg);
+    }
+  }
+
   private void testProperties(Map<String, String> expectedProps, Map<String, String> testProps) {
     expectedProps.forEach(
         (k, v) -> {
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.catalog;
+
+import static com.datastrato.gravitino.StringIdentifier.ID_KEY;
+
+import com.datastrato.gravitino.TestBasePropertiesMetadata;
+import com.datastrato.gravitino.connector.PropertiesMetadata;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCompiledPropertiesMetadata {
+
+  @Test
+  public void testSameAsPropertiesMetadata() {
+    PropertiesMetadata propertiesMetadata = new TestBasePropertiesMetadata();
+    CompiledPropertiesMetadata compiled = new CompiledPropertiesMetadata(propertiesMetadata);
+
+    Assertions.assertEquals(propertiesMetadata.propertyEntries(), compiled.propertyEntries());
+    Set<String> names = Sets.newHashSet(propertiesMetadata.propertyEntries().keySet());
+    names.add("unknown");
+    for (String name : names) {
+      Assertions.assertEquals(
+          propertiesMetadata.isHiddenProperty(name), compiled.isHiddenProperty(name));
+      Assertions.assertEquals(
+          propertiesMetadata.isReservedProperty(name), compiled.isReservedProperty(name));
+      Assertions.assertEquals(
+          propertiesMetadata.isRequiredProperty(name), compiled.isRequiredProperty(name));
+      Assertions.assertEquals(
+          propertiesMetadata.isImmutableProperty(name), compiled.isImmutableProperty(name));
+    }
+
+    Assertions.assertEquals(
+        Sets.newHashSet(TestBasePropertiesMetadata.TEST_REQUIRED_KEY),
+        compiled.requiredPropertyNames());
+  }
+
+  @Test
+  public void testHiddenPropertyNames() {
+    PropertiesMetadata propertiesMetadata = new TestBasePropertiesMetadata();
+    CompiledPropertiesMetadata compiled = new CompiledPropertiesMetadata(propertiesMetadata);
+
+    Map<String, String> properties =
+        ImmutableMap.of(
+            ID_KEY, "id", TestBasePropertiesMetadata.TEST_REQUIRED_KEY, "v1", "unknown", "v2");
+    Set<String> expected =
+        properties.keySet().stream()
+            .filter(propertiesMetadata::isHiddenProperty)
+            .collect(Collectors.toSet());
+    Assertions.assertEquals(expected, compiled.hiddenPropertyNames(properties));
+    Assertions.assertTrue(compiled.hiddenPropertyNames(ImmutableMap.of()).isEmpty());
+  }
+}
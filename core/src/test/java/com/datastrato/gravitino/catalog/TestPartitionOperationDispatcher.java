@@ -43,6 +43,7 @@ public class TestPartitionOperationDispatcher extends TestOperationDispatcher {
     ClassLoader classLoader =
         partitionOperationDispatcher.doWithTable(
             TABLE_IDENT,
+            "get-class-loader",
             s -> Thread.currentThread().getContextClassLoader(),
             RuntimeException.class);
     Assertions.assertInstanceOf(
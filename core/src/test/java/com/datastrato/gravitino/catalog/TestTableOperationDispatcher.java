@@ -9,15 +9,26 @@ import static com.datastrato.gravitino.StringIdentifier.ID_KEY;
 import static com.datastrato.gravitino.TestBasePropertiesMetadata.COMMENT_KEY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.datastrato.gravitino.Catalog;
+import com.datastrato.gravitino.CatalogChange;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.TestColumn;
+import com.datastrato.gravitino.UserPrincipal;
 import com.datastrato.gravitino.auth.AuthConstants;
+import com.datastrato.gravitino.connector.BaseCatalog;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
+import com.datastrato.gravitino.exceptions.NoSuchTableException;
 import com.datastrato.gravitino.meta.AuditInfo;
 import com.datastrato.gravitino.meta.TableEntity;
 import com.datastrato.gravitino.rel.Column;
@@ -25,13 +36,18 @@ import com.datastrato.gravitino.rel.Table;
 import com.datastrato.gravitino.rel.TableChange;
 import com.datastrato.gravitino.rel.expressions.transforms.Transform;
 import com.datastrato.gravitino.rel.types.Types;
+import com.datastrato.gravitino.utils.PrincipalUtils;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
+import java.security.Principal;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -158,6 +174,8 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Table loadedTable2 = tableOperationDispatcher.loadTable(tableIdent1);
     // Audit info is gotten from the catalog, not from the entity store
     Assertions.assertEquals("test", loadedTable2.auditInfo().creator());
+    // The "not found" result is cached for a while, invalidate it to test the other cases
+    tableOperationDispatcher.invalidateEntityLoad(tableIdent1);
 
     // Case 3: Test if the entity store is failed to get the table entity
     reset(entityStore);
@@ -273,4 +291,183 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertThrows(
         RuntimeException.class, () -> tableOperationDispatcher.dropTable(tableIdent));
   }
+
+  @Test
+  public void testLoadTables() throws IOException {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema91");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder().withName("col1").withType(Types.StringType.get()).build()
+        };
+    NameIdentifier tableIdent1 = NameIdentifier.of(tableNs, "table51");
+    NameIdentifier tableIdent2 = NameIdentifier.of(tableNs, "table52");
+    NameIdentifier missingIdent = NameIdentifier.of(tableNs, "table53");
+    tableOperationDispatcher.createTable(tableIdent1, columns, "comment", props, new Transform[0]);
+    tableOperationDispatcher.createTable(tableIdent2, columns, "comment", props, new Transform[0]);
+
+    reset(entityStore);
+    BatchLoadResult<Table> result =
+        tableOperationDispatcher.loadTables(
+            new NameIdentifier[] {tableIdent2, missingIdent, tableIdent1});
+
+    // The loaded tables keep the order of the request
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {tableIdent2, tableIdent1},
+        result.loaded().keySet().toArray(new NameIdentifier[0]));
+    Assertions.assertEquals("table52", result.loaded().get(tableIdent2).name());
+    Assertions.assertEquals("table51", result.loaded().get(tableIdent1).name());
+    // Audit info is gotten from the entity store
+    Assertions.assertEquals(
+        AuthConstants.ANONYMOUS_USER, result.loaded().get(tableIdent1).auditInfo().creator());
+
+    // The failure of one table doesn't fail the others
+    Assertions.assertEquals(1, result.failures().size());
+    Assertions.assertInstanceOf(NoSuchTableException.class, result.failures().get(missingIdent));
+
+    // Only the entities of the requested tables are read from the store
+    verify(entityStore, never()).list(eq(tableNs), eq(TableEntity.class), eq(TABLE));
+    verify(entityStore, times(3)).get(any(), eq(TABLE), any());
+  }
+
+  @Test
+  public void testLoadTablesAsCaller() throws Exception {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema92");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder().withName("col1").withType(Types.StringType.get()).build()
+        };
+    NameIdentifier tableIdent1 = NameIdentifier.of(tableNs, "table54");
+    NameIdentifier tableIdent2 = NameIdentifier.of(tableNs, "table55");
+    tableOperationDispatcher.createTable(tableIdent1, columns, "comment", props, new Transform[0]);
+    tableOperationDispatcher.createTable(tableIdent2, columns, "comment", props, new Transform[0]);
+
+    // Record the principals of the catalog operations run in the batch load threads.
+    Map<String, Principal> principals = new ConcurrentHashMap<>();
+    CatalogManager spiedCatalogManager = spy(catalogManager);
+    doAnswer(
+            invocation -> {
+              principals.put(
+                  Thread.currentThread().getName(), PrincipalUtils.getCurrentPrincipal());
+              return invocation.callRealMethod();
+            })
+        .when(spiedCatalogManager)
+        .loadCatalogAndWrap(any());
+
+    try (TableOperationDispatcher dispatcher =
+        new TableOperationDispatcher(spiedCatalogManager, entityStore, idGenerator)) {
+      BatchLoadResult<Table> result =
+          PrincipalUtils.doAs(
+              new UserPrincipal("user1"),
+              () -> dispatcher.loadTables(new NameIdentifier[] {tableIdent1, tableIdent2}));
+      Assertions.assertEquals(2, result.loaded().size());
+    }
+
+    Assertions.assertTrue(
+        principals.keySet().stream().anyMatch(name -> name.startsWith("table-batch-load-")));
+    principals.values().forEach(p -> Assertions.assertEquals("user1", p.getName()));
+  }
+
+  @Test
+  public void testLoadTableWithCache() throws IOException {
+    reset(entityStore);
+    String cachedCatalog = "cached_catalog";
+    catalogManager.createCatalog(
+        NameIdentifier.of(metalake, cachedCatalog),
+        Catalog.Type.RELATIONAL,
+        "test",
+        "comment",
+        ImmutableMap.of(BaseCatalog.CATALOG_TABLE_CACHE_ENABLED, "true"));
+
+    TableMetadataCache tableCache = new TableMetadataCache(100, 60 * 1000L);
+    TableOperationDispatcher cachedDispatcher =
+        new TableOperationDispatcher(catalogManager, entityStore, idGenerator, tableCache);
+
+    Namespace tableNs = Namespace.of(metalake, cachedCatalog, "schema81");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table41");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder().withName("col1").withType(Types.StringType.get()).build()
+        };
+    cachedDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+
+    Table loadedTable1 = cachedDispatcher.loadTable(tableIdent);
+    Table loadedTable2 = cachedDispatcher.loadTable(tableIdent);
+    Assertions.assertSame(loadedTable1, loadedTable2);
+    Assertions.assertEquals(1, tableCache.hitCount());
+    Assertions.assertEquals(1, tableCache.missCount());
+
+    // The cached table should be invalidated after it's altered.
+    cachedDispatcher.alterTable(tableIdent, TableChange.setProperty("k3", "v3"));
+    Table loadedTable3 = cachedDispatcher.loadTable(tableIdent);
+    Assertions.assertNotSame(loadedTable1, loadedTable3);
+    Assertions.assertEquals("v3", loadedTable3.properties().get("k3"));
+    Assertions.assertEquals(2, tableCache.missCount());
+
+    // The cached table could be invalidated explicitly.
+    cachedDispatcher.invalidateTableCache(tableIdent);
+    Assertions.assertNotSame(loadedTable3, cachedDispatcher.loadTable(tableIdent));
+    Assertions.assertEquals(3, tableCache.missCount());
+
+    // The cached table should be invalidated after it's dropped.
+    Assertions.assertTrue(cachedDispatcher.dropTable(tableIdent));
+    Assertions.assertThrows(
+        NoSuchTableException.class, () -> cachedDispatcher.loadTable(tableIdent));
+    Assertions.assertEquals(0, tableCache.size());
+
+    // The tables of the catalog without the cache enabled should not be cached.
+    Namespace uncachedNs = Namespace.of(metalake, catalog, "schema82");
+    schemaOperationDispatcher.createSchema(
+        NameIdentifier.of(uncachedNs.levels()), "comment", props);
+    NameIdentifier uncachedIdent = NameIdentifier.of(uncachedNs, "table42");
+    cachedDispatcher.createTable(uncachedIdent, columns, "comment", props, new Transform[0]);
+    Assertions.assertNotSame(
+        cachedDispatcher.loadTable(uncachedIdent), cachedDispatcher.loadTable(uncachedIdent));
+    Assertions.assertEquals(1, tableCache.hitCount());
+    Assertions.assertEquals(0, tableCache.size());
+
+    // The cached tables should be invalidated after their schema is dropped in cascade.
+    SchemaOperationDispatcher cachedSchemaDispatcher =
+        new SchemaOperationDispatcher(catalogManager, entityStore, idGenerator, tableCache);
+    cachedDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+    cachedDispatcher.loadTable(tableIdent);
+    Assertions.assertEquals(1, tableCache.size());
+    cachedSchemaDispatcher.dropSchema(NameIdentifier.of(tableNs.levels()), true);
+    Assertions.assertEquals(0, tableCache.size());
+
+    // The cached tables should be invalidated after their catalog is altered.
+    Namespace tableNs1 = Namespace.of(metalake, cachedCatalog, "schema83");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs1.levels()), "comment", props);
+    NameIdentifier tableIdent1 = NameIdentifier.of(tableNs1, "table43");
+    cachedDispatcher.createTable(tableIdent1, columns, "comment", props, new Transform[0]);
+    cachedDispatcher.loadTable(tableIdent1);
+    Assertions.assertEquals(1, tableCache.size());
+    catalogManager.alterCatalog(
+        NameIdentifier.of(metalake, cachedCatalog), CatalogChange.updateComment("new comment"));
+    Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .untilAsserted(() -> Assertions.assertEquals(0, tableCache.size()));
+
+    // The table loaded before its invalidation should not be cached.
+    doAnswer(
+            invocation -> {
+              cachedDispatcher.invalidateTableCache(tableIdent1);
+              return invocation.callRealMethod();
+            })
+        .when(entityStore)
+        .get(eq(tableIdent1), eq(TABLE), eq(TableEntity.class));
+    cachedDispatcher.loadTable(tableIdent1);
+    Assertions.assertEquals(0, tableCache.size());
+    reset(entityStore);
+    cachedDispatcher.loadTable(tableIdent1);
+    Assertions.assertEquals(1, tableCache.size());
+  }
 }
@@ -4,18 +4,24 @@
  */
 package com.datastrato.gravitino.catalog;
 
+import static com.datastrato.gravitino.Entity.EntityType.TOPIC;
 import static com.datastrato.gravitino.StringIdentifier.ID_KEY;
 import static com.datastrato.gravitino.TestBasePropertiesMetadata.COMMENT_KEY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.auth.AuthConstants;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
+import com.datastrato.gravitino.exceptions.NoSuchTopicException;
 import com.datastrato.gravitino.messaging.Topic;
 import com.datastrato.gravitino.messaging.TopicChange;
 import com.datastrato.gravitino.meta.AuditInfo;
@@ -94,6 +100,8 @@ public class TestTopicOperationDispatcher extends TestOperationDispatcher {
     Topic loadedTopic2 = topicOperationDispatcher.loadTopic(topicIdent1);
     // Audit info is gotten from the catalog, not from the entity store
     Assertions.assertEquals("test", loadedTopic2.auditInfo().creator());
+    // The "not found" result is cached for a while, invalidate it to test the other cases
+    topicOperationDispatcher.invalidateEntityLoad(topicIdent1);
 
     // Case 3: Test if the entity store is failed to get the topic entity
     reset(entityStore);
@@ -118,6 +126,43 @@ public class TestTopicOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", loadedTopic4.auditInfo().creator());
   }
 
+  @Test
+  public void testLoadTopics() throws IOException {
+    Namespace topicNs = Namespace.of(metalake, catalog, "schema161");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(topicNs.levels()), "comment", props);
+
+    NameIdentifier topicIdent1 = NameIdentifier.of(topicNs, "topic51");
+    NameIdentifier topicIdent2 = NameIdentifier.of(topicNs, "topic52");
+    NameIdentifier missingIdent = NameIdentifier.of(topicNs, "topic53");
+    topicOperationDispatcher.createTopic(topicIdent1, "comment", null, props);
+    topicOperationDispatcher.createTopic(topicIdent2, "comment", null, props);
+
+    reset(entityStore);
+    BatchLoadResult<Topic> result =
+        topicOperationDispatcher.loadTopics(
+            new NameIdentifier[] {topicIdent2, missingIdent, topicIdent1});
+
+    // The loaded topics keep the order of the request
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {topicIdent2, topicIdent1},
+        result.loaded().keySet().toArray(new NameIdentifier[0]));
+    Assertions.assertEquals("topic52", result.loaded().get(topicIdent2).name());
+    Assertions.assertEquals("topic51", result.loaded().get(topicIdent1).name());
+    testProperties(props, result.loaded().get(topicIdent1).properties());
+    // Audit info is gotten from the entity store
+    Assertions.assertEquals(
+        AuthConstants.ANONYMOUS_USER, result.loaded().get(topicIdent1).auditInfo().creator());
+
+    // The failure of one topic doesn't fail the others
+    Assertions.assertEquals(1, result.failures().size());
+    Assertions.assertInstanceOf(NoSuchTopicException.class, result.failures().get(missingIdent));
+
+    // Only the entities of the requested topics are read from the store
+    verify(entityStore, never()).list(eq(topicNs), eq(TopicEntity.class), eq(TOPIC));
+    verify(entityStore, times(3)).get(any(), eq(TOPIC), any());
+  }
+
   @Test
   public void testCreateAndAlterTopic() throws IOException {
     Namespace topicNs = Namespace.of(metalake, catalog, "schema141");
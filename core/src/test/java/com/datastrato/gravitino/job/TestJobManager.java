@@ -0,0 +1,172 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.job;
+
+import com.datastrato.gravitino.UserPrincipal;
+import com.datastrato.gravitino.exceptions.NoSuchJobException;
+import com.datastrato.gravitino.utils.PrincipalUtils;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestJobManager {
+
+  @Test
+  public void testJobSucceeded() throws Exception {
+    try (JobManager jobManager = new JobManager(2, 10, 60000)) {
+      Job job =
+          PrincipalUtils.doAs(
+              new UserPrincipal("user1"),
+              () ->
+                  jobManager.submit(
+                      "metalake1", "drop-table", "table1", PrincipalUtils::getCurrentUserName));
+      Assertions.assertEquals("user1", job.creator());
+
+      waitForFinished(job);
+      Assertions.assertEquals(Job.Status.SUCCEEDED, job.status());
+      // The job runs as the user who submitted it
+      Assertions.assertEquals("user1", job.result());
+      Assertions.assertNotNull(job.startTime());
+      Assertions.assertNotNull(job.finishTime());
+      Assertions.assertSame(
+          job,
+          PrincipalUtils.doAs(
+              new UserPrincipal("user1"), () -> jobManager.getJob("metalake1", job.id())));
+
+      // The job is not visible in other metalakes
+      Assertions.assertThrows(
+          NoSuchJobException.class,
+          () ->
+              PrincipalUtils.doAs(
+                  new UserPrincipal("user1"), () -> jobManager.getJob("metalake2", job.id())));
+      Assertions.assertThrows(
+          NoSuchJobException.class,
+          () ->
+              PrincipalUtils.doAs(
+                  new UserPrincipal("user1"), () -> jobManager.getJob("metalake1", "unknown")));
+
+      // The job is not visible to other users
+      Assertions.assertThrows(
+          NoSuchJobException.class,
+          () ->
+              PrincipalUtils.doAs(
+                  new UserPrincipal("user2"), () -> jobManager.getJob("metalake1", job.id())));
+      Assertions.assertThrows(
+          NoSuchJobException.class,
+          () ->
+              PrincipalUtils.doAs(
+                  new UserPrincipal("user2"), () -> jobManager.cancelJob("metalake1", job.id())));
+    }
+  }
+
+  @Test
+  public void testJobFailed() throws Exception {
+    try (JobManager jobManager = new JobManager(2, 10, 60000)) {
+      Job job =
+          jobManager.submit(
+              "metalake1",
+              "drop-table",
+              "table1",
+              () -> {
+                throw new IOException("mock error");
+              });
+
+      waitForFinished(job);
+      Assertions.assertEquals(Job.Status.FAILED, job.status());
+      Assertions.assertInstanceOf(IOException.class, job.failure());
+      Assertions.assertNull(job.result());
+    }
+  }
+
+  @Test
+  public void testCancelJob() throws Exception {
+    try (JobManager jobManager = new JobManager(1, 10, 60000)) {
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      Job runningJob =
+          jobManager.submit(
+              "metalake1",
+              "drop-schema",
+              "schema1",
+              () -> {
+                started.countDown();
+                return release.await(1, TimeUnit.MINUTES);
+              });
+      Job queuedJob = jobManager.submit("metalake1", "drop-schema", "schema2", () -> true);
+      Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+      Assertions.assertEquals(Job.Status.RUNNING, runningJob.status());
+      Assertions.assertEquals(Job.Status.QUEUED, queuedJob.status());
+
+      // The queued job never runs after it's canceled
+      Assertions.assertEquals(
+          Job.Status.CANCELED, jobManager.cancelJob("metalake1", queuedJob.id()).status());
+      Assertions.assertNull(queuedJob.startTime());
+
+      // The running job can't be canceled, it runs to the end
+      Assertions.assertThrows(
+          IllegalArgumentException.class, () -> jobManager.cancelJob("metalake1", runningJob.id()));
+      Assertions.assertEquals(Job.Status.RUNNING, runningJob.status());
+      release.countDown();
+      waitForFinished(runningJob);
+      Assertions.assertEquals(Job.Status.SUCCEEDED, runningJob.status());
+      Assertions.assertEquals(true, runningJob.result());
+
+      // Canceling a finished job does nothing
+      Assertions.assertEquals(
+          Job.Status.SUCCEEDED, jobManager.cancelJob("metalake1", runningJob.id()).status());
+      Assertions.assertEquals(
+          Job.Status.CANCELED, jobManager.cancelJob("metalake1", queuedJob.id()).status());
+    }
+  }
+
+  @Test
+  public void testRejectJob() throws Exception {
+    try (JobManager jobManager = new JobManager(1, 1, 60000)) {
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch started = new CountDownLatch(1);
+      jobManager.submit(
+          "metalake1",
+          "drop-table",
+          "table1",
+          () -> {
+            started.countDown();
+            return release.await(1, TimeUnit.MINUTES);
+          });
+      Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+      jobManager.submit("metalake1", "drop-table", "table2", () -> true);
+
+      // The worker is busy and the queue is full
+      Assertions.assertThrows(
+          RejectedExecutionException.class,
+          () -> jobManager.submit("metalake1", "drop-table", "table3", () -> true));
+      Assertions.assertEquals(2, jobManager.jobCount());
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void testRemoveExpiredJobs() throws Exception {
+    try (JobManager jobManager = new JobManager(1, 10, 100)) {
+      Job job = jobManager.submit("metalake1", "drop-table", "table1", () -> true);
+      waitForFinished(job);
+
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .untilAsserted(
+              () ->
+                  Assertions.assertThrows(
+                      NoSuchJobException.class, () -> jobManager.getJob("metalake1", job.id())));
+      Assertions.assertEquals(0, jobManager.jobCount());
+    }
+  }
+
+  private static void waitForFinished(Job job) {
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> job.status().isFinished());
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ *  Copyright 2024 Datastrato Pvt Ltd.
+ *  This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.listener;
+
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.listener.api.EventListenerPlugin;
+import com.datastrato.gravitino.listener.api.event.Event;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncQueueListener {
+
+  static class DummyEvent extends Event {
+    DummyEvent(int i) {
+      super("user", NameIdentifier.of("metalake", "event" + i));
+    }
+  }
+
+  // Records the batches, the first batch is blocked until the latch is released.
+  static class BatchEventListener extends DummyEventListener {
+    final List<List<Event>> batches = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch entered = new CountDownLatch(1);
+    final CountDownLatch released;
+
+    BatchEventListener(boolean blockFirstBatch) {
+      this.released = new CountDownLatch(blockFirstBatch ? 1 : 0);
+    }
+
+    @Override
+    public void onPostEvents(List<Event> events) {
+      entered.countDown();
+      try {
+        released.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      batches.add(events);
+    }
+
+    int eventCount() {
+      synchronized (batches) {
+        return batches.stream().mapToInt(List::size).sum();
+      }
+    }
+  }
+
+  @Test
+  void testBatchDispatch() throws InterruptedException {
+    BatchEventListener listener = new BatchEventListener(true);
+    AsyncQueueListener asyncQueueListener =
+        createAsyncQueueListener(listener, ImmutableList.of("batchSize", "10"));
+    asyncQueueListener.start();
+
+    asyncQueueListener.onPostEvent(new DummyEvent(0));
+    Assertions.assertTrue(listener.entered.await(10, TimeUnit.SECONDS));
+    for (int i = 1; i <= 25; i++) {
+      asyncQueueListener.onPostEvent(new DummyEvent(i));
+    }
+    Assertions.assertEquals(25, asyncQueueListener.queueDepth());
+
+    listener.released.countDown();
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> listener.eventCount() == 26);
+    Assertions.assertEquals(ImmutableList.of(1, 10, 10, 5), batchSizes(listener));
+    Assertions.assertEquals(0, asyncQueueListener.droppedEvents());
+
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testDropOverflowPolicy() throws InterruptedException {
+    BatchEventListener listener = new BatchEventListener(true);
+    AsyncQueueListener asyncQueueListener =
+        createAsyncQueueListener(listener, ImmutableList.of("queueCapacity", "1"));
+    asyncQueueListener.start();
+
+    asyncQueueListener.onPostEvent(new DummyEvent(0));
+    Assertions.assertTrue(listener.entered.await(10, TimeUnit.SECONDS));
+    asyncQueueListener.onPostEvent(new DummyEvent(1));
+    asyncQueueListener.onPostEvent(new DummyEvent(2));
+    Assertions.assertEquals(1, asyncQueueListener.droppedEvents());
+
+    listener.released.countDown();
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> listener.eventCount() == 2);
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testBlockOverflowPolicy() throws InterruptedException {
+    BatchEventListener listener = new BatchEventListener(true);
+    AsyncQueueListener asyncQueueListener =
+        createAsyncQueueListener(
+            listener,
+            ImmutableList.of(
+                "queueCapacity", "1", "overflowPolicy", "block", "blockTimeoutMs", "500"));
+    asyncQueueListener.start();
+
+    asyncQueueListener.onPostEvent(new DummyEvent(0));
+    Assertions.assertTrue(listener.entered.await(10, TimeUnit.SECONDS));
+    asyncQueueListener.onPostEvent(new DummyEvent(1));
+
+    // The queue is full, the event is dropped after waiting for the timeout
+    long startMs = System.currentTimeMillis();
+    asyncQueueListener.onPostEvent(new DummyEvent(2));
+    Assertions.assertTrue(System.currentTimeMillis() - startMs >= 500);
+    Assertions.assertEquals(1, asyncQueueListener.droppedEvents());
+
+    // The blocked event is queued once the dispatcher takes the queued event
+    Thread poster = new Thread(() -> asyncQueueListener.onPostEvent(new DummyEvent(3)));
+    poster.start();
+    listener.released.countDown();
+    poster.join(10000);
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> listener.eventCount() == 3);
+    Assertions.assertEquals(1, asyncQueueListener.droppedEvents());
+
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testMultipleDispatcherThreads() {
+    BatchEventListener listener = new BatchEventListener(false);
+    AsyncQueueListener asyncQueueListener =
+        createAsyncQueueListener(
+            listener,
+            ImmutableList.of(
+                "dispatcherThreads", "4", "overflowPolicy", "block", "batchSize", "7"));
+    asyncQueueListener.start();
+
+    for (int i = 0; i < 1000; i++) {
+      asyncQueueListener.onPostEvent(new DummyEvent(i));
+    }
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> listener.eventCount() == 1000);
+    Assertions.assertTrue(batchSizes(listener).stream().allMatch(size -> size <= 7));
+    Assertions.assertEquals(0, asyncQueueListener.droppedEvents());
+
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testFailedEventNotSkipBatch() {
+    // The listener doesn't override onPostEvents, the events are processed one by one
+    DummyEventListener listener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            if (event.identifier().name().equals("event1")) {
+              throw new RuntimeException("mock error");
+            }
+            super.onPostEvent(event);
+          }
+        };
+    EventListenerPluginWrapper wrapper = new EventListenerPluginWrapper("listener", listener);
+    wrapper.onPostEvents(ImmutableList.of(new DummyEvent(0), new DummyEvent(1), new DummyEvent(2)));
+    Assertions.assertEquals(2, listener.getEvents().size());
+    Assertions.assertEquals("event2", listener.getEvents().getLast().identifier().name());
+  }
+
+  private static AsyncQueueListener createAsyncQueueListener(
+      EventListenerPlugin listener, List<String> configs) {
+    Map<String, String> properties = new HashMap<>();
+    for (int i = 0; i < configs.size(); i += 2) {
+      properties.put(configs.get(i), configs.get(i + 1));
+    }
+
+    return new AsyncQueueListener(
+        ImmutableList.of(new EventListenerPluginWrapper("listener", listener)),
+        "test",
+        new EventListenerConfig(properties),
+        new EventListenerMetricsSource());
+  }
+
+  private static List<Integer> batchSizes(BatchEventListener listener) {
+    synchronized (listener.batches) {
+      List<Integer> sizes = new ArrayList<>();
+      listener.batches.forEach(batch -> sizes.add(batch.size()));
+      return sizes;
+    }
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ *  Copyright 2024 Datastrato Pvt Ltd.
+ *  This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.listener;
+
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.listener.api.EventListenerPlugin;
+import com.datastrato.gravitino.listener.api.event.Event;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestBudgetedSyncListener {
+
+  static class DummyEvent extends Event {
+    DummyEvent(int i) {
+      super("user", NameIdentifier.of("metalake", "event" + i));
+    }
+  }
+
+  // Sleeps the configured time for each event.
+  static class SlowEventListener extends DummyEventListener {
+    volatile long sleepMs;
+    volatile boolean stopped;
+
+    @Override
+    public void stop() {
+      stopped = true;
+    }
+
+    @Override
+    public synchronized void onPostEvent(Event event) {
+      try {
+        Thread.sleep(sleepMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      super.onPostEvent(event);
+    }
+
+    synchronized int eventCount() {
+      return getEvents().size();
+    }
+  }
+
+  // Blocks all the events until it's released.
+  static class BlockingEventListener extends DummyEventListener {
+    final CountDownLatch release = new CountDownLatch(1);
+
+    @Override
+    public void onPostEvent(Event event) {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      synchronized (this) {
+        super.onPostEvent(event);
+      }
+    }
+
+    synchronized int eventCount() {
+      return getEvents().size();
+    }
+  }
+
+  @Test
+  void testMoveSlowListenerToAsyncQueue() {
+    SlowEventListener listener = new SlowEventListener();
+    listener.sleepMs = 50;
+    BudgetedSyncListener budgetedListener = createBudgetedSyncListener(listener);
+    budgetedListener.start();
+
+    // The violations must be consecutive. The caller doesn't wait for the slow events, wait for
+    // them before the next one to keep the order of the events.
+    postAndWait(budgetedListener, listener, 0);
+    postAndWait(budgetedListener, listener, 1);
+    listener.sleepMs = 0;
+    postAndWait(budgetedListener, listener, 2);
+    listener.sleepMs = 50;
+    postAndWait(budgetedListener, listener, 3);
+    postAndWait(budgetedListener, listener, 4);
+    Assertions.assertFalse(budgetedListener.isDemoted());
+
+    postAndWait(budgetedListener, listener, 5);
+    Assertions.assertTrue(budgetedListener.isDemoted());
+
+    // The events are processed asynchronously after the listener is moved to the async queue.
+    listener.sleepMs = 500;
+    long startNanos = System.nanoTime();
+    for (int i = 6; i < 10; i++) {
+      budgetedListener.onPostEvent(new DummyEvent(i));
+    }
+    Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) < 500);
+
+    listener.sleepMs = 0;
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> listener.eventCount() == 10);
+    List<Event> events = listener.getEvents();
+    for (int i = 0; i < 10; i++) {
+      Assertions.assertEquals("event" + i, events.get(i).identifier().name());
+    }
+
+    budgetedListener.stop();
+    Assertions.assertTrue(listener.stopped);
+  }
+
+  @Test
+  void testMoveHangingListenerToAsyncQueue() {
+    BlockingEventListener listener = new BlockingEventListener();
+    BudgetedSyncListener budgetedListener = createBudgetedSyncListener(listener);
+    budgetedListener.start();
+
+    // The caller waits for each event at most the budget even if the listener never returns.
+    long startNanos = System.nanoTime();
+    for (int i = 0; i < 3; i++) {
+      budgetedListener.onPostEvent(new DummyEvent(i));
+    }
+    Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) < 1000);
+    Assertions.assertTrue(budgetedListener.isDemoted());
+
+    startNanos = System.nanoTime();
+    for (int i = 3; i < 6; i++) {
+      budgetedListener.onPostEvent(new DummyEvent(i));
+    }
+    Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) < 1000);
+    Assertions.assertEquals(0, listener.eventCount());
+
+    // All the events are delivered once the listener is unblocked.
+    listener.release.countDown();
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> listener.eventCount() == 6);
+    budgetedListener.stop();
+  }
+
+  @Test
+  void testMoveBlockedListenerToAsyncQueue() {
+    BlockingEventListener listener = new BlockingEventListener();
+    Map<String, String> properties = new HashMap<>();
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_BUDGET_MS, "20");
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_BUDGET_VIOLATIONS, "100");
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_BUDGET_THREADS, "2");
+    BudgetedSyncListener budgetedListener = createBudgetedSyncListener(listener, properties);
+    budgetedListener.start();
+
+    // The listener is moved once all the threads are blocked, before reaching the violations.
+    for (int i = 0; i < 3; i++) {
+      budgetedListener.onPostEvent(new DummyEvent(i));
+    }
+    Assertions.assertTrue(budgetedListener.isDemoted());
+
+    listener.release.countDown();
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> listener.eventCount() == 3);
+    budgetedListener.stop();
+  }
+
+  @Test
+  void testFastListenerStaysSync() {
+    SlowEventListener listener = new SlowEventListener();
+    BudgetedSyncListener budgetedListener = createBudgetedSyncListener(listener);
+    budgetedListener.start();
+
+    for (int i = 0; i < 100; i++) {
+      budgetedListener.onPostEvent(new DummyEvent(i));
+      Assertions.assertEquals(i + 1, listener.eventCount());
+    }
+    Assertions.assertFalse(budgetedListener.isDemoted());
+
+    budgetedListener.stop();
+    Assertions.assertTrue(listener.stopped);
+  }
+
+  @Test
+  void testBudgetedEventListenerManager() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_NAMES, "sync");
+    properties.put(
+        "sync." + EventListenerManager.GRAVITINO_EVENT_LISTENER_CLASS,
+        DummyEventListener.class.getName());
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_BUDGET_MS, "100");
+
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    eventListenerManager.start();
+
+    EventBus eventBus = eventListenerManager.createEventBus();
+    eventBus.dispatchEvent(new DummyEvent(0));
+
+    List<EventListenerPlugin> listeners = eventBus.getPostEventListeners();
+    Assertions.assertEquals(1, listeners.size());
+    Assertions.assertTrue(listeners.get(0) instanceof BudgetedSyncListener);
+    EventListenerPlugin userListener =
+        ((BudgetedSyncListener) listeners.get(0)).getSyncListener().getUserEventListener();
+    Assertions.assertEquals(1, ((DummyEventListener) userListener).getEvents().size());
+
+    eventListenerManager.stop();
+  }
+
+  private static void postAndWait(
+      BudgetedSyncListener budgetedListener, SlowEventListener listener, int i) {
+    budgetedListener.onPostEvent(new DummyEvent(i));
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> listener.eventCount() == i + 1);
+  }
+
+  private BudgetedSyncListener createBudgetedSyncListener(EventListenerPlugin listener) {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_BUDGET_MS, "20");
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_SYNC_BUDGET_VIOLATIONS, "3");
+    return createBudgetedSyncListener(listener, properties);
+  }
+
+  private BudgetedSyncListener createBudgetedSyncListener(
+      EventListenerPlugin listener, Map<String, String> properties) {
+    EventListenerMetricsSource metricsSource = new EventListenerMetricsSource();
+    return new BudgetedSyncListener(
+        "listener",
+        new EventListenerPluginWrapper("listener", listener, metricsSource),
+        new EventListenerConfig(properties),
+        metricsSource);
+  }
+}
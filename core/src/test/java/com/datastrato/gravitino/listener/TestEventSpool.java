@@ -0,0 +1,158 @@
+/*
+ *  Copyright 2024 Datastrato Pvt Ltd.
+ *  This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.listener;
+
+import com.google.common.collect.ImmutableList;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestEventSpool {
+  private Path dir;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    File baseDir = new File(System.getProperty("java.io.tmpdir"));
+    dir = Files.createTempDirectory(baseDir.toPath(), "event-spool").resolve("listener");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    FileUtils.deleteDirectory(dir.getParent().toFile());
+  }
+
+  @Test
+  void testAppendReadAndCommit() throws IOException {
+    try (EventSpool spool = new EventSpool(dir, 1024, 4096)) {
+      Assertions.assertTrue(spool.read(10).isEmpty());
+
+      spool.append(records(0, 5));
+      List<EventSpool.Record> read = spool.read(3);
+      Assertions.assertEquals(names(0, 3), toStrings(read));
+      Assertions.assertEquals(names(3, 5), toStrings(spool.read(10)));
+      Assertions.assertTrue(spool.read(10).isEmpty());
+
+      spool.commit(read.get(read.size() - 1).nextPosition());
+    }
+
+    // The records after the committed position are read again after reopening
+    try (EventSpool spool = new EventSpool(dir, 1024, 4096)) {
+      Assertions.assertEquals(names(3, 5), toStrings(spool.read(10)));
+      spool.append(records(5, 6));
+      Assertions.assertEquals(names(5, 6), toStrings(spool.read(10)));
+    }
+  }
+
+  @Test
+  void testRollSegments() throws IOException {
+    // Each record takes 100 bytes with the header, a segment holds 10 records
+    try (EventSpool spool = new EventSpool(dir, 1000, 10000)) {
+      spool.append(paddedRecords(0, 25));
+      Assertions.assertEquals(3000, spool.sizeBytes());
+
+      List<EventSpool.Record> read = spool.read(15);
+      Assertions.assertEquals(paddedNames(0, 15), toStrings(read));
+
+      // The segments before the committed position are deleted
+      spool.commit(read.get(read.size() - 1).nextPosition());
+      Assertions.assertEquals(2000, spool.sizeBytes());
+      Assertions.assertEquals(paddedNames(15, 25), toStrings(spool.read(20)));
+    }
+  }
+
+  @Test
+  void testRetention() throws IOException {
+    try (EventSpool spool = new EventSpool(dir, 1000, 3000)) {
+      spool.append(paddedRecords(0, 5));
+      Assertions.assertEquals(paddedNames(0, 5), toStrings(spool.read(5)));
+
+      // The oldest segments are deleted with the unread records
+      spool.append(paddedRecords(5, 45));
+      Assertions.assertEquals(3000, spool.sizeBytes());
+      Assertions.assertEquals(15, spool.droppedRecords());
+      Assertions.assertEquals(paddedNames(20, 45), toStrings(spool.read(100)));
+    }
+  }
+
+  @Test
+  void testRecoverPartialRecord() throws IOException {
+    try (EventSpool spool = new EventSpool(dir, 1024, 4096)) {
+      spool.append(records(0, 2));
+    }
+
+    // Corrupts the checksum of the second record, like a crash while writing it
+    Path segment = dir.resolve(String.format("%020d.log", 0));
+    int secondRecordOffset = EventSpool.RECORD_HEADER_BYTES + "event-0".length();
+    try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+      file.seek(secondRecordOffset + 4);
+      file.writeInt(0);
+    }
+
+    // The corrupted record is overwritten by the next record
+    try (EventSpool spool = new EventSpool(dir, 1024, 4096)) {
+      spool.append(records(2, 3));
+      Assertions.assertEquals(ImmutableList.of("event-0", "event-2"), toStrings(spool.read(10)));
+    }
+  }
+
+  @Test
+  void testAppendOversizedRecord() throws IOException {
+    try (EventSpool spool = new EventSpool(dir, 64, 4096)) {
+      Assertions.assertEquals(64 - EventSpool.RECORD_HEADER_BYTES, spool.maxRecordBytes());
+
+      // None of the records is appended if any of them doesn't fit in a segment
+      List<byte[]> records = records(0, 3);
+      records.add(1, new byte[spool.maxRecordBytes() + 1]);
+      Assertions.assertThrows(IllegalArgumentException.class, () -> spool.append(records));
+      Assertions.assertTrue(spool.read(10).isEmpty());
+
+      spool.append(records(0, 3));
+      Assertions.assertEquals(names(0, 3), toStrings(spool.read(10)));
+    }
+  }
+
+  private static List<String> names(int from, int to) {
+    return IntStream.range(from, to).mapToObj(i -> "event-" + i).collect(Collectors.toList());
+  }
+
+  // The names padded to 92 bytes, the records take 100 bytes with the header
+  private static List<String> paddedNames(int from, int to) {
+    return names(from, to).stream()
+        .map(name -> String.format("%-92s", name))
+        .collect(Collectors.toList());
+  }
+
+  private static List<byte[]> records(int from, int to) {
+    return toBytes(names(from, to));
+  }
+
+  private static List<byte[]> paddedRecords(int from, int to) {
+    return toBytes(paddedNames(from, to));
+  }
+
+  private static List<byte[]> toBytes(List<String> names) {
+    return names.stream()
+        .map(name -> name.getBytes(StandardCharsets.UTF_8))
+        .collect(Collectors.toList());
+  }
+
+  private static List<String> toStrings(List<EventSpool.Record> records) {
+    return records.stream()
+        .map(record -> new String(record.bytes(), StandardCharsets.UTF_8))
+        .collect(Collectors.toList());
+  }
+}
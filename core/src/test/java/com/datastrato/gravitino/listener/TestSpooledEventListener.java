@@ -0,0 +1,210 @@
+/*
+ *  Copyright 2024 Datastrato Pvt Ltd.
+ *  This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.listener;
+
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.listener.api.EventListenerPlugin;
+import com.datastrato.gravitino.listener.api.SupportsEventSpool;
+import com.datastrato.gravitino.listener.api.event.Event;
+import com.google.common.collect.ImmutableMap;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.commons.io.FileUtils;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestSpooledEventListener {
+
+  static class DummyEvent extends Event {
+    DummyEvent(String name) {
+      super("user", NameIdentifier.of("metalake", name));
+    }
+  }
+
+  // Encodes the events by their names, fails the first failedDeliveries deliveries.
+  public static class SpoolEventListener implements EventListenerPlugin, SupportsEventSpool {
+    final List<String> names = Collections.synchronizedList(new ArrayList<>());
+    final AtomicInteger failedDeliveries = new AtomicInteger(0);
+
+    @Override
+    public void init(Map<String, String> properties) {}
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public void onPostEvent(Event event) {
+      if (failedDeliveries.getAndDecrement() > 0) {
+        throw new RuntimeException("mock sink is down");
+      }
+      names.add(event.identifier().name());
+    }
+
+    @Override
+    public Mode mode() {
+      return Mode.ASYNC_ISOLATED;
+    }
+
+    @Override
+    public byte[] encodeEvent(Event event) {
+      return event.identifier().name().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Event decodeEvent(byte[] record) {
+      return new DummyEvent(new String(record, StandardCharsets.UTF_8));
+    }
+  }
+
+  private Path spoolDir;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    File baseDir = new File(System.getProperty("java.io.tmpdir"));
+    spoolDir = Files.createTempDirectory(baseDir.toPath(), "event-spool");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    FileUtils.deleteDirectory(spoolDir.toFile());
+  }
+
+  @Test
+  void testRedeliverFailedEvents() {
+    SpoolEventListener listener = new SpoolEventListener();
+    listener.failedDeliveries.set(2);
+    SpooledEventListener spooledListener = createSpooledEventListener(listener);
+    spooledListener.start();
+
+    spooledListener.onPostEvents(events("event1", "event2", "event3"));
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> listener.names.contains("event3"));
+    Assertions.assertEquals(Arrays.asList("event1", "event2", "event3"), distinct(listener.names));
+
+    spooledListener.stop();
+  }
+
+  @Test
+  void testReplayAfterRestart() {
+    // The sink is down, the events stay in the spool
+    SpoolEventListener listener = new SpoolEventListener();
+    listener.failedDeliveries.set(Integer.MAX_VALUE);
+    SpooledEventListener spooledListener = createSpooledEventListener(listener);
+    spooledListener.start();
+    spooledListener.onPostEvents(events("event1", "event2"));
+    spooledListener.onPostEvent(new DummyEvent("event3"));
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> listener.failedDeliveries.get() < Integer.MAX_VALUE);
+    spooledListener.stop();
+    Assertions.assertTrue(listener.names.isEmpty());
+
+    // The spooled events are delivered after restart
+    SpoolEventListener newListener = new SpoolEventListener();
+    SpooledEventListener newSpooledListener = createSpooledEventListener(newListener);
+    newSpooledListener.start();
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> newListener.names.size() == 3);
+    Assertions.assertEquals(Arrays.asList("event1", "event2", "event3"), newListener.names);
+
+    newSpooledListener.stop();
+  }
+
+  @Test
+  void testDropOversizedEvents() {
+    SpoolEventListener listener = new SpoolEventListener();
+    EventListenerConfig config =
+        new EventListenerConfig(
+            ImmutableMap.of(
+                EventListenerManager.GRAVITINO_EVENT_LISTENER_SPOOL_SEGMENT_BYTES, "64"));
+    SpooledEventListener spooledListener = createSpooledEventListener(listener, config);
+    spooledListener.start();
+
+    // The event which doesn't fit in a segment is dropped without failing the others
+    String oversizedName = String.join("", Collections.nCopies(64, "e"));
+    spooledListener.onPostEvents(events("event1", oversizedName, "event2"));
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> listener.names.contains("event2"));
+    Assertions.assertEquals(Arrays.asList("event1", "event2"), distinct(listener.names));
+
+    spooledListener.stop();
+  }
+
+  @Test
+  void testSpoolEventListenerManager() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_NAMES, "audit,async");
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_SPOOL_DIR, spoolDir.toString());
+    properties.put(
+        "audit." + EventListenerManager.GRAVITINO_EVENT_LISTENER_CLASS,
+        SpoolEventListener.class.getName());
+    properties.put(
+        "async." + EventListenerManager.GRAVITINO_EVENT_LISTENER_CLASS,
+        DummyEventListener.DummyAsyncIsolatedEventListener.class.getName());
+
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    eventListenerManager.start();
+
+    // Only the listener supports the spool is spooled
+    Map<Class<?>, Class<?>> listenerClasses =
+        eventListenerManager.createEventBus().getPostEventListeners().stream()
+            .map(listener -> ((AsyncQueueListener) listener).getEventListeners().get(0))
+            .map(listener -> ((EventListenerPluginWrapper) listener).getUserEventListener())
+            .collect(
+                Collectors.toMap(
+                    listener ->
+                        listener instanceof SpooledEventListener
+                            ? ((SpooledEventListener) listener).getUserEventListener().getClass()
+                            : listener.getClass(),
+                    Object::getClass));
+    Assertions.assertEquals(
+        ImmutableMap.of(
+            SpoolEventListener.class,
+            SpooledEventListener.class,
+            DummyEventListener.DummyAsyncIsolatedEventListener.class,
+            DummyEventListener.DummyAsyncIsolatedEventListener.class),
+        listenerClasses);
+    Assertions.assertTrue(Files.isDirectory(spoolDir.resolve("audit")));
+
+    eventListenerManager.stop();
+  }
+
+  private SpooledEventListener createSpooledEventListener(EventListenerPlugin listener) {
+    return createSpooledEventListener(listener, new EventListenerConfig(ImmutableMap.of()));
+  }
+
+  private SpooledEventListener createSpooledEventListener(
+      EventListenerPlugin listener, EventListenerConfig config) {
+    return new SpooledEventListener("audit", listener, spoolDir.resolve("audit"), config);
+  }
+
+  private static List<Event> events(String... names) {
+    return Arrays.stream(names).map(DummyEvent::new).collect(Collectors.toList());
+  }
+
+  // The events may be delivered more than once
+  private static List<String> distinct(List<String> names) {
+    synchronized (names) {
+      return names.stream().distinct().collect(Collectors.toList());
+    }
+  }
+}
@@ -649,6 +649,104 @@ public class TestLockManager {
     }
   }
 
+  @Test
+  void testEvictNodesWhileLocking() throws InterruptedException, ExecutionException {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(TREE_LOCK_MAX_NODE_IN_MEMORY)).thenReturn(100000L);
+    Mockito.when(config.get(TREE_LOCK_MIN_NODE_IN_MEMORY)).thenReturn(1L);
+    Mockito.when(config.get(TREE_LOCK_CLEAN_INTERVAL)).thenReturn(60L);
+    LockManager lockManager = new LockManager(config);
+
+    CompletionService<Integer> service = createCompletionService();
+    NameIdentifier identifier = NameIdentifier.of("a", "b", "c", "d");
+    int concurrentThreadCount = 9;
+    int loop = 1000;
+    int[] counter = new int[] {0};
+    for (int i = 0; i < concurrentThreadCount; i++) {
+      service.submit(
+          () -> {
+            for (int j = 0; j < loop; j++) {
+              TreeLock lock = lockManager.createTreeLock(identifier);
+              lock.lock(LockType.WRITE);
+              try {
+                // If an evicted node is still used by others, the write lock could not guard this.
+                counter[0] = counter[0] + 1;
+              } finally {
+                lock.unlock();
+              }
+            }
+            return 0;
+          });
+    }
+
+    CountDownLatch finished = new CountDownLatch(concurrentThreadCount);
+    service.submit(
+        () -> {
+          while (finished.getCount() > 0) {
+            lockManager
+                .treeLockRootNode
+                .getAllChildren()
+                .forEach(child -> lockManager.evictStaleNodes(child, lockManager.treeLockRootNode));
+          }
+          return 0;
+        });
+
+    for (int i = 0; i < concurrentThreadCount; i++) {
+      service.take().get();
+      finished.countDown();
+    }
+    service.take().get();
+
+    Assertions.assertEquals(concurrentThreadCount * loop, counter[0]);
+    checkReferenceCount(lockManager.treeLockRootNode);
+  }
+
+  @Disabled("It's very time-consuming, so we disable it by default.")
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4, 16, 64, 128})
+  void testConcurrentLoadTableThroughput(int threadCount) throws Exception {
+    LockManager lockManager = new LockManager(getConfig());
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setDaemon(true).build());
+    CompletionService<Integer> service = new ExecutorCompletionService<>(executor);
+
+    // Mock the read lock pattern of loadTable, all callers load tables under the same schema.
+    long durationMs = 5000;
+    long deadline = System.currentTimeMillis() + durationMs;
+    for (int i = 0; i < threadCount; i++) {
+      service.submit(
+          () -> {
+            int count = 0;
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.currentTimeMillis() < deadline) {
+              NameIdentifier identifier =
+                  NameIdentifier.of("metalake", "catalog", "schema", getName(random.nextInt(100)));
+              TreeLock lock = lockManager.createTreeLock(identifier);
+              lock.lock(LockType.READ);
+              lock.unlock();
+              count++;
+            }
+            return count;
+          });
+    }
+
+    long total = 0;
+    for (int i = 0; i < threadCount; i++) {
+      total += service.take().get();
+    }
+    executor.shutdownNow();
+
+    System.out.printf(
+        "Concurrent loadTable callers: %d, total: %d, QPS: %d%n",
+        threadCount, total, total * 1000 / durationMs);
+  }
+
   @Test
   public void testMockRootTreeLock() {
     LockManager lockManager = new LockManager(getConfig());
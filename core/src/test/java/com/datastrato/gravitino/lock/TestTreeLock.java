@@ -7,9 +7,11 @@ package com.datastrato.gravitino.lock;
 
 import static com.datastrato.gravitino.lock.TestLockManager.getConfig;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 
+import com.datastrato.gravitino.metrics.MetricNames;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -88,4 +90,37 @@ class TestTreeLock {
     Mockito.verify(mockNode2, Mockito.never()).unlock(Mockito.any());
     Mockito.verify(mockNode3, Mockito.never()).unlock(Mockito.any());
   }
+
+  @Test
+  void testLockWaitMetrics() {
+    TreeLockNode mockNode1 = Mockito.mock(TreeLockNode.class);
+    TreeLockNode mockNode2 = Mockito.mock(TreeLockNode.class);
+    TreeLockMetricsSource metricsSource = new TreeLockMetricsSource();
+    TreeLock treeLock =
+        new TreeLock(
+            Arrays.asList(mockNode1, mockNode2),
+            TestLockManager.randomNameIdentifier(),
+            metricsSource);
+
+    treeLock.lock(LockType.READ);
+    treeLock.unlock();
+    treeLock.lock(LockType.WRITE);
+    treeLock.unlock();
+    treeLock.lock(LockType.WRITE);
+    treeLock.unlock();
+
+    // A failed lock is not recorded.
+    doThrow(new RuntimeException("Mock exception")).when(mockNode2).lock(Mockito.any());
+    assertThrows(RuntimeException.class, () -> treeLock.lock(LockType.READ));
+
+    assertEquals(1, getWaitTimerCount(metricsSource, LockType.READ));
+    assertEquals(2, getWaitTimerCount(metricsSource, LockType.WRITE));
+  }
+
+  private static long getWaitTimerCount(TreeLockMetricsSource metricsSource, LockType lockType) {
+    return metricsSource
+        .getMetricRegistry()
+        .timer(lockType.name().toLowerCase() + "." + MetricNames.TREE_LOCK_WAIT_DURATION)
+        .getCount();
+  }
 }
@@ -65,5 +65,28 @@ public class TestExtractMetricNameAndLabel {
             + "_"
             + Collector.sanitizeMetricName(MetricNames.HTTP_PROCESS_DURATION),
         ImmutableMap.of("operation", "update-table"));
+
+    checkResult(
+        MetricsSource.CATALOG_OPERATION_METRIC_NAME
+            + ".hive.load-table."
+            + MetricNames.OPERATION_DURATION,
+        Collector.sanitizeMetricName(MetricsSource.CATALOG_OPERATION_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.OPERATION_DURATION),
+        ImmutableMap.of("provider", "hive", "operation", "load-table"));
+
+    checkResult(
+        MetricsSource.ENTITY_STORE_METRIC_NAME + ".table.get." + MetricNames.OPERATION_DURATION,
+        Collector.sanitizeMetricName(MetricsSource.ENTITY_STORE_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.OPERATION_DURATION),
+        ImmutableMap.of("entity_type", "table", "operation", "get"));
+
+    checkResult(
+        MetricsSource.TREE_LOCK_METRIC_NAME + ".write." + MetricNames.TREE_LOCK_WAIT_DURATION,
+        Collector.sanitizeMetricName(MetricsSource.TREE_LOCK_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.TREE_LOCK_WAIT_DURATION),
+        ImmutableMap.of("lock_type", "write"));
   }
 }
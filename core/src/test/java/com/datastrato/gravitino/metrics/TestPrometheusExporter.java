@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.datastrato.gravitino.metrics.source.MetricsSource;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.dropwizard.DropwizardExports;
+import io.prometheus.client.dropwizard.samplebuilder.CustomMappingSampleBuilder;
+import io.prometheus.client.exporter.common.TextFormat;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPrometheusExporter {
+  private static final String LOCK_WAIT_TIMER =
+      MetricsSource.TREE_LOCK_METRIC_NAME + ".write." + MetricNames.TREE_LOCK_WAIT_DURATION;
+
+  private static Timer bucketedTimer(MetricRegistry registry, String name) {
+    return registry.timer(name, () -> new Timer(BucketedReservoir.forTimer()));
+  }
+
+  private static String export(PrometheusExporter exporter) throws IOException {
+    StringWriter writer = new StringWriter();
+    exporter.write(writer);
+    return writer.toString();
+  }
+
+  private static String exportWithDropwizard(MetricRegistry registry) throws IOException {
+    CollectorRegistry collectorRegistry = new CollectorRegistry();
+    new DropwizardExports(
+            registry, new CustomMappingSampleBuilder(MetricsSystem.getMetricNameAndLabelRules()))
+        .register(collectorRegistry);
+    StringWriter writer = new StringWriter();
+    TextFormat.write004(writer, collectorRegistry.metricFamilySamples());
+    return writer.toString();
+  }
+
+  // The samples sorted, the comments are not compared since the families may be in any order.
+  private static List<String> samples(String text) {
+    return Arrays.stream(text.split("\n"))
+        .filter(line -> !line.startsWith("#"))
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  void testSameAsDropwizardExports() throws IOException {
+    MetricRegistry registry = new MetricRegistry();
+    PrometheusExporter exporter =
+        new PrometheusExporter(MetricsSystem.getMetricNameAndLabelRules(), false);
+    registry.addListener(exporter);
+
+    registry.counter("test.a.counter").inc(3);
+    registry.registerGauge("test.a.gauge", () -> 1.5);
+    registry.registerGauge("test.a.boolean", () -> true);
+    registry.registerGauge("test.a.string", () -> "not exported");
+    registry.meter(MetricsSource.GRAVITINO_SERVER_METRIC_NAME + ".load-table.2xx-responses").mark();
+    registry.histogram("test.a.histogram").update(10);
+    for (int i = 0; i < 10; i++) {
+      bucketedTimer(registry, LOCK_WAIT_TIMER).update(i, TimeUnit.MILLISECONDS);
+      registry
+          .timer(
+              MetricsSource.GRAVITINO_SERVER_METRIC_NAME
+                  + ".load-table."
+                  + MetricNames.HTTP_PROCESS_DURATION)
+          .update(i, TimeUnit.MILLISECONDS);
+    }
+
+    String text = export(exporter);
+    Assertions.assertEquals(samples(exportWithDropwizard(registry)), samples(text));
+    Assertions.assertTrue(text.contains("# TYPE tree_lock_wait_duration_seconds summary\n"));
+    Assertions.assertTrue(
+        text.contains("tree_lock_wait_duration_seconds_count{lock_type=\"write\",} 10.0\n"));
+    Assertions.assertFalse(text.contains("test_a_string"));
+  }
+
+  @Test
+  void testHistogram() throws IOException {
+    MetricRegistry registry = new MetricRegistry();
+    PrometheusExporter exporter =
+        new PrometheusExporter(MetricsSystem.getMetricNameAndLabelRules(), true);
+    registry.addListener(exporter);
+
+    Timer timer = bucketedTimer(registry, LOCK_WAIT_TIMER);
+    timer.update(3, TimeUnit.MILLISECONDS);
+    timer.update(20, TimeUnit.MILLISECONDS);
+    timer.update(2, TimeUnit.SECONDS);
+    timer.update(20, TimeUnit.SECONDS);
+    // The timers without buckets are still exported as summaries.
+    registry.timer("test.a.timer").update(1, TimeUnit.SECONDS);
+
+    String text = export(exporter);
+    Assertions.assertTrue(text.contains("# TYPE tree_lock_wait_duration_seconds histogram\n"));
+    String bucket = "tree_lock_wait_duration_seconds_bucket{lock_type=\"write\",le=";
+    Assertions.assertTrue(text.contains(bucket + "\"0.005\",} 1.0\n"));
+    Assertions.assertTrue(text.contains(bucket + "\"0.01\",} 1.0\n"));
+    Assertions.assertTrue(text.contains(bucket + "\"0.025\",} 2.0\n"));
+    Assertions.assertTrue(text.contains(bucket + "\"2.5\",} 3.0\n"));
+    Assertions.assertTrue(text.contains(bucket + "\"10.0\",} 3.0\n"));
+    Assertions.assertTrue(text.contains(bucket + "\"+Inf\",} 4.0\n"));
+    Assertions.assertTrue(
+        text.contains("tree_lock_wait_duration_seconds_count{lock_type=\"write\",} 4.0\n"));
+    Assertions.assertTrue(
+        text.contains("tree_lock_wait_duration_seconds_sum{lock_type=\"write\",} 22.023\n"));
+    Assertions.assertTrue(text.contains("# TYPE test_a_timer summary\n"));
+    Assertions.assertTrue(text.contains("test_a_timer_count 1.0\n"));
+  }
+
+  @Test
+  void testHistogramOfMetricsSource() throws IOException {
+    MetricRegistry registry = new MetricRegistry();
+    PrometheusExporter exporter =
+        new PrometheusExporter(MetricsSystem.getMetricNameAndLabelRules(), true);
+    registry.addListener(exporter);
+
+    // The same way as MetricsSystem registers a source, the timers created by the source later are
+    // added to the exporter too.
+    MetricsSource source = new MetricsSource(MetricsSource.TREE_LOCK_METRIC_NAME) {};
+    registry.register(source.getMetricsSourceName(), source.getMetricRegistry());
+    Timer timer = source.getTimer("write." + MetricNames.TREE_LOCK_WAIT_DURATION);
+    timer.update(3, TimeUnit.MILLISECONDS);
+    timer.update(2, TimeUnit.SECONDS);
+
+    String text = export(exporter);
+    Assertions.assertTrue(text.contains("# TYPE tree_lock_wait_duration_seconds histogram\n"));
+    String bucket = "tree_lock_wait_duration_seconds_bucket{lock_type=\"write\",le=";
+    Assertions.assertTrue(text.contains(bucket + "\"0.005\",} 1.0\n"));
+    Assertions.assertTrue(text.contains(bucket + "\"2.5\",} 2.0\n"));
+    Assertions.assertTrue(text.contains(bucket + "\"+Inf\",} 2.0\n"));
+    Assertions.assertTrue(
+        text.contains("tree_lock_wait_duration_seconds_count{lock_type=\"write\",} 2.0\n"));
+    Assertions.assertTrue(
+        text.contains("tree_lock_wait_duration_seconds_sum{lock_type=\"write\",} 2.003\n"));
+  }
+
+  @Test
+  void testTypeConflict() throws IOException {
+    MetricRegistry registry = new MetricRegistry();
+    PrometheusExporter exporter =
+        new PrometheusExporter(MetricsSystem.getMetricNameAndLabelRules(), false);
+    registry.addListener(exporter);
+
+    // Both the names are mapped to the family "test_a_b", the timer isn't exported since the type
+    // of the family is set by the counter.
+    registry.counter("test.a-b").inc();
+    registry.timer("test.a_b").update(1, TimeUnit.SECONDS);
+
+    String text = export(exporter);
+    Assertions.assertTrue(text.contains("# TYPE test_a_b gauge\n"));
+    Assertions.assertTrue(text.contains("test_a_b 1.0\n"));
+    Assertions.assertFalse(text.contains("quantile"));
+    Assertions.assertFalse(text.contains("test_a_b_count"));
+
+    // Removing the timer doesn't affect the counter.
+    registry.remove("test.a_b");
+    Assertions.assertEquals(text, export(exporter));
+  }
+
+  @Test
+  void testRemoveMetric() throws IOException {
+    MetricRegistry registry = new MetricRegistry();
+    registry.counter("test.a.counter").inc();
+    // The metrics registered before the exporter are exported too.
+    PrometheusExporter exporter =
+        new PrometheusExporter(MetricsSystem.getMetricNameAndLabelRules(), false);
+    registry.addListener(exporter);
+    registry.counter("test.b.counter").inc();
+
+    String text = export(exporter);
+    Assertions.assertTrue(text.contains("test_a_counter 1.0\n"));
+    Assertions.assertTrue(text.contains("test_b_counter 1.0\n"));
+
+    registry.remove("test.a.counter");
+    text = export(exporter);
+    Assertions.assertFalse(text.contains("test_a_counter"));
+    Assertions.assertTrue(text.contains("test_b_counter 1.0\n"));
+  }
+}
@@ -49,6 +49,7 @@ import com.datastrato.gravitino.meta.TopicEntity;
 import com.datastrato.gravitino.meta.UserEntity;
 import com.datastrato.gravitino.storage.relational.RelationalEntityStore;
 import com.datastrato.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import com.datastrato.gravitino.utils.Page;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
@@ -97,6 +98,10 @@ public class TestEntityStorage {
       Mockito.when(config.get(ENTITY_KV_STORE)).thenReturn(DEFAULT_ENTITY_KV_STORE);
       Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
       Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(KV_STORE_PATH);
+      Mockito.when(config.get(Configs.KV_COMMITTED_TRANSACTION_INDEX_CAPACITY)).thenReturn(1024);
+      Mockito.when(config.get(Configs.KV_NAME_MAPPING_CACHE_CAPACITY)).thenReturn(1024);
+      Mockito.when(config.get(Configs.KV_GC_PARALLELISM)).thenReturn(2);
+      Mockito.when(config.get(Configs.KV_GC_DELETES_PER_SECOND)).thenReturn(0);
 
       Assertions.assertEquals(KV_STORE_PATH, config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH));
       Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
@@ -2195,4 +2200,75 @@ public class TestEntityStorage {
               store.get(filesetEntity1.nameIdentifier(), EntityType.FILESET, FilesetEntity.class));
     }
   }
+
+  @ParameterizedTest
+  @MethodSource("storageProvider")
+  void testListWithPageToken(String type) throws IOException {
+    Config config = Mockito.mock(Config.class);
+    init(type, config);
+
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+    try (EntityStore store = EntityStoreFactory.createEntityStore(config)) {
+      store.initialize(config);
+      if (store instanceof RelationalEntityStore) {
+        prepareJdbcTable();
+      }
+
+      BaseMetalake metalake = createBaseMakeLake(1L, "metalake", auditInfo);
+      CatalogEntity catalog = createCatalog(1L, Namespace.of("metalake"), "catalog", auditInfo);
+      SchemaEntity schema =
+          createSchemaEntity(1L, Namespace.of("metalake", "catalog"), "schema", auditInfo);
+      store.put(metalake);
+      store.put(catalog);
+      store.put(schema);
+
+      Namespace tableNamespace = Namespace.of("metalake", "catalog", "schema");
+      List<String> expectedNames = Lists.newArrayList();
+      for (int i = 0; i < 5; i++) {
+        TableEntity table =
+            createTableEntity(
+                RandomIdGenerator.INSTANCE.nextId(), tableNamespace, "table" + i, auditInfo);
+        store.put(table);
+        expectedNames.add(table.name());
+      }
+
+      List<String> names = Lists.newArrayList();
+      String pageToken = null;
+      int pages = 0;
+      do {
+        Page<TableEntity> page =
+            store.list(tableNamespace, TableEntity.class, EntityType.TABLE, pageToken, 2);
+        Assertions.assertTrue(page.items().size() <= 2);
+        page.items().forEach(t -> names.add(t.name()));
+        pageToken = page.nextPageToken();
+        pages++;
+      } while (pageToken != null);
+
+      Assertions.assertEquals(3, pages);
+      Assertions.assertEquals(5, names.size());
+      Assertions.assertTrue(names.containsAll(expectedNames));
+
+      // The page size is larger than the number of entities
+      Page<TableEntity> page =
+          store.list(tableNamespace, TableEntity.class, EntityType.TABLE, null, 10);
+      Assertions.assertEquals(5, page.items().size());
+      Assertions.assertNull(page.nextPageToken());
+
+      // The deleted entity should not be listed
+      store.delete(NameIdentifier.of(tableNamespace, "table0"), EntityType.TABLE);
+      page = store.list(tableNamespace, TableEntity.class, EntityType.TABLE, null, 10);
+      Assertions.assertEquals(4, page.items().size());
+
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> store.list(tableNamespace, TableEntity.class, EntityType.TABLE, "abc", 2));
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> store.list(tableNamespace, TableEntity.class, EntityType.TABLE, null, 0));
+
+      destroy(type);
+    }
+  }
 }
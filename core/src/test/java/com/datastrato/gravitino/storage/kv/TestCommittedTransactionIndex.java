@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.storage.kv;
+
+import static com.datastrato.gravitino.Configs.ENTRY_KV_ROCKSDB_BACKEND_PATH;
+import static com.datastrato.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.storage.TransactionIdGenerator;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestCommittedTransactionIndex {
+
+  @Test
+  void testAddAndRemove() {
+    CommittedTransactionIndex index = new CommittedTransactionIndex(1000);
+    Assertions.assertTrue(index.isEnabled());
+    Assertions.assertEquals(1024, index.capacity());
+
+    long transactionId = System.currentTimeMillis() << 18;
+    Assertions.assertFalse(index.contains(transactionId));
+    index.add(transactionId);
+    Assertions.assertTrue(index.contains(transactionId));
+    Assertions.assertEquals(1, index.hitCount());
+    Assertions.assertEquals(1, index.missCount());
+    Assertions.assertEquals(0.5, index.hitRatio());
+
+    // The lookups of the background tasks are not counted.
+    Assertions.assertTrue(index.peek(transactionId));
+    Assertions.assertFalse(index.peek(transactionId + 1));
+    Assertions.assertEquals(1, index.hitCount());
+    Assertions.assertEquals(1, index.missCount());
+
+    // Removing another transaction id should not affect the existing one.
+    index.remove(transactionId + 1);
+    Assertions.assertTrue(index.contains(transactionId));
+
+    index.remove(transactionId);
+    Assertions.assertFalse(index.contains(transactionId));
+  }
+
+  @Test
+  void testDisabledIndex() {
+    CommittedTransactionIndex index = new CommittedTransactionIndex(0);
+    Assertions.assertFalse(index.isEnabled());
+
+    index.add(1L);
+    Assertions.assertFalse(index.contains(1L));
+    Assertions.assertEquals(0, index.hitCount());
+    Assertions.assertEquals(0, index.missCount());
+  }
+
+  @Test
+  void testWarmUpFromCommitMarks() throws IOException {
+    File baseDir = new File(System.getProperty("java.io.tmpdir"));
+    File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
+    file.deleteOnExit();
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
+    Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3L);
+
+    KvBackend kvBackend = new RocksDBKvBackend();
+    kvBackend.initialize(config);
+    TransactionIdGenerator transactionIdGenerator =
+        new TransactionIdGeneratorImpl(kvBackend, config);
+    TransactionalKvBackendImpl transactionalKvBackend =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+
+    transactionalKvBackend.begin();
+    long transactionId = transactionalKvBackend.txId.get();
+    transactionalKvBackend.put(
+        "key1".getBytes(StandardCharsets.UTF_8), "value1".getBytes(StandardCharsets.UTF_8), true);
+    transactionalKvBackend.commit();
+    transactionalKvBackend.closeTransaction();
+
+    // A new index is empty until it's warmed up from the commit marks.
+    CommittedTransactionIndex index = new CommittedTransactionIndex(16);
+    TransactionalKvBackendImpl newTransactionalKvBackend =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator, index);
+    Assertions.assertFalse(index.contains(transactionId));
+    newTransactionalKvBackend.initialize(config);
+    Assertions.assertTrue(index.contains(transactionId));
+
+    // Reading the committed value should be answered by the index.
+    newTransactionalKvBackend.begin();
+    long hitCount = index.hitCount();
+    Assertions.assertEquals(
+        "value1",
+        new String(
+            newTransactionalKvBackend.get("key1".getBytes(StandardCharsets.UTF_8)),
+            StandardCharsets.UTF_8));
+    Assertions.assertEquals(hitCount + 1, index.hitCount());
+    newTransactionalKvBackend.closeTransaction();
+
+    transactionIdGenerator.close();
+    kvBackend.close();
+  }
+}
@@ -49,6 +49,10 @@ public class TestEntityKeyEncoding {
     Config config = Mockito.mock(Config.class);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
     Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
+    Mockito.when(config.get(Configs.KV_COMMITTED_TRANSACTION_INDEX_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_NAME_MAPPING_CACHE_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_GC_PARALLELISM)).thenReturn(2);
+    Mockito.when(config.get(Configs.KV_GC_DELETES_PER_SECOND)).thenReturn(0);
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3000L);
     Mockito.when(config.get(ENTITY_STORE)).thenReturn("kv");
     Mockito.when(config.get(ENTITY_KV_STORE)).thenReturn(DEFAULT_ENTITY_KV_STORE);
@@ -66,6 +66,10 @@ public class TestKvEntityStorage extends TestEntityStorage {
     Mockito.when(config.get(ENTITY_KV_STORE)).thenReturn(DEFAULT_ENTITY_KV_STORE);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
     Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn("/tmp/gravitino");
+    Mockito.when(config.get(Configs.KV_COMMITTED_TRANSACTION_INDEX_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_NAME_MAPPING_CACHE_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_GC_PARALLELISM)).thenReturn(2);
+    Mockito.when(config.get(Configs.KV_GC_DELETES_PER_SECOND)).thenReturn(0);
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
     Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
     return config;
@@ -182,6 +186,10 @@ public class TestKvEntityStorage extends TestEntityStorage {
     File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
     file.deleteOnExit();
     Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
+    Mockito.when(config.get(Configs.KV_COMMITTED_TRANSACTION_INDEX_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_NAME_MAPPING_CACHE_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_GC_PARALLELISM)).thenReturn(2);
+    Mockito.when(config.get(Configs.KV_GC_DELETES_PER_SECOND)).thenReturn(0);
 
     ThreadPoolExecutor threadPoolExecutor =
         new ThreadPoolExecutor(
@@ -11,6 +11,8 @@ import static com.datastrato.gravitino.Configs.ENTITY_STORE;
 import static com.datastrato.gravitino.Configs.ENTRY_KV_ROCKSDB_BACKEND_PATH;
 import static com.datastrato.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static com.datastrato.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
+import static com.datastrato.gravitino.storage.kv.KvGarbageCollector.END_USER_KEY_BYTE;
+import static com.datastrato.gravitino.storage.kv.KvGarbageCollector.FIRST_USER_KEY_BYTE;
 import static com.datastrato.gravitino.storage.kv.TestKvEntityStorage.createBaseMakeLake;
 import static com.datastrato.gravitino.storage.kv.TestKvEntityStorage.createCatalog;
 import static com.datastrato.gravitino.storage.kv.TestKvEntityStorage.createFilesetEntity;
@@ -37,6 +39,7 @@ import com.datastrato.gravitino.meta.TableEntity;
 import com.datastrato.gravitino.meta.UserEntity;
 import com.datastrato.gravitino.storage.TransactionIdGenerator;
 import com.datastrato.gravitino.storage.kv.KvGarbageCollector.LogHelper;
+import com.datastrato.gravitino.utils.Bytes;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -46,6 +49,7 @@ import java.util.List;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 @SuppressWarnings("DefaultCharset")
@@ -59,6 +63,10 @@ class TestKvGarbageCollector {
     Mockito.when(config.get(ENTITY_KV_STORE)).thenReturn(DEFAULT_ENTITY_KV_STORE);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
     Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
+    Mockito.when(config.get(Configs.KV_COMMITTED_TRANSACTION_INDEX_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_NAME_MAPPING_CACHE_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_GC_PARALLELISM)).thenReturn(2);
+    Mockito.when(config.get(Configs.KV_GC_DELETES_PER_SECOND)).thenReturn(0);
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3L);
     Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
     return config;
@@ -154,6 +162,187 @@ class TestKvGarbageCollector {
       Assertions.assertEquals("v3", new String(transactionalKvBackend.get("testA".getBytes())));
       Assertions.assertEquals("v2", new String(transactionalKvBackend.get("testB".getBytes())));
       Assertions.assertNull(transactionalKvBackend.get("testC".getBytes()));
+
+      // 5 versions of data and the commit mark of the first transaction have been removed.
+      Assertions.assertEquals(6, kvGarbageCollector.keysRemoved());
+      Assertions.assertTrue(kvGarbageCollector.keysScanned() >= 6);
+      Assertions.assertTrue(kvGarbageCollector.lastPassDurationMs() >= 0);
+      kvGarbageCollector.close();
+    }
+  }
+
+  @Test
+  void testCompactDeletedSpans() throws IOException, InterruptedException {
+    Config config = getConfig();
+    try (KvBackend kvBackend = Mockito.spy(getKvBackEnd(config))) {
+      TransactionIdGenerator transactionIdGenerator =
+          new TransactionIdGeneratorImpl(kvBackend, config);
+      TransactionalKvBackendImpl transactionalKvBackend =
+          new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+      for (int version = 1; version <= 2; version++) {
+        transactionalKvBackend.begin();
+        for (int i = 0; i < 150; i++) {
+          transactionalKvBackend.put(
+              String.format("test%03d", i).getBytes(), ("v" + version).getBytes(), true);
+        }
+        transactionalKvBackend.commit();
+        transactionalKvBackend.closeTransaction();
+      }
+
+      Mockito.doReturn(2000L).when(config).get(STORE_DELETE_AFTER_TIME);
+      KvGarbageCollector kvGarbageCollector = new KvGarbageCollector(kvBackend, config, null);
+      Thread.sleep(3000);
+      kvGarbageCollector.collectAndClean();
+
+      // The old versions of the keys and the commit mark of the first transaction are removed.
+      Assertions.assertEquals(151, kvGarbageCollector.keysRemoved());
+      // Only the span of the old versions is compacted, it doesn't reach the commit marks, and the
+      // single deleted commit mark is not worth compacting.
+      ArgumentCaptor<byte[]> start = ArgumentCaptor.forClass(byte[].class);
+      ArgumentCaptor<byte[]> end = ArgumentCaptor.forClass(byte[].class);
+      Mockito.verify(kvBackend, Mockito.times(1)).compactRange(start.capture(), end.capture());
+      Assertions.assertEquals(
+          "test000", new String(TransactionalKvBackendImpl.getRealKey(start.getValue())));
+      Assertions.assertEquals(
+          "test149", new String(TransactionalKvBackendImpl.getRealKey(end.getValue())));
+      kvGarbageCollector.close();
+    }
+  }
+
+  @Test
+  void testSplitUncommittedRangesBySampledKeys() throws IOException {
+    Config config = getConfig();
+    try (KvBackend kvBackend = getKvBackEnd(config)) {
+      TransactionIdGenerator transactionIdGenerator =
+          new TransactionIdGeneratorImpl(kvBackend, config);
+      TransactionalKvBackendImpl transactionalKvBackend =
+          new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+      // All the keys start with the same byte, like the keys of the tables
+      transactionalKvBackend.begin();
+      for (int i = 0; i < 200; i++) {
+        transactionalKvBackend.put(String.format("ta%03d", i).getBytes(), "v1".getBytes(), true);
+        transactionalKvBackend.put(String.format("to%03d", i).getBytes(), "v1".getBytes(), true);
+      }
+      transactionalKvBackend.commit();
+      transactionalKvBackend.closeTransaction();
+
+      KvGarbageCollector kvGarbageCollector = new KvGarbageCollector(kvBackend, config, null);
+      // Every range contains the keys starting with the same byte before the keys are sampled
+      Assertions.assertEquals(
+          END_USER_KEY_BYTE - FIRST_USER_KEY_BYTE + 1,
+          kvGarbageCollector.uncommittedRanges().size());
+      kvGarbageCollector.collectAndClean();
+
+      // The keys are split into 2 (parallelism) * 4 ranges by the sampled keys, so the keys
+      // starting with 't' are collected by several ranges
+      List<byte[]> boundaries = kvGarbageCollector.uncommittedRanges();
+      Assertions.assertEquals(9, boundaries.size());
+      Assertions.assertArrayEquals(new byte[] {FIRST_USER_KEY_BYTE}, boundaries.get(0));
+      Assertions.assertArrayEquals(new byte[] {END_USER_KEY_BYTE}, boundaries.get(8));
+      for (int i = 1; i < 8; i++) {
+        Assertions.assertEquals('t', boundaries.get(i)[0]);
+        Assertions.assertTrue(Bytes.wrap(boundaries.get(i)).compareTo(boundaries.get(i - 1)) > 0);
+      }
+
+      // The committed data is kept
+      kvGarbageCollector.collectAndClean();
+      Assertions.assertEquals(0, kvGarbageCollector.keysRemoved());
+      transactionalKvBackend.begin();
+      Assertions.assertEquals("v1", new String(transactionalKvBackend.get("ta100".getBytes())));
+      transactionalKvBackend.closeTransaction();
+      kvGarbageCollector.close();
+    }
+  }
+
+  @Test
+  void testResumeCollectingUncommittedData() throws IOException {
+    Config config = getConfig();
+    try (KvBackend kvBackend = getKvBackEnd(config)) {
+      TransactionIdGenerator transactionIdGenerator =
+          new TransactionIdGeneratorImpl(kvBackend, config);
+      // The data of a transaction which failed to commit, there is no commit mark
+      long transactionId = transactionIdGenerator.nextId();
+      for (int i = 0; i < 25; i++) {
+        kvBackend.put(
+            TransactionalKvBackendImpl.generateKey(
+                String.format("ta%03d", i).getBytes(), transactionId),
+            "v1".getBytes(),
+            true);
+      }
+      KvRange uncommittedRange =
+          new KvRange.KvRangeBuilder()
+              .start("ta".getBytes())
+              .end("tb".getBytes())
+              .startInclusive(true)
+              .endInclusive(false)
+              .build();
+
+      KvGarbageCollector kvGarbageCollector = newCollectorWithRangeLimit(kvBackend, config, 10);
+      kvGarbageCollector.collectAndClean();
+      Assertions.assertEquals(10, kvGarbageCollector.keysRemoved());
+      Assertions.assertEquals(15, kvBackend.scan(uncommittedRange).size());
+      kvGarbageCollector.close();
+
+      // The collector created after restarting resumes from the checkpoint, and the ranges are not
+      // split again until all of them are scanned completely
+      kvGarbageCollector = newCollectorWithRangeLimit(kvBackend, config, 10);
+      kvGarbageCollector.collectAndClean();
+      Assertions.assertEquals(10, kvGarbageCollector.keysRemoved());
+      Assertions.assertEquals(5, kvBackend.scan(uncommittedRange).size());
+      kvGarbageCollector.collectAndClean();
+      Assertions.assertEquals(15, kvGarbageCollector.keysRemoved());
+      Assertions.assertTrue(kvBackend.scan(uncommittedRange).isEmpty());
+      Assertions.assertEquals(
+          END_USER_KEY_BYTE - FIRST_USER_KEY_BYTE + 1,
+          kvGarbageCollector.uncommittedRanges().size());
+
+      // The next pass starts over from the beginning of the ranges, then splits them again
+      kvGarbageCollector.collectAndClean();
+      Assertions.assertEquals(15, kvGarbageCollector.keysRemoved());
+      Assertions.assertEquals(2, kvGarbageCollector.uncommittedRanges().size());
+      kvGarbageCollector.close();
+    }
+  }
+
+  private KvGarbageCollector newCollectorWithRangeLimit(
+      KvBackend kvBackend, Config config, int maxUncommittedKeysPerRange) {
+    KvGarbageCollector kvGarbageCollector = new KvGarbageCollector(kvBackend, config, null);
+    // Start the collector to set the time window of the uncommitted data to collect, the first
+    // scheduled collection is minutes later.
+    kvGarbageCollector.start();
+    kvGarbageCollector.maxUncommittedKeysPerRange = maxUncommittedKeysPerRange;
+    return kvGarbageCollector;
+  }
+
+  @Test
+  void testThrottleDeletes() throws IOException, InterruptedException {
+    Config config = getConfig();
+    Mockito.when(config.get(Configs.KV_GC_DELETES_PER_SECOND)).thenReturn(20);
+    try (KvBackend kvBackend = getKvBackEnd(config)) {
+      TransactionIdGenerator transactionIdGenerator =
+          new TransactionIdGeneratorImpl(kvBackend, config);
+      TransactionalKvBackendImpl transactionalKvBackend =
+          new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+      for (int version = 1; version <= 2; version++) {
+        transactionalKvBackend.begin();
+        for (int i = 0; i < 40; i++) {
+          transactionalKvBackend.put(
+              String.format("test%03d", i).getBytes(), ("v" + version).getBytes(), true);
+        }
+        transactionalKvBackend.commit();
+        transactionalKvBackend.closeTransaction();
+      }
+
+      Mockito.doReturn(2000L).when(config).get(STORE_DELETE_AFTER_TIME);
+      Thread.sleep(3000);
+      // Create the collector after the data expires, so the rate limiter has no stored permits
+      KvGarbageCollector kvGarbageCollector = new KvGarbageCollector(kvBackend, config, null);
+      kvGarbageCollector.collectAndClean();
+
+      // 41 deletes take about 2 seconds at 20 deletes per second
+      Assertions.assertEquals(41, kvGarbageCollector.keysRemoved());
+      Assertions.assertTrue(kvGarbageCollector.lastPassDurationMs() >= 1000);
+      kvGarbageCollector.close();
     }
   }
 
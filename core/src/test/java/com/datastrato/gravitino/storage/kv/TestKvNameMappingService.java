@@ -18,15 +18,28 @@ import com.datastrato.gravitino.EntitySerDeFactory;
 import com.datastrato.gravitino.EntityStoreFactory;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.storage.NameMappingService;
+import com.google.common.collect.Lists;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class TestKvNameMappingService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(TestKvNameMappingService.class);
+
   private Config getConfig() throws IOException {
     File baseDir = new File(System.getProperty("java.io.tmpdir"));
     File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
@@ -34,6 +47,10 @@ public class TestKvNameMappingService {
     Config config = Mockito.mock(Config.class);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
     Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
+    Mockito.when(config.get(Configs.KV_COMMITTED_TRANSACTION_INDEX_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_NAME_MAPPING_CACHE_CAPACITY)).thenReturn(1024);
+    Mockito.when(config.get(Configs.KV_GC_PARALLELISM)).thenReturn(2);
+    Mockito.when(config.get(Configs.KV_GC_DELETES_PER_SECOND)).thenReturn(0);
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3000L);
     Mockito.when(config.get(ENTITY_STORE)).thenReturn("kv");
     Mockito.when(config.get(ENTITY_KV_STORE)).thenReturn(DEFAULT_ENTITY_KV_STORE);
@@ -154,8 +171,7 @@ public class TestKvNameMappingService {
           .put(Mockito.any(), Mockito.any(), Mockito.anyBoolean());
       Config config = Mockito.mock(Config.class);
       Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3000L);
-      final NameMappingService mock =
-          new KvNameMappingService(spyKvBackend, nameMappingService.lock);
+      final NameMappingService mock = new KvNameMappingService(spyKvBackend);
 
       // Now we try to use update. It should fail.
       Assertions.assertThrowsExactly(
@@ -167,4 +183,135 @@ public class TestKvNameMappingService {
       Assertions.assertNotNull(mock.getIdByName("name2"));
     }
   }
+
+  @Test
+  void testNameMappingCache() throws Exception {
+    try (KvEntityStore kvEntityStore = getKvEntityStore(getConfig())) {
+      KvNameMappingService nameMappingService =
+          (KvNameMappingService) kvEntityStore.nameMappingService;
+      IdGenerator idGenerator = getIdGeneratorByReflection(nameMappingService);
+      Mockito.doReturn(1L).when(idGenerator).nextId();
+
+      // Absent mappings are not cached.
+      Assertions.assertNull(nameMappingService.getIdByName("name1"));
+      Assertions.assertNull(nameMappingService.nameToIdCache.getIfPresent("name1"));
+
+      long name1Id = nameMappingService.getOrCreateIdFromName("name1");
+      Assertions.assertEquals(name1Id, nameMappingService.getIdByName("name1"));
+      Assertions.assertEquals(name1Id, nameMappingService.nameToIdCache.getIfPresent("name1"));
+      Assertions.assertEquals("name1", nameMappingService.getNameById(name1Id));
+      Assertions.assertEquals("name1", nameMappingService.idToNameCache.getIfPresent(name1Id));
+
+      long hitCount = nameMappingService.cacheHitCount();
+      Assertions.assertEquals(name1Id, nameMappingService.getIdByName("name1"));
+      Assertions.assertEquals(hitCount + 1, nameMappingService.cacheHitCount());
+
+      // The cache is invalidated after renaming.
+      Assertions.assertTrue(nameMappingService.updateName("name1", "name2"));
+      Assertions.assertNull(nameMappingService.nameToIdCache.getIfPresent("name1"));
+      Assertions.assertNull(nameMappingService.idToNameCache.getIfPresent(name1Id));
+      Assertions.assertNull(nameMappingService.getIdByName("name1"));
+      Assertions.assertEquals(name1Id, nameMappingService.getIdByName("name2"));
+      Assertions.assertEquals("name2", nameMappingService.getNameById(name1Id));
+
+      // The cache is invalidated after unbinding.
+      Assertions.assertTrue(nameMappingService.unbindNameAndId("name2"));
+      Assertions.assertNull(nameMappingService.getIdByName("name2"));
+      Assertions.assertNull(nameMappingService.getNameById(name1Id));
+
+      // The cache is not invalidated if the transaction is not committed.
+      Mockito.doReturn(3L).when(idGenerator).nextId();
+      long name3Id = nameMappingService.getOrCreateIdFromName("name3");
+      Assertions.assertEquals(name3Id, nameMappingService.getIdByName("name3"));
+      Assertions.assertThrowsExactly(
+          IllegalStateException.class,
+          () ->
+              kvEntityStore.executeInTransaction(
+                  () -> {
+                    nameMappingService.unbindNameAndId("name3");
+                    throw new IllegalStateException("Mock: transaction failed");
+                  }));
+      Assertions.assertEquals(name3Id, nameMappingService.nameToIdCache.getIfPresent("name3"));
+      Assertions.assertEquals(name3Id, nameMappingService.getIdByName("name3"));
+    }
+  }
+
+  @Test
+  void testConcurrentGetOrCreateIdFromName() throws Exception {
+    try (KvEntityStore kvEntityStore = getKvEntityStore(getConfig())) {
+      NameMappingService nameMappingService = kvEntityStore.nameMappingService;
+      int threadNum = 16;
+      ExecutorService executorService = Executors.newFixedThreadPool(threadNum);
+      try {
+        List<Future<List<Long>>> futures = Lists.newArrayList();
+        for (int i = 0; i < threadNum; i++) {
+          futures.add(
+              executorService.submit(
+                  () -> {
+                    List<Long> ids = Lists.newArrayList();
+                    for (int j = 0; j < 10; j++) {
+                      ids.add(nameMappingService.getOrCreateIdFromName("1/name" + j));
+                    }
+                    return ids;
+                  }));
+        }
+
+        // All threads should get the same id for the same name.
+        List<Long> expectedIds = futures.get(0).get();
+        for (Future<List<Long>> future : futures) {
+          Assertions.assertEquals(expectedIds, future.get());
+        }
+        for (int j = 0; j < 10; j++) {
+          Assertions.assertEquals(expectedIds.get(j), nameMappingService.getIdByName("1/name" + j));
+        }
+      } finally {
+        executorService.shutdownNow();
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4, 16, 64})
+  @Disabled("It's very time-consuming, so we disable it by default.")
+  void testConcurrentCreateAndLoadInDifferentMetalakes(int threadNum) throws Exception {
+    try (KvEntityStore kvEntityStore = getKvEntityStore(getConfig())) {
+      NameMappingService nameMappingService = kvEntityStore.nameMappingService;
+      ExecutorService executorService = Executors.newFixedThreadPool(threadNum);
+      int opsPerThread = 10000;
+      long start = System.nanoTime();
+      try {
+        List<Future<?>> futures = Lists.newArrayList();
+        for (int i = 0; i < threadNum; i++) {
+          // Every thread works on its own metalake, 1 of 10 operations creates a new name and the
+          // others load the names created before.
+          String metalakeId = String.valueOf(i);
+          futures.add(
+              executorService.submit(
+                  () -> {
+                    for (int j = 0; j < opsPerThread; j++) {
+                      if (j % 10 == 0) {
+                        nameMappingService.getOrCreateIdFromName(metalakeId + "/name" + j);
+                      } else {
+                        nameMappingService.getIdByName(metalakeId + "/name" + (j / 10 * 10));
+                      }
+                    }
+                    return null;
+                  }));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      } finally {
+        executorService.shutdownNow();
+      }
+
+      long costMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      LOGGER.info(
+          "{} threads finished {} create/load operations in {}ms, QPS: {}",
+          threadNum,
+          threadNum * opsPerThread,
+          costMs,
+          threadNum * opsPerThread * 1000L / Math.max(costMs, 1));
+    }
+  }
 }
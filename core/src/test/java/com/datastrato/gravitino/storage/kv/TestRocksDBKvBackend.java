@@ -9,6 +9,7 @@ import static com.datastrato.gravitino.Configs.ENTRY_KV_ROCKSDB_BACKEND_PATH;
 
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
+import com.google.common.collect.Lists;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -18,6 +19,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
@@ -92,6 +94,45 @@ public class TestRocksDBKvBackend {
     Assertions.assertTrue(exception.getMessage().contains("Mock: Store file not found"));
   }
 
+  @Test
+  void testBatchPut() throws IOException {
+    KvBackend kvBackend = getKvBackEnd();
+    List<Pair<byte[], byte[]>> kvs =
+        Lists.newArrayList(
+            Pair.of(
+                "key1".getBytes(StandardCharsets.UTF_8), "value1".getBytes(StandardCharsets.UTF_8)),
+            Pair.of(
+                "key2".getBytes(StandardCharsets.UTF_8),
+                "value2".getBytes(StandardCharsets.UTF_8)));
+    kvBackend.batchPut(kvs, false);
+    Assertions.assertEquals(
+        "value1",
+        new String(kvBackend.get("key1".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+    Assertions.assertEquals(
+        "value2",
+        new String(kvBackend.get("key2".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+
+    // key2 already exists, none of the pairs in the batch should be written.
+    List<Pair<byte[], byte[]>> conflictKvs =
+        Lists.newArrayList(
+            Pair.of(
+                "key3".getBytes(StandardCharsets.UTF_8), "value3".getBytes(StandardCharsets.UTF_8)),
+            Pair.of(
+                "key2".getBytes(StandardCharsets.UTF_8),
+                "value2-new".getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertThrowsExactly(
+        AlreadyExistsException.class, () -> kvBackend.batchPut(conflictKvs, false));
+    Assertions.assertNull(kvBackend.get("key3".getBytes(StandardCharsets.UTF_8)));
+
+    kvBackend.batchPut(conflictKvs, true);
+    Assertions.assertEquals(
+        "value3",
+        new String(kvBackend.get("key3".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+    Assertions.assertEquals(
+        "value2-new",
+        new String(kvBackend.get("key2".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+  }
+
   @Test
   void testDelete() throws IOException, RocksDBException {
     KvBackend kvBackend = getKvBackEnd();
@@ -234,6 +275,42 @@ public class TestRocksDBKvBackend {
     Assertions.assertNotNull(kvBackend.get("accb".getBytes(StandardCharsets.UTF_8)));
   }
 
+  @Test
+  void testDeleteRangeBoundaries() throws IOException {
+    boolean[][] inclusives = {{true, true}, {true, false}, {false, true}, {false, false}};
+    for (boolean[] inclusive : inclusives) {
+      KvBackend kvBackend = getKvBackEnd();
+      for (String key : new String[] {"ab", "ab1", "abc", "abd", "abd1", "abe"}) {
+        kvBackend.put(
+            key.getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8), false);
+      }
+
+      KvRange kvRange =
+          new KvRange.KvRangeBuilder()
+              .start("ab".getBytes(StandardCharsets.UTF_8))
+              .end("abd".getBytes(StandardCharsets.UTF_8))
+              .startInclusive(inclusive[0])
+              .endInclusive(inclusive[1])
+              .build();
+      Assertions.assertTrue(kvBackend.deleteRange(kvRange));
+
+      Assertions.assertEquals(
+          inclusive[0], kvBackend.get("ab".getBytes(StandardCharsets.UTF_8)) == null);
+      Assertions.assertNull(kvBackend.get("ab1".getBytes(StandardCharsets.UTF_8)));
+      Assertions.assertNull(kvBackend.get("abc".getBytes(StandardCharsets.UTF_8)));
+      Assertions.assertEquals(
+          inclusive[1], kvBackend.get("abd".getBytes(StandardCharsets.UTF_8)) == null);
+      Assertions.assertNotNull(kvBackend.get("abd1".getBytes(StandardCharsets.UTF_8)));
+      Assertions.assertNotNull(kvBackend.get("abe".getBytes(StandardCharsets.UTF_8)));
+
+      Assertions.assertDoesNotThrow(
+          () ->
+              kvBackend.compactRange(
+                  "ab".getBytes(StandardCharsets.UTF_8), "abe".getBytes(StandardCharsets.UTF_8)));
+      kvBackend.close();
+    }
+  }
+
   @Test
   void testScanWithBrokenRocksDB() throws IOException {
     KvBackend kvBackend = getKvBackEnd();
@@ -274,7 +351,8 @@ public class TestRocksDBKvBackend {
     RocksDB db = rocksDBKvBackend.getDb();
     RocksDB spyDb = Mockito.spy(db);
 
-    Mockito.when(spyDb.newIterator()).thenThrow(new RuntimeException("Mock: RocksDB is broken"));
+    Mockito.when(spyDb.newIterator(Mockito.any(ReadOptions.class)))
+        .thenThrow(new RuntimeException("Mock: RocksDB is broken"));
     rocksDBKvBackend.setDb(spyDb);
 
     Exception e =
@@ -322,7 +400,8 @@ public class TestRocksDBKvBackend {
     RocksDB db = rocksDBKvBackend.getDb();
     RocksDB spyDb = Mockito.spy(db);
 
-    Mockito.when(spyDb.newIterator()).thenThrow(new RuntimeException("Mock: RocksDB is broken"));
+    Mockito.when(spyDb.newIterator(Mockito.any(ReadOptions.class)))
+        .thenThrow(new RuntimeException("Mock: RocksDB is broken"));
     rocksDBKvBackend.setDb(spyDb);
 
     Exception e =
@@ -370,7 +449,8 @@ public class TestRocksDBKvBackend {
     RocksDB db = rocksDBKvBackend.getDb();
     RocksDB spyDb = Mockito.spy(db);
 
-    Mockito.when(spyDb.newIterator()).thenThrow(new RuntimeException("Mock: RocksDB is broken"));
+    Mockito.when(spyDb.newIterator(Mockito.any(ReadOptions.class)))
+        .thenThrow(new RuntimeException("Mock: RocksDB is broken"));
     rocksDBKvBackend.setDb(spyDb);
 
     Exception e =
@@ -437,7 +517,42 @@ public class TestRocksDBKvBackend {
     RocksDB db = rocksDBKvBackend.getDb();
     RocksDB spyDb = Mockito.spy(db);
 
-    Mockito.when(spyDb.newIterator()).thenCallRealMethod();
+    Mockito.when(spyDb.newIterator(Mockito.any(ReadOptions.class))).thenCallRealMethod();
     Assertions.assertDoesNotThrow(() -> kvBackend.scan(kvRange));
   }
+
+  @Test
+  void testScanWithAndWithoutSharedPrefix() throws IOException {
+    KvBackend kvBackend = getKvBackEnd();
+    // The default prefix length is 11 bytes, keys share a prefix if the first 11 bytes are equal.
+    String[] keys = {"ab/00000001/a", "ab/00000001/b", "ab/00000002/a", "ab/00000003/a"};
+    for (String key : keys) {
+      kvBackend.put(
+          key.getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    // The start and end share the same prefix, scan in the prefix mode.
+    KvRange samePrefixRange =
+        new KvRange.KvRangeBuilder()
+            .start("ab/00000001/".getBytes(StandardCharsets.UTF_8))
+            .end("ab/00000001/z".getBytes(StandardCharsets.UTF_8))
+            .startInclusive(true)
+            .endInclusive(true)
+            .build();
+    Assertions.assertEquals(2, kvBackend.scan(samePrefixRange).size());
+
+    // The start and end have different prefixes, scan in the total order mode.
+    KvRange crossPrefixRange =
+        new KvRange.KvRangeBuilder()
+            .start("ab/00000001/".getBytes(StandardCharsets.UTF_8))
+            .end("ab/00000003/".getBytes(StandardCharsets.UTF_8))
+            .startInclusive(true)
+            .endInclusive(false)
+            .build();
+    Assertions.assertEquals(3, kvBackend.scan(crossPrefixRange).size());
+
+    kvBackend.deleteRange(crossPrefixRange);
+    Assertions.assertNull(kvBackend.get("ab/00000002/a".getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertNotNull(kvBackend.get("ab/00000003/a".getBytes(StandardCharsets.UTF_8)));
+  }
 }
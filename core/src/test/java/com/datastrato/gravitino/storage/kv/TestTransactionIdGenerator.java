@@ -15,9 +15,12 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
@@ -90,8 +93,59 @@ public class TestTransactionIdGenerator {
     Assertions.assertTrue(idAfterReset2 > idAfterReset);
   }
 
+  @Test
+  void testNextIdConcurrently() throws IOException, InterruptedException {
+    Config config = getConfig();
+    KvBackend kvBackend = getKvBackEnd(config);
+    TransactionIdGenerator transactionIdGenerator =
+        new TransactionIdGeneratorImpl(kvBackend, config);
+    transactionIdGenerator.start();
+
+    int threadNum = 8;
+    int idsPerThread = 1000;
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+    AtomicBoolean incremental = new AtomicBoolean(true);
+    // The last id got under the lock by any thread.
+    Object lock = new Object();
+    long[] globalLast = new long[1];
+    Thread[] threads = new Thread[threadNum];
+    for (int i = 0; i < threadNum; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                long last = 0;
+                for (int j = 0; j < idsPerThread; j++) {
+                  long id = transactionIdGenerator.nextId();
+                  if (id <= last) {
+                    incremental.set(false);
+                  }
+                  last = id;
+                  ids.add(id);
+
+                  // An id got after another thread's id must be larger than it.
+                  synchronized (lock) {
+                    long globalId = transactionIdGenerator.nextId();
+                    if (globalId <= globalLast[0]) {
+                      incremental.set(false);
+                    }
+                    globalLast[0] = globalId;
+                    ids.add(globalId);
+                  }
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // The ids are incremental among all threads and unique.
+    Assertions.assertTrue(incremental.get());
+    Assertions.assertEquals(threadNum * idsPerThread * 2, ids.size());
+  }
+
   @ParameterizedTest
-  @ValueSource(ints = {16})
+  @ValueSource(ints = {1, 4, 16, 64})
   @Disabled("It's very time-consuming, so we disable it by default.")
   void testTransactionIdGeneratorQPS(int threadNum) throws IOException, InterruptedException {
     Config config = getConfig();
@@ -224,6 +224,61 @@ class TestTransactionalKvBackend {
     transactionIdGenerator.close();
   }
 
+  @Test
+  void testScanInBatches() throws IOException {
+    Config config = getConfig();
+    KvBackend kvBackend = getKvBackEnd(config);
+    TransactionIdGenerator transactionIdGenerator =
+        new TransactionIdGeneratorImpl(kvBackend, config);
+    TransactionalKvBackendImpl transactionalKvBackend =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+    // Make the versions of a key span several batches
+    transactionalKvBackend.scanBatchSize = 2;
+
+    for (int version = 0; version < 3; version++) {
+      transactionalKvBackend.begin();
+      for (int i = 0; i < 5; i++) {
+        transactionalKvBackend.put(
+            ("key" + i).getBytes(), ("value" + i + "_" + version).getBytes(), true);
+      }
+      transactionalKvBackend.commit();
+    }
+
+    transactionalKvBackend.begin();
+    transactionalKvBackend.delete("key2".getBytes());
+    transactionalKvBackend.commit();
+
+    transactionalKvBackend.begin();
+    List<Pair<byte[], byte[]>> pairs =
+        transactionalKvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start("key0".getBytes())
+                .end("key4".getBytes())
+                .startInclusive(true)
+                .endInclusive(true)
+                .build());
+    Assertions.assertEquals(
+        Lists.newArrayList("key0", "key1", "key3", "key4"),
+        pairs.stream().map(p -> new String(p.getKey())).collect(Collectors.toList()));
+    for (Pair<byte[], byte[]> pair : pairs) {
+      Assertions.assertTrue(new String(pair.getValue()).endsWith("_2"));
+    }
+
+    pairs =
+        transactionalKvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start("key0".getBytes())
+                .end("key4".getBytes())
+                .startInclusive(false)
+                .endInclusive(false)
+                .limit(1)
+                .build());
+    Assertions.assertEquals(1, pairs.size());
+    Assertions.assertEquals("key1", new String(pairs.get(0).getKey()));
+    transactionalKvBackend.close();
+    transactionIdGenerator.close();
+  }
+
   @Test
   void testDeleteRange() throws IOException {
     Config config = getConfig();
@@ -322,6 +377,62 @@ class TestTransactionalKvBackend {
     transactionIdGenerator.close();
   }
 
+  @Test
+  void testConcurrentPutAndGetSameKey() throws IOException, InterruptedException {
+    Config config = getConfig();
+    KvBackend kvBackend = getKvBackEnd(config);
+    TransactionIdGenerator transactionIdGenerator =
+        new TransactionIdGeneratorImpl(kvBackend, config);
+    TransactionalKvBackend transactionalKvBackend =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+    byte[] key = "key".getBytes(StandardCharsets.UTF_8);
+
+    // The threads take turns to put the same key, a put must be visible right after it's
+    // committed, even if another thread has put the key before.
+    int threadNum = 4;
+    int putsPerThread = 200;
+    Object lock = new Object();
+    AtomicLong lostPuts = new AtomicLong(0);
+    Thread[] threads = new Thread[threadNum];
+    for (int i = 0; i < threadNum; i++) {
+      int threadIndex = i;
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < putsPerThread; j++) {
+                  byte[] value = (threadIndex + "-" + j).getBytes(StandardCharsets.UTF_8);
+                  synchronized (lock) {
+                    try {
+                      transactionalKvBackend.begin();
+                      transactionalKvBackend.put(key, value, true);
+                      transactionalKvBackend.commit();
+                      transactionalKvBackend.closeTransaction();
+
+                      transactionalKvBackend.begin();
+                      if (!Arrays.equals(value, transactionalKvBackend.get(key))) {
+                        lostPuts.incrementAndGet();
+                      }
+                      transactionalKvBackend.closeTransaction();
+                    } catch (IOException e) {
+                      LOGGER.error("Failed to put or get the key", e);
+                      lostPuts.incrementAndGet();
+                    }
+                  }
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    Assertions.assertEquals(0, lostPuts.get());
+    transactionalKvBackend.begin();
+    Assertions.assertNotNull(transactionalKvBackend.get(key));
+    transactionalKvBackend.close();
+    transactionIdGenerator.close();
+  }
+
   @ParameterizedTest
   @ValueSource(ints = {16})
   @Disabled("It's very time-consuming, so we disable it by default.")
@@ -424,6 +535,41 @@ class TestTransactionalKvBackend {
     LOGGER.info(String.format("%d thread write qps is: %d/s", threadNum, atomicLong.get() / 2));
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 100})
+  @Disabled("It's very time-consuming, so we disable it by default.")
+  void testCommitLatency(int keyNum) throws IOException {
+    Config config = getConfig();
+    KvBackend kvBackend = getKvBackEnd(config);
+    TransactionIdGenerator transactionIdGenerator =
+        new TransactionIdGeneratorImpl(kvBackend, config);
+    TransactionalKvBackend transactionalKvBackend =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+
+    int rounds = 1000;
+    long totalCommitNanos = 0;
+    for (int round = 0; round < rounds; round++) {
+      transactionalKvBackend.begin();
+      for (int i = 0; i < keyNum; i++) {
+        transactionalKvBackend.put(
+            ("key" + round + "-" + i).getBytes(StandardCharsets.UTF_8),
+            ("value" + i).getBytes(StandardCharsets.UTF_8),
+            true);
+      }
+
+      long start = System.nanoTime();
+      transactionalKvBackend.commit();
+      totalCommitNanos += System.nanoTime() - start;
+      transactionalKvBackend.closeTransaction();
+    }
+
+    LOGGER.info(
+        String.format(
+            "%d keys per transaction, average commit latency is: %d us",
+            keyNum, totalCommitNanos / rounds / 1000));
+    kvBackend.close();
+  }
+
   @Test
   void testPrefixError() throws IOException, InterruptedException {
     Config config = getConfig();
@@ -31,10 +31,12 @@ import com.datastrato.gravitino.meta.SchemaVersion;
 import com.datastrato.gravitino.meta.TableEntity;
 import com.datastrato.gravitino.meta.UserEntity;
 import com.datastrato.gravitino.utils.Executable;
+import com.datastrato.gravitino.utils.Page;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.locks.Lock;
@@ -75,6 +77,24 @@ public class TestMemoryEntityStore {
           .collect(Collectors.toList());
     }
 
+    @Override
+    public <E extends Entity & HasIdentifier> Page<E> list(
+        Namespace namespace, Class<E> cl, EntityType entityType, String pageToken, int pageSize)
+        throws IOException {
+      List<E> entities =
+          list(namespace, cl, entityType).stream()
+              .filter(e -> pageToken == null || e.name().compareTo(pageToken) > 0)
+              .sorted(Comparator.comparing(HasIdentifier::name))
+              .limit(pageSize + 1L)
+              .collect(Collectors.toList());
+      if (entities.size() <= pageSize) {
+        return Page.of(entities, null);
+      }
+
+      List<E> items = entities.subList(0, pageSize);
+      return Page.of(items, items.get(pageSize - 1).name());
+    }
+
     @Override
     public boolean exists(NameIdentifier nameIdentifier, EntityType type) throws IOException {
       return entityMap.containsKey(nameIdentifier);
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.utils;
+
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestIsolatedClassLoader {
+
+  @Test
+  public void testReferenceCount() throws Exception {
+    IsolatedClassLoader classLoader =
+        new IsolatedClassLoader(
+            Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    Assertions.assertFalse(classLoader.isClosed());
+
+    // Shared by another holder, the first close doesn't close the class loader.
+    Assertions.assertTrue(classLoader.tryRetain());
+    classLoader.close();
+    Assertions.assertFalse(classLoader.isClosed());
+    Assertions.assertEquals(
+        String.class.getName(), classLoader.withClassLoader(cl -> String.class.getName()));
+
+    // The last holder closes the class loader, and it can't be retained any more.
+    classLoader.close();
+    Assertions.assertTrue(classLoader.isClosed());
+    Assertions.assertFalse(classLoader.tryRetain());
+  }
+}
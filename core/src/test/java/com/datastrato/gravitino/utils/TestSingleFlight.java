@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.utils;
+
+import com.datastrato.gravitino.exceptions.NoSuchEntityException;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestSingleFlight {
+
+  private static SingleFlight<String, String> newSingleFlight(long notFoundTtlMs) {
+    return new SingleFlight<>(
+        notFoundTtlMs,
+        e -> e instanceof NoSuchEntityException,
+        e -> new NoSuchEntityException(e, "%s", e.getMessage()));
+  }
+
+  @Test
+  public void testCoalesceConcurrentLoads() throws Exception {
+    SingleFlight<String, String> singleFlight = newSingleFlight(0);
+    AtomicInteger loadCount = new AtomicInteger();
+    CountDownLatch loadStarted = new CountDownLatch(1);
+    CountDownLatch releaseLoad = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      Future<String> first =
+          executor.submit(
+              () ->
+                  singleFlight.execute(
+                      "key",
+                      k -> {
+                        loadCount.incrementAndGet();
+                        loadStarted.countDown();
+                        releaseLoad.await();
+                        throw new IOException("mock error");
+                      }));
+      Assertions.assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+
+      Future<?>[] waiters = new Future<?>[7];
+      for (int i = 0; i < waiters.length; i++) {
+        waiters[i] =
+            executor.submit(
+                () ->
+                    singleFlight.execute(
+                        "key",
+                        k -> {
+                          loadCount.incrementAndGet();
+                          return "value";
+                        }));
+      }
+      // Give the waiters a chance to join the in-flight load
+      Thread.sleep(100);
+      releaseLoad.countDown();
+
+      // The failure of the in-flight load is shared by the waiters, no retry is issued
+      Exception e = Assertions.assertThrows(Exception.class, first::get);
+      Assertions.assertInstanceOf(IOException.class, e.getCause());
+      for (Future<?> waiter : waiters) {
+        try {
+          Assertions.assertEquals("value", waiter.get());
+        } catch (Exception waitException) {
+          Assertions.assertInstanceOf(IOException.class, waitException.getCause());
+        }
+      }
+      Assertions.assertTrue(loadCount.get() < 1 + waiters.length);
+
+      // The failure is not cached, the next load goes to the backend
+      Assertions.assertEquals("value", singleFlight.execute("key", k -> "value"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCacheNotFound() throws Exception {
+    SingleFlight<String, String> singleFlight = newSingleFlight(60000);
+    AtomicInteger loadCount = new AtomicInteger();
+    ThrowableFunction<String, String> notFoundLoader =
+        k -> {
+          loadCount.incrementAndGet();
+          throw new NoSuchEntityException("Entity %s not found", k);
+        };
+
+    NoSuchEntityException first =
+        Assertions.assertThrows(
+            NoSuchEntityException.class, () -> singleFlight.execute("key", notFoundLoader));
+    NoSuchEntityException second =
+        Assertions.assertThrows(
+            NoSuchEntityException.class, () -> singleFlight.execute("key", notFoundLoader));
+    Assertions.assertEquals(1, loadCount.get());
+    // Every caller gets its own exception
+    Assertions.assertNotSame(first, second);
+    Assertions.assertSame(first, second.getCause());
+    Assertions.assertEquals(first.getMessage(), second.getMessage());
+
+    // The cached "not found" result is dropped once the key is created
+    singleFlight.invalidate("key");
+    Assertions.assertEquals("value", singleFlight.execute("key", k -> "value"));
+  }
+
+  @Test
+  public void testInvalidateWhileLoading() throws Exception {
+    SingleFlight<String, String> singleFlight = newSingleFlight(60000);
+    AtomicInteger loadCount = new AtomicInteger();
+    CountDownLatch loadStarted = new CountDownLatch(1);
+    CountDownLatch releaseLoad = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      // The load reads the key before it's created
+      Future<String> staleLoad =
+          executor.submit(
+              () ->
+                  singleFlight.execute(
+                      "key",
+                      k -> {
+                        loadCount.incrementAndGet();
+                        loadStarted.countDown();
+                        releaseLoad.await();
+                        throw new NoSuchEntityException("Entity %s not found", k);
+                      }));
+      Assertions.assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+
+      // The key is created while the load is in flight, the callers after the invalidation don't
+      // wait for the stale load
+      singleFlight.invalidate("key");
+      Assertions.assertEquals("value", singleFlight.execute("key", k -> "value"));
+
+      releaseLoad.countDown();
+      Exception e = Assertions.assertThrows(Exception.class, staleLoad::get);
+      Assertions.assertInstanceOf(NoSuchEntityException.class, e.getCause());
+
+      // The stale "not found" failure is not cached
+      Assertions.assertEquals("value", singleFlight.execute("key", k -> "value"));
+      Assertions.assertEquals(1, loadCount.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
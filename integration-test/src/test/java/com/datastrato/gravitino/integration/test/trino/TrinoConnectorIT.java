@@ -1067,31 +1067,37 @@ public class TrinoConnectorIT extends AbstractIT {
     sql = String.format("show schemas in %s like '%s'", catalogName, schemaName);
     Assertions.assertTrue(checkTrinoHasLoaded(sql, 30));
 
-    final String sql1 = String.format("drop schema %s.%s cascade", catalogName, schemaName);
-    // Will fail because the iceberg catalog does not support cascade drop
+    // The cascade drop drops the tables of the schema too
     TrinoContainer trinoContainer = containerSuite.getTrinoContainer();
-    Assertions.assertThrows(
-        RuntimeException.class,
-        () -> {
-          trinoContainer.executeUpdateSQL(sql1);
-        });
-
-    final String sql2 = String.format("show schemas in %s like '%s'", catalogName, schemaName);
-    success = checkTrinoHasLoaded(sql2, 30);
+    String tableName = GravitinoITUtils.genRandomName("iceberg_table").toLowerCase();
+    trinoContainer.executeUpdateSQL(
+        String.format("create table %s.%s.%s (id int)", catalogName, schemaName, tableName));
+    trinoContainer.executeUpdateSQL(
+        String.format("drop schema %s.%s cascade", catalogName, schemaName));
+    final String sql1 = String.format("show schemas in %s like '%s'", catalogName, schemaName);
+    success = checkTrinoHasRemoved(sql1, 30);
     if (!success) {
-      Assertions.fail("Trino fail to load catalogs created by gravitino: " + sql2);
+      Assertions.fail("Trino fail to drop the schema created by gravitino: " + sql1);
     }
+    NameIdentifier schemaIdent = NameIdentifier.of(metalakeName, catalogName, schemaName);
+    Assertions.assertFalse(catalog.asSchemas().schemaExists(schemaIdent));
 
-    // Do not support the cascade drop
-    success =
+    // The same for the cascade drop through Gravitino
+    catalog.asSchemas().createSchema(schemaIdent, "Created by gravitino client", ImmutableMap.of());
+    Assertions.assertTrue(checkTrinoHasLoaded(sql, 30));
+    trinoContainer.executeUpdateSQL(
+        String.format("create table %s.%s.%s (id int)", catalogName, schemaName, tableName));
+    Assertions.assertTrue(
         catalog
-            .asSchemas()
-            .dropSchema(NameIdentifier.of(metalakeName, catalogName, schemaName), true);
-    Assertions.assertFalse(success);
-    final String sql3 = String.format("show schemas in %s like '%s'", catalogName, schemaName);
-    success = checkTrinoHasLoaded(sql3, 30);
+            .asTableCatalog()
+            .tableExists(NameIdentifier.of(metalakeName, catalogName, schemaName, tableName)));
+
+    Assertions.assertTrue(catalog.asSchemas().dropSchema(schemaIdent, true));
+    Assertions.assertFalse(catalog.asSchemas().schemaExists(schemaIdent));
+    final String sql2 = String.format("show schemas in %s like '%s'", catalogName, schemaName);
+    success = checkTrinoHasRemoved(sql2, 30);
     if (!success) {
-      Assertions.fail("Trino fail to load catalogs created by gravitino: " + sql);
+      Assertions.fail("Trino fail to drop the schema created by gravitino: " + sql2);
     }
   }
 
@@ -5,7 +5,9 @@
 
 package com.datastrato.gravitino.server.web;
 
+import com.codahale.metrics.Clock;
 import com.codahale.metrics.jersey2.InstrumentedResourceMethodApplicationListener;
+import com.datastrato.gravitino.metrics.BucketedReservoir;
 import com.datastrato.gravitino.metrics.MetricNames;
 import com.datastrato.gravitino.metrics.source.MetricsSource;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -13,7 +15,10 @@ import org.glassfish.jersey.server.ResourceConfig;
 public class HttpServerMetricsSource extends MetricsSource {
   public HttpServerMetricsSource(String name, ResourceConfig resourceConfig, JettyServer server) {
     super(name);
-    resourceConfig.register(new InstrumentedResourceMethodApplicationListener(getMetricRegistry()));
+    // The timers of the requests count the durations into buckets like the timers of getTimer.
+    resourceConfig.register(
+        new InstrumentedResourceMethodApplicationListener(
+            getMetricRegistry(), Clock.defaultClock(), false, BucketedReservoir::forTimer));
     registerGauge(
         MetricNames.SERVER_IDLE_THREAD_NUM, () -> server.getThreadPool().getIdleThreads());
   }
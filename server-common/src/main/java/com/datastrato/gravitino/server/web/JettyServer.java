@@ -72,11 +72,20 @@ public final class JettyServer {
     this.serverConfig = serverConfig;
     this.serverName = serverName;
 
+    boolean useVirtualThreads = serverConfig.isEnableVirtualThreads();
+    if (useVirtualThreads && !VirtualThreads.isSupported()) {
+      LOG.warn(
+          "Virtual threads are not supported by Java {}, {} web server uses platform threads",
+          System.getProperty("java.version"),
+          serverName);
+      useVirtualThreads = false;
+    }
     ThreadPool threadPool =
         createThreadPool(
             serverConfig.getMinThreads(),
-            serverConfig.getMaxThreads(),
-            serverConfig.getThreadPoolWorkQueueSize());
+            useVirtualThreads ? serverConfig.getMaxVirtualThreads() : serverConfig.getMaxThreads(),
+            serverConfig.getThreadPoolWorkQueueSize(),
+            useVirtualThreads);
 
     // Create and config Jetty Server
     server = new Server(threadPool);
@@ -394,8 +403,13 @@ public final class JettyServer {
     return new ServerConnector(server, null, serverExecutor, null, -1, -1, connectionFactories);
   }
 
+  // The virtual threads are pooled by the QueuedThreadPool like the platform threads, so a request
+  // is still handled by one thread from the beginning to the end, and the thread-local states, like
+  // the SqlSession and the KV transaction, behave the same in both modes. The blocking calls to the
+  // underlying sources unmount a virtual thread from its carrier, so maxThreads can be much larger.
   @SuppressWarnings("removal")
-  private ThreadPool createThreadPool(int minThreads, int maxThreads, int threadPoolWorkQueueSize) {
+  private ThreadPool createThreadPool(
+      int minThreads, int maxThreads, int threadPoolWorkQueueSize, boolean useVirtualThreads) {
 
     ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
     // Use QueuedThreadPool not ExecutorThreadPool to work around the accidental test failures.
@@ -410,7 +424,10 @@ public final class JettyServer {
                 new PrivilegedAction<Thread>() {
                   @Override
                   public Thread run() {
-                    Thread thread = new Thread(runnable);
+                    Thread thread =
+                        useVirtualThreads
+                            ? VirtualThreads.newThread(runnable)
+                            : new Thread(runnable);
                     thread.setDaemon(true);
                     thread.setPriority(getThreadsPriority());
                     thread.setName(getName() + "-" + thread.getId());
@@ -429,6 +446,9 @@ public final class JettyServer {
           }
         };
     threadPool.setName(serverName);
+    if (useVirtualThreads) {
+      LOG.info("{} web server handles the requests on virtual threads", serverName);
+    }
     return threadPool;
   }
 
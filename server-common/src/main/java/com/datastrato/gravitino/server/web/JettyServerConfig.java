@@ -63,6 +63,25 @@ public final class JettyServerConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(Math.max(Runtime.getRuntime().availableProcessors() * 4, 400));
 
+  public static final ConfigEntry<Boolean> ENABLE_VIRTUAL_THREADS =
+      new ConfigBuilder("enableVirtualThreads")
+          .doc(
+              "Whether to handle the requests on virtual threads instead of platform threads, it "
+                  + "only takes effect when the server runs on Java 21 or later")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> WEBSERVER_MAX_VIRTUAL_THREADS =
+      new ConfigBuilder("maxVirtualThreads")
+          .doc(
+              "The maximum number of virtual threads used by Jetty webserver, it replaces "
+                  + "maxThreads when the virtual threads are enabled")
+          .version(ConfigConstants.VERSION_0_6_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000);
+
   public static final ConfigEntry<Long> WEBSERVER_STOP_TIMEOUT =
       new ConfigBuilder("stopTimeout")
           .doc("Time in milliseconds to gracefully shutdown the Jetty webserver")
@@ -287,6 +306,10 @@ public final class JettyServerConfig {
 
   private final int maxThreads;
 
+  private final boolean enableVirtualThreads;
+
+  private final int maxVirtualThreads;
+
   private final long stopTimeout;
 
   private final int idleTimeout;
@@ -346,6 +369,15 @@ public final class JettyServerConfig {
     this.minThreads = minThreads;
     this.maxThreads = maxThreads;
 
+    this.enableVirtualThreads = internalConfig.get(ENABLE_VIRTUAL_THREADS);
+    int maxVirtualThreads = internalConfig.get(WEBSERVER_MAX_VIRTUAL_THREADS);
+    Preconditions.checkArgument(
+        !enableVirtualThreads || maxVirtualThreads >= minThreads,
+        String.format(
+            "maxVirtualThreads:%d should not less than minThreads:%d",
+            maxVirtualThreads, minThreads));
+    this.maxVirtualThreads = maxVirtualThreads;
+
     this.stopTimeout = internalConfig.get(WEBSERVER_STOP_TIMEOUT);
     this.idleTimeout = internalConfig.get(WEBSERVER_IDLE_TIMEOUT);
     this.requestHeaderSize = internalConfig.get(WEBSERVER_REQUEST_HEADER_SIZE);
@@ -425,6 +457,14 @@ public final class JettyServerConfig {
     return maxThreads;
   }
 
+  public boolean isEnableVirtualThreads() {
+    return enableVirtualThreads;
+  }
+
+  public int getMaxVirtualThreads() {
+    return maxVirtualThreads;
+  }
+
   public long getStopTimeout() {
     return stopTimeout;
   }
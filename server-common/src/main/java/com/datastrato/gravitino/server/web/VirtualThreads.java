@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.server.web;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Creates the virtual threads by reflection, the server is compiled for Java 8 but the virtual
+ * threads are only available when it runs on Java 21 or later.
+ */
+final class VirtualThreads {
+
+  // Thread.ofVirtual(), Thread.Builder#unstarted(Runnable) and Thread#isVirtual(), null if the JVM
+  // doesn't support the virtual threads.
+  private static final Method OF_VIRTUAL;
+  private static final Method UNSTARTED;
+  private static final Method IS_VIRTUAL;
+
+  static {
+    Method ofVirtual = null;
+    Method unstarted = null;
+    Method isVirtual = null;
+    try {
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+      isVirtual = Thread.class.getMethod("isVirtual");
+    } catch (ReflectiveOperationException e) {
+      ofVirtual = null;
+      unstarted = null;
+      isVirtual = null;
+    }
+
+    OF_VIRTUAL = ofVirtual;
+    UNSTARTED = unstarted;
+    IS_VIRTUAL = isVirtual;
+  }
+
+  private VirtualThreads() {}
+
+  /** @return True if the JVM supports the virtual threads. */
+  static boolean isSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * Creates an unstarted virtual thread.
+   *
+   * @param runnable The task of the thread.
+   * @return The virtual thread.
+   * @throws UnsupportedOperationException If the JVM doesn't support the virtual threads.
+   */
+  static Thread newThread(Runnable runnable) {
+    if (!isSupported()) {
+      throw new UnsupportedOperationException(
+          "Virtual threads are not supported by Java " + System.getProperty("java.version"));
+    }
+
+    try {
+      return (Thread) UNSTARTED.invoke(OF_VIRTUAL.invoke(null), runnable);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Failed to create a virtual thread", e);
+    }
+  }
+
+  /**
+   * @param thread The thread to check.
+   * @return True if the thread is a virtual thread.
+   */
+  static boolean isVirtual(Thread thread) {
+    if (!isSupported()) {
+      return false;
+    }
+
+    try {
+      return (Boolean) IS_VIRTUAL.invoke(thread);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Failed to check the virtual thread", e);
+    }
+  }
+}
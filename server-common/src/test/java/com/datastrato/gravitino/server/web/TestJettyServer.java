@@ -11,14 +11,34 @@ import static org.mockito.Mockito.mock;
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.rest.RESTUtils;
 import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import javax.servlet.Filter;
 import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class TestJettyServer {
 
+  private static final Logger LOG = LoggerFactory.getLogger(TestJettyServer.class);
+
   private JettyServer jettyServer;
 
   @BeforeEach
@@ -81,4 +101,107 @@ public class TestJettyServer {
   public void testStartWithoutInitialise() throws InterruptedException {
     assertThrows(RuntimeException.class, () -> jettyServer.start());
   }
+
+  @Test
+  public void testVirtualThreads() throws Exception {
+    Config config = new Config(false) {};
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, RESTUtils.findAvailablePort(5000, 6000));
+    config.set(JettyServerConfig.ENABLE_VIRTUAL_THREADS, true);
+    JettyServerConfig serverConfig = JettyServerConfig.fromConfig(config);
+    jettyServer.initialize(serverConfig, "test", false);
+    jettyServer.start();
+
+    // The server falls back to the platform threads if the JVM doesn't support virtual threads
+    CompletableFuture<Thread> thread = new CompletableFuture<>();
+    jettyServer.getThreadPool().execute(() -> thread.complete(Thread.currentThread()));
+    Assertions.assertEquals(
+        VirtualThreads.isSupported(), VirtualThreads.isVirtual(thread.get(10, TimeUnit.SECONDS)));
+  }
+
+  // Runs the requests blocked on a slow backend with the platform threads and the virtual threads
+  // under the same concurrency limit, the number of concurrent requests is larger than the limit,
+  // so the requests are queued in both modes. Only the behaviors are asserted, the timings depend
+  // on the machine and are logged for reference.
+  @Test
+  public void testBlockingRequestsWithVirtualThreads() throws Exception {
+    Assumptions.assumeTrue(VirtualThreads.isSupported());
+
+    Set<Boolean> platform = runBlockingRequests(false);
+    jettyServer.stop();
+    jettyServer = new JettyServer();
+    Set<Boolean> virtual = runBlockingRequests(true);
+
+    // All the requests complete, and they are handled by the threads of the configured type
+    Assertions.assertEquals(Collections.singleton(false), platform);
+    Assertions.assertEquals(Collections.singleton(true), virtual);
+  }
+
+  // Returns whether the threads handling the requests are virtual threads.
+  private Set<Boolean> runBlockingRequests(boolean enableVirtualThreads) throws Exception {
+    int requests = 200;
+    int maxThreads = 16;
+    int port = RESTUtils.findAvailablePort(5000, 6000);
+    Config config = new Config(false) {};
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, port);
+    config.set(JettyServerConfig.WEBSERVER_MIN_THREADS, 8);
+    config.set(JettyServerConfig.WEBSERVER_MAX_THREADS, maxThreads);
+    config.set(JettyServerConfig.WEBSERVER_MAX_VIRTUAL_THREADS, maxThreads);
+    config.set(JettyServerConfig.WEBSERVER_THREAD_POOL_WORK_QUEUE_SIZE, requests);
+    config.set(JettyServerConfig.ENABLE_VIRTUAL_THREADS, enableVirtualThreads);
+    jettyServer.initialize(JettyServerConfig.fromConfig(config), "test", false);
+    Set<Boolean> virtualThreads = ConcurrentHashMap.newKeySet();
+    jettyServer.addServlet(
+        new HttpServlet() {
+          @Override
+          protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+            virtualThreads.add(VirtualThreads.isVirtual(Thread.currentThread()));
+            try {
+              // Mock a slow call to the underlying source
+              Thread.sleep(100);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            resp.setStatus(HttpServletResponse.SC_OK);
+          }
+        },
+        "/blocking");
+    jettyServer.start();
+
+    ExecutorService clients = Executors.newFixedThreadPool(requests);
+    try {
+      List<CompletableFuture<Long>> futures = new ArrayList<>();
+      long start = System.nanoTime();
+      for (int i = 0; i < requests; i++) {
+        futures.add(
+            CompletableFuture.supplyAsync(
+                () -> timeRequest("http://127.0.0.1:" + port + "/blocking"), clients));
+      }
+
+      List<Long> latencies = new ArrayList<>();
+      for (CompletableFuture<Long> future : futures) {
+        latencies.add(future.get(1, TimeUnit.MINUTES));
+      }
+      Collections.sort(latencies);
+      LOG.info(
+          "{} threads: {} ms in total, p99 {} ms",
+          enableVirtualThreads ? "Virtual" : "Platform",
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+          latencies.get((int) Math.ceil(requests * 0.99) - 1));
+      return virtualThreads;
+    } finally {
+      clients.shutdownNow();
+    }
+  }
+
+  private static long timeRequest(String url) {
+    long start = System.nanoTime();
+    try {
+      HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+      Assertions.assertEquals(HttpURLConnection.HTTP_OK, connection.getResponseCode());
+      connection.disconnect();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
 }
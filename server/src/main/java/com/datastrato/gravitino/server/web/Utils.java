@@ -4,12 +4,20 @@
  */
 package com.datastrato.gravitino.server.web;
 
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.UserPrincipal;
 import com.datastrato.gravitino.auth.AuthConstants;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.utils.Page;
 import com.datastrato.gravitino.utils.PrincipalUtils;
+import com.google.common.base.Preconditions;
 import java.security.PrivilegedExceptionAction;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -18,8 +26,66 @@ public class Utils {
 
   private static final String REMOTE_USER = "gravitino";
 
+  /** The page size of the list APIs if the client asks for a page without specifying its size. */
+  public static final int DEFAULT_PAGE_SIZE = 100;
+
+  /** The maximum number of the items a list API returns with their details in one response. */
+  public static final int MAX_PAGE_SIZE = 1000;
+
   private Utils() {}
 
+  /**
+   * Parses the comma separated names of the objects to load with their details in one request.
+   *
+   * @param namespace The namespace of the objects.
+   * @param names The comma separated names.
+   * @return The identifiers of the objects.
+   * @throws IllegalArgumentException If there are more than {@link #MAX_PAGE_SIZE} names.
+   */
+  public static NameIdentifier[] parseNames(Namespace namespace, String names) {
+    NameIdentifier[] idents =
+        Arrays.stream(names.split(","))
+            .map(name -> NameIdentifier.of(namespace, name))
+            .toArray(NameIdentifier[]::new);
+    Preconditions.checkArgument(
+        idents.length <= MAX_PAGE_SIZE,
+        "At most %s objects can be loaded in one request, but got %s",
+        MAX_PAGE_SIZE,
+        idents.length);
+    return idents;
+  }
+
+  /**
+   * Gets a page of the objects to load with their details. The objects are paged in the order of
+   * their names, the page token is the name of the last object of the previous page.
+   *
+   * @param idents The identifiers of all the objects.
+   * @param pageToken The page token, null for the first page.
+   * @param pageSize The page size, null for {@link #DEFAULT_PAGE_SIZE}.
+   * @return The page of the identifiers.
+   * @throws IllegalArgumentException If the page size is not between 1 and {@link #MAX_PAGE_SIZE}.
+   */
+  public static Page<NameIdentifier> pageOf(
+      NameIdentifier[] idents, String pageToken, Integer pageSize) {
+    int size = pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
+    Preconditions.checkArgument(
+        size > 0 && size <= MAX_PAGE_SIZE,
+        "The page size must be between 1 and %s: %s",
+        MAX_PAGE_SIZE,
+        size);
+    List<NameIdentifier> remaining =
+        Arrays.stream(idents)
+            .filter(ident -> pageToken == null || ident.name().compareTo(pageToken) > 0)
+            .sorted(Comparator.comparing(NameIdentifier::name))
+            .collect(Collectors.toList());
+    if (remaining.size() <= size) {
+      return Page.of(remaining, null);
+    }
+
+    List<NameIdentifier> items = remaining.subList(0, size);
+    return Page.of(items, items.get(size - 1).name());
+  }
+
   public static String remoteUser(HttpServletRequest httpRequest) {
     return Optional.ofNullable(httpRequest.getRemoteUser()).orElse(REMOTE_USER);
   }
@@ -28,6 +94,13 @@ public class Utils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  public static <T> Response accepted(T t) {
+    return Response.status(Response.Status.ACCEPTED)
+        .entity(t)
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
   public static Response ok() {
     return Response.status(Response.Status.NO_CONTENT).type(MediaType.APPLICATION_JSON).build();
   }
@@ -110,6 +183,16 @@ public class Utils {
         .build();
   }
 
+  public static Response tooManyRequests(String message, Throwable throwable) {
+    // Response.Status of JAX-RS 2.0 has no 429 Too Many Requests.
+    return Response.status(429)
+        .entity(
+            ErrorResponse.tooManyRequests(
+                throwable.getClass().getSimpleName(), message, throwable))
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
   public static Response doAs(
       HttpServletRequest httpRequest, PrivilegedExceptionAction<Response> action) throws Exception {
     UserPrincipal principal =
@@ -20,6 +20,7 @@ import com.datastrato.gravitino.dto.util.DTOConverters;
 import com.datastrato.gravitino.lock.LockType;
 import com.datastrato.gravitino.lock.TreeLockUtils;
 import com.datastrato.gravitino.server.web.Utils;
+import com.datastrato.gravitino.utils.Page;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
@@ -58,20 +59,38 @@ public class CatalogOperations {
   @Produces("application/vnd.gravitino.v1+json")
   public Response listCatalogs(
       @PathParam("metalake") String metalake,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace catalogNS = Namespace.ofCatalog(metalake);
+            boolean paged = pageToken != null || pageSize != null;
+            int size = pageSize == null ? Utils.DEFAULT_PAGE_SIZE : pageSize;
             // Lock the root and the metalake with WRITE lock to ensure the consistency of the list.
             return TreeLockUtils.doWithTreeLock(
                 NameIdentifier.of(metalake),
                 LockType.READ,
                 () -> {
-                  if (verbose) {
+                  if (verbose && paged) {
+                    Page<Catalog> catalogs =
+                        catalogDispatcher.listCatalogsInfo(catalogNS, pageToken, size);
+                    return Utils.ok(
+                        new CatalogListResponse(
+                            DTOConverters.toDTOs(catalogs.items().toArray(new Catalog[0])),
+                            catalogs.nextPageToken()));
+                  } else if (verbose) {
                     Catalog[] catalogs = catalogDispatcher.listCatalogsInfo(catalogNS);
                     return Utils.ok(new CatalogListResponse(DTOConverters.toDTOs(catalogs)));
+                  } else if (paged) {
+                    Page<NameIdentifier> idents =
+                        catalogDispatcher.listCatalogs(catalogNS, pageToken, size);
+                    return Utils.ok(
+                        new EntityListResponse(
+                            idents.items().toArray(new NameIdentifier[0]),
+                            idents.nextPageToken()));
                   } else {
                     NameIdentifier[] idents = catalogDispatcher.listCatalogs(catalogNS);
                     return Utils.ok(new EntityListResponse(idents));
@@ -19,6 +19,7 @@ import com.datastrato.gravitino.exceptions.TopicAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.UserAlreadyExistsException;
 import com.datastrato.gravitino.server.web.Utils;
 import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.RejectedExecutionException;
 import javax.ws.rs.core.Response;
 import org.eclipse.jetty.util.StringUtil;
 import org.slf4j.Logger;
@@ -79,6 +80,11 @@ public class ExceptionHandlers {
     return TopicExceptionHandler.INSTANCE.handle(op, topic, schema, e);
   }
 
+  public static Response handleJobException(
+      OperationType op, String job, String metalake, Exception e) {
+    return JobExceptionHandler.INSTANCE.handle(op, job, metalake, e);
+  }
+
   public static Response handleUserPermissionOperationException(
       OperationType op, String roles, String parent, Exception e) {
     return UserPermissionOperationExceptionHandler.INSTANCE.handle(op, roles, parent, e);
@@ -424,6 +430,35 @@ public class ExceptionHandlers {
     }
   }
 
+  private static class JobExceptionHandler extends BaseExceptionHandler {
+
+    private static final ExceptionHandler INSTANCE = new JobExceptionHandler();
+
+    private static String getJobErrorMsg(
+        String job, String operation, String metalake, String reason) {
+      return String.format(
+          "Failed to operate job%s operation [%s] under metalake [%s], reason [%s]",
+          job, operation, metalake, reason);
+    }
+
+    @Override
+    public Response handle(OperationType op, String job, String metalake, Exception e) {
+      String formatted = StringUtil.isBlank(job) ? "" : " [" + job + "]";
+      String errorMsg = getJobErrorMsg(formatted, op.name(), metalake, getErrorMsg(e));
+      LOG.warn(errorMsg, e);
+
+      if (e instanceof IllegalArgumentException) {
+        return Utils.illegalArguments(errorMsg, e);
+
+      } else if (e instanceof NotFoundException) {
+        return Utils.notFound(errorMsg, e);
+
+      } else {
+        return super.handle(op, job, metalake, e);
+      }
+    }
+  }
+
   private static class UserPermissionOperationExceptionHandler
       extends BasePermissionExceptionHandler {
     private static final ExceptionHandler INSTANCE = new UserPermissionOperationExceptionHandler();
@@ -493,6 +528,12 @@ public class ExceptionHandlers {
 
       String errorMsg =
           getBaseErrorMsg(formattedObject, op.name(), formattedParent, getErrorMsg(e));
+      // The server is overloaded, e.g., too many jobs are waiting to run, the client can retry.
+      if (e instanceof RejectedExecutionException) {
+        LOG.warn(errorMsg, e);
+        return Utils.tooManyRequests(errorMsg, e);
+      }
+
       LOG.error(errorMsg, e);
       return Utils.internalError(errorMsg, e);
     }
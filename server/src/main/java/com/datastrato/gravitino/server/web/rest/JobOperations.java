@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import com.datastrato.gravitino.GravitinoEnv;
+import com.datastrato.gravitino.dto.job.JobDTO;
+import com.datastrato.gravitino.dto.responses.JobResponse;
+import com.datastrato.gravitino.job.Job;
+import com.datastrato.gravitino.job.JobManager;
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.server.web.Utils;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+
+@Path("/metalakes/{metalake}/jobs")
+public class JobOperations {
+
+  private final JobManager jobManager;
+
+  @Context private HttpServletRequest httpRequest;
+
+  public JobOperations() {
+    this.jobManager = GravitinoEnv.getInstance().jobManager();
+  }
+
+  @GET
+  @Path("{job}")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "get-job." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-job", absolute = true)
+  public Response getJob(@PathParam("metalake") String metalake, @PathParam("job") String job) {
+    try {
+      return Utils.doAs(
+          httpRequest, () -> Utils.ok(toJobResponse(jobManager.getJob(metalake, job))));
+    } catch (Exception e) {
+      return ExceptionHandlers.handleJobException(OperationType.LOAD, job, metalake, e);
+    }
+  }
+
+  @DELETE
+  @Path("{job}")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "cancel-job." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "cancel-job", absolute = true)
+  public Response cancelJob(@PathParam("metalake") String metalake, @PathParam("job") String job) {
+    try {
+      return Utils.doAs(
+          httpRequest, () -> Utils.ok(toJobResponse(jobManager.cancelJob(metalake, job))));
+    } catch (Exception e) {
+      return ExceptionHandlers.handleJobException(OperationType.DELETE, job, metalake, e);
+    }
+  }
+
+  static JobResponse toJobResponse(Job job) {
+    JobDTO.Builder builder =
+        JobDTO.builder()
+            .withId(job.id())
+            .withType(job.type())
+            .withTarget(job.target())
+            .withStatus(job.status().name())
+            .withCreator(job.creator())
+            .withCreateTime(job.createTime())
+            .withStartTime(job.startTime())
+            .withFinishTime(job.finishTime());
+    if (job.status() == Job.Status.SUCCEEDED && job.result() != null) {
+      builder.withResult(String.valueOf(job.result()));
+    }
+    if (job.status() == Job.Status.FAILED && job.failure() != null) {
+      builder
+          .withErrorType(job.failure().getClass().getSimpleName())
+          .withErrorMessage(job.failure().getMessage());
+    }
+    return new JobResponse(builder.build());
+  }
+}
@@ -23,6 +23,7 @@ import com.datastrato.gravitino.lock.TreeLockUtils;
 import com.datastrato.gravitino.metalake.MetalakeDispatcher;
 import com.datastrato.gravitino.metrics.MetricNames;
 import com.datastrato.gravitino.server.web.Utils;
+import com.datastrato.gravitino.utils.Page;
 import java.util.Arrays;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
@@ -34,6 +35,7 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -60,16 +62,28 @@ public class MetalakeOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "list-metalake." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-metalake", absolute = true)
-  public Response listMetalakes() {
+  public Response listMetalakes(
+      @QueryParam("pageToken") String pageToken, @QueryParam("pageSize") Integer pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
-            Metalake[] metalakes =
-                TreeLockUtils.doWithRootTreeLock(LockType.READ, metalakeDispatcher::listMetalakes);
+            if (pageToken == null && pageSize == null) {
+              Metalake[] metalakes =
+                  TreeLockUtils.doWithRootTreeLock(
+                      LockType.READ, metalakeDispatcher::listMetalakes);
+              MetalakeDTO[] metalakeDTOS =
+                  Arrays.stream(metalakes).map(DTOConverters::toDTO).toArray(MetalakeDTO[]::new);
+              return Utils.ok(new MetalakeListResponse(metalakeDTOS));
+            }
+
+            int size = pageSize == null ? Utils.DEFAULT_PAGE_SIZE : pageSize;
+            Page<Metalake> metalakes =
+                TreeLockUtils.doWithRootTreeLock(
+                    LockType.READ, () -> metalakeDispatcher.listMetalakes(pageToken, size));
             MetalakeDTO[] metalakeDTOS =
-                Arrays.stream(metalakes).map(DTOConverters::toDTO).toArray(MetalakeDTO[]::new);
-            return Utils.ok(new MetalakeListResponse(metalakeDTOS));
+                metalakes.items().stream().map(DTOConverters::toDTO).toArray(MetalakeDTO[]::new);
+            return Utils.ok(new MetalakeListResponse(metalakeDTOS, metalakes.nextPageToken()));
           });
 
     } catch (Exception e) {
@@ -6,6 +6,7 @@ package com.datastrato.gravitino.server.web.rest;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.datastrato.gravitino.GravitinoEnv;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.catalog.SchemaDispatcher;
@@ -16,12 +17,14 @@ import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.SchemaResponse;
 import com.datastrato.gravitino.dto.util.DTOConverters;
+import com.datastrato.gravitino.job.Job;
 import com.datastrato.gravitino.lock.LockType;
 import com.datastrato.gravitino.lock.TreeLockUtils;
 import com.datastrato.gravitino.metrics.MetricNames;
 import com.datastrato.gravitino.rel.Schema;
 import com.datastrato.gravitino.rel.SchemaChange;
 import com.datastrato.gravitino.server.web.Utils;
+import java.util.concurrent.Callable;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
@@ -176,22 +179,38 @@ public class SchemaOperations {
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      @DefaultValue("false") @QueryParam("cascade") boolean cascade) {
+      @DefaultValue("false") @QueryParam("cascade") boolean cascade,
+      @DefaultValue("false") @QueryParam("async") boolean async) {
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             NameIdentifier ident = NameIdentifier.ofSchema(metalake, catalog, schema);
-            boolean dropped =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.ofCatalog(metalake, catalog),
-                    LockType.WRITE,
-                    () -> dispatcher.dropSchema(ident, cascade));
-            if (!dropped) {
-              LOG.warn("Fail to drop schema {} under namespace {}", schema, ident.namespace());
+            Callable<Boolean> drop =
+                () -> {
+                  boolean dropped =
+                      TreeLockUtils.doWithTreeLock(
+                          NameIdentifier.ofCatalog(metalake, catalog),
+                          LockType.WRITE,
+                          () -> dispatcher.dropSchema(ident, cascade));
+                  if (!dropped) {
+                    LOG.warn(
+                        "Fail to drop schema {} under namespace {}", schema, ident.namespace());
+                  }
+                  return dropped;
+                };
+
+            // The cascade drop of a big schema could take a long time, run it as a job to release
+            // the HTTP thread if the client asks for it.
+            if (async) {
+              Job job =
+                  GravitinoEnv.getInstance()
+                      .jobManager()
+                      .submit(metalake, "drop-schema", ident.toString(), drop);
+              return Utils.accepted(JobOperations.toJobResponse(job));
             }
 
-            return Utils.ok(new DropResponse(dropped));
+            return Utils.ok(new DropResponse(drop.call()));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleSchemaException(OperationType.DROP, schema, catalog, e);
@@ -9,27 +9,41 @@ import static com.datastrato.gravitino.dto.util.DTOConverters.fromDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.datastrato.gravitino.GravitinoEnv;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.authorization.AccessControlManager;
+import com.datastrato.gravitino.catalog.BatchLoadResult;
 import com.datastrato.gravitino.catalog.TableDispatcher;
+import com.datastrato.gravitino.dto.rel.TableDTO;
 import com.datastrato.gravitino.dto.requests.TableCreateRequest;
 import com.datastrato.gravitino.dto.requests.TableUpdateRequest;
 import com.datastrato.gravitino.dto.requests.TableUpdatesRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.TableListResponse;
 import com.datastrato.gravitino.dto.responses.TableResponse;
 import com.datastrato.gravitino.dto.util.DTOConverters;
+import com.datastrato.gravitino.job.Job;
 import com.datastrato.gravitino.lock.LockType;
 import com.datastrato.gravitino.lock.TreeLockUtils;
 import com.datastrato.gravitino.metrics.MetricNames;
 import com.datastrato.gravitino.rel.Table;
 import com.datastrato.gravitino.rel.TableChange;
 import com.datastrato.gravitino.server.web.Utils;
+import com.datastrato.gravitino.utils.Page;
+import com.datastrato.gravitino.utils.PrincipalUtils;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
@@ -37,6 +51,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,18 +77,40 @@ public class TableOperations {
   public Response listTables(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("names") String names,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace tableNS = Namespace.ofTable(metalake, catalog, schema);
-            NameIdentifier[] idents =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.READ,
-                    () -> dispatcher.listTables(tableNS));
-            return Utils.ok(new EntityListResponse(idents));
+            return TreeLockUtils.doWithTreeLock(
+                NameIdentifier.of(metalake, catalog, schema),
+                LockType.READ,
+                () -> {
+                  if (!verbose) {
+                    return Utils.ok(new EntityListResponse(dispatcher.listTables(tableNS)));
+                  }
+
+                  // Load the given tables in one batch.
+                  if (names != null) {
+                    NameIdentifier[] idents = Utils.parseNames(tableNS, names);
+                    return Utils.ok(
+                        toTableListResponse(dispatcher.loadTables(idents), schema, null));
+                  }
+
+                  // Load the tables of the schema a page at a time.
+                  Page<NameIdentifier> page =
+                      Utils.pageOf(dispatcher.listTables(tableNS), pageToken, pageSize);
+                  return Utils.ok(
+                      toTableListResponse(
+                          dispatcher.loadTables(page.items().toArray(new NameIdentifier[0])),
+                          schema,
+                          page.nextPageToken()));
+                });
           });
 
     } catch (Exception e) {
@@ -130,15 +167,24 @@ public class TableOperations {
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      @PathParam("table") String table) {
+      @PathParam("table") String table,
+      @HeaderParam(HttpHeaders.CACHE_CONTROL) String cacheControl) {
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             NameIdentifier ident = NameIdentifier.ofTable(metalake, catalog, schema, table);
+            boolean bypassCache = isCacheBypassAllowed(cacheControl);
             Table t =
                 TreeLockUtils.doWithTreeLock(
-                    ident, LockType.READ, () -> dispatcher.loadTable(ident));
+                    ident,
+                    LockType.READ,
+                    () -> {
+                      if (bypassCache) {
+                        dispatcher.invalidateTableCache(ident);
+                      }
+                      return dispatcher.loadTable(ident);
+                    });
             return Utils.ok(new TableResponse(DTOConverters.toDTO(t)));
           });
     } catch (Exception e) {
@@ -190,26 +236,72 @@ public class TableOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("purge") @DefaultValue("false") boolean purge) {
+      @QueryParam("purge") @DefaultValue("false") boolean purge,
+      @QueryParam("async") @DefaultValue("false") boolean async) {
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             NameIdentifier ident = NameIdentifier.ofTable(metalake, catalog, schema, table);
-            boolean dropped =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.WRITE,
-                    () -> purge ? dispatcher.purgeTable(ident) : dispatcher.dropTable(ident));
-            if (!dropped) {
-              LOG.warn("Failed to drop table {} under schema {}", table, schema);
+            Callable<Boolean> drop =
+                () -> {
+                  boolean dropped =
+                      TreeLockUtils.doWithTreeLock(
+                          NameIdentifier.of(metalake, catalog, schema),
+                          LockType.WRITE,
+                          () -> purge ? dispatcher.purgeTable(ident) : dispatcher.dropTable(ident));
+                  if (!dropped) {
+                    LOG.warn("Failed to drop table {} under schema {}", table, schema);
+                  }
+                  return dropped;
+                };
+
+            // The purge of a big table could take a long time, run it as a job to release the
+            // HTTP thread if the client asks for it.
+            if (async) {
+              String jobType = purge ? "purge-table" : "drop-table";
+              Job job =
+                  GravitinoEnv.getInstance()
+                      .jobManager()
+                      .submit(metalake, jobType, ident.toString(), drop);
+              return Utils.accepted(JobOperations.toJobResponse(job));
             }
 
-            return Utils.ok(new DropResponse(dropped));
+            return Utils.ok(new DropResponse(drop.call()));
           });
 
     } catch (Exception e) {
       return ExceptionHandlers.handleTableException(OperationType.DROP, table, schema, e);
     }
   }
+
+  // Only the service admins are allowed to bypass the table cache with "Cache-Control: no-cache"
+  // if the authorization is enabled.
+  private boolean isCacheBypassAllowed(String cacheControl) {
+    if (cacheControl == null || !cacheControl.toLowerCase(Locale.ROOT).contains("no-cache")) {
+      return false;
+    }
+
+    AccessControlManager accessControlManager = GravitinoEnv.getInstance().accessControlManager();
+    return accessControlManager == null
+        || accessControlManager.isServiceAdmin(PrincipalUtils.getCurrentUserName());
+  }
+
+  private static TableListResponse toTableListResponse(
+      BatchLoadResult<Table> result, String schema, String nextPageToken) {
+    TableDTO[] tables =
+        result.loaded().values().stream().map(DTOConverters::toDTO).toArray(TableDTO[]::new);
+    Map<String, ErrorResponse> errors = new LinkedHashMap<>();
+    result
+        .failures()
+        .forEach(
+            (ident, e) ->
+                errors.put(
+                    ident.name(),
+                    (ErrorResponse)
+                        ExceptionHandlers.handleTableException(
+                                OperationType.LOAD, ident.name(), schema, e)
+                            .getEntity()));
+    return new TableListResponse(tables, errors, nextPageToken);
+  }
 }
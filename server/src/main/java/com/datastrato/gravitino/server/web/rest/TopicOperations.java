@@ -8,12 +8,16 @@ import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.catalog.BatchLoadResult;
 import com.datastrato.gravitino.catalog.TopicDispatcher;
+import com.datastrato.gravitino.dto.messaging.TopicDTO;
 import com.datastrato.gravitino.dto.requests.TopicCreateRequest;
 import com.datastrato.gravitino.dto.requests.TopicUpdateRequest;
 import com.datastrato.gravitino.dto.requests.TopicUpdatesRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.TopicListResponse;
 import com.datastrato.gravitino.dto.responses.TopicResponse;
 import com.datastrato.gravitino.dto.util.DTOConverters;
 import com.datastrato.gravitino.lock.LockType;
@@ -22,15 +26,20 @@ import com.datastrato.gravitino.messaging.Topic;
 import com.datastrato.gravitino.messaging.TopicChange;
 import com.datastrato.gravitino.metrics.MetricNames;
 import com.datastrato.gravitino.server.web.Utils;
+import com.datastrato.gravitino.utils.Page;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.slf4j.Logger;
@@ -55,19 +64,41 @@ public class TopicOperations {
   public Response listTopics(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("names") String names,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             LOG.info("Listing topics under schema: {}.{}.{}", metalake, catalog, schema);
             Namespace topicNS = Namespace.ofTopic(metalake, catalog, schema);
-            NameIdentifier[] topics =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.READ,
-                    () -> dispatcher.listTopics(topicNS));
-            return Utils.ok(new EntityListResponse(topics));
+            return TreeLockUtils.doWithTreeLock(
+                NameIdentifier.of(metalake, catalog, schema),
+                LockType.READ,
+                () -> {
+                  if (!verbose) {
+                    return Utils.ok(new EntityListResponse(dispatcher.listTopics(topicNS)));
+                  }
+
+                  // Load the given topics in one batch.
+                  if (names != null) {
+                    NameIdentifier[] idents = Utils.parseNames(topicNS, names);
+                    return Utils.ok(
+                        toTopicListResponse(dispatcher.loadTopics(idents), schema, null));
+                  }
+
+                  // Load the topics of the schema a page at a time.
+                  Page<NameIdentifier> page =
+                      Utils.pageOf(dispatcher.listTopics(topicNS), pageToken, pageSize);
+                  return Utils.ok(
+                      toTopicListResponse(
+                          dispatcher.loadTopics(page.items().toArray(new NameIdentifier[0])),
+                          schema,
+                          page.nextPageToken()));
+                });
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleFilesetException(OperationType.LIST, "", schema, e);
@@ -208,4 +239,22 @@ public class TopicOperations {
       return ExceptionHandlers.handleTopicException(OperationType.DROP, topic, schema, e);
     }
   }
+
+  private static TopicListResponse toTopicListResponse(
+      BatchLoadResult<Topic> result, String schema, String nextPageToken) {
+    TopicDTO[] topics =
+        result.loaded().values().stream().map(DTOConverters::toDTO).toArray(TopicDTO[]::new);
+    Map<String, ErrorResponse> errors = new LinkedHashMap<>();
+    result
+        .failures()
+        .forEach(
+            (ident, e) ->
+                errors.put(
+                    ident.name(),
+                    (ErrorResponse)
+                        ExceptionHandlers.handleTopicException(
+                                OperationType.LOAD, ident.name(), schema, e)
+                            .getEntity()));
+    return new TopicListResponse(topics, errors, nextPageToken);
+  }
 }
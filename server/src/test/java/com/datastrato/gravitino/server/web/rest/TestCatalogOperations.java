@@ -36,8 +36,11 @@ import com.datastrato.gravitino.lock.LockManager;
 import com.datastrato.gravitino.meta.AuditInfo;
 import com.datastrato.gravitino.meta.CatalogEntity;
 import com.datastrato.gravitino.rest.RESTUtils;
+import com.datastrato.gravitino.server.web.Utils;
+import com.datastrato.gravitino.utils.Page;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Collections;
@@ -190,6 +193,104 @@ public class TestCatalogOperations extends JerseyTest {
     Assertions.assertEquals(NoSuchMetalakeException.class.getSimpleName(), errorResponse.getType());
   }
 
+  @Test
+  public void testListCatalogsWithPageToken() {
+    NameIdentifier ident1 = NameIdentifier.of("metalake1", "catalog1");
+    NameIdentifier ident2 = NameIdentifier.of("metalake1", "catalog2");
+    Namespace catalogNS = Namespace.ofCatalog("metalake1");
+
+    when(manager.listCatalogs(catalogNS, null, 1))
+        .thenReturn(Page.of(Lists.newArrayList(ident1), "1"));
+    when(manager.listCatalogs(catalogNS, "1", 1))
+        .thenReturn(Page.of(Lists.newArrayList(ident2), null));
+
+    Response resp =
+        target("/metalakes/metalake1/catalogs")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    EntityListResponse listResponse = resp.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {ident1}, listResponse.identifiers());
+    Assertions.assertEquals("1", listResponse.nextPageToken());
+
+    Response resp1 =
+        target("/metalakes/metalake1/catalogs")
+            .queryParam("pageToken", "1")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    EntityListResponse listResponse1 = resp1.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {ident2}, listResponse1.identifiers());
+    Assertions.assertNull(listResponse1.nextPageToken());
+
+    // Test throw IllegalArgumentException for an invalid page token
+    when(manager.listCatalogs(catalogNS, "abc", Utils.DEFAULT_PAGE_SIZE))
+        .thenThrow(new IllegalArgumentException("Invalid page token: abc"));
+    Response resp2 =
+        target("/metalakes/metalake1/catalogs")
+            .queryParam("pageToken", "abc")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+
+    // Test throw NoSuchMetalakeException
+    when(manager.listCatalogs(catalogNS, null, 1))
+        .thenThrow(new NoSuchMetalakeException("mock error"));
+    Response resp3 =
+        target("/metalakes/metalake1/catalogs")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp3.getStatus());
+    ErrorResponse errorResponse = resp3.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(NoSuchMetalakeException.class.getSimpleName(), errorResponse.getType());
+  }
+
+  @Test
+  public void testListCatalogsInfoWithPageToken() {
+    TestCatalog catalog1 = buildCatalog("metalake1", "catalog1");
+    TestCatalog catalog2 = buildCatalog("metalake1", "catalog2");
+    Namespace catalogNS = Namespace.ofCatalog("metalake1");
+
+    when(manager.listCatalogsInfo(catalogNS, null, 1))
+        .thenReturn(Page.of(Lists.newArrayList(catalog1), "1"));
+    when(manager.listCatalogsInfo(catalogNS, "1", 1))
+        .thenReturn(Page.of(Lists.newArrayList(catalog2), null));
+
+    Response resp =
+        target("/metalakes/metalake1/catalogs")
+            .queryParam("details", "true")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    CatalogListResponse catalogResponse = resp.readEntity(CatalogListResponse.class);
+    Assertions.assertEquals(1, catalogResponse.getCatalogs().length);
+    Assertions.assertEquals("catalog1", catalogResponse.getCatalogs()[0].name());
+    Assertions.assertEquals("1", catalogResponse.getNextPageToken());
+
+    Response resp1 =
+        target("/metalakes/metalake1/catalogs")
+            .queryParam("details", "true")
+            .queryParam("pageToken", "1")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    CatalogListResponse catalogResponse1 = resp1.readEntity(CatalogListResponse.class);
+    Assertions.assertEquals(1, catalogResponse1.getCatalogs().length);
+    Assertions.assertEquals("catalog2", catalogResponse1.getCatalogs()[0].name());
+    Assertions.assertNull(catalogResponse1.getNextPageToken());
+  }
+
   @Test
   public void testCreateCatalog() {
     CatalogCreateRequest req =
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.server.web.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastrato.gravitino.GravitinoEnv;
+import com.datastrato.gravitino.dto.job.JobDTO;
+import com.datastrato.gravitino.dto.responses.ErrorConstants;
+import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.JobResponse;
+import com.datastrato.gravitino.exceptions.NoSuchJobException;
+import com.datastrato.gravitino.exceptions.NonEmptySchemaException;
+import com.datastrato.gravitino.job.Job;
+import com.datastrato.gravitino.job.JobManager;
+import com.datastrato.gravitino.rest.RESTUtils;
+import java.io.IOException;
+import java.time.Instant;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestJobOperations extends JerseyTest {
+
+  private static final JobManager manager = mock(JobManager.class);
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  @BeforeAll
+  public static void setup() {
+    GravitinoEnv.getInstance().setJobManager(manager);
+  }
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(JobOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  public void testGetJob() {
+    Job job = mockJob("job1", Job.Status.SUCCEEDED);
+    when(job.result()).thenReturn(true);
+    when(manager.getJob("metalake1", "job1")).thenReturn(job);
+
+    Response resp =
+        target("/metalakes/metalake1/jobs/job1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    JobResponse jobResponse = resp.readEntity(JobResponse.class);
+    Assertions.assertEquals(0, jobResponse.getCode());
+    JobDTO jobDTO = jobResponse.getJob();
+    Assertions.assertEquals("job1", jobDTO.id());
+    Assertions.assertEquals("drop-schema", jobDTO.type());
+    Assertions.assertEquals("metalake1.catalog1.schema1", jobDTO.target());
+    Assertions.assertEquals("SUCCEEDED", jobDTO.status());
+    Assertions.assertEquals("true", jobDTO.result());
+    Assertions.assertNull(jobDTO.errorType());
+
+    // Test the failed job
+    Job failedJob = mockJob("job2", Job.Status.FAILED);
+    when(failedJob.failure()).thenReturn(new NonEmptySchemaException("schema1 is not empty"));
+    when(manager.getJob("metalake1", "job2")).thenReturn(failedJob);
+
+    Response resp1 =
+        target("/metalakes/metalake1/jobs/job2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    JobDTO failedJobDTO = resp1.readEntity(JobResponse.class).getJob();
+    Assertions.assertEquals("FAILED", failedJobDTO.status());
+    Assertions.assertEquals(
+        NonEmptySchemaException.class.getSimpleName(), failedJobDTO.errorType());
+    Assertions.assertEquals("schema1 is not empty", failedJobDTO.errorMessage());
+    Assertions.assertNull(failedJobDTO.result());
+
+    // Test throw NoSuchJobException
+    doThrow(new NoSuchJobException("mock error")).when(manager).getJob("metalake1", "job3");
+
+    Response resp2 =
+        target("/metalakes/metalake1/jobs/job3")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp2.getStatus());
+    ErrorResponse errorResponse = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResponse.getCode());
+    Assertions.assertEquals(NoSuchJobException.class.getSimpleName(), errorResponse.getType());
+  }
+
+  @Test
+  public void testCancelJob() {
+    Job job = mockJob("job4", Job.Status.CANCELED);
+    when(manager.cancelJob("metalake1", "job4")).thenReturn(job);
+
+    Response resp =
+        target("/metalakes/metalake1/jobs/job4")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .delete();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals("CANCELED", resp.readEntity(JobResponse.class).getJob().status());
+
+    // Test throw IllegalArgumentException for the running job
+    doThrow(new IllegalArgumentException("mock error"))
+        .when(manager)
+        .cancelJob("metalake1", "job5");
+
+    Response resp2 =
+        target("/metalakes/metalake1/jobs/job5")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .delete();
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+    Assertions.assertEquals(
+        ErrorConstants.ILLEGAL_ARGUMENTS_CODE, resp2.readEntity(ErrorResponse.class).getCode());
+
+    // Test throw RuntimeException
+    doThrow(new RuntimeException("mock error")).when(manager).cancelJob(any(), any());
+
+    Response resp1 =
+        target("/metalakes/metalake1/jobs/job4")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .delete();
+
+    Assertions.assertEquals(
+        Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(), resp1.getStatus());
+    ErrorResponse errorResponse = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.INTERNAL_ERROR_CODE, errorResponse.getCode());
+    Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResponse.getType());
+  }
+
+  static Job mockJob(String id, Job.Status status) {
+    Job job = mock(Job.class);
+    when(job.id()).thenReturn(id);
+    when(job.type()).thenReturn("drop-schema");
+    when(job.target()).thenReturn("metalake1.catalog1.schema1");
+    when(job.status()).thenReturn(status);
+    when(job.creator()).thenReturn("user1");
+    when(job.createTime()).thenReturn(Instant.now());
+    return job;
+  }
+}
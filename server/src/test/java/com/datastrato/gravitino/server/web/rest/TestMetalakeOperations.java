@@ -32,6 +32,8 @@ import com.datastrato.gravitino.meta.SchemaVersion;
 import com.datastrato.gravitino.metalake.MetalakeDispatcher;
 import com.datastrato.gravitino.metalake.MetalakeManager;
 import com.datastrato.gravitino.rest.RESTUtils;
+import com.datastrato.gravitino.server.web.Utils;
+import com.datastrato.gravitino.utils.Page;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import java.io.IOException;
@@ -130,6 +132,58 @@ public class TestMetalakeOperations extends JerseyTest {
     Assertions.assertEquals(metalakeName, metalakes[1].name());
   }
 
+  @Test
+  public void testListMetalakesWithPageToken() {
+    Instant now = Instant.now();
+    AuditInfo info = AuditInfo.builder().withCreator("gravitino").withCreateTime(now).build();
+    BaseMetalake metalake =
+        BaseMetalake.builder()
+            .withName("test")
+            .withId(1L)
+            .withAuditInfo(info)
+            .withVersion(SchemaVersion.V_0_1)
+            .build();
+
+    when(metalakeManager.listMetalakes(null, 1))
+        .thenReturn(Page.of(Lists.newArrayList(metalake), "1"));
+    when(metalakeManager.listMetalakes("1", 1))
+        .thenReturn(Page.of(Lists.newArrayList(metalake), null));
+
+    Response resp =
+        target("/metalakes")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    MetalakeListResponse metalakeListResponse = resp.readEntity(MetalakeListResponse.class);
+    Assertions.assertEquals(1, metalakeListResponse.getMetalakes().length);
+    Assertions.assertEquals("1", metalakeListResponse.getNextPageToken());
+
+    Response resp1 =
+        target("/metalakes")
+            .queryParam("pageToken", "1")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    MetalakeListResponse metalakeListResponse1 = resp1.readEntity(MetalakeListResponse.class);
+    Assertions.assertEquals(1, metalakeListResponse1.getMetalakes().length);
+    Assertions.assertNull(metalakeListResponse1.getNextPageToken());
+
+    // Test throw IllegalArgumentException for an invalid page token
+    when(metalakeManager.listMetalakes("abc", Utils.DEFAULT_PAGE_SIZE))
+        .thenThrow(new IllegalArgumentException("Invalid page token: abc"));
+    Response resp2 =
+        target("/metalakes")
+            .queryParam("pageToken", "abc")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+  }
+
   @Test
   public void testCreateMetalake() {
     MetalakeCreateRequest req =
@@ -11,12 +11,16 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datastrato.gravitino.Audit;
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.GravitinoEnv;
 import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.catalog.BatchLoadResult;
 import com.datastrato.gravitino.catalog.TableDispatcher;
 import com.datastrato.gravitino.catalog.TableOperationDispatcher;
 import com.datastrato.gravitino.dto.rel.ColumnDTO;
@@ -37,11 +41,15 @@ import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorConstants;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.JobResponse;
+import com.datastrato.gravitino.dto.responses.TableListResponse;
 import com.datastrato.gravitino.dto.responses.TableResponse;
 import com.datastrato.gravitino.dto.util.DTOConverters;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.NoSuchTableException;
 import com.datastrato.gravitino.exceptions.TableAlreadyExistsException;
+import com.datastrato.gravitino.job.Job;
+import com.datastrato.gravitino.job.JobManager;
 import com.datastrato.gravitino.lock.LockManager;
 import com.datastrato.gravitino.rel.Column;
 import com.datastrato.gravitino.rel.Table;
@@ -57,6 +65,7 @@ import com.datastrato.gravitino.rel.indexes.Indexes;
 import com.datastrato.gravitino.rel.types.Type;
 import com.datastrato.gravitino.rel.types.Types;
 import com.datastrato.gravitino.rest.RESTUtils;
+import com.datastrato.gravitino.server.web.Utils;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
@@ -64,10 +73,13 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -106,6 +118,8 @@ public class TestTableOperations extends JerseyTest {
     Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
     GravitinoEnv.getInstance().setLockManager(new LockManager(config));
+    // The authorization is disabled, everyone is allowed to bypass the table cache.
+    GravitinoEnv.getInstance().setAccessControlManager(null);
   }
 
   @Override
@@ -185,6 +199,121 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testLoadTables() {
+    NameIdentifier ident1 = NameIdentifier.of(metalake, catalog, schema, "table1");
+    NameIdentifier ident2 = NameIdentifier.of(metalake, catalog, schema, "table2");
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table table1 = mockTable("table1", columns, "mock comment", ImmutableMap.of("k1", "v1"));
+
+    when(dispatcher.loadTables(any()))
+        .thenReturn(
+            new BatchLoadResult<>(
+                ImmutableMap.of(ident1, table1),
+                ImmutableMap.of(ident2, new NoSuchTableException("mock error"))));
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .queryParam("names", "table1,table2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    TableListResponse listResp = resp.readEntity(TableListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    listResp.validate();
+
+    Assertions.assertEquals(1, listResp.getTables().length);
+    Assertions.assertEquals("table1", listResp.getTables()[0].name());
+    Assertions.assertEquals(1, listResp.getErrors().size());
+    ErrorResponse error = listResp.getErrors().get("table2");
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, error.getCode());
+    Assertions.assertEquals(NoSuchTableException.class.getSimpleName(), error.getType());
+    verify(dispatcher).loadTables(new NameIdentifier[] {ident1, ident2});
+
+    // Load all the tables of the schema if no names are given
+    when(dispatcher.listTables(any())).thenReturn(new NameIdentifier[] {ident1});
+    when(dispatcher.loadTables(any()))
+        .thenReturn(new BatchLoadResult<>(ImmutableMap.of(ident1, table1), ImmutableMap.of()));
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    TableListResponse listResp1 = resp1.readEntity(TableListResponse.class);
+    Assertions.assertEquals(1, listResp1.getTables().length);
+    Assertions.assertTrue(listResp1.getErrors().isEmpty());
+    Assertions.assertNull(listResp1.getNextPageToken());
+    verify(dispatcher).loadTables(new NameIdentifier[] {ident1});
+  }
+
+  @Test
+  public void testLoadTablesByPage() {
+    NameIdentifier ident1 = NameIdentifier.of(metalake, catalog, schema, "table1");
+    NameIdentifier ident2 = NameIdentifier.of(metalake, catalog, schema, "table2");
+    NameIdentifier ident3 = NameIdentifier.of(metalake, catalog, schema, "table3");
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table table1 = mockTable("table1", columns, "mock comment", ImmutableMap.of("k1", "v1"));
+    Table table2 = mockTable("table2", columns, "mock comment", ImmutableMap.of("k1", "v1"));
+    Table table3 = mockTable("table3", columns, "mock comment", ImmutableMap.of("k1", "v1"));
+
+    // The tables are paged in the order of their names.
+    when(dispatcher.listTables(any())).thenReturn(new NameIdentifier[] {ident3, ident1, ident2});
+    when(dispatcher.loadTables(any()))
+        .thenReturn(
+            new BatchLoadResult<>(
+                ImmutableMap.of(ident1, table1, ident2, table2), ImmutableMap.of()));
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .queryParam("pageSize", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    TableListResponse listResp = resp.readEntity(TableListResponse.class);
+    Assertions.assertEquals(2, listResp.getTables().length);
+    Assertions.assertEquals("table2", listResp.getNextPageToken());
+    verify(dispatcher).loadTables(new NameIdentifier[] {ident1, ident2});
+
+    when(dispatcher.loadTables(any()))
+        .thenReturn(new BatchLoadResult<>(ImmutableMap.of(ident3, table3), ImmutableMap.of()));
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .queryParam("pageToken", "table2")
+            .queryParam("pageSize", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    TableListResponse listResp1 = resp1.readEntity(TableListResponse.class);
+    Assertions.assertEquals(1, listResp1.getTables().length);
+    Assertions.assertEquals("table3", listResp1.getTables()[0].name());
+    Assertions.assertNull(listResp1.getNextPageToken());
+    verify(dispatcher).loadTables(new NameIdentifier[] {ident3});
+
+    // The page size is bounded
+    Response resp2 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .queryParam("pageSize", Utils.MAX_PAGE_SIZE + 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+    ErrorResponse errorResp = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp.getCode());
+  }
+
   private DistributionDTO createMockDistributionDTO(String columnName, int bucketNum) {
     return DistributionDTO.builder()
         .withStrategy(Strategy.HASH)
@@ -545,6 +674,32 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testLoadTableBypassCache() {
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table table =
+        mockTable("table1", columns, "mock comment", ImmutableMap.of("k1", "v1"), new Transform[0]);
+    when(dispatcher.loadTable(any())).thenReturn(table);
+    NameIdentifier ident = NameIdentifier.of(metalake, catalog, schema, "table1");
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema) + "table1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    verify(dispatcher, never()).invalidateTableCache(any());
+
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema) + "table1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    verify(dispatcher, times(1)).invalidateTableCache(eq(ident));
+  }
+
   @Test
   public void testRenameTable() {
     TableUpdateRequest.RenameTableRequest req = new TableUpdateRequest.RenameTableRequest("table2");
@@ -789,6 +944,58 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testDropTableAsync() {
+    JobManager jobManager = mock(JobManager.class);
+    GravitinoEnv.getInstance().setJobManager(jobManager);
+    Job job = TestJobOperations.mockJob("job1", Job.Status.QUEUED);
+    when(job.type()).thenReturn("purge-table");
+    when(jobManager.submit(eq(metalake), eq("purge-table"), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              // Run the job in place to verify the table is purged by it
+              Assertions.assertTrue((Boolean) invocation.<Callable<?>>getArgument(3).call());
+              return job;
+            });
+    when(dispatcher.purgeTable(any())).thenReturn(true);
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema) + "table1")
+            .queryParam("purge", true)
+            .queryParam("async", true)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .delete();
+
+    Assertions.assertEquals(Response.Status.ACCEPTED.getStatusCode(), resp.getStatus());
+
+    JobResponse jobResponse = resp.readEntity(JobResponse.class);
+    Assertions.assertEquals(0, jobResponse.getCode());
+    Assertions.assertEquals("job1", jobResponse.getJob().id());
+    Assertions.assertEquals("purge-table", jobResponse.getJob().type());
+    Assertions.assertEquals("QUEUED", jobResponse.getJob().status());
+    verify(dispatcher).purgeTable(NameIdentifier.of(metalake, catalog, schema, "table1"));
+
+    // Test throw RejectedExecutionException
+    doThrow(new RejectedExecutionException("mock error"))
+        .when(jobManager)
+        .submit(any(), any(), any(), any());
+
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema) + "table1")
+            .queryParam("async", true)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .delete();
+
+    // The client can retry later if there are too many jobs waiting to run
+    Assertions.assertEquals(429, resp1.getStatus());
+    ErrorResponse errorResp1 = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.TOO_MANY_REQUESTS_CODE, errorResp1.getCode());
+    Assertions.assertEquals(
+        RejectedExecutionException.class.getSimpleName(), errorResp1.getType());
+  }
+
   @Test
   public void testPurgeTable() {
     when(dispatcher.purgeTable(any())).thenReturn(true);
@@ -10,12 +10,14 @@ import static com.datastrato.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datastrato.gravitino.Audit;
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.GravitinoEnv;
 import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.catalog.BatchLoadResult;
 import com.datastrato.gravitino.catalog.TopicDispatcher;
 import com.datastrato.gravitino.catalog.TopicOperationDispatcher;
 import com.datastrato.gravitino.dto.messaging.TopicDTO;
@@ -26,17 +28,21 @@ import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorConstants;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.TopicListResponse;
 import com.datastrato.gravitino.dto.responses.TopicResponse;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
+import com.datastrato.gravitino.exceptions.NoSuchTopicException;
 import com.datastrato.gravitino.exceptions.TopicAlreadyExistsException;
 import com.datastrato.gravitino.lock.LockManager;
 import com.datastrato.gravitino.messaging.Topic;
 import com.datastrato.gravitino.messaging.TopicChange;
 import com.datastrato.gravitino.rest.RESTUtils;
+import com.datastrato.gravitino.server.web.Utils;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
@@ -155,6 +161,133 @@ public class TestTopicOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testLoadTopics() {
+    NameIdentifier ident1 = NameIdentifier.of(metalake, catalog, schema, "topic1");
+    NameIdentifier ident2 = NameIdentifier.of(metalake, catalog, schema, "topic2");
+    Topic topic1 = mockTopic("topic1", "comment", ImmutableMap.of("key1", "value1"));
+
+    when(dispatcher.loadTopics(any()))
+        .thenReturn(
+            new BatchLoadResult<>(
+                ImmutableMap.of(ident1, topic1),
+                ImmutableMap.of(ident2, new NoSuchTopicException("mock error"))));
+
+    Response resp =
+        target(topicPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .queryParam("names", "topic1,topic2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    TopicListResponse listResp = resp.readEntity(TopicListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    listResp.validate();
+
+    Assertions.assertEquals(1, listResp.getTopics().length);
+    Assertions.assertEquals("topic1", listResp.getTopics()[0].name());
+    Assertions.assertEquals(topic1.properties(), listResp.getTopics()[0].properties());
+    Assertions.assertEquals(1, listResp.getErrors().size());
+    ErrorResponse error = listResp.getErrors().get("topic2");
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, error.getCode());
+    Assertions.assertEquals(NoSuchTopicException.class.getSimpleName(), error.getType());
+    verify(dispatcher).loadTopics(new NameIdentifier[] {ident1, ident2});
+
+    // Load all the topics of the schema if no names are given
+    when(dispatcher.listTopics(any())).thenReturn(new NameIdentifier[] {ident1});
+    when(dispatcher.loadTopics(any()))
+        .thenReturn(new BatchLoadResult<>(ImmutableMap.of(ident1, topic1), ImmutableMap.of()));
+    Response resp1 =
+        target(topicPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    TopicListResponse listResp1 = resp1.readEntity(TopicListResponse.class);
+    Assertions.assertEquals(1, listResp1.getTopics().length);
+    Assertions.assertTrue(listResp1.getErrors().isEmpty());
+    verify(dispatcher).loadTopics(new NameIdentifier[] {ident1});
+  }
+
+  @Test
+  public void testLoadTopicsByPage() {
+    NameIdentifier ident1 = NameIdentifier.of(metalake, catalog, schema, "topic11");
+    NameIdentifier ident2 = NameIdentifier.of(metalake, catalog, schema, "topic12");
+    NameIdentifier ident3 = NameIdentifier.of(metalake, catalog, schema, "topic13");
+    Topic topic1 = mockTopic("topic11", "comment", ImmutableMap.of("key1", "value1"));
+    Topic topic2 = mockTopic("topic12", "comment", ImmutableMap.of("key1", "value1"));
+    Topic topic3 = mockTopic("topic13", "comment", ImmutableMap.of("key1", "value1"));
+
+    // The topics are paged in the order of their names.
+    when(dispatcher.listTopics(any())).thenReturn(new NameIdentifier[] {ident3, ident1, ident2});
+    when(dispatcher.loadTopics(any()))
+        .thenReturn(
+            new BatchLoadResult<>(
+                ImmutableMap.of(ident1, topic1, ident2, topic2), ImmutableMap.of()));
+    Response resp =
+        target(topicPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .queryParam("pageSize", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    TopicListResponse listResp = resp.readEntity(TopicListResponse.class);
+    Assertions.assertEquals(2, listResp.getTopics().length);
+    Assertions.assertEquals("topic12", listResp.getNextPageToken());
+    verify(dispatcher).loadTopics(new NameIdentifier[] {ident1, ident2});
+
+    when(dispatcher.loadTopics(any()))
+        .thenReturn(new BatchLoadResult<>(ImmutableMap.of(ident3, topic3), ImmutableMap.of()));
+    Response resp1 =
+        target(topicPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .queryParam("pageToken", "topic12")
+            .queryParam("pageSize", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    TopicListResponse listResp1 = resp1.readEntity(TopicListResponse.class);
+    Assertions.assertEquals(1, listResp1.getTopics().length);
+    Assertions.assertEquals("topic13", listResp1.getTopics()[0].name());
+    Assertions.assertNull(listResp1.getNextPageToken());
+    verify(dispatcher).loadTopics(new NameIdentifier[] {ident3});
+
+    // The page size is bounded
+    Response resp2 =
+        target(topicPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .queryParam("pageSize", Utils.MAX_PAGE_SIZE + 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+    ErrorResponse errorResp = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp.getCode());
+
+    // The number of the given names is bounded
+    Response resp3 =
+        target(topicPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .queryParam(
+                "names", String.join(",", Collections.nCopies(Utils.MAX_PAGE_SIZE + 1, "t")))
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp3.getStatus());
+    ErrorResponse errorResp1 = resp3.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp1.getCode());
+  }
+
   @Test
   public void testLoadTopic() {
     Topic topic = mockTopic("topic1", "comment", ImmutableMap.of("key1", "value1"));